@@ -0,0 +1,234 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------
+ * BaselineComparison.java
+ * -----------------------
+ * (C) Copyright 2014, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.benchmark;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares two benchmark result files written by JMH in CSV format (using
+ * the options <code>-rf csv -rff FILE</code>) and reports the benchmarks
+ * whose score has become worse by more than a given percentage.  Usage:
+ * <pre>
+ * java -cp target/benchmarks.jar org.jfree.chart.benchmark.BaselineComparison
+ *     baseline/BASELINE.csv results.csv [THRESHOLD_PERCENT]
+ * </pre>
+ * Each change is reported as a percentage, where a positive value means
+ * worse performance.  The exit status is 1 if any regression is found, which
+ * makes it possible to use this class in a build script.
+ */
+public class BaselineComparison {
+
+    /** The default threshold, in percent. */
+    public static final double DEFAULT_THRESHOLD = 10.0;
+
+    /**
+     * Private constructor prevents object creation.
+     */
+    private BaselineComparison() {
+        // no requirements
+    }
+
+    /**
+     * Splits a CSV line into fields, removing the quotes around quoted
+     * fields.
+     *
+     * @param line  the line.
+     *
+     * @return The fields.
+     */
+    static List parseLine(String line) {
+        List result = new ArrayList();
+        StringBuffer field = new StringBuffer();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                if (quoted && i + 1 < line.length()
+                        && line.charAt(i + 1) == '"') {
+                    field.append(c);
+                    i++;
+                }
+                else {
+                    quoted = !quoted;
+                }
+            }
+            else if (c == ',' && !quoted) {
+                result.add(field.toString());
+                field.setLength(0);
+            }
+            else {
+                field.append(c);
+            }
+        }
+        result.add(field.toString());
+        return result;
+    }
+
+    /**
+     * Reads a JMH result file in CSV format.  The key for each result is the
+     * benchmark name followed by the parameter values, and the value is a
+     * two element array containing the score and a flag (1.0 if a higher
+     * score is better, as in throughput mode, and 0.0 otherwise).
+     *
+     * @param fileName  the file name.
+     *
+     * @return A map containing the results, in file order.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    static Map readResults(String fileName) throws IOException {
+        Map result = new LinkedHashMap();
+        BufferedReader reader = new BufferedReader(new FileReader(fileName));
+        try {
+            String line = reader.readLine();
+            if (line == null) {
+                return result;
+            }
+            List header = parseLine(line);
+            int modeIndex = header.indexOf("Mode");
+            int scoreIndex = header.indexOf("Score");
+            if (modeIndex < 0 || scoreIndex < 0) {
+                throw new IOException("Not a JMH CSV result file: "
+                        + fileName);
+            }
+            while ((line = reader.readLine()) != null) {
+                if (line.trim().length() == 0) {
+                    continue;
+                }
+                List fields = parseLine(line);
+                StringBuffer key = new StringBuffer((String) fields.get(0));
+                for (int i = 0; i < header.size(); i++) {
+                    String h = (String) header.get(i);
+                    if (h.startsWith("Param: ") && i < fields.size()) {
+                        key.append(' ').append(h.substring(7)).append('=')
+                                .append(fields.get(i));
+                    }
+                }
+                // JMH uses the default locale, which may have a decimal comma
+                String score = ((String) fields.get(scoreIndex)).replace(
+                        ',', '.');
+                boolean higherIsBetter = "thrpt".equals(fields.get(modeIndex));
+                result.put(key.toString(), new double[] {
+                        Double.parseDouble(score), higherIsBetter ? 1.0 : 0.0});
+            }
+        }
+        finally {
+            reader.close();
+        }
+        return result;
+    }
+
+    /**
+     * Compares the results and prints a report.
+     *
+     * @param baseline  the baseline results.
+     * @param current  the current results.
+     * @param threshold  the threshold in percent.
+     *
+     * @return The number of regressions found.
+     */
+    static int compare(Map baseline, Map current, double threshold) {
+        int regressions = 0;
+        Iterator iterator = current.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry entry = (Map.Entry) iterator.next();
+            String key = (String) entry.getKey();
+            double[] now = (double[]) entry.getValue();
+            double[] before = (double[]) baseline.get(key);
+            if (before == null) {
+                System.out.println("NEW        " + key);
+                continue;
+            }
+            double change = (now[0] - before[0]) / before[0] * 100.0;
+            if (now[1] > 0.0) {
+                change = -change;
+            }
+            String status = "OK        ";
+            if (change > threshold) {
+                status = "REGRESSION";
+                regressions++;
+            }
+            else if (change < -threshold) {
+                status = "IMPROVED  ";
+            }
+            System.out.println(status + " " + key + " ("
+                    + before[0] + " -> " + now[0] + ", "
+                    + (change > 0.0 ? "+" : "") + Math.round(change)
+                    + "%)");
+        }
+        return regressions;
+    }
+
+    /**
+     * Runs the comparison.
+     *
+     * @param args  the baseline file, the result file and (optionally) the
+     *              threshold in percent.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BaselineComparison BASELINE.csv "
+                    + "RESULTS.csv [THRESHOLD_PERCENT]");
+            System.exit(2);
+        }
+        double threshold = DEFAULT_THRESHOLD;
+        if (args.length > 2) {
+            threshold = Double.parseDouble(args[2]);
+        }
+        int regressions = compare(readResults(args[0]),
+                readResults(args[1]), threshold);
+        System.out.println(regressions + " regression(s) beyond "
+                + threshold + "%.");
+        if (regressions > 0) {
+            System.exit(1);
+        }
+    }
+
+}
@@ -0,0 +1,175 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------
+ * BenchmarkData.java
+ * ------------------
+ * (C) Copyright 2014, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.benchmark;
+
+import java.awt.Dimension;
+import java.util.Random;
+
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.time.Millisecond;
+import org.jfree.data.time.RegularTimePeriod;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+
+/**
+ * Utility methods for creating the data used by the benchmarks.  All data is
+ * generated from a fixed seed, so that each run measures the same work.
+ */
+public class BenchmarkData {
+
+    /** The seed used for all generated data. */
+    public static final long SEED = 1234567L;
+
+    /**
+     * Private constructor prevents object creation.
+     */
+    private BenchmarkData() {
+        // no requirements
+    }
+
+    /**
+     * Parses an image size parameter in the form <code>WIDTHxHEIGHT</code>.
+     *
+     * @param size  the size string (<code>null</code> not permitted).
+     *
+     * @return The dimensions.
+     */
+    public static Dimension parseSize(String size) {
+        int x = size.indexOf('x');
+        if (x < 0) {
+            throw new IllegalArgumentException("Bad size: " + size);
+        }
+        return new Dimension(Integer.parseInt(size.substring(0, x)),
+                Integer.parseInt(size.substring(x + 1)));
+    }
+
+    /**
+     * Creates an XY dataset where each series is a random walk with
+     * ascending x-values.
+     *
+     * @param seriesCount  the number of series.
+     * @param itemCount  the number of items in each series.
+     *
+     * @return The dataset.
+     */
+    public static XYSeriesCollection createXYDataset(int seriesCount,
+            int itemCount) {
+        Random random = new Random(SEED);
+        XYSeriesCollection dataset = new XYSeriesCollection();
+        for (int s = 0; s < seriesCount; s++) {
+            XYSeries series = new XYSeries("S" + s, true, false);
+            double y = 100.0;
+            for (int i = 0; i < itemCount; i++) {
+                y += random.nextGaussian();
+                series.add(i, y, false);
+            }
+            dataset.addSeries(series);
+        }
+        return dataset;
+    }
+
+    /**
+     * Creates a category dataset filled with random values.
+     *
+     * @param seriesCount  the number of series (rows).
+     * @param categoryCount  the number of categories (columns).
+     *
+     * @return The dataset.
+     */
+    public static DefaultCategoryDataset createCategoryDataset(
+            int seriesCount, int categoryCount) {
+        Random random = new Random(SEED);
+        DefaultCategoryDataset dataset = new DefaultCategoryDataset();
+        for (int s = 0; s < seriesCount; s++) {
+            for (int c = 0; c < categoryCount; c++) {
+                dataset.addValue(random.nextDouble() * 100.0, "S" + s,
+                        "C" + c);
+            }
+        }
+        return dataset;
+    }
+
+    /**
+     * Creates a time series collection where each series is a random walk
+     * over consecutive milliseconds.
+     *
+     * @param seriesCount  the number of series.
+     * @param itemCount  the number of items in each series.
+     *
+     * @return The dataset.
+     */
+    public static TimeSeriesCollection createTimeSeriesCollection(
+            int seriesCount, int itemCount) {
+        Random random = new Random(SEED);
+        RegularTimePeriod[] periods = createPeriods(itemCount);
+        TimeSeriesCollection dataset = new TimeSeriesCollection();
+        for (int s = 0; s < seriesCount; s++) {
+            TimeSeries series = new TimeSeries("S" + s);
+            double y = 100.0;
+            for (int i = 0; i < itemCount; i++) {
+                y += random.nextGaussian();
+                series.add(periods[i], y, false);
+            }
+            dataset.addSeries(series);
+        }
+        return dataset;
+    }
+
+    /**
+     * Creates an array of consecutive milliseconds.
+     *
+     * @param count  the number of periods.
+     *
+     * @return The periods.
+     */
+    public static RegularTimePeriod[] createPeriods(int count) {
+        RegularTimePeriod[] result = new RegularTimePeriod[count];
+        RegularTimePeriod t = new Millisecond(0, 0, 0, 0, 1, 1, 2014);
+        for (int i = 0; i < count; i++) {
+            result[i] = t;
+            t = t.next();
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,170 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------
+ * CategoryPlotBenchmark.java
+ * --------------------------
+ * (C) Copyright 2014, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.benchmark;
+
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.CategoryAxis;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.plot.CategoryPlot;
+import org.jfree.chart.renderer.category.AreaRenderer;
+import org.jfree.chart.renderer.category.BarRenderer;
+import org.jfree.chart.renderer.category.CategoryItemRenderer;
+import org.jfree.chart.renderer.category.LineAndShapeRenderer;
+import org.jfree.chart.renderer.category.StackedBarRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time taken to draw a chart with a {@link CategoryPlot} into a
+ * <code>BufferedImage</code>.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class CategoryPlotBenchmark {
+
+    /** The number of categories. */
+    @Param({"10", "1000"})
+    public int categoryCount;
+
+    /** The number of series. */
+    @Param({"1", "8"})
+    public int seriesCount;
+
+    /** The renderer ("bar", "stackedbar", "line" or "area"). */
+    @Param({"bar", "stackedbar", "line", "area"})
+    public String renderer;
+
+    /** The image size. */
+    @Param({"400x300", "1600x1200"})
+    public String imageSize;
+
+    /** The chart. */
+    private JFreeChart chart;
+
+    /** The image the chart is drawn into. */
+    private BufferedImage image;
+
+    /** The graphics target for the image. */
+    private Graphics2D g2;
+
+    /** The chart area. */
+    private Rectangle2D area;
+
+    /**
+     * Creates a renderer from its parameter name.
+     *
+     * @param name  the name.
+     *
+     * @return The renderer.
+     */
+    static CategoryItemRenderer createRenderer(String name) {
+        if ("bar".equals(name)) {
+            return new BarRenderer();
+        }
+        else if ("stackedbar".equals(name)) {
+            return new StackedBarRenderer();
+        }
+        else if ("line".equals(name)) {
+            return new LineAndShapeRenderer(true, true);
+        }
+        else if ("area".equals(name)) {
+            return new AreaRenderer();
+        }
+        throw new IllegalArgumentException("Unknown renderer: " + name);
+    }
+
+    /**
+     * Creates the chart and the image.
+     */
+    @Setup
+    public void setUp() {
+        CategoryPlot plot = new CategoryPlot(
+                BenchmarkData.createCategoryDataset(this.seriesCount,
+                this.categoryCount), new CategoryAxis("Category"),
+                new NumberAxis("Value"), createRenderer(this.renderer));
+        this.chart = new JFreeChart(plot);
+        Dimension size = BenchmarkData.parseSize(this.imageSize);
+        this.image = new BufferedImage(size.width, size.height,
+                BufferedImage.TYPE_INT_RGB);
+        this.g2 = this.image.createGraphics();
+        this.area = new Rectangle2D.Double(0, 0, size.width, size.height);
+    }
+
+    /**
+     * Releases the graphics target.
+     */
+    @TearDown
+    public void tearDown() {
+        this.g2.dispose();
+    }
+
+    /**
+     * Draws the chart.
+     *
+     * @return The image (returned so that the work is not eliminated).
+     */
+    @Benchmark
+    public BufferedImage draw() {
+        this.chart.draw(this.g2, this.area);
+        return this.image;
+    }
+
+}
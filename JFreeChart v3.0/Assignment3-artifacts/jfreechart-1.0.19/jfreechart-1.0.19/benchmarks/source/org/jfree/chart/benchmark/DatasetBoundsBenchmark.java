@@ -0,0 +1,164 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------------
+ * DatasetBoundsBenchmark.java
+ * ---------------------------
+ * (C) Copyright 2014, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jfree.data.Range;
+import org.jfree.data.category.CategoryDataset;
+import org.jfree.data.general.DatasetUtilities;
+import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.data.xy.DefaultXYDataset;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the bounds finding methods in {@link DatasetUtilities} for the
+ * common dataset implementations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class DatasetBoundsBenchmark {
+
+    /** The number of items in each series. */
+    @Param({"1000", "100000"})
+    public int itemCount;
+
+    /** The number of series. */
+    @Param({"1", "8"})
+    public int seriesCount;
+
+    /** An XY series collection. */
+    private XYSeriesCollection xySeriesCollection;
+
+    /** A dataset with the same values as the series collection. */
+    private DefaultXYDataset defaultXYDataset;
+
+    /** A time series collection. */
+    private TimeSeriesCollection timeSeriesCollection;
+
+    /** A category dataset with the same number of values. */
+    private CategoryDataset categoryDataset;
+
+    /**
+     * Creates the datasets.
+     */
+    @Setup
+    public void setUp() {
+        this.xySeriesCollection = BenchmarkData.createXYDataset(
+                this.seriesCount, this.itemCount);
+        this.defaultXYDataset = new DefaultXYDataset();
+        for (int s = 0; s < this.seriesCount; s++) {
+            this.defaultXYDataset.addSeries("S" + s,
+                    this.xySeriesCollection.getSeries(s).toArray());
+        }
+        this.timeSeriesCollection = BenchmarkData.createTimeSeriesCollection(
+                this.seriesCount, this.itemCount);
+        this.categoryDataset = BenchmarkData.createCategoryDataset(
+                this.seriesCount, this.itemCount);
+    }
+
+    /**
+     * Finds the domain bounds of an {@link XYSeriesCollection}.
+     *
+     * @return The bounds.
+     */
+    @Benchmark
+    public Range xySeriesCollectionDomainBounds() {
+        return DatasetUtilities.findDomainBounds(this.xySeriesCollection);
+    }
+
+    /**
+     * Finds the range bounds of an {@link XYSeriesCollection}.
+     *
+     * @return The bounds.
+     */
+    @Benchmark
+    public Range xySeriesCollectionRangeBounds() {
+        return DatasetUtilities.findRangeBounds(this.xySeriesCollection);
+    }
+
+    /**
+     * Finds the range bounds of a {@link DefaultXYDataset}, which has to be
+     * iterated.
+     *
+     * @return The bounds.
+     */
+    @Benchmark
+    public Range defaultXYDatasetRangeBounds() {
+        return DatasetUtilities.findRangeBounds(this.defaultXYDataset);
+    }
+
+    /**
+     * Finds the range bounds of a {@link TimeSeriesCollection}.
+     *
+     * @return The bounds.
+     */
+    @Benchmark
+    public Range timeSeriesCollectionRangeBounds() {
+        return DatasetUtilities.findRangeBounds(this.timeSeriesCollection);
+    }
+
+    /**
+     * Finds the range bounds of a category dataset.
+     *
+     * @return The bounds.
+     */
+    @Benchmark
+    public Range categoryDatasetRangeBounds() {
+        return DatasetUtilities.findRangeBounds(this.categoryDataset);
+    }
+
+}
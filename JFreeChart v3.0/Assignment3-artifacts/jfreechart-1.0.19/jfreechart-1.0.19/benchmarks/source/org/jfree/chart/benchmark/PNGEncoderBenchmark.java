@@ -0,0 +1,146 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------
+ * PNGEncoderBenchmark.java
+ * ------------------------
+ * (C) Copyright 2014, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.benchmark;
+
+import java.awt.Dimension;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.encoders.ImageEncoder;
+import org.jfree.chart.encoders.KeypointPNGEncoderAdapter;
+import org.jfree.chart.encoders.StreamingPNGEncoder;
+import org.jfree.chart.encoders.SunPNGEncoderAdapter;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time taken to encode a chart image in PNG format with each of
+ * the available encoders.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class PNGEncoderBenchmark {
+
+    /** The image size. */
+    @Param({"400x300", "1600x1200"})
+    public String imageSize;
+
+    /** The encoder ("keypoint", "sun" or "streaming"). */
+    @Param({"keypoint", "sun", "streaming"})
+    public String encoder;
+
+    /**
+     * The compression level (0-9), ignored by the encoder that uses
+     * ImageIO.
+     */
+    @Param({"1", "9"})
+    public int compression;
+
+    /** Encode the alpha channel? */
+    @Param({"false", "true"})
+    public boolean alpha;
+
+    /** The chart image. */
+    private BufferedImage image;
+
+    /** The encoder. */
+    private ImageEncoder imageEncoder;
+
+    /**
+     * Draws the chart image and creates the encoder.
+     */
+    @Setup
+    public void setUp() {
+        XYPlot plot = new XYPlot(BenchmarkData.createXYDataset(3, 2000),
+                new NumberAxis("X"), new NumberAxis("Y"),
+                new XYLineAndShapeRenderer(true, false));
+        JFreeChart chart = new JFreeChart(plot);
+        Dimension size = BenchmarkData.parseSize(this.imageSize);
+        this.image = chart.createBufferedImage(size.width, size.height,
+                BufferedImage.TYPE_INT_ARGB, null);
+        if ("keypoint".equals(this.encoder)) {
+            this.imageEncoder = new KeypointPNGEncoderAdapter();
+        }
+        else if ("sun".equals(this.encoder)) {
+            this.imageEncoder = new SunPNGEncoderAdapter();
+        }
+        else if ("streaming".equals(this.encoder)) {
+            this.imageEncoder = new StreamingPNGEncoder();
+        }
+        else {
+            throw new IllegalArgumentException("Unknown encoder: "
+                    + this.encoder);
+        }
+        this.imageEncoder.setQuality(this.compression);
+        this.imageEncoder.setEncodingAlpha(this.alpha);
+    }
+
+    /**
+     * Encodes the image.
+     *
+     * @return The encoded bytes.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return this.imageEncoder.encode(this.image);
+    }
+
+}
@@ -0,0 +1,123 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------------
+ * TimeSeriesAddBenchmark.java
+ * ---------------------------
+ * (C) Copyright 2014, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jfree.data.time.RegularTimePeriod;
+import org.jfree.data.time.RingBufferTimeSeries;
+import org.jfree.data.time.TimeSeries;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time taken to fill a {@link TimeSeries} using the
+ * <code>add()</code> method, optionally with a maximum item count so that
+ * the oldest items are discarded as new items arrive.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class TimeSeriesAddBenchmark {
+
+    /** The number of items added. */
+    @Param({"10000", "100000"})
+    public int itemCount;
+
+    /**
+     * The maximum item count for the series (zero for no limit).
+     */
+    @Param({"0", "1000"})
+    public int maximumItemCount;
+
+    /** The series type ("regular" or "ringbuffer"). */
+    @Param({"regular", "ringbuffer"})
+    public String seriesType;
+
+    /** The time periods, created in advance. */
+    private RegularTimePeriod[] periods;
+
+    /**
+     * Creates the time periods.
+     */
+    @Setup
+    public void setUp() {
+        this.periods = BenchmarkData.createPeriods(this.itemCount);
+    }
+
+    /**
+     * Creates a new series and adds all the items to it.
+     *
+     * @return The series.
+     */
+    @Benchmark
+    public TimeSeries add() {
+        TimeSeries series;
+        if ("ringbuffer".equals(this.seriesType)) {
+            int capacity = this.maximumItemCount > 0 ? this.maximumItemCount
+                    : this.itemCount;
+            series = new RingBufferTimeSeries("S", capacity);
+        }
+        else {
+            series = new TimeSeries("S");
+        }
+        if (this.maximumItemCount > 0) {
+            series.setMaximumItemCount(this.maximumItemCount);
+        }
+        for (int i = 0; i < this.periods.length; i++) {
+            series.add(this.periods[i], i % 100, false);
+        }
+        return series;
+    }
+
+}
@@ -0,0 +1,181 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------
+ * XYPlotBenchmark.java
+ * --------------------
+ * (C) Copyright 2014, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.benchmark;
+
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYAreaRenderer;
+import org.jfree.chart.renderer.xy.XYItemRenderer;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.chart.renderer.xy.XYStepRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time taken to draw a chart with an {@link XYPlot} into a
+ * <code>BufferedImage</code>.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class XYPlotBenchmark {
+
+    /** The number of items in each series. */
+    @Param({"1000", "100000"})
+    public int itemCount;
+
+    /** The number of series. */
+    @Param({"1", "4"})
+    public int seriesCount;
+
+    /** The renderer ("line", "path", "shapes", "step" or "area"). */
+    @Param({"line", "path", "shapes", "step", "area"})
+    public String renderer;
+
+    /** The image size. */
+    @Param({"400x300", "1600x1200"})
+    public String imageSize;
+
+    /** Is item decimation enabled for the plot? */
+    @Param({"false", "true"})
+    public boolean decimation;
+
+    /** The chart. */
+    private JFreeChart chart;
+
+    /** The image the chart is drawn into. */
+    private BufferedImage image;
+
+    /** The graphics target for the image. */
+    private Graphics2D g2;
+
+    /** The chart area. */
+    private Rectangle2D area;
+
+    /**
+     * Creates a renderer from its parameter name.
+     *
+     * @param name  the name.
+     *
+     * @return The renderer.
+     */
+    static XYItemRenderer createRenderer(String name) {
+        if ("line".equals(name)) {
+            return new XYLineAndShapeRenderer(true, false);
+        }
+        else if ("path".equals(name)) {
+            XYLineAndShapeRenderer r = new XYLineAndShapeRenderer(true, false);
+            r.setDrawSeriesLineAsPath(true);
+            return r;
+        }
+        else if ("shapes".equals(name)) {
+            return new XYLineAndShapeRenderer(true, true);
+        }
+        else if ("step".equals(name)) {
+            return new XYStepRenderer();
+        }
+        else if ("area".equals(name)) {
+            return new XYAreaRenderer();
+        }
+        throw new IllegalArgumentException("Unknown renderer: " + name);
+    }
+
+    /**
+     * Creates the chart and the image.
+     */
+    @Setup
+    public void setUp() {
+        NumberAxis xAxis = new NumberAxis("X");
+        xAxis.setAutoRangeIncludesZero(false);
+        NumberAxis yAxis = new NumberAxis("Y");
+        yAxis.setAutoRangeIncludesZero(false);
+        XYPlot plot = new XYPlot(BenchmarkData.createXYDataset(
+                this.seriesCount, this.itemCount), xAxis, yAxis,
+                createRenderer(this.renderer));
+        plot.setItemDecimationEnabled(this.decimation);
+        this.chart = new JFreeChart(plot);
+        Dimension size = BenchmarkData.parseSize(this.imageSize);
+        this.image = new BufferedImage(size.width, size.height,
+                BufferedImage.TYPE_INT_RGB);
+        this.g2 = this.image.createGraphics();
+        this.area = new Rectangle2D.Double(0, 0, size.width, size.height);
+    }
+
+    /**
+     * Releases the graphics target.
+     */
+    @TearDown
+    public void tearDown() {
+        this.g2.dispose();
+    }
+
+    /**
+     * Draws the chart.
+     *
+     * @return The image (returned so that the work is not eliminated).
+     */
+    @Benchmark
+    public BufferedImage draw() {
+        this.chart.draw(this.g2, this.area);
+        return this.image;
+    }
+
+}
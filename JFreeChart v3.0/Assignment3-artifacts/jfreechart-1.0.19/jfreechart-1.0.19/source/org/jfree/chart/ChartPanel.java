@@ -216,6 +216,7 @@ import java.io.Serializable;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.EventListener;
 import java.util.Iterator;
 import java.util.List;
@@ -232,11 +233,15 @@ import javax.swing.ToolTipManager;
 import javax.swing.event.EventListenerList;
 import javax.swing.filechooser.FileNameExtensionFilter;
 
+import org.jfree.chart.axis.ValueAxis;
 import org.jfree.chart.editor.ChartEditor;
 import org.jfree.chart.editor.ChartEditorManager;
 import org.jfree.chart.entity.ChartEntity;
 import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.entity.PlotEntity;
+import org.jfree.chart.entity.SpatialEntityCollection;
 import org.jfree.chart.event.ChartChangeEvent;
+import org.jfree.chart.event.ChartChangeEventType;
 import org.jfree.chart.event.ChartChangeListener;
 import org.jfree.chart.event.ChartProgressEvent;
 import org.jfree.chart.event.ChartProgressListener;
@@ -247,7 +252,10 @@ import org.jfree.chart.plot.Pannable;
 import org.jfree.chart.plot.Plot;
 import org.jfree.chart.plot.PlotOrientation;
 import org.jfree.chart.plot.PlotRenderingInfo;
+import org.jfree.chart.plot.XYPlot;
 import org.jfree.chart.plot.Zoomable;
+import org.jfree.chart.title.LegendTitle;
+import org.jfree.chart.title.Title;
 import org.jfree.chart.util.ParamChecks;
 import org.jfree.chart.util.ResourceBundleWrapper;
 import org.jfree.io.SerialUtilities;
@@ -368,6 +376,31 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
     /** The width of the chart buffer. */
     private int chartBufferWidth;
 
+    /**
+     * A flag that controls whether or not a change to the data redraws only
+     * the data area of the plot in the off-screen buffer.
+     */
+    private boolean dataAreaRefreshEnabled;
+
+    /**
+     * A flag that indicates that only the data area of the plot in the
+     * buffer needs to be refreshed.
+     */
+    private boolean refreshDataArea;
+
+    /**
+     * The axis ranges and legend items for the chart in the buffer, used to
+     * check that a change to the data has not changed the chart layout
+     * (<code>null</code> if the data area cannot be refreshed on its own).
+     */
+    private transient List bufferLayout;
+
+    /**
+     * The number of entities (for the chart and its titles) that precede the
+     * plot entities in the rendering info for the chart in the buffer.
+     */
+    private transient int bufferChartEntityCount;
+
     /**
      * The minimum width for drawing a chart (uses scaling for smaller widths).
      */
@@ -721,7 +754,7 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
 
         setChart(chart);
         this.chartMouseListeners = new EventListenerList();
-        this.info = new ChartRenderingInfo();
+        this.info = new ChartRenderingInfo(new SpatialEntityCollection());
         setPreferredSize(new Dimension(width, height));
         this.useBuffer = useBuffer;
         this.refreshBuffer = false;
@@ -1526,6 +1559,45 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
         this.refreshBuffer = flag;
     }
 
+    /**
+     * Returns the flag that controls whether or not a change to the data
+     * redraws only the data area of the plot in the off-screen buffer.
+     *
+     * @return A boolean.
+     *
+     * @see #setDataAreaRefreshEnabled(boolean)
+     *
+     * @since 1.0.20
+     */
+    public boolean isDataAreaRefreshEnabled() {
+        return this.dataAreaRefreshEnabled;
+    }
+
+    /**
+     * Sets the flag that controls whether or not a change to the data
+     * redraws only the data area of the plot in the off-screen buffer.  The
+     * default value is <code>false</code>.
+     * <P>
+     * When this flag is set and the chart sends a change event with the type
+     * {@link ChartChangeEventType#DATASET_UPDATED}, the titles, legends,
+     * axes and plot outline already in the buffer are kept and only the
+     * data area of the plot is cleared and drawn again (overlays and the zoom
+     * rectangle are always drawn on top of the buffer).  The whole chart is
+     * still drawn if the axis ranges or the legend items have changed, or if
+     * the plot is not an {@link XYPlot}.  This is useful for charts with
+     * fixed axis ranges that are updated many times per second.  The flag has
+     * no effect when the off-screen buffer is not used.
+     *
+     * @param flag  the flag.
+     *
+     * @see #isDataAreaRefreshEnabled()
+     *
+     * @since 1.0.20
+     */
+    public void setDataAreaRefreshEnabled(boolean flag) {
+        this.dataAreaRefreshEnabled = flag;
+    }
+
     /**
      * Paints the component by drawing the chart to fill the entire component,
      * but allowing for the insets (which will be non-zero if a border has been
@@ -1597,10 +1669,19 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
                 this.refreshBuffer = true;
             }
 
+            // can we redraw just the data area in the buffer?
+            if (this.refreshDataArea && !this.refreshBuffer) {
+                this.refreshDataArea = false;
+                if (!refreshDataAreaInBuffer(scale)) {
+                    this.refreshBuffer = true;
+                }
+            }
+
             // do we need to redraw the buffer?
             if (this.refreshBuffer) {
 
                 this.refreshBuffer = false; // clear the flag
+                this.refreshDataArea = false;
 
                 Rectangle2D bufferArea = new Rectangle2D.Double(
                         0, 0, this.chartBufferWidth, this.chartBufferHeight);
@@ -1628,6 +1709,8 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
                     this.chart.draw(bufferG2, bufferArea, this.anchor,
                             this.info);
                 }
+                bufferG2.dispose();
+                recordBufferLayout();
 
             }
 
@@ -1665,6 +1748,140 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
         this.horizontalTraceLine = null;
     }
 
+    /**
+     * Records the layout of the chart that has just been drawn into the
+     * off-screen buffer, so that a later change to the data can redraw only
+     * the data area of the plot (see {@link #refreshDataAreaInBuffer}).
+     */
+    private void recordBufferLayout() {
+        this.bufferLayout = null;
+        if (!this.dataAreaRefreshEnabled
+                || !(this.chart.getPlot() instanceof XYPlot)) {
+            return;
+        }
+        // the plot is drawn last, and the first entity that it adds is the
+        // plot entity, so everything before that belongs to the chart
+        EntityCollection entities = this.info.getEntityCollection();
+        int count = 0;
+        if (entities != null) {
+            count = -1;
+            for (int i = 0; i < entities.getEntityCount(); i++) {
+                ChartEntity entity = entities.getEntity(i);
+                if (entity instanceof PlotEntity && ((PlotEntity) entity)
+                        .getPlot() == this.chart.getPlot()) {
+                    count = i;
+                    break;
+                }
+            }
+            if (count < 0) {
+                return;
+            }
+        }
+        this.bufferChartEntityCount = count;
+        this.bufferLayout = createBufferLayout();
+    }
+
+    /**
+     * Returns a list containing the axis ranges for the plot and the legend
+     * items for the chart's legends.  If the list is unchanged after a
+     * change to the data, then the titles, legends and axes for the chart
+     * do not need to be drawn again.
+     *
+     * @return The list.
+     */
+    private List createBufferLayout() {
+        List result = new ArrayList();
+        XYPlot plot = (XYPlot) this.chart.getPlot();
+        for (int i = 0; i < plot.getDomainAxisCount(); i++) {
+            ValueAxis axis = plot.getDomainAxis(i);
+            result.add(axis != null ? axis.getRange() : null);
+        }
+        for (int i = 0; i < plot.getRangeAxisCount(); i++) {
+            ValueAxis axis = plot.getRangeAxis(i);
+            result.add(axis != null ? axis.getRange() : null);
+        }
+        for (int i = 0; i < this.chart.getSubtitleCount(); i++) {
+            Title title = this.chart.getSubtitle(i);
+            if (title instanceof LegendTitle) {
+                LegendItemSource[] sources = ((LegendTitle) title)
+                        .getSources();
+                for (int j = 0; j < sources.length; j++) {
+                    result.add(sources[j].getLegendItems());
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Redraws the data area of the plot in the off-screen buffer, leaving
+     * the rest of the chart as it is.  This is only possible if the layout
+     * of the chart is the same as when the buffer was last drawn in full.
+     *
+     * @param scale  a flag that indicates whether or not the chart is
+     *     scaled to fit the buffer.
+     *
+     * @return A boolean that indicates whether or not the data area was
+     *     redrawn (if <code>false</code>, the whole chart must be redrawn).
+     */
+    private boolean refreshDataAreaInBuffer(boolean scale) {
+        if (this.bufferLayout == null || this.chartBuffer == null
+                || this.chart.getBackgroundImage() != null
+                || !this.bufferLayout.equals(createBufferLayout())) {
+            return false;
+        }
+        XYPlot plot = (XYPlot) this.chart.getPlot();
+        Rectangle2D chartArea = this.info.getChartArea();
+        Rectangle2D dataArea = this.info.getPlotInfo().getDataArea();
+        if (chartArea == null || dataArea == null) {
+            return false;
+        }
+        chartArea = (Rectangle2D) chartArea.clone();
+        dataArea = (Rectangle2D) dataArea.clone();
+        // the plot records its area after the insets have been removed
+        Rectangle2D plotArea = plot.getInsets().createOutsetRectangle(
+                this.info.getPlotInfo().getPlotArea());
+
+        // keep the entities for the chart and its titles only
+        EntityCollection entities = this.info.getEntityCollection();
+        List chartEntities = new ArrayList(this.bufferChartEntityCount);
+        for (int i = 0; i < this.bufferChartEntityCount; i++) {
+            chartEntities.add(entities.getEntity(i));
+        }
+        this.info.clear();
+        this.info.setChartArea(chartArea);
+        for (int i = 0; i < chartEntities.size(); i++) {
+            entities.add((ChartEntity) chartEntities.get(i));
+        }
+
+        this.chart.notifyListeners(new ChartProgressEvent(this, this.chart,
+                ChartProgressEvent.DRAWING_STARTED, 0));
+        Graphics2D bufferG2 = (Graphics2D) this.chartBuffer.getGraphics();
+        if (scale) {
+            bufferG2.transform(AffineTransform.getScaleInstance(this.scaleX,
+                    this.scaleY));
+        }
+        bufferG2.clip(dataArea);
+        Composite savedComposite = bufferG2.getComposite();
+        bufferG2.setComposite(AlphaComposite.getInstance(
+                AlphaComposite.CLEAR, 0.0f));
+        bufferG2.fill(dataArea);
+        bufferG2.setComposite(savedComposite);
+        bufferG2.addRenderingHints(this.chart.getRenderingHints());
+        if (this.chart.getBackgroundPaint() != null) {
+            bufferG2.setPaint(this.chart.getBackgroundPaint());
+            bufferG2.fill(dataArea);
+        }
+        plot.draw(bufferG2, plotArea, this.anchor, null,
+                this.info.getPlotInfo());
+        bufferG2.dispose();
+        this.chart.notifyListeners(new ChartProgressEvent(this, this.chart,
+                ChartProgressEvent.DRAWING_FINISHED, 100));
+
+        // if the data area has moved, the chart must be drawn in full
+        return dataArea.equals(this.info.getPlotInfo().getDataArea());
+    }
+
     /**
      * Receives notification of changes to the chart, and redraws the chart.
      *
@@ -1672,7 +1889,13 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
      */
     @Override
     public void chartChanged(ChartChangeEvent event) {
-        this.refreshBuffer = true;
+        if (this.dataAreaRefreshEnabled && ChartChangeEventType.DATASET_UPDATED
+                .equals(event.getType())) {
+            this.refreshDataArea = true;
+        }
+        else {
+            this.refreshBuffer = true;
+        }
         Plot plot = this.chart.getPlot();
         if (plot instanceof Zoomable) {
             Zoomable z = (Zoomable) plot;
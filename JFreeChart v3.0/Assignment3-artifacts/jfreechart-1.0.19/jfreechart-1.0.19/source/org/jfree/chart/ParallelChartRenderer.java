@@ -0,0 +1,474 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------
+ * ParallelChartRenderer.java
+ * --------------------------
+ * (C) Copyright 2014, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart;
+
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.jfree.chart.encoders.EncoderUtil;
+import org.jfree.chart.encoders.ImageFormat;
+import org.jfree.chart.plot.CategoryPlot;
+import org.jfree.chart.plot.CombinedDomainCategoryPlot;
+import org.jfree.chart.plot.CombinedDomainXYPlot;
+import org.jfree.chart.plot.CombinedRangeCategoryPlot;
+import org.jfree.chart.plot.CombinedRangeXYPlot;
+import org.jfree.chart.plot.Plot;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.title.LegendTitle;
+import org.jfree.chart.title.Title;
+import org.jfree.chart.util.ParamChecks;
+import org.jfree.data.category.CategoryDataset;
+import org.jfree.data.xy.XYDataset;
+
+/**
+ * Renders a chart to a {@link BufferedImage} using several threads.  The
+ * image is split into horizontal bands, and each band is drawn by a separate
+ * copy of the chart directly into the corresponding region of the image.
+ * Since each band is drawn with the same (integer) translation as the full
+ * image, the result is the same as for
+ * {@link JFreeChart#createBufferedImage(int, int, int, ChartRenderingInfo)}.
+ * <P>
+ * Every band still lays out the whole chart, but the expensive part of
+ * drawing a dense plot (rasterizing the shapes for the data items) is only
+ * done for the items that fall within the band, so large images are
+ * created in a fraction of the time.
+ * <P>
+ * The copies of the chart share the datasets with the original chart, so
+ * the datasets must not be changed while an image is being created.  Charts
+ * with a plot that is not an {@link XYPlot} or {@link CategoryPlot} (or one
+ * of the combined plots with such subplots), or with a legend that has a
+ * wrapper container, are drawn on the calling thread in the usual way.
+ *
+ * @since 1.0.20
+ */
+public class ParallelChartRenderer {
+
+    /** The executor that draws the bands. */
+    private ExecutorService executor;
+
+    /** The number of bands. */
+    private int bandCount;
+
+    /**
+     * Creates a new renderer that splits each image into one band per
+     * available processor.
+     *
+     * @param executor  the executor that draws the bands (<code>null</code>
+     *     not permitted).
+     */
+    public ParallelChartRenderer(ExecutorService executor) {
+        this(executor, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a new renderer.
+     *
+     * @param executor  the executor that draws the bands (<code>null</code>
+     *     not permitted).
+     * @param bandCount  the number of bands (must be positive).
+     */
+    public ParallelChartRenderer(ExecutorService executor, int bandCount) {
+        ParamChecks.nullNotPermitted(executor, "executor");
+        if (bandCount <= 0) {
+            throw new IllegalArgumentException("Requires 'bandCount' > 0.");
+        }
+        this.executor = executor;
+        this.bandCount = bandCount;
+    }
+
+    /**
+     * Returns the number of bands that each image is split into.
+     *
+     * @return The band count.
+     */
+    public int getBandCount() {
+        return this.bandCount;
+    }
+
+    /**
+     * Creates and returns a buffered image (of type
+     * <code>TYPE_INT_ARGB</code>) into which the chart has been drawn.
+     *
+     * @param chart  the chart (<code>null</code> not permitted).
+     * @param width  the image width.
+     * @param height  the image height.
+     * @param info  carries back chart state information (<code>null</code>
+     *     permitted).
+     *
+     * @return A buffered image.
+     */
+    public BufferedImage createBufferedImage(JFreeChart chart, int width,
+            int height, ChartRenderingInfo info) {
+        return createBufferedImage(chart, width, height,
+                BufferedImage.TYPE_INT_ARGB, info);
+    }
+
+    /**
+     * Creates and returns a buffered image into which the chart has been
+     * drawn.
+     *
+     * @param chart  the chart (<code>null</code> not permitted).
+     * @param width  the image width.
+     * @param height  the image height.
+     * @param imageType  the image type.
+     * @param info  carries back chart state information (<code>null</code>
+     *     permitted).
+     *
+     * @return A buffered image.
+     */
+    public BufferedImage createBufferedImage(JFreeChart chart, int width,
+            int height, int imageType, ChartRenderingInfo info) {
+        ParamChecks.nullNotPermitted(chart, "chart");
+        int bands = Math.min(this.bandCount, height);
+        if (bands <= 1 || !isSupported(chart.getPlot())
+                || hasLegendWrapper(chart)) {
+            return chart.createBufferedImage(width, height, imageType, info);
+        }
+        List copies = new ArrayList();
+        for (int i = 1; i < bands; i++) {
+            try {
+                copies.add(copyChart(chart));
+            }
+            catch (CloneNotSupportedException e) {
+                release(copies);
+                return chart.createBufferedImage(width, height, imageType,
+                        info);
+            }
+        }
+
+        BufferedImage image = new BufferedImage(width, height, imageType);
+        Rectangle2D area = new Rectangle2D.Double(0, 0, width, height);
+        int bandHeight = (height + bands - 1) / bands;
+        List futures = new ArrayList();
+        try {
+            for (int i = 1; i < bands; i++) {
+                int y = i * bandHeight;
+                if (y >= height) {
+                    break;
+                }
+                JFreeChart copy = (JFreeChart) copies.get(i - 1);
+                futures.add(this.executor.submit(new BandTask(copy, image,
+                        area, y, Math.min(bandHeight, height - y))));
+            }
+            // the first band is drawn by the original chart on this thread,
+            // so that the rendering info is collected
+            drawBand(chart, image, area, 0, bandHeight, info);
+            Iterator iterator = futures.iterator();
+            while (iterator.hasNext()) {
+                Future future = (Future) iterator.next();
+                try {
+                    future.get();
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException(e);
+                }
+                catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (cause instanceof RuntimeException) {
+                        throw (RuntimeException) cause;
+                    }
+                    if (cause instanceof Error) {
+                        throw (Error) cause;
+                    }
+                    throw new RuntimeException(cause);
+                }
+            }
+        }
+        finally {
+            Iterator iterator = futures.iterator();
+            while (iterator.hasNext()) {
+                ((Future) iterator.next()).cancel(false);
+            }
+            release(copies);
+        }
+        return image;
+    }
+
+    /**
+     * Writes a chart to an output stream in PNG format.
+     *
+     * @param out  the output stream (<code>null</code> not permitted).
+     * @param chart  the chart (<code>null</code> not permitted).
+     * @param width  the image width.
+     * @param height  the image height.
+     * @param info  carries back chart state information (<code>null</code>
+     *     permitted).
+     *
+     * @throws IOException if there are any I/O errors.
+     */
+    public void writeChartAsPNG(OutputStream out, JFreeChart chart,
+            int width, int height, ChartRenderingInfo info)
+            throws IOException {
+        ParamChecks.nullNotPermitted(out, "out");
+        BufferedImage image = createBufferedImage(chart, width, height, info);
+        EncoderUtil.writeBufferedImage(image, ImageFormat.PNG, out);
+    }
+
+    /**
+     * Draws one band of a chart into the corresponding region of an image.
+     *
+     * @param chart  the chart.
+     * @param image  the image.
+     * @param area  the area for the whole chart.
+     * @param y  the y-coordinate of the top of the band.
+     * @param h  the height of the band.
+     * @param info  carries back chart state information (<code>null</code>
+     *     permitted).
+     */
+    private static void drawBand(JFreeChart chart, BufferedImage image,
+            Rectangle2D area, int y, int h, ChartRenderingInfo info) {
+        BufferedImage band = image.getSubimage(0, y, image.getWidth(), h);
+        Graphics2D g2 = band.createGraphics();
+        try {
+            g2.translate(0, -y);
+            chart.draw(g2, area, null, info);
+        }
+        finally {
+            g2.dispose();
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if any legend in the chart has a wrapper
+     * container.  The wrapper holds the legend item container of the
+     * original legend, so it would be shared by the chart copies.
+     *
+     * @param chart  the chart.
+     *
+     * @return A boolean.
+     */
+    private static boolean hasLegendWrapper(JFreeChart chart) {
+        for (int i = 0; i < chart.getSubtitleCount(); i++) {
+            Title title = chart.getSubtitle(i);
+            if (title instanceof LegendTitle
+                    && ((LegendTitle) title).getWrapper() != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns <code>true</code> if copies of the specified plot can be drawn
+     * in parallel (and released afterwards), and <code>false</code>
+     * otherwise.
+     *
+     * @param plot  the plot (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    private static boolean isSupported(Plot plot) {
+        List subplots = getSubplots(plot);
+        if (subplots != null) {
+            Iterator iterator = subplots.iterator();
+            while (iterator.hasNext()) {
+                if (!isSupported((Plot) iterator.next())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return plot instanceof XYPlot || plot instanceof CategoryPlot;
+    }
+
+    /**
+     * Returns the subplots for a combined plot, or <code>null</code> if the
+     * plot is not a combined plot.
+     *
+     * @param plot  the plot (<code>null</code> permitted).
+     *
+     * @return The subplots (possibly <code>null</code>).
+     */
+    private static List getSubplots(Plot plot) {
+        if (plot instanceof CombinedDomainXYPlot) {
+            return ((CombinedDomainXYPlot) plot).getSubplots();
+        }
+        if (plot instanceof CombinedRangeXYPlot) {
+            return ((CombinedRangeXYPlot) plot).getSubplots();
+        }
+        if (plot instanceof CombinedDomainCategoryPlot) {
+            return ((CombinedDomainCategoryPlot) plot).getSubplots();
+        }
+        if (plot instanceof CombinedRangeCategoryPlot) {
+            return ((CombinedRangeCategoryPlot) plot).getSubplots();
+        }
+        return null;
+    }
+
+    /**
+     * Returns a copy of the chart that can be drawn independently of the
+     * original chart.
+     *
+     * @param chart  the chart.
+     *
+     * @return The copy.
+     *
+     * @throws CloneNotSupportedException if the chart cannot be cloned.
+     */
+    private static JFreeChart copyChart(JFreeChart chart)
+            throws CloneNotSupportedException {
+        JFreeChart copy = (JFreeChart) chart.clone();
+        // a cloned legend still refers to the original plot, so point it at
+        // the cloned plot instead
+        for (int i = 0; i < copy.getSubtitleCount(); i++) {
+            Title title = copy.getSubtitle(i);
+            if (title instanceof LegendTitle) {
+                LegendTitle legend = (LegendTitle) title;
+                LegendItemSource[] sources = legend.getSources();
+                if (sources.length == 1 && sources[0] == chart.getPlot()) {
+                    legend.setSources(new LegendItemSource[] {
+                            (LegendItemSource) copy.getPlot()});
+                }
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Deregisters the copies of a chart from the datasets they share with
+     * the original chart, so that the copies can be garbage collected.
+     *
+     * @param copies  the chart copies.
+     */
+    private static void release(List copies) {
+        Iterator iterator = copies.iterator();
+        while (iterator.hasNext()) {
+            JFreeChart copy = (JFreeChart) iterator.next();
+            release(copy.getPlot());
+        }
+    }
+
+    /**
+     * Deregisters a plot (and any subplots) from its datasets.
+     *
+     * @param plot  the plot (<code>null</code> permitted).
+     */
+    private static void release(Plot plot) {
+        List subplots = getSubplots(plot);
+        if (subplots != null) {
+            Iterator iterator = subplots.iterator();
+            while (iterator.hasNext()) {
+                release((Plot) iterator.next());
+            }
+        }
+        if (plot instanceof XYPlot) {
+            XYPlot xyPlot = (XYPlot) plot;
+            for (int i = 0; i < xyPlot.getDatasetCount(); i++) {
+                XYDataset dataset = xyPlot.getDataset(i);
+                if (dataset != null) {
+                    dataset.removeChangeListener(xyPlot);
+                }
+            }
+        }
+        else if (plot instanceof CategoryPlot) {
+            CategoryPlot categoryPlot = (CategoryPlot) plot;
+            for (int i = 0; i < categoryPlot.getDatasetCount(); i++) {
+                CategoryDataset dataset = categoryPlot.getDataset(i);
+                if (dataset != null) {
+                    dataset.removeChangeListener(categoryPlot);
+                }
+            }
+        }
+    }
+
+    /**
+     * A task that draws one band of a chart.
+     */
+    private static class BandTask implements Callable {
+
+        /** The chart (a copy of the original). */
+        private JFreeChart chart;
+
+        /** The image. */
+        private BufferedImage image;
+
+        /** The area for the whole chart. */
+        private Rectangle2D area;
+
+        /** The y-coordinate of the top of the band. */
+        private int y;
+
+        /** The height of the band. */
+        private int h;
+
+        /**
+         * Creates a new task.
+         *
+         * @param chart  the chart.
+         * @param image  the image.
+         * @param area  the area for the whole chart.
+         * @param y  the y-coordinate of the top of the band.
+         * @param h  the height of the band.
+         */
+        BandTask(JFreeChart chart, BufferedImage image, Rectangle2D area,
+                int y, int h) {
+            this.chart = chart;
+            this.image = image;
+            this.area = area;
+            this.y = y;
+            this.h = h;
+        }
+
+        /**
+         * Draws the band.
+         *
+         * @return <code>null</code>.
+         */
+        @Override
+        public Object call() {
+            drawBand(this.chart, this.image, this.area, this.y, this.h, null);
+            return null;
+        }
+
+    }
+
+}
@@ -128,9 +128,9 @@ import org.jfree.chart.plot.CategoryPlot;
 import org.jfree.chart.plot.Plot;
 import org.jfree.chart.plot.PlotRenderingInfo;
 import org.jfree.chart.util.ParamChecks;
+import org.jfree.chart.util.TextBoundsCache;
 import org.jfree.data.category.CategoryDataset;
 import org.jfree.io.SerialUtilities;
-import org.jfree.text.G2TextMeasurer;
 import org.jfree.text.TextBlock;
 import org.jfree.text.TextUtilities;
 import org.jfree.ui.RectangleAnchor;
@@ -1276,7 +1276,8 @@ public class CategoryAxis extends Axis implements Cloneable, Serializable {
             RectangleEdge edge, Graphics2D g2) {
         TextBlock label = TextUtilities.createTextBlock(category.toString(),
                 getTickLabelFont(category), getTickLabelPaint(category), width,
-                this.maximumCategoryLabelLines, new G2TextMeasurer(g2));
+                this.maximumCategoryLabelLines,
+                TextBoundsCache.getSharedInstance().createTextMeasurer(g2));
         return label;
     }
 
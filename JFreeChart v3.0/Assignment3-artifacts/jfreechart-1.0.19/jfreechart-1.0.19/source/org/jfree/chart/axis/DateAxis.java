@@ -157,6 +157,7 @@ import org.jfree.chart.plot.Plot;
 import org.jfree.chart.plot.PlotRenderingInfo;
 import org.jfree.chart.plot.ValueAxisPlot;
 import org.jfree.chart.util.ParamChecks;
+import org.jfree.chart.util.TextBoundsCache;
 import org.jfree.data.Range;
 import org.jfree.data.time.DateRange;
 import org.jfree.data.time.Month;
@@ -1479,8 +1480,9 @@ public class DateAxis extends ValueAxis implements Cloneable, Serializable {
                 upperStr = unit.dateToString(upper);
             }
             FontMetrics fm = g2.getFontMetrics(tickLabelFont);
-            double w1 = fm.stringWidth(lowerStr);
-            double w2 = fm.stringWidth(upperStr);
+            TextBoundsCache cache = TextBoundsCache.getSharedInstance();
+            double w1 = cache.getStringWidth(lowerStr, g2, fm);
+            double w2 = cache.getStringWidth(upperStr, g2, fm);
             result += Math.max(w1, w2);
         }
 
@@ -1531,8 +1533,9 @@ public class DateAxis extends ValueAxis implements Cloneable, Serializable {
                 upperStr = unit.dateToString(upper);
             }
             FontMetrics fm = g2.getFontMetrics(tickLabelFont);
-            double w1 = fm.stringWidth(lowerStr);
-            double w2 = fm.stringWidth(upperStr);
+            TextBoundsCache cache = TextBoundsCache.getSharedInstance();
+            double w1 = cache.getStringWidth(lowerStr, g2, fm);
+            double w2 = cache.getStringWidth(upperStr, g2, fm);
             result += Math.max(w1, w2);
         }
 
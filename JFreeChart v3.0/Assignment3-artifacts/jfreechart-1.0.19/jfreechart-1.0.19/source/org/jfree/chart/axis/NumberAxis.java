@@ -120,6 +120,7 @@ import org.jfree.chart.plot.Plot;
 import org.jfree.chart.plot.PlotRenderingInfo;
 import org.jfree.chart.plot.ValueAxisPlot;
 import org.jfree.chart.util.ParamChecks;
+import org.jfree.chart.util.TextBoundsCache;
 import org.jfree.data.Range;
 import org.jfree.data.RangeType;
 import org.jfree.ui.RectangleEdge;
@@ -799,8 +800,9 @@ public class NumberAxis extends ValueAxis implements Cloneable, Serializable {
                 lowerStr = unit.valueToString(lower);
                 upperStr = unit.valueToString(upper);
             }
-            double w1 = fm.stringWidth(lowerStr);
-            double w2 = fm.stringWidth(upperStr);
+            TextBoundsCache cache = TextBoundsCache.getSharedInstance();
+            double w1 = cache.getStringWidth(lowerStr, g2, fm);
+            double w2 = cache.getStringWidth(upperStr, g2, fm);
             result += Math.max(w1, w2);
         }
 
@@ -135,9 +135,9 @@ import org.jfree.chart.event.AxisChangeEvent;
 import org.jfree.chart.plot.Plot;
 import org.jfree.chart.util.AttrStringUtils;
 import org.jfree.chart.util.ParamChecks;
+import org.jfree.chart.util.TextBoundsCache;
 import org.jfree.data.Range;
 import org.jfree.io.SerialUtilities;
-import org.jfree.text.TextUtilities;
 import org.jfree.ui.RectangleEdge;
 import org.jfree.ui.RectangleInsets;
 import org.jfree.util.ObjectUtilities;
@@ -714,8 +714,8 @@ public abstract class ValueAxis extends Axis
                     if (tick.getText() == null) {
                         continue;
                     }
-                    TextUtilities.drawRotatedString(tick.getText(), g2,
-                            anchorPoint[0], anchorPoint[1], 
+                    TextBoundsCache.getSharedInstance().drawRotatedString(
+                            tick.getText(), g2, anchorPoint[0], anchorPoint[1],
                             tick.getTextAnchor(), tick.getAngle(), 
                             tick.getRotationAnchor());
                 }
@@ -876,8 +876,8 @@ public abstract class ValueAxis extends Axis
                                 lt.getAttributedLabel(), g2);
                     }
                 } else if (tick.getText() != null) {
-                    labelBounds = TextUtilities.getTextBounds(
-                            tick.getText(), g2, fm);
+                    labelBounds = TextBoundsCache.getSharedInstance()
+                            .getTextBounds(tick.getText(), g2, fm);
                 }
                 if (labelBounds != null && labelBounds.getWidth() 
                         + insets.getTop() + insets.getBottom() > maxHeight) {
@@ -925,8 +925,8 @@ public abstract class ValueAxis extends Axis
                                 lt.getAttributedLabel(), g2);
                     }
                 } else if (tick.getText() != null) {
-                    labelBounds = TextUtilities.getTextBounds(tick.getText(), 
-                            g2, fm);
+                    labelBounds = TextBoundsCache.getSharedInstance()
+                            .getTextBounds(tick.getText(), g2, fm);
                 }
                 if (labelBounds != null 
                         && labelBounds.getWidth() + insets.getLeft()
@@ -0,0 +1,651 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------
+ * StreamingPNGEncoder.java
+ * ------------------------
+ * (C) Copyright 2014, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.encoders;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.LinkedList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import org.jfree.chart.util.ParamChecks;
+
+/**
+ * A PNG encoder that streams the encoded image to an
+ * <code>OutputStream</code>.  The image is processed in bands of rows: each
+ * band is converted to bytes and filtered, then passed to a single deflater
+ * whose output is written as IDAT chunks as soon as each chunk fills up.
+ * The memory used (apart from the image itself) is therefore bounded by a
+ * few bands, regardless of the image size.
+ * <P>
+ * If an <code>ExecutorService</code> is supplied, the bands are filtered in
+ * parallel (a few bands ahead of the deflater), which is where most of the
+ * time goes with the adaptive filter.  The compression level (0 to 9) is set
+ * with {@link #setQuality(float)} and the row filter with
+ * {@link #setFilter(int)}.
+ *
+ * @since 1.0.20
+ */
+public class StreamingPNGEncoder implements ImageEncoder {
+
+    /** Constant specifying that no row filter should be used. */
+    public static final int FILTER_NONE = 0;
+
+    /** Constant specifying the "sub" row filter. */
+    public static final int FILTER_SUB = 1;
+
+    /** Constant specifying the "up" row filter. */
+    public static final int FILTER_UP = 2;
+
+    /** Constant specifying the "average" row filter. */
+    public static final int FILTER_AVERAGE = 3;
+
+    /** Constant specifying the "Paeth" row filter. */
+    public static final int FILTER_PAETH = 4;
+
+    /**
+     * Constant specifying that the filter should be chosen for each row (the
+     * one with the smallest sum of absolute differences).
+     */
+    public static final int FILTER_ADAPTIVE = 5;
+
+    /** The PNG file signature. */
+    private static final byte[] SIGNATURE = {(byte) 137, 80, 78, 71, 13, 10,
+            26, 10};
+
+    /** The number of rows in each band. */
+    private static final int BAND_HEIGHT = 16;
+
+    /** The maximum size of the IDAT chunks. */
+    private static final int CHUNK_SIZE = 32768;
+
+    /** The compression level (0-9). */
+    private int quality;
+
+    /** Encode alpha? */
+    private boolean encodingAlpha;
+
+    /** The row filter. */
+    private int filter;
+
+    /** The executor for filtering bands (<code>null</code> permitted). */
+    private ExecutorService executor;
+
+    /**
+     * Creates a new encoder that filters on the calling thread.
+     */
+    public StreamingPNGEncoder() {
+        this(null);
+    }
+
+    /**
+     * Creates a new encoder.
+     *
+     * @param executor  the executor used to filter bands in parallel
+     *     (<code>null</code> permitted, in which case the bands are filtered
+     *     on the calling thread).
+     */
+    public StreamingPNGEncoder(ExecutorService executor) {
+        this.quality = 6;
+        this.encodingAlpha = false;
+        this.filter = FILTER_ADAPTIVE;
+        this.executor = executor;
+    }
+
+    /**
+     * Get the quality of the image encoding.  This is the compression level:
+     * 0 for no compression, and values 1 through 9 for various levels of
+     * compression (1 is best speed, 9 is best compression).  The default is
+     * 6.
+     *
+     * @return A float representing the quality.
+     */
+    @Override
+    public float getQuality() {
+        return this.quality;
+    }
+
+    /**
+     * Set the quality of the image encoding (see {@link #getQuality()}).
+     *
+     * @param quality  A float representing the quality (0 to 9).
+     */
+    @Override
+    public void setQuality(float quality) {
+        if (quality < 0.0f || quality > 9.0f) {
+            throw new IllegalArgumentException(
+                    "Requires 'quality' in the range 0 to 9.");
+        }
+        this.quality = (int) quality;
+    }
+
+    /**
+     * Get whether the encoder should encode alpha transparency.
+     *
+     * @return Whether the encoder is encoding alpha transparency.
+     */
+    @Override
+    public boolean isEncodingAlpha() {
+        return this.encodingAlpha;
+    }
+
+    /**
+     * Set whether the encoder should encode alpha transparency (supported).
+     *
+     * @param encodingAlpha  Whether the encoder should encode alpha
+     *                       transparency.
+     */
+    @Override
+    public void setEncodingAlpha(boolean encodingAlpha) {
+        this.encodingAlpha = encodingAlpha;
+    }
+
+    /**
+     * Returns the row filter.  The default is {@link #FILTER_ADAPTIVE}.
+     *
+     * @return The row filter.
+     */
+    public int getFilter() {
+        return this.filter;
+    }
+
+    /**
+     * Sets the row filter.
+     *
+     * @param filter  one of {@link #FILTER_NONE}, {@link #FILTER_SUB},
+     *     {@link #FILTER_UP}, {@link #FILTER_AVERAGE}, {@link #FILTER_PAETH}
+     *     and {@link #FILTER_ADAPTIVE}.
+     */
+    public void setFilter(int filter) {
+        if (filter < FILTER_NONE || filter > FILTER_ADAPTIVE) {
+            throw new IllegalArgumentException("Unrecognised 'filter': "
+                    + filter);
+        }
+        this.filter = filter;
+    }
+
+    /**
+     * Encodes an image in PNG format.
+     *
+     * @param bufferedImage  The image to be encoded.
+     *
+     * @return The byte[] that is the encoded image.
+     *
+     * @throws IOException if there is an IO problem.
+     */
+    @Override
+    public byte[] encode(BufferedImage bufferedImage) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        encode(bufferedImage, outputStream);
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * Encodes an image in PNG format and writes it to an OutputStream.
+     *
+     * @param bufferedImage  The image to be encoded.
+     * @param outputStream  The OutputStream to write the encoded image to.
+     *
+     * @throws IOException if there is an IO problem.
+     */
+    @Override
+    public void encode(BufferedImage bufferedImage, OutputStream outputStream)
+            throws IOException {
+        ParamChecks.nullNotPermitted(bufferedImage, "bufferedImage");
+        ParamChecks.nullNotPermitted(outputStream, "outputStream");
+        int width = bufferedImage.getWidth();
+        int height = bufferedImage.getHeight();
+        int bytesPerPixel = this.encodingAlpha ? 4 : 3;
+
+        outputStream.write(SIGNATURE);
+        byte[] header = new byte[13];
+        writeInt(header, 0, width);
+        writeInt(header, 4, height);
+        header[8] = 8;  // bit depth
+        header[9] = (byte) (this.encodingAlpha ? 6 : 2);  // RGBA or RGB
+        writeChunk(outputStream, "IHDR", header, header.length);
+
+        Deflater deflater = new Deflater(this.quality);
+        if (this.filter != FILTER_NONE) {
+            deflater.setStrategy(Deflater.FILTERED);
+        }
+        IDATWriter writer = new IDATWriter(outputStream, deflater);
+        try {
+            int bandCount = (height + BAND_HEIGHT - 1) / BAND_HEIGHT;
+            if (this.executor == null) {
+                for (int b = 0; b < bandCount; b++) {
+                    writer.write(createBandTask(bufferedImage, b,
+                            bytesPerPixel).call());
+                }
+            }
+            else {
+                writeBandsInParallel(bufferedImage, bandCount, bytesPerPixel,
+                        writer);
+            }
+            writer.finish();
+        }
+        finally {
+            deflater.end();
+        }
+        writeChunk(outputStream, "IEND", new byte[0], 0);
+    }
+
+    /**
+     * Filters the bands on the executor (keeping a limited number of bands
+     * in progress) and writes them in order.
+     *
+     * @param image  the image.
+     * @param bandCount  the number of bands.
+     * @param bytesPerPixel  the number of bytes per pixel.
+     * @param writer  the IDAT writer.
+     *
+     * @throws IOException if there is an IO problem.
+     */
+    private void writeBandsInParallel(BufferedImage image, int bandCount,
+            int bytesPerPixel, IDATWriter writer) throws IOException {
+        int maxInProgress = 2 * Runtime.getRuntime().availableProcessors();
+        LinkedList futures = new LinkedList();
+        int next = 0;
+        try {
+            while (next < bandCount && futures.size() < maxInProgress) {
+                futures.add(this.executor.submit(createBandTask(image, next++,
+                        bytesPerPixel)));
+            }
+            while (!futures.isEmpty()) {
+                Future future = (Future) futures.removeFirst();
+                byte[] band;
+                try {
+                    band = (byte[]) future.get();
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while encoding.");
+                }
+                catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (cause instanceof RuntimeException) {
+                        throw (RuntimeException) cause;
+                    }
+                    if (cause instanceof Error) {
+                        throw (Error) cause;
+                    }
+                    throw new RuntimeException(cause);
+                }
+                if (next < bandCount) {
+                    futures.add(this.executor.submit(createBandTask(image,
+                            next++, bytesPerPixel)));
+                }
+                writer.write(band);
+            }
+        }
+        finally {
+            while (!futures.isEmpty()) {
+                ((Future) futures.removeFirst()).cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Creates a task that returns the filtered bytes for one band.
+     *
+     * @param image  the image.
+     * @param band  the band index.
+     * @param bytesPerPixel  the number of bytes per pixel.
+     *
+     * @return The task.
+     */
+    private BandTask createBandTask(BufferedImage image, int band,
+            int bytesPerPixel) {
+        int y = band * BAND_HEIGHT;
+        int rows = Math.min(BAND_HEIGHT, image.getHeight() - y);
+        return new BandTask(image, y, rows, bytesPerPixel, this.filter);
+    }
+
+    /**
+     * Writes a chunk to the output stream.
+     *
+     * @param out  the output stream.
+     * @param type  the chunk type.
+     * @param data  the chunk data.
+     * @param length  the number of bytes of data to write.
+     *
+     * @throws IOException if there is an IO problem.
+     */
+    private static void writeChunk(OutputStream out, String type, byte[] data,
+            int length) throws IOException {
+        byte[] typeBytes = type.getBytes("US-ASCII");
+        byte[] buffer = new byte[4];
+        writeInt(buffer, 0, length);
+        out.write(buffer);
+        out.write(typeBytes);
+        out.write(data, 0, length);
+        CRC32 crc = new CRC32();
+        crc.update(typeBytes);
+        crc.update(data, 0, length);
+        writeInt(buffer, 0, (int) crc.getValue());
+        out.write(buffer);
+    }
+
+    /**
+     * Writes a (big-endian) integer to a byte array.
+     *
+     * @param buffer  the array.
+     * @param offset  the offset.
+     * @param value  the value.
+     */
+    private static void writeInt(byte[] buffer, int offset, int value) {
+        buffer[offset] = (byte) (value >>> 24);
+        buffer[offset + 1] = (byte) (value >>> 16);
+        buffer[offset + 2] = (byte) (value >>> 8);
+        buffer[offset + 3] = (byte) value;
+    }
+
+    /**
+     * Compresses the filtered image data and writes it as IDAT chunks.
+     */
+    private static class IDATWriter {
+
+        /** The output stream. */
+        private OutputStream out;
+
+        /** The deflater. */
+        private Deflater deflater;
+
+        /** The buffer for the current chunk. */
+        private byte[] chunk;
+
+        /** The number of bytes in the current chunk. */
+        private int chunkLength;
+
+        /**
+         * Creates a new writer.
+         *
+         * @param out  the output stream.
+         * @param deflater  the deflater.
+         */
+        IDATWriter(OutputStream out, Deflater deflater) {
+            this.out = out;
+            this.deflater = deflater;
+            this.chunk = new byte[CHUNK_SIZE];
+            this.chunkLength = 0;
+        }
+
+        /**
+         * Compresses some data.
+         *
+         * @param data  the data.
+         *
+         * @throws IOException if there is an IO problem.
+         */
+        void write(byte[] data) throws IOException {
+            this.deflater.setInput(data);
+            while (!this.deflater.needsInput()) {
+                deflate();
+            }
+        }
+
+        /**
+         * Finishes the compressed data and writes the last chunk.
+         *
+         * @throws IOException if there is an IO problem.
+         */
+        void finish() throws IOException {
+            this.deflater.finish();
+            while (!this.deflater.finished()) {
+                deflate();
+            }
+            if (this.chunkLength > 0) {
+                writeChunk(this.out, "IDAT", this.chunk, this.chunkLength);
+                this.chunkLength = 0;
+            }
+        }
+
+        /**
+         * Runs the deflater once, writing the chunk if it is full.
+         *
+         * @throws IOException if there is an IO problem.
+         */
+        private void deflate() throws IOException {
+            this.chunkLength += this.deflater.deflate(this.chunk,
+                    this.chunkLength, CHUNK_SIZE - this.chunkLength);
+            if (this.chunkLength == CHUNK_SIZE) {
+                writeChunk(this.out, "IDAT", this.chunk, this.chunkLength);
+                this.chunkLength = 0;
+            }
+        }
+
+    }
+
+    /**
+     * A task that converts a band of rows to bytes and filters them.
+     */
+    private static class BandTask implements Callable {
+
+        /** The image. */
+        private BufferedImage image;
+
+        /** The first row of the band. */
+        private int y;
+
+        /** The number of rows. */
+        private int rows;
+
+        /** The number of bytes per pixel. */
+        private int bytesPerPixel;
+
+        /** The row filter. */
+        private int filter;
+
+        /**
+         * Creates a new task.
+         *
+         * @param image  the image.
+         * @param y  the first row.
+         * @param rows  the number of rows.
+         * @param bytesPerPixel  the number of bytes per pixel (3 or 4).
+         * @param filter  the row filter.
+         */
+        BandTask(BufferedImage image, int y, int rows, int bytesPerPixel,
+                int filter) {
+            this.image = image;
+            this.y = y;
+            this.rows = rows;
+            this.bytesPerPixel = bytesPerPixel;
+            this.filter = filter;
+        }
+
+        /**
+         * Returns the filtered bytes for the band (each row is preceded by
+         * its filter type).
+         *
+         * @return The filtered bytes.
+         */
+        @Override
+        public byte[] call() {
+            int width = this.image.getWidth();
+            int rowBytes = width * this.bytesPerPixel;
+            byte[] result = new byte[this.rows * (rowBytes + 1)];
+            byte[] prior = new byte[rowBytes];
+            byte[] current = new byte[rowBytes];
+            int[] pixels = new int[width];
+            if (this.y > 0) {
+                toBytes(this.y - 1, pixels, prior);
+            }
+            int offset = 0;
+            for (int r = 0; r < this.rows; r++) {
+                toBytes(this.y + r, pixels, current);
+                int type = this.filter;
+                if (type == FILTER_ADAPTIVE) {
+                    type = chooseFilter(current, prior, this.bytesPerPixel);
+                }
+                result[offset] = (byte) type;
+                filterRow(type, current, prior, this.bytesPerPixel, result,
+                        offset + 1);
+                offset += rowBytes + 1;
+                byte[] temp = prior;
+                prior = current;
+                current = temp;
+            }
+            return result;
+        }
+
+        /**
+         * Converts one row of the image to (non-premultiplied) RGB or RGBA
+         * bytes.
+         *
+         * @param row  the row.
+         * @param pixels  a buffer for the pixels.
+         * @param bytes  the array to hold the bytes.
+         */
+        private void toBytes(int row, int[] pixels, byte[] bytes) {
+            this.image.getRGB(0, row, pixels.length, 1, pixels, 0,
+                    pixels.length);
+            int j = 0;
+            for (int i = 0; i < pixels.length; i++) {
+                int p = pixels[i];
+                bytes[j++] = (byte) (p >> 16);
+                bytes[j++] = (byte) (p >> 8);
+                bytes[j++] = (byte) p;
+                if (this.bytesPerPixel == 4) {
+                    bytes[j++] = (byte) (p >>> 24);
+                }
+            }
+        }
+
+    }
+
+    /**
+     * Returns the filter that gives the smallest sum of absolute (signed)
+     * differences for a row.
+     *
+     * @param current  the row.
+     * @param prior  the previous row.
+     * @param bpp  the number of bytes per pixel.
+     *
+     * @return The filter type.
+     */
+    private static int chooseFilter(byte[] current, byte[] prior, int bpp) {
+        int best = FILTER_NONE;
+        long bestSum = Long.MAX_VALUE;
+        for (int type = FILTER_NONE; type <= FILTER_PAETH; type++) {
+            long sum = 0;
+            for (int i = 0; i < current.length && sum < bestSum; i++) {
+                sum += Math.abs((byte) filterByte(type, current, prior, bpp,
+                        i));
+            }
+            if (sum < bestSum) {
+                bestSum = sum;
+                best = type;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Filters a row.
+     *
+     * @param type  the filter type.
+     * @param current  the row.
+     * @param prior  the previous row.
+     * @param bpp  the number of bytes per pixel.
+     * @param result  the array for the filtered row.
+     * @param offset  the offset into the result array.
+     */
+    private static void filterRow(int type, byte[] current, byte[] prior,
+            int bpp, byte[] result, int offset) {
+        for (int i = 0; i < current.length; i++) {
+            result[offset + i] = (byte) filterByte(type, current, prior, bpp,
+                    i);
+        }
+    }
+
+    /**
+     * Returns one filtered byte.
+     *
+     * @param type  the filter type.
+     * @param current  the row.
+     * @param prior  the previous row.
+     * @param bpp  the number of bytes per pixel.
+     * @param i  the byte index.
+     *
+     * @return The filtered byte (only the low eight bits are significant).
+     */
+    private static int filterByte(int type, byte[] current, byte[] prior,
+            int bpp, int i) {
+        int x = current[i] & 0xFF;
+        int a = i >= bpp ? current[i - bpp] & 0xFF : 0;
+        int b = prior[i] & 0xFF;
+        switch (type) {
+            case FILTER_SUB:
+                return x - a;
+            case FILTER_UP:
+                return x - b;
+            case FILTER_AVERAGE:
+                return x - ((a + b) >> 1);
+            case FILTER_PAETH:
+                int c = i >= bpp ? prior[i - bpp] & 0xFF : 0;
+                int p = a + b - c;
+                int pa = Math.abs(p - a);
+                int pb = Math.abs(p - b);
+                int pc = Math.abs(p - c);
+                int predictor;
+                if (pa <= pb && pa <= pc) {
+                    predictor = a;
+                }
+                else if (pb <= pc) {
+                    predictor = b;
+                }
+                else {
+                    predictor = c;
+                }
+                return x - predictor;
+            default:
+                return x;
+        }
+    }
+
+}
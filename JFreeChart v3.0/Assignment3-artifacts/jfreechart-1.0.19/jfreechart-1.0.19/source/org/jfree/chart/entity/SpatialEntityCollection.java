@@ -0,0 +1,292 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------------
+ * SpatialEntityCollection.java
+ * ----------------------------
+ * (C) Copyright 2014, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.entity;
+
+import java.awt.geom.Rectangle2D;
+
+/**
+ * An entity collection that builds a spatial index (a uniform grid over the
+ * bounds of the entity areas) the first time that
+ * {@link #getEntity(double, double)} is called after the collection has
+ * changed.  Each grid cell records the entities with bounds that overlap
+ * the cell, so a look-up only tests the entities in one cell instead of
+ * every entity in the collection.  This makes tool tips and mouse events
+ * responsive for charts with a very large number of entities.
+ * <P>
+ * The look-up returns the same entity as the
+ * {@link StandardEntityCollection} (that is, the last entity added with an
+ * area that contains the point).  The index is discarded whenever an entity
+ * is added or the collection is cleared; the entity areas should not be
+ * changed after the entities have been added to the collection.
+ *
+ * @since 1.0.20
+ */
+public class SpatialEntityCollection extends StandardEntityCollection {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Collections with fewer entities than this are searched without an
+     * index.
+     */
+    private static final int INDEX_THRESHOLD = 32;
+
+    /** The maximum number of grid cells along each axis. */
+    private static final int MAX_CELLS = 256;
+
+    /** A flag that indicates whether or not the index is up to date. */
+    private transient boolean indexValid;
+
+    /** The bounds of all the entity areas. */
+    private transient double minX, minY, maxX, maxY;
+
+    /** The number of grid columns and rows. */
+    private transient int columns, rows;
+
+    /** The width and height of each grid cell. */
+    private transient double cellWidth, cellHeight;
+
+    /**
+     * The offset of the first entry in {@link #cellEntities} for each cell
+     * (with an extra entry at the end).
+     */
+    private transient int[] cellStart;
+
+    /** The entity indices (in ascending order within each cell). */
+    private transient int[] cellEntities;
+
+    /**
+     * Constructs a new entity collection (initially empty).
+     */
+    public SpatialEntityCollection() {
+        super();
+    }
+
+    /**
+     * Clears all the entities from the collection.
+     */
+    @Override
+    public void clear() {
+        super.clear();
+        invalidateIndex();
+    }
+
+    /**
+     * Adds an entity to the collection.
+     *
+     * @param entity  the entity (<code>null</code> not permitted).
+     */
+    @Override
+    public void add(ChartEntity entity) {
+        super.add(entity);
+        invalidateIndex();
+    }
+
+    /**
+     * Adds all the entities from the specified collection.
+     *
+     * @param collection  the collection of entities (<code>null</code> not
+     *     permitted).
+     */
+    @Override
+    public void addAll(EntityCollection collection) {
+        super.addAll(collection);
+        invalidateIndex();
+    }
+
+    /**
+     * Returns the last entity in the list with an area that encloses the
+     * specified coordinates, or <code>null</code> if there is no such entity.
+     *
+     * @param x  the x coordinate.
+     * @param y  the y coordinate.
+     *
+     * @return The entity (possibly <code>null</code>).
+     */
+    @Override
+    public ChartEntity getEntity(double x, double y) {
+        if (getEntityCount() < INDEX_THRESHOLD) {
+            return super.getEntity(x, y);
+        }
+        if (!this.indexValid) {
+            buildIndex();
+        }
+        if (!(x >= this.minX && x <= this.maxX && y >= this.minY
+                && y <= this.maxY)) {
+            return null;
+        }
+        int cell = row(y) * this.columns + column(x);
+        for (int i = this.cellStart[cell + 1] - 1;
+                i >= this.cellStart[cell]; i--) {
+            ChartEntity entity = getEntity(this.cellEntities[i]);
+            if (entity.getArea().contains(x, y)) {
+                return entity;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns a clone of this entity collection.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if the object cannot be cloned.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        SpatialEntityCollection clone = (SpatialEntityCollection) super.clone();
+        clone.invalidateIndex();
+        return clone;
+    }
+
+    /**
+     * Discards the index.
+     */
+    private void invalidateIndex() {
+        this.indexValid = false;
+        this.cellStart = null;
+        this.cellEntities = null;
+    }
+
+    /**
+     * Returns the grid column for an x-coordinate.
+     *
+     * @param x  the x-coordinate.
+     *
+     * @return The column.
+     */
+    private int column(double x) {
+        int c = (int) ((x - this.minX) / this.cellWidth);
+        return Math.max(0, Math.min(c, this.columns - 1));
+    }
+
+    /**
+     * Returns the grid row for a y-coordinate.
+     *
+     * @param y  the y-coordinate.
+     *
+     * @return The row.
+     */
+    private int row(double y) {
+        int r = (int) ((y - this.minY) / this.cellHeight);
+        return Math.max(0, Math.min(r, this.rows - 1));
+    }
+
+    /**
+     * Builds the index.
+     */
+    private void buildIndex() {
+        int count = getEntityCount();
+        Rectangle2D[] bounds = new Rectangle2D[count];
+        this.minX = Double.POSITIVE_INFINITY;
+        this.minY = Double.POSITIVE_INFINITY;
+        this.maxX = Double.NEGATIVE_INFINITY;
+        this.maxY = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < count; i++) {
+            Rectangle2D b = getEntity(i).getArea().getBounds2D();
+            if (Double.isNaN(b.getX()) || Double.isNaN(b.getY())
+                    || Double.isNaN(b.getWidth())
+                    || Double.isNaN(b.getHeight())) {
+                continue;  // such an area can't contain any point
+            }
+            bounds[i] = b;
+            this.minX = Math.min(this.minX, bounds[i].getMinX());
+            this.minY = Math.min(this.minY, bounds[i].getMinY());
+            this.maxX = Math.max(this.maxX, bounds[i].getMaxX());
+            this.maxY = Math.max(this.maxY, bounds[i].getMaxY());
+        }
+        int cells = (int) Math.ceil(Math.sqrt(count));
+        cells = Math.max(1, Math.min(cells, MAX_CELLS));
+        double w = this.maxX - this.minX;
+        double h = this.maxY - this.minY;
+        this.columns = w > 0.0 ? cells : 1;
+        this.rows = h > 0.0 ? cells : 1;
+        this.cellWidth = w > 0.0 ? w / this.columns : 1.0;
+        this.cellHeight = h > 0.0 ? h / this.rows : 1.0;
+
+        // first pass counts the entries for each cell, the second pass
+        // fills them in (in ascending entity order)
+        int[] start = new int[this.columns * this.rows + 1];
+        for (int i = 0; i < count; i++) {
+            Rectangle2D b = bounds[i];
+            if (b == null) {
+                continue;
+            }
+            int c0 = column(b.getMinX());
+            int c1 = column(b.getMaxX());
+            int r0 = row(b.getMinY());
+            int r1 = row(b.getMaxY());
+            for (int r = r0; r <= r1; r++) {
+                for (int c = c0; c <= c1; c++) {
+                    start[r * this.columns + c + 1]++;
+                }
+            }
+        }
+        for (int i = 1; i < start.length; i++) {
+            start[i] += start[i - 1];
+        }
+        int[] next = new int[start.length - 1];
+        System.arraycopy(start, 0, next, 0, next.length);
+        int[] entries = new int[start[start.length - 1]];
+        for (int i = 0; i < count; i++) {
+            Rectangle2D b = bounds[i];
+            if (b == null) {
+                continue;
+            }
+            int c0 = column(b.getMinX());
+            int c1 = column(b.getMaxX());
+            int r0 = row(b.getMinY());
+            int r1 = row(b.getMaxY());
+            for (int r = r0; r <= r1; r++) {
+                for (int c = c0; c <= c1; c++) {
+                    int cell = r * this.columns + c;
+                    entries[next[cell]++] = i;
+                }
+            }
+        }
+        this.cellStart = start;
+        this.cellEntities = entries;
+        this.indexValid = true;
+    }
+
+}
@@ -107,6 +107,7 @@ import java.awt.geom.Rectangle2D;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 import org.jfree.chart.LegendItemCollection;
 import org.jfree.chart.axis.AxisSpace;
@@ -139,6 +140,12 @@ public class CombinedRangeXYPlot extends XYPlot
     /** The gap between subplots. */
     private double gap = 5.0;
 
+    /**
+     * The executor used to draw the subplots concurrently (if
+     * <code>null</code>, the subplots are drawn one after the other).
+     */
+    private transient ExecutorService subplotExecutor;
+
     /** Temporary storage for the subplot areas. */
     private transient Rectangle2D[] subplotAreas;
 
@@ -193,6 +200,45 @@ public class CombinedRangeXYPlot extends XYPlot
     public void setGap(double gap) {
         this.gap = gap;
     }
+
+    /**
+     * Returns the executor used to draw the subplots concurrently.
+     *
+     * @return The executor (possibly <code>null</code>).
+     *
+     * @see #setSubplotExecutor(ExecutorService)
+     *
+     * @since 1.0.20
+     */
+    public ExecutorService getSubplotExecutor() {
+        return this.subplotExecutor;
+    }
+
+    /**
+     * Sets the executor used to draw the subplots concurrently.  When an
+     * executor is set, the shared axis and the subplot areas are calculated
+     * once, then each subplot is drawn into its own off-screen image by a
+     * separate task and the images are drawn onto the target in order.  The
+     * rendering info (including the entities) is the same as when the
+     * subplots are drawn one after the other.
+     * <P>
+     * Since the subplots are rasterized, this is intended for drawing to the
+     * screen or to an image, not to vector output.  The subplots are drawn
+     * one after the other anyway if the target is scaled or rotated, or if
+     * a renderer is shared between subplots.  The subplots (and their
+     * datasets) must not be modified while the plot is being drawn.  No
+     * change event is sent, as this setting does not change the output.
+     *
+     * @param executor  the executor (<code>null</code> permitted, in which
+     *     case the subplots are drawn one after the other).
+     *
+     * @see #getSubplotExecutor()
+     *
+     * @since 1.0.20
+     */
+    public void setSubplotExecutor(ExecutorService executor) {
+        this.subplotExecutor = executor;
+    }
     
     /**
      * Returns {@code true} if the domain is pannable for at least one subplot,
@@ -435,15 +481,22 @@ public class CombinedRangeXYPlot extends XYPlot
         parentState.getSharedAxisStates().put(axis, axisState);
 
         // draw all the charts
-        for (int i = 0; i < this.subplots.size(); i++) {
-            XYPlot plot = (XYPlot) this.subplots.get(i);
-            PlotRenderingInfo subplotInfo = null;
-            if (info != null) {
-                subplotInfo = new PlotRenderingInfo(info.getOwner());
-                info.addSubplotInfo(subplotInfo);
+        if (this.subplotExecutor != null
+                && ParallelSubplotDrawer.isSupported(g2, this.subplots)) {
+            ParallelSubplotDrawer.draw(g2, this.subplots, this.subplotAreas,
+                    anchor, parentState, info, this.subplotExecutor);
+        }
+        else {
+            for (int i = 0; i < this.subplots.size(); i++) {
+                XYPlot plot = (XYPlot) this.subplots.get(i);
+                PlotRenderingInfo subplotInfo = null;
+                if (info != null) {
+                    subplotInfo = new PlotRenderingInfo(info.getOwner());
+                    info.addSubplotInfo(subplotInfo);
+                }
+                plot.draw(g2, this.subplotAreas[i], anchor, parentState,
+                        subplotInfo);
             }
-            plot.draw(g2, this.subplotAreas[i], anchor, parentState,
-                    subplotInfo);
         }
 
         if (info != null) {
@@ -0,0 +1,351 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------
+ * ParallelSubplotDrawer.java
+ * --------------------------
+ * (C) Copyright 2014, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.plot;
+
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.Stroke;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.entity.StandardEntityCollection;
+import org.jfree.chart.renderer.AbstractRenderer;
+import org.jfree.chart.renderer.xy.XYItemRenderer;
+import org.jfree.chart.util.TaskUtils;
+import org.jfree.data.xy.XYDataset;
+
+/**
+ * Draws the subplots of a {@link CombinedDomainXYPlot} or
+ * {@link CombinedRangeXYPlot} concurrently.  Each subplot is drawn into its
+ * own off-screen image by a task submitted to an executor, and the images
+ * are then drawn onto the target in subplot order.  An image covers only
+ * the subplot's area and the areas of its neighbours (where overhanging
+ * tick labels can fall), extended to the clip region of the target at
+ * either end, so anything that a subplot draws further away is not shown.  The entities for each subplot are collected separately and
+ * appended to the chart's entity collection in subplot order too, so the
+ * rendering info is the same as when the subplots are drawn one after the
+ * other.
+ */
+class ParallelSubplotDrawer {
+
+    /**
+     * Private constructor prevents object creation.
+     */
+    private ParallelSubplotDrawer() {
+        // no requirements
+    }
+
+    /**
+     * Returns <code>true</code> if the subplots can be drawn concurrently
+     * onto the specified target, and <code>false</code> otherwise.  This
+     * requires at least two subplots, a clip region on the target, a
+     * transform that is a whole-pixel translation (so that the images line
+     * up exactly with the pixels that would otherwise be drawn) and a
+     * separate
+     * {@link AbstractRenderer} instance for every renderer in the subplots.
+     *
+     * @param g2  the graphics target.
+     * @param subplots  the subplots.
+     *
+     * @return A boolean.
+     */
+    static boolean isSupported(Graphics2D g2, List subplots) {
+        if (subplots.size() < 2 || g2.getClip() == null) {
+            return false;
+        }
+        AffineTransform t = g2.getTransform();
+        if ((t.getType() & ~AffineTransform.TYPE_TRANSLATION) != 0
+                || t.getTranslateX() != Math.floor(t.getTranslateX())
+                || t.getTranslateY() != Math.floor(t.getTranslateY())) {
+            return false;
+        }
+        List renderers = new ArrayList();
+        for (int i = 0; i < subplots.size(); i++) {
+            XYPlot plot = (XYPlot) subplots.get(i);
+            for (int r = 0; r < plot.getRendererCount(); r++) {
+                XYItemRenderer renderer = plot.getRenderer(r);
+                if (renderer == null) {
+                    continue;
+                }
+                if (!(renderer instanceof AbstractRenderer)) {
+                    return false;
+                }
+                for (int j = 0; j < renderers.size(); j++) {
+                    if (renderers.get(j) == renderer) {
+                        return false;
+                    }
+                }
+                renderers.add(renderer);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Draws the subplots.  The caller should check {@link #isSupported}
+     * first.
+     *
+     * @param g2  the graphics target.
+     * @param subplots  the subplots.
+     * @param areas  the area for each subplot.
+     * @param anchor  the anchor point (<code>null</code> permitted).
+     * @param parentState  the state from the parent plot.
+     * @param info  the rendering info for the parent plot
+     *     (<code>null</code> permitted).
+     * @param executor  the executor.
+     */
+    static void draw(Graphics2D g2, List subplots, Rectangle2D[] areas,
+            Point2D anchor, PlotState parentState, PlotRenderingInfo info,
+            ExecutorService executor) {
+
+        // series paints, strokes and shapes that are populated from the
+        // (shared) drawing supplier must be assigned on this thread, in the
+        // same order that the legend would assign them
+        for (int i = 0; i < subplots.size(); i++) {
+            populateSeriesAttributes((XYPlot) subplots.get(i));
+        }
+
+        int count = subplots.size();
+        SubplotTask[] tasks = new SubplotTask[count];
+        ChartRenderingInfo owner = (info != null ? info.getOwner() : null);
+        Rectangle clip = g2.getClipBounds();
+        for (int i = 0; i < count; i++) {
+            PlotRenderingInfo subplotInfo = null;
+            if (info != null) {
+                ChartRenderingInfo subplotOwner = null;
+                if (owner != null) {
+                    subplotOwner = new ChartRenderingInfo(
+                            owner.getEntityCollection() != null
+                            ? new StandardEntityCollection() : null);
+                }
+                subplotInfo = new PlotRenderingInfo(subplotOwner);
+            }
+            XYPlot subplot = (XYPlot) subplots.get(i);
+            Rectangle bounds = getImageBounds(subplot, areas, i, clip);
+            tasks[i] = new SubplotTask(subplot, areas[i],
+                    anchor, parentState, subplotInfo, bounds, g2);
+        }
+
+        // the first subplot (and any that the executor rejects) is drawn on
+        // this thread
+        TaskUtils.runAll(executor, Arrays.asList(tasks));
+
+        for (int i = 0; i < count; i++) {
+            SubplotTask task = tasks[i];
+            if (!task.bounds.isEmpty()) {
+                g2.drawImage(task.image, task.bounds.x, task.bounds.y, null);
+            }
+            if (info != null) {
+                PlotRenderingInfo subplotInfo = task.info;
+                ChartRenderingInfo subplotOwner = subplotInfo.getOwner();
+                if (subplotOwner != null
+                        && subplotOwner.getEntityCollection() != null) {
+                    owner.getEntityCollection().addAll(
+                            subplotOwner.getEntityCollection());
+                }
+                subplotInfo.setOwner(owner);
+                info.addSubplotInfo(subplotInfo);
+            }
+        }
+    }
+
+    /**
+     * Returns the pixel bounds of the image for a subplot.  Tick labels are
+     * centred on their ticks, so a subplot can draw over its neighbours
+     * (and, at either end, up to the edge of the target) as well as over
+     * its own area.  The bounds therefore cover the areas of the subplot
+     * and the subplots either side of it, widened to cover the plot outline
+     * plus one pixel for the rounding of strokes, and reach the edge of the
+     * clip wherever the subplots do.
+     *
+     * @param plot  the subplot.
+     * @param areas  the area for each subplot.
+     * @param index  the subplot index.
+     * @param clip  the clip bounds of the target.
+     *
+     * @return The bounds (possibly empty).
+     */
+    private static Rectangle getImageBounds(XYPlot plot, Rectangle2D[] areas,
+            int index, Rectangle clip) {
+        Rectangle2D all = (Rectangle2D) areas[0].clone();
+        for (int i = 1; i < areas.length; i++) {
+            Rectangle2D.union(all, areas[i], all);
+        }
+        Rectangle2D region = (Rectangle2D) areas[index].clone();
+        if (index > 0) {
+            Rectangle2D.union(region, areas[index - 1], region);
+        }
+        if (index < areas.length - 1) {
+            Rectangle2D.union(region, areas[index + 1], region);
+        }
+        Stroke outline = plot.getOutlineStroke();
+        if (outline != null) {
+            Rectangle2D.union(region, outline.createStrokedShape(
+                    areas[index]).getBounds2D(), region);
+        }
+        Rectangle bounds = region.getBounds();
+        bounds.grow(1, 1);
+        int x0 = (region.getMinX() <= all.getMinX() ? clip.x : bounds.x);
+        int y0 = (region.getMinY() <= all.getMinY() ? clip.y : bounds.y);
+        int x1 = (region.getMaxX() >= all.getMaxX() ? clip.x + clip.width
+                : bounds.x + bounds.width);
+        int y1 = (region.getMaxY() >= all.getMaxY() ? clip.y + clip.height
+                : bounds.y + bounds.height);
+        bounds.setBounds(x0, y0, x1 - x0, y1 - y0);
+        return bounds.intersection(clip);
+    }
+
+    /**
+     * Looks up the paint, fill paint, outline paint, stroke, outline stroke
+     * and shape for each series in the plot, so that any that are taken
+     * from the drawing supplier are assigned now.
+     *
+     * @param plot  the plot.
+     */
+    private static void populateSeriesAttributes(XYPlot plot) {
+        for (int r = 0; r < plot.getRendererCount(); r++) {
+            AbstractRenderer renderer = (AbstractRenderer) plot.getRenderer(r);
+            XYDataset dataset = plot.getDataset(r);
+            if (renderer == null || dataset == null) {
+                continue;
+            }
+            for (int s = 0; s < dataset.getSeriesCount(); s++) {
+                renderer.lookupSeriesPaint(s);
+                renderer.lookupSeriesFillPaint(s);
+                renderer.lookupSeriesOutlinePaint(s);
+                renderer.lookupSeriesStroke(s);
+                renderer.lookupSeriesOutlineStroke(s);
+                renderer.lookupSeriesShape(s);
+            }
+        }
+    }
+
+    /**
+     * A task that draws one subplot into an off-screen image.
+     */
+    private static class SubplotTask implements Callable {
+
+        /** The subplot. */
+        private XYPlot plot;
+
+        /** The area for the subplot. */
+        private Rectangle2D area;
+
+        /** The anchor point (possibly <code>null</code>). */
+        private Point2D anchor;
+
+        /** The state from the parent plot. */
+        private PlotState parentState;
+
+        /** The rendering info (possibly <code>null</code>). */
+        private PlotRenderingInfo info;
+
+        /** The rendering hints for the image. */
+        private RenderingHints hints;
+
+        /** The pixel bounds of the image. */
+        private Rectangle bounds;
+
+        /** The image (<code>null</code> until the subplot is drawn). */
+        private BufferedImage image;
+
+        /**
+         * Creates a new task.
+         *
+         * @param plot  the subplot.
+         * @param area  the area for the subplot.
+         * @param anchor  the anchor point (<code>null</code> permitted).
+         * @param parentState  the state from the parent plot.
+         * @param info  the rendering info (<code>null</code> permitted).
+         * @param bounds  the pixel bounds of the image.
+         * @param g2  the graphics target (used for the rendering hints).
+         */
+        SubplotTask(XYPlot plot, Rectangle2D area, Point2D anchor,
+                PlotState parentState, PlotRenderingInfo info,
+                Rectangle bounds, Graphics2D g2) {
+            this.plot = plot;
+            this.area = area;
+            this.anchor = anchor;
+            this.parentState = parentState;
+            this.info = info;
+            this.hints = (RenderingHints) g2.getRenderingHints().clone();
+            this.bounds = bounds;
+        }
+
+        /**
+         * Draws the subplot.
+         *
+         * @return <code>null</code>.
+         */
+        @Override
+        public Object call() {
+            // the plot is drawn even if the bounds are empty, so that the
+            // rendering info is the same as for the serial path
+            BufferedImage result = new BufferedImage(
+                    Math.max(this.bounds.width, 1),
+                    Math.max(this.bounds.height, 1),
+                    BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g2 = result.createGraphics();
+            try {
+                g2.setRenderingHints(this.hints);
+                g2.translate(-this.bounds.x, -this.bounds.y);
+                this.plot.draw(g2, this.area, this.anchor, this.parentState,
+                        this.info);
+            }
+            finally {
+                g2.dispose();
+            }
+            this.image = result;
+            return null;
+        }
+
+    }
+
+}
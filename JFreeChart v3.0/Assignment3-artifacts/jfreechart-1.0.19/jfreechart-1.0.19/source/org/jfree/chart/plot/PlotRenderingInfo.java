@@ -101,6 +101,17 @@ public class PlotRenderingInfo implements Cloneable, Serializable {
         return this.owner;
     }
 
+    /**
+     * Sets the owner.  This is used when a subplot is drawn on another
+     * thread with a temporary owner, which is replaced when the subplot info
+     * is added to the parent plot info.
+     *
+     * @param owner  the owner (<code>null</code> permitted).
+     */
+    void setOwner(ChartRenderingInfo owner) {
+        this.owner = owner;
+    }
+
     /**
      * Returns the plot area (in Java2D space).
      *
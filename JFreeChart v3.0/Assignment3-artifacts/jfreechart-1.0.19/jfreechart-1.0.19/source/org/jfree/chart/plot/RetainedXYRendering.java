@@ -0,0 +1,486 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------
+ * RetainedXYRendering.java
+ * ------------------------
+ * (C) Copyright 2014, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.plot;
+
+import java.awt.AlphaComposite;
+import java.awt.Composite;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsDevice;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.entity.ChartEntity;
+import org.jfree.chart.entity.EntityCollection;
+import org.jfree.data.general.DatasetUtilities;
+import org.jfree.data.general.Series;
+import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.data.xy.XYDataset;
+import org.jfree.data.xy.XYSeriesCollection;
+
+/**
+ * The data items most recently drawn by an {@link XYPlot}, retained in an
+ * image covering the data area so that items appended to the datasets can
+ * be drawn on top of the image without drawing the earlier items again.
+ * The image is only reused while the data area, the axis ranges and the
+ * datasets are unchanged (apart from the appended items), and the plot
+ * discards it whenever any other change is made to the plot.  Appended items
+ * are only recognised in an {@link XYSeriesCollection} or a
+ * {@link TimeSeriesCollection}, where each series counts the changes that
+ * are not appends (see {@link Series#getModificationCount()}); for other
+ * datasets, every change means that all the items are drawn again.
+ *
+ * @see XYPlot#setIncrementalRenderingEnabled(boolean)
+ */
+class RetainedXYRendering {
+
+    /** The data area. */
+    private Rectangle2D dataArea;
+
+    /** The image containing the rendered data items. */
+    private BufferedImage image;
+
+    /** The axis ranges and edges used to draw the image. */
+    private List<Object> key;
+
+    /** The dataset indices, in rendering order. */
+    private List<Integer> datasetIndices;
+
+    /** A record for each dataset that has been drawn, keyed by index. */
+    private Map<Integer, DatasetRecord> records;
+
+    /** The entities for the items drawn into the image. */
+    private List<ChartEntity> entities;
+
+    /** A flag that indicates whether or not entities were collected. */
+    private boolean collectEntities;
+
+    /**
+     * A flag that indicates whether the items being drawn are appended to
+     * the existing image.
+     */
+    private boolean appending;
+
+    /**
+     * Creates a new (empty) rendering for the specified data area.
+     *
+     * @param dataArea  the data area (with integer bounds).
+     */
+    RetainedXYRendering(Rectangle2D dataArea) {
+        this.dataArea = (Rectangle2D) dataArea.clone();
+        this.image = new BufferedImage(Math.max((int) dataArea.getWidth(), 1),
+                Math.max((int) dataArea.getHeight(), 1),
+                BufferedImage.TYPE_INT_ARGB);
+        this.key = new ArrayList<Object>();
+        this.datasetIndices = new ArrayList<Integer>();
+        this.records = new HashMap<Integer, DatasetRecord>();
+        this.entities = new ArrayList<ChartEntity>();
+        this.appending = false;
+    }
+
+    /**
+     * Returns <code>true</code> if the data items can be drawn into a
+     * retained image for the specified target, and <code>false</code>
+     * otherwise.  This requires a transform that is a whole-pixel
+     * translation (so that the image lines up exactly with the pixels that
+     * would otherwise be drawn) and a target that is not a printer.
+     *
+     * @param g2  the graphics target.
+     *
+     * @return A boolean.
+     */
+    static boolean isSupported(Graphics2D g2) {
+        AffineTransform t = g2.getTransform();
+        if ((t.getType() & ~AffineTransform.TYPE_TRANSLATION) != 0
+                || t.getTranslateX() != Math.floor(t.getTranslateX())
+                || t.getTranslateY() != Math.floor(t.getTranslateY())) {
+            return false;
+        }
+        GraphicsConfiguration gc = g2.getDeviceConfiguration();
+        return gc == null
+                || gc.getDevice().getType() != GraphicsDevice.TYPE_PRINTER;
+    }
+
+    /**
+     * Returns <code>true</code> if the items added to the plot's datasets
+     * since the image was drawn can be drawn on top of the image, and
+     * <code>false</code> if the image must be drawn again from scratch.
+     * If this method returns <code>true</code>, the next calls to
+     * {@link #startDataset(int, XYDataset, boolean)} return the index of the
+     * first new item in each series.
+     *
+     * @param plot  the plot.
+     * @param dataArea  the data area.
+     * @param datasetIndices  the dataset indices, in rendering order.
+     * @param collectEntities  a flag that indicates whether or not entities
+     *     are being collected.
+     *
+     * @return A boolean.
+     */
+    boolean canAppend(XYPlot plot, Rectangle2D dataArea,
+            List<Integer> datasetIndices, boolean collectEntities) {
+        if (!this.dataArea.equals(dataArea)
+                || !this.datasetIndices.equals(datasetIndices)
+                || this.collectEntities != collectEntities
+                || !this.key.equals(createKey(plot, datasetIndices))) {
+            return false;
+        }
+        for (int index : datasetIndices) {
+            XYDataset dataset = plot.getDataset(index);
+            DatasetRecord record = this.records.get(index);
+            if (record == null) {
+                if (!DatasetUtilities.isEmptyOrNull(dataset)) {
+                    return false;
+                }
+                continue;
+            }
+            if (!record.appendSupported || record.dataset != dataset
+                    || record.series == null
+                    || dataset.getSeriesCount() != record.itemCounts.length) {
+                return false;
+            }
+            for (int s = 0; s < record.itemCounts.length; s++) {
+                int count = record.itemCounts[s];
+                if (dataset.getItemCount(s) < count) {
+                    return false;
+                }
+                // any change other than appended items means a full redraw
+                Series series = getSeries(dataset, s);
+                if (series != record.series[s]
+                        || series.getModificationCount()
+                        != record.modificationCounts[s]
+                        || series.getRemovedItemCount()
+                        != record.removedItemCounts[s]) {
+                    return false;
+                }
+                // a cheap check that the last item drawn is still there
+                if (count > 0 && (Double.compare(record.lastX[s],
+                        dataset.getXValue(s, count - 1)) != 0
+                        || Double.compare(record.lastY[s],
+                        dataset.getYValue(s, count - 1)) != 0)) {
+                    return false;
+                }
+            }
+        }
+        if (!isTopmostAppend(plot, datasetIndices)) {
+            return false;
+        }
+        this.appending = true;
+        return true;
+    }
+
+    /**
+     * Returns <code>true</code> if the items added since the image was drawn
+     * all belong to series that are drawn after every other (non-empty)
+     * series.  The appended items are drawn on top of the image, so items
+     * added to any other series would cover parts of the later series that
+     * are drawn over them when all the items are drawn.
+     *
+     * @param plot  the plot.
+     * @param datasetIndices  the dataset indices, in rendering order.
+     *
+     * @return A boolean.
+     */
+    private boolean isTopmostAppend(XYPlot plot,
+            List<Integer> datasetIndices) {
+        boolean forward = plot.getSeriesRenderingOrder()
+                == SeriesRenderingOrder.FORWARD;
+        boolean drawnLater = false;
+        for (int i = datasetIndices.size() - 1; i >= 0; i--) {
+            int index = datasetIndices.get(i);
+            DatasetRecord record = this.records.get(index);
+            if (record == null) {
+                continue;
+            }
+            int seriesCount = record.itemCounts.length;
+            for (int j = seriesCount - 1; j >= 0; j--) {
+                int s = (forward ? j : seriesCount - 1 - j);
+                int count = record.dataset.getItemCount(s);
+                if (count > record.itemCounts[s] && drawnLater) {
+                    return false;
+                }
+                if (count > 0) {
+                    drawnLater = true;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds the entities for the items already in the image to the specified
+     * collection.
+     *
+     * @param collection  the entity collection (<code>null</code>
+     *     permitted).
+     */
+    void restoreEntities(EntityCollection collection) {
+        if (collection == null) {
+            return;
+        }
+        for (ChartEntity entity : this.entities) {
+            collection.add(entity);
+        }
+    }
+
+    /**
+     * Creates a graphics object for drawing data items into the image, with
+     * the same rendering hints and composite as the target.
+     *
+     * @param g2  the graphics target.
+     *
+     * @return A graphics object (the caller should dispose of it).
+     */
+    Graphics2D createGraphics(Graphics2D g2) {
+        Graphics2D result = this.image.createGraphics();
+        result.setRenderingHints(g2.getRenderingHints());
+        result.setComposite(g2.getComposite());
+        result.translate(-this.dataArea.getX(), -this.dataArea.getY());
+        return result;
+    }
+
+    /**
+     * Called by the plot when it starts to draw the items for a dataset.
+     *
+     * @param index  the dataset index.
+     * @param dataset  the dataset.
+     * @param appendSupported  a flag that indicates whether the renderer can
+     *     draw appended items on their own (see the
+     *     <code>getItemAppendSupported()</code> method in
+     *     {@link org.jfree.chart.renderer.xy.XYItemRendererState}).
+     *
+     * @return The index of the first item to draw in each series, or
+     *     <code>null</code> if all the items should be drawn.
+     */
+    int[] startDataset(int index, XYDataset dataset,
+            boolean appendSupported) {
+        DatasetRecord record = this.records.get(index);
+        if (this.appending && record != null) {
+            return record.itemCounts;
+        }
+        this.records.put(index, new DatasetRecord(dataset, appendSupported));
+        return null;
+    }
+
+    /**
+     * Called by the plot when it has drawn the items for all the datasets,
+     * to record the item counts, the axis ranges and the new entities.
+     *
+     * @param plot  the plot.
+     * @param datasetIndices  the dataset indices, in rendering order.
+     * @param collection  the entity collection (<code>null</code>
+     *     permitted).
+     * @param firstEntity  the index of the first entity that was added to
+     *     the collection for the items drawn.
+     */
+    void finish(XYPlot plot, List<Integer> datasetIndices,
+            EntityCollection collection, int firstEntity) {
+        for (DatasetRecord record : this.records.values()) {
+            record.recordItems();
+        }
+        this.key = createKey(plot, datasetIndices);
+        this.datasetIndices = new ArrayList<Integer>(datasetIndices);
+        this.collectEntities = (collection != null);
+        if (collection != null) {
+            for (int i = firstEntity; i < collection.getEntityCount(); i++) {
+                this.entities.add(collection.getEntity(i));
+            }
+        }
+        this.appending = false;
+    }
+
+    /**
+     * Draws the image onto the target at the data area.
+     *
+     * @param g2  the graphics target.
+     */
+    void drawImage(Graphics2D g2) {
+        Composite saved = g2.getComposite();
+        // the composite was applied to each item as it was drawn
+        g2.setComposite(AlphaComposite.SrcOver);
+        g2.drawImage(this.image, (int) this.dataArea.getX(),
+                (int) this.dataArea.getY(), null);
+        g2.setComposite(saved);
+    }
+
+    /**
+     * Creates a list containing everything (apart from the datasets) that
+     * determines where the data items are drawn, and that can change without
+     * the plot sending a change event (for example, the axis ranges when
+     * they are calculated automatically).
+     *
+     * @param plot  the plot.
+     * @param datasetIndices  the dataset indices.
+     *
+     * @return The list.
+     */
+    private static List<Object> createKey(XYPlot plot,
+            List<Integer> datasetIndices) {
+        List<Object> result = new ArrayList<Object>();
+        result.add(plot.getOrientation());
+        result.add(plot.getDomainAxisEdge());
+        result.add(plot.getRangeAxisEdge());
+        for (int index : datasetIndices) {
+            addAxis(result, plot.getDomainAxisForDataset(index));
+            addAxis(result, plot.getRangeAxisForDataset(index));
+        }
+        return result;
+    }
+
+    /**
+     * Adds the range and orientation of an axis to a key.
+     *
+     * @param key  the key.
+     * @param axis  the axis (<code>null</code> permitted).
+     */
+    private static void addAxis(List<Object> key, ValueAxis axis) {
+        if (axis == null) {
+            key.add(null);
+            return;
+        }
+        key.add(axis.getRange());
+        key.add(Boolean.valueOf(axis.isInverted()));
+    }
+
+    /**
+     * Returns the series with the specified index in a dataset, if the
+     * dataset is one that provides access to its series.
+     *
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     *
+     * @return The series (<code>null</code> if the dataset does not provide
+     *     access to its series).
+     */
+    private static Series getSeries(XYDataset dataset, int series) {
+        if (dataset instanceof XYSeriesCollection) {
+            return ((XYSeriesCollection) dataset).getSeries(series);
+        }
+        if (dataset instanceof TimeSeriesCollection) {
+            return ((TimeSeriesCollection) dataset).getSeries(series);
+        }
+        return null;
+    }
+
+    /**
+     * The item counts for a dataset when the image was drawn.
+     */
+    private static class DatasetRecord {
+
+        /** The dataset. */
+        private XYDataset dataset;
+
+        /** Can the renderer draw appended items on their own? */
+        private boolean appendSupported;
+
+        /** The item count for each series. */
+        private int[] itemCounts;
+
+        /** The x-value of the last item in each series. */
+        private double[] lastX;
+
+        /** The y-value of the last item in each series. */
+        private double[] lastY;
+
+        /**
+         * The series in the dataset (<code>null</code> if the dataset does
+         * not provide access to its series).
+         */
+        private Series[] series;
+
+        /** The modification count for each series. */
+        private long[] modificationCounts;
+
+        /** The removed item count for each series. */
+        private long[] removedItemCounts;
+
+        /**
+         * Creates a new record.
+         *
+         * @param dataset  the dataset.
+         * @param appendSupported  can the renderer draw appended items on
+         *     their own?
+         */
+        DatasetRecord(XYDataset dataset, boolean appendSupported) {
+            this.dataset = dataset;
+            this.appendSupported = appendSupported;
+        }
+
+        /**
+         * Records the current item count, last item and change counts for
+         * each series.
+         */
+        void recordItems() {
+            int seriesCount = this.dataset.getSeriesCount();
+            this.itemCounts = new int[seriesCount];
+            this.lastX = new double[seriesCount];
+            this.lastY = new double[seriesCount];
+            this.series = new Series[seriesCount];
+            this.modificationCounts = new long[seriesCount];
+            this.removedItemCounts = new long[seriesCount];
+            for (int s = 0; s < seriesCount; s++) {
+                Series series = getSeries(this.dataset, s);
+                if (series == null) {
+                    this.series = null;
+                }
+                else if (this.series != null) {
+                    this.series[s] = series;
+                    this.modificationCounts[s] = series.getModificationCount();
+                    this.removedItemCounts[s] = series.getRemovedItemCount();
+                }
+                int count = this.dataset.getItemCount(s);
+                this.itemCounts[s] = count;
+                if (count > 0) {
+                    this.lastX[s] = this.dataset.getXValue(s, count - 1);
+                    this.lastY[s] = this.dataset.getYValue(s, count - 1);
+                }
+            }
+        }
+
+    }
+
+}
@@ -280,6 +280,7 @@ import org.jfree.chart.axis.AxisState;
 import org.jfree.chart.axis.TickType;
 import org.jfree.chart.axis.ValueAxis;
 import org.jfree.chart.axis.ValueTick;
+import org.jfree.chart.entity.EntityCollection;
 import org.jfree.chart.event.AnnotationChangeEvent;
 import org.jfree.chart.event.ChartChangeEventType;
 import org.jfree.chart.event.PlotChangeEvent;
@@ -296,6 +297,7 @@ import org.jfree.chart.util.ShadowGenerator;
 import org.jfree.data.Range;
 import org.jfree.data.general.DatasetChangeEvent;
 import org.jfree.data.general.DatasetUtilities;
+import org.jfree.data.xy.MultiResolutionXYDataset;
 import org.jfree.data.xy.XYDataset;
 import org.jfree.io.SerialUtilities;
 import org.jfree.ui.Layer;
@@ -606,6 +608,30 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
      */
     private ShadowGenerator shadowGenerator;
 
+    /**
+     * A flag that controls whether or not the items in each series are
+     * reduced to a few items per pixel column before being passed to
+     * renderers that support it.
+     *
+     * @since 1.0.20
+     */
+    private boolean itemDecimationEnabled;
+
+    /**
+     * A flag that controls whether or not the data items are retained in an
+     * image, so that items appended to the datasets can be drawn on their
+     * own.
+     *
+     * @since 1.0.20
+     */
+    private boolean incrementalRenderingEnabled;
+
+    /**
+     * The data items drawn most recently when incremental rendering is
+     * enabled (<code>null</code> if there are none).
+     */
+    private transient RetainedXYRendering retainedRendering;
+
     /**
      * Creates a new <code>XYPlot</code> instance with no dataset, no axes and
      * no renderer.  You should specify these items before using the plot.
@@ -715,6 +741,8 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
         this.rangeCrosshairStroke = DEFAULT_CROSSHAIR_STROKE;
         this.rangeCrosshairPaint = DEFAULT_CROSSHAIR_PAINT;
         this.shadowGenerator = null;
+        this.itemDecimationEnabled = false;
+        this.incrementalRenderingEnabled = false;
     }
 
     /**
@@ -2974,6 +3002,101 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
         fireChangeEvent();
     }
 
+    /**
+     * Returns the flag that controls whether or not the plot decimates the
+     * data items before passing them to the renderer.  The default value is
+     * <code>false</code>.
+     *
+     * @return A boolean.
+     *
+     * @see #setItemDecimationEnabled(boolean)
+     *
+     * @since 1.0.20
+     */
+    public boolean isItemDecimationEnabled() {
+        return this.itemDecimationEnabled;
+    }
+
+    /**
+     * Sets the flag that controls whether or not the plot decimates the data
+     * items before passing them to the renderer, and sends a
+     * {@link PlotChangeEvent} to all registered listeners.  When this flag
+     * is set, and the renderer state indicates that the renderer supports it
+     * (see {@link XYItemRendererState#getItemDecimationSupported()}), each
+     * series is reduced to at most four items (first, last, minimum and
+     * maximum y-value) per pixel column along the domain axis, so that the
+     * rendering cost depends on the width of the data area rather than the
+     * number of items in the dataset.
+     *
+     * @param enabled  the new flag value.
+     *
+     * @see RendererUtilities#findDecimatedItems(XYDataset, int, int, int,
+     *     ValueAxis, Rectangle2D, RectangleEdge)
+     *
+     * @since 1.0.20
+     */
+    public void setItemDecimationEnabled(boolean enabled) {
+        this.itemDecimationEnabled = enabled;
+        fireChangeEvent();
+    }
+
+    /**
+     * Returns the flag that controls whether or not the plot draws only the
+     * items that have been appended to its datasets since it was last drawn.
+     * The default value is <code>false</code>.
+     *
+     * @return A boolean.
+     *
+     * @see #setIncrementalRenderingEnabled(boolean)
+     *
+     * @since 1.0.20
+     */
+    public boolean isIncrementalRenderingEnabled() {
+        return this.incrementalRenderingEnabled;
+    }
+
+    /**
+     * Sets the flag that controls whether or not the plot draws only the
+     * items that have been appended to its datasets since it was last drawn,
+     * and sends a {@link PlotChangeEvent} to all registered listeners.
+     * <P>
+     * When this flag is set, the plot keeps the data items it has drawn in
+     * an image covering the data area.  If the next change to the plot is a
+     * dataset change that only appends items to the existing series, and the
+     * data area and axis ranges are unchanged, the new items are drawn on
+     * top of the image (each line continues from the previous item in the
+     * series) and the image is then drawn onto the target.  Since the new
+     * items end up on top, this only happens when they belong to the series
+     * that is drawn last (for example, the only series in a strip chart);
+     * items appended to any other series mean that all the items are drawn
+     * again, as they would otherwise cover the later series.  Appends are
+     * only recognised in an {@link org.jfree.data.xy.XYSeriesCollection} or
+     * a {@link org.jfree.data.time.TimeSeriesCollection} (a change to an
+     * existing item, even one that arrives in the same event as new items,
+     * means that all the items are drawn again), and a change to any other
+     * type of dataset is always followed by a full redraw.  Any other change
+     * to the plot (including a change to the series visibility) discards the
+     * image, so the next drawing renders all the items again.  Renderers
+     * take part only if their state indicates that they support it (see
+     * {@link XYItemRendererState#getItemAppendSupported()}), and all items
+     * are drawn when the crosshairs are visible.
+     * <P>
+     * This is intended for charts with fixed axis ranges that are drawn to
+     * the screen or to an image, such as strip charts that receive new data
+     * many times a second; it should be switched off when drawing to vector
+     * graphics output.
+     *
+     * @param enabled  the new flag value.
+     *
+     * @see #isIncrementalRenderingEnabled()
+     *
+     * @since 1.0.20
+     */
+    public void setIncrementalRenderingEnabled(boolean enabled) {
+        this.incrementalRenderingEnabled = enabled;
+        fireChangeEvent();
+    }
+
     /**
      * Calculates the space required for all the axes in the plot.
      *
@@ -3266,11 +3389,19 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
             }
 
             // render data items...
-        for (int datasetIndex : datasetIndices) {
-            XYDataset dataset = this.getDataset(datasetIndex);
-            foundData = render(g2, dataArea, datasetIndex, info, 
-                    crosshairState) || foundData;
+        if (this.incrementalRenderingEnabled && !isDomainCrosshairVisible()
+                && !isRangeCrosshairVisible()
+                && RetainedXYRendering.isSupported(g2)) {
+            foundData = renderRetained(g2, dataArea, datasetIndices, info,
+                    crosshairState);
+        }
+        else {
+            this.retainedRendering = null;
+            for (int datasetIndex : datasetIndices) {
+                foundData = render(g2, dataArea, datasetIndex, info,
+                        crosshairState) || foundData;
             }
+        }
 
             // draw foreground annotations
         for (int i : rendererIndices) {
@@ -3680,6 +3811,12 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
      * <P>
      * The <code>info</code> and <code>crosshairState</code> arguments may be
      * <code>null</code>.
+     * <P>
+     * If the dataset is a {@link MultiResolutionXYDataset}, the renderer
+     * draws the dataset that it returns for the range of the domain axis and
+     * the size of the data area, so any entities, tool tips and item labels
+     * refer to that dataset and its item indices rather than to the
+     * dataset in the plot.
      *
      * @param g2  the graphics device.
      * @param dataArea  the region in which the data is to be drawn.
@@ -3692,6 +3829,74 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
      */
     public boolean render(Graphics2D g2, Rectangle2D dataArea, int index,
             PlotRenderingInfo info, CrosshairState crosshairState) {
+        return render(g2, dataArea, index, info, crosshairState, null);
+    }
+
+    /**
+     * Draws the data items for the data area in the retained image (drawing
+     * only the appended items if the image can be reused), then draws the
+     * image onto the target.
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the region in which the data is to be drawn.
+     * @param datasetIndices  the dataset indices, in rendering order.
+     * @param info  an optional object for collection dimension information.
+     * @param crosshairState  collects crosshair information.
+     *
+     * @return A flag that indicates whether any data was actually rendered.
+     */
+    private boolean renderRetained(Graphics2D g2, Rectangle2D dataArea,
+            List<Integer> datasetIndices, PlotRenderingInfo info,
+            CrosshairState crosshairState) {
+        EntityCollection entities = null;
+        if (info != null && info.getOwner() != null) {
+            entities = info.getOwner().getEntityCollection();
+        }
+        RetainedXYRendering retained = this.retainedRendering;
+        if (retained != null && retained.canAppend(this, dataArea,
+                datasetIndices, entities != null)) {
+            retained.restoreEntities(entities);
+        }
+        else {
+            retained = new RetainedXYRendering(dataArea);
+        }
+        int firstEntity = (entities != null ? entities.getEntityCount() : 0);
+        boolean foundData = false;
+        Graphics2D imageG2 = retained.createGraphics(g2);
+        try {
+            for (int datasetIndex : datasetIndices) {
+                foundData = render(imageG2, dataArea, datasetIndex, info,
+                        crosshairState, retained) || foundData;
+            }
+        }
+        finally {
+            imageG2.dispose();
+        }
+        retained.finish(this, datasetIndices, entities, firstEntity);
+        this.retainedRendering = retained;
+        retained.drawImage(g2);
+        return foundData;
+    }
+
+    /**
+     * Draws a representation of the data within the dataArea region, using
+     * the current renderer.
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the region in which the data is to be drawn.
+     * @param index  the dataset index.
+     * @param info  an optional object for collection dimension information.
+     * @param crosshairState  collects crosshair information
+     *                        (<code>null</code> permitted).
+     * @param retained  the retained rendering that the items are drawn into
+     *     (<code>null</code> permitted).  If this supplies the item counts
+     *     from the previous drawing, only the items after those are drawn.
+     *
+     * @return A flag that indicates whether any data was actually rendered.
+     */
+    private boolean render(Graphics2D g2, Rectangle2D dataArea, int index,
+            PlotRenderingInfo info, CrosshairState crosshairState,
+            RetainedXYRendering retained) {
 
         boolean foundData = false;
         XYDataset dataset = getDataset(index);
@@ -3710,9 +3915,25 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
                 }
             }
 
+            if (dataset instanceof MultiResolutionXYDataset) {
+                // render the summary that suits the visible range
+                double length = (this.orientation == PlotOrientation.VERTICAL
+                        ? dataArea.getWidth() : dataArea.getHeight());
+                dataset = ((MultiResolutionXYDataset) dataset)
+                        .getResolutionDataset(xAxis.getRange(), length);
+            }
+
             XYItemRendererState state = renderer.initialise(g2, dataArea, this,
                     dataset, info);
             int passCount = renderer.getPassCount();
+            boolean decimate = this.itemDecimationEnabled
+                    && state.getItemDecimationSupported();
+            int[] appendFrom = null;
+            if (retained != null) {
+                appendFrom = retained.startDataset(index, dataset,
+                        state.getItemAppendSupported());
+            }
+            RectangleEdge xAxisEdge = getDomainAxisEdge();
 
             SeriesRenderingOrder seriesOrder = getSeriesRenderingOrder();
             if (seriesOrder == SeriesRenderingOrder.REVERSE) {
@@ -3732,12 +3953,32 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
                             firstItem = Math.max(itemBounds[0] - 1, 0);
                             lastItem = Math.min(itemBounds[1] + 1, lastItem);
                         }
+                        if (appendFrom != null) {
+                            // the earlier items are already in the image
+                            firstItem = Math.max(firstItem, appendFrom[series]);
+                            if (firstItem > lastItem) {
+                                continue;
+                            }
+                        }
                         state.startSeriesPass(dataset, series, firstItem,
                                 lastItem, pass, passCount);
-                        for (int item = firstItem; item <= lastItem; item++) {
-                            renderer.drawItem(g2, state, dataArea, info,
-                                    this, xAxis, yAxis, dataset, series, item,
-                                    crosshairState, pass);
+                        if (decimate) {
+                            int[] items = RendererUtilities.findDecimatedItems(
+                                    dataset, series, firstItem, lastItem,
+                                    xAxis, dataArea, xAxisEdge);
+                            for (int i = 0; i < items.length; i++) {
+                                renderer.drawItem(g2, state, dataArea, info,
+                                        this, xAxis, yAxis, dataset, series,
+                                        items[i], crosshairState, pass);
+                            }
+                        }
+                        else {
+                            for (int item = firstItem; item <= lastItem;
+                                    item++) {
+                                renderer.drawItem(g2, state, dataArea, info,
+                                        this, xAxis, yAxis, dataset, series,
+                                        item, crosshairState, pass);
+                            }
                         }
                         state.endSeriesPass(dataset, series, firstItem,
                                 lastItem, pass, passCount);
@@ -3758,12 +3999,32 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
                             firstItem = Math.max(itemBounds[0] - 1, 0);
                             lastItem = Math.min(itemBounds[1] + 1, lastItem);
                         }
+                        if (appendFrom != null) {
+                            // the earlier items are already in the image
+                            firstItem = Math.max(firstItem, appendFrom[series]);
+                            if (firstItem > lastItem) {
+                                continue;
+                            }
+                        }
                         state.startSeriesPass(dataset, series, firstItem,
                                 lastItem, pass, passCount);
-                        for (int item = firstItem; item <= lastItem; item++) {
-                            renderer.drawItem(g2, state, dataArea, info,
-                                    this, xAxis, yAxis, dataset, series, item,
-                                    crosshairState, pass);
+                        if (decimate) {
+                            int[] items = RendererUtilities.findDecimatedItems(
+                                    dataset, series, firstItem, lastItem,
+                                    xAxis, dataArea, xAxisEdge);
+                            for (int i = 0; i < items.length; i++) {
+                                renderer.drawItem(g2, state, dataArea, info,
+                                        this, xAxis, yAxis, dataset, series,
+                                        items[i], crosshairState, pass);
+                            }
+                        }
+                        else {
+                            for (int item = firstItem; item <= lastItem;
+                                    item++) {
+                                renderer.drawItem(g2, state, dataArea, info,
+                                        this, xAxis, yAxis, dataset, series,
+                                        item, crosshairState, pass);
+                            }
                         }
                         state.endSeriesPass(dataset, series, firstItem,
                                 lastItem, pass, passCount);
@@ -4548,6 +4809,23 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
         }
     }
 
+    /**
+     * Sends a {@link PlotChangeEvent} to all registered listeners.  Unless
+     * the event is for a dataset change, the data items retained for
+     * incremental rendering are discarded first.
+     *
+     * @param event  information about the change to the plot.
+     *
+     * @see #setIncrementalRenderingEnabled(boolean)
+     */
+    @Override
+    public void notifyListeners(PlotChangeEvent event) {
+        if (!ChartChangeEventType.DATASET_UPDATED.equals(event.getType())) {
+            this.retainedRendering = null;
+        }
+        super.notifyListeners(event);
+    }
+
     /**
      * Receives notification of a renderer change event.
      *
@@ -5521,6 +5799,13 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
                 that.shadowGenerator)) {
             return false;
         }
+        if (this.itemDecimationEnabled != that.itemDecimationEnabled) {
+            return false;
+        }
+        if (this.incrementalRenderingEnabled
+                != that.incrementalRenderingEnabled) {
+            return false;
+        }
         return super.equals(obj);
     }
 
@@ -5535,6 +5820,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
     @Override
     public Object clone() throws CloneNotSupportedException {
         XYPlot clone = (XYPlot) super.clone();
+        clone.retainedRendering = null;
         clone.domainAxes = CloneUtils.cloneMapValues(this.domainAxes);
         for (ValueAxis axis : clone.domainAxes.values()) {
             if (axis != null) {
@@ -44,9 +44,13 @@
 
 package org.jfree.chart.renderer;
 
+import java.awt.geom.Rectangle2D;
+
+import org.jfree.chart.axis.ValueAxis;
 import org.jfree.chart.util.ParamChecks;
 import org.jfree.data.DomainOrder;
 import org.jfree.data.xy.XYDataset;
+import org.jfree.ui.RectangleEdge;
 
 /**
  * Utility methods related to the rendering process.
@@ -265,4 +269,149 @@ public class RendererUtilities {
         return new int[] {i0, i1};
     }
 
+    /**
+     * Returns the indices of a subset of the items from <code>firstItem</code>
+     * to <code>lastItem</code> that, when connected by lines, draws the same
+     * image as the full set of items.  Consecutive items that fall in the
+     * same pixel column (along the domain axis) are reduced to at most four
+     * items: the first, the last, and the items with the minimum and maximum
+     * y-values.  Items with a <code>NaN</code> x- or y-value are always
+     * included, so that gaps in the series are preserved.  The returned
+     * indices are in ascending order and always include
+     * <code>firstItem</code> and <code>lastItem</code>.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param series  the series index.
+     * @param firstItem  the index of the first item.
+     * @param lastItem  the index of the last item.
+     * @param xAxis  the domain axis (<code>null</code> not permitted).
+     * @param dataArea  the data area (<code>null</code> not permitted).
+     * @param xAxisEdge  the domain axis edge (<code>null</code> not
+     *     permitted).
+     *
+     * @return The item indices.
+     *
+     * @since 1.0.20
+     */
+    public static int[] findDecimatedItems(XYDataset dataset, int series,
+            int firstItem, int lastItem, ValueAxis xAxis,
+            Rectangle2D dataArea, RectangleEdge xAxisEdge) {
+        ParamChecks.nullNotPermitted(dataset, "dataset");
+        ParamChecks.nullNotPermitted(xAxis, "xAxis");
+        ParamChecks.nullNotPermitted(dataArea, "dataArea");
+        ParamChecks.nullNotPermitted(xAxisEdge, "xAxisEdge");
+        if (lastItem < firstItem) {
+            return new int[0];
+        }
+        int[] result = new int[Math.min(lastItem - firstItem + 1, 1024)];
+        int count = 0;
+        boolean inColumn = false;
+        long column = 0;
+        int first = 0;
+        int last = 0;
+        int minItem = 0;
+        int maxItem = 0;
+        double minY = 0.0;
+        double maxY = 0.0;
+        for (int item = firstItem; item <= lastItem; item++) {
+            double x = dataset.getXValue(series, item);
+            double y = dataset.getYValue(series, item);
+            long c = 0;
+            boolean valid = !Double.isNaN(x) && !Double.isNaN(y);
+            if (valid) {
+                c = (long) Math.floor(xAxis.valueToJava2D(x, dataArea,
+                        xAxisEdge));
+            }
+            if (inColumn && (!valid || c != column)) {
+                if (result.length - count < 4) {
+                    result = grow(result, count + 4);
+                }
+                count = addColumnItems(result, count, first, minItem,
+                        maxItem, last);
+                inColumn = false;
+            }
+            if (!valid) {
+                if (count == result.length) {
+                    result = grow(result, count + 1);
+                }
+                result[count++] = item;
+            }
+            else if (!inColumn) {
+                inColumn = true;
+                column = c;
+                first = item;
+                last = item;
+                minItem = item;
+                maxItem = item;
+                minY = y;
+                maxY = y;
+            }
+            else {
+                last = item;
+                if (y < minY) {
+                    minY = y;
+                    minItem = item;
+                }
+                if (y > maxY) {
+                    maxY = y;
+                    maxItem = item;
+                }
+            }
+        }
+        if (inColumn) {
+            if (result.length - count < 4) {
+                result = grow(result, count + 4);
+            }
+            count = addColumnItems(result, count, first, minItem, maxItem,
+                    last);
+        }
+        int[] trimmed = new int[count];
+        System.arraycopy(result, 0, trimmed, 0, count);
+        return trimmed;
+    }
+
+    /**
+     * Adds the distinct indices of the representative items for one pixel
+     * column to an array, in ascending order.
+     *
+     * @param result  the array.
+     * @param count  the number of indices already in the array.
+     * @param first  the first item in the column.
+     * @param minItem  the item with the minimum y-value.
+     * @param maxItem  the item with the maximum y-value.
+     * @param last  the last item in the column.
+     *
+     * @return The new number of indices in the array.
+     */
+    private static int addColumnItems(int[] result, int count, int first,
+            int minItem, int maxItem, int last) {
+        result[count++] = first;
+        int lo = Math.min(minItem, maxItem);
+        int hi = Math.max(minItem, maxItem);
+        if (lo > first && lo < last) {
+            result[count++] = lo;
+        }
+        if (hi > lo && hi > first && hi < last) {
+            result[count++] = hi;
+        }
+        if (last > first) {
+            result[count++] = last;
+        }
+        return count;
+    }
+
+    /**
+     * Returns a copy of an array with (at least) the specified capacity.
+     *
+     * @param array  the array.
+     * @param minCapacity  the minimum capacity.
+     *
+     * @return The new array.
+     */
+    private static int[] grow(int[] array, int minCapacity) {
+        int[] result = new int[Math.max(minCapacity, array.length * 2)];
+        System.arraycopy(array, 0, result, 0, array.length);
+        return result;
+    }
+
 }
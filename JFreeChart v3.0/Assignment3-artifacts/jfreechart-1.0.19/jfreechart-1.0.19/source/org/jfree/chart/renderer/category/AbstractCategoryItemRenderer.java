@@ -155,6 +155,7 @@ import org.jfree.chart.renderer.AbstractRenderer;
 import org.jfree.chart.urls.CategoryURLGenerator;
 import org.jfree.chart.util.CloneUtils;
 import org.jfree.chart.util.ParamChecks;
+import org.jfree.chart.util.TextBoundsCache;
 import org.jfree.chart.util.TextUtils;
 import org.jfree.data.Range;
 import org.jfree.data.category.CategoryDataset;
@@ -1405,7 +1406,7 @@ public abstract class AbstractCategoryItemRenderer extends AbstractRenderer
             }
             Point2D anchorPoint = calculateLabelAnchorPoint(
                     position.getItemLabelAnchor(), x, y, orientation);
-            TextUtilities.drawRotatedString(label, g2,
+            TextBoundsCache.getSharedInstance().drawRotatedString(label, g2,
                     (float) anchorPoint.getX(), (float) anchorPoint.getY(),
                     position.getTextAnchor(),
                     position.getAngle(), position.getRotationAnchor());
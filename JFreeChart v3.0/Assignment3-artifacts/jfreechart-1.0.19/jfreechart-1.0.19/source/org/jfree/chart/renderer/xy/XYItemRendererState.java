@@ -88,6 +88,22 @@ public class XYItemRendererState extends RendererState {
      */
     private boolean processVisibleItemsOnly;
 
+    /**
+     * A flag that indicates whether the renderer can correctly draw a
+     * decimated subset of the items in each series.
+     *
+     * @since 1.0.20
+     */
+    private boolean itemDecimationSupported;
+
+    /**
+     * A flag that indicates whether the renderer can correctly draw the
+     * items appended to a series without drawing the earlier items again.
+     *
+     * @since 1.0.20
+     */
+    private boolean itemAppendSupported;
+
     /**
      * Creates a new state.
      *
@@ -97,6 +113,8 @@ public class XYItemRendererState extends RendererState {
         super(info);
         this.workingLine = new Line2D.Double();
         this.processVisibleItemsOnly = true;
+        this.itemDecimationSupported = false;
+        this.itemAppendSupported = false;
     }
 
     /**
@@ -126,6 +144,71 @@ public class XYItemRendererState extends RendererState {
         this.processVisibleItemsOnly = flag;
     }
 
+    /**
+     * Returns the flag that indicates whether the renderer can draw a
+     * decimated subset of the items in each series (that is, the renderer
+     * does not assume that consecutive calls to <code>drawItem()</code> are
+     * for consecutive items).  The default value is <code>false</code>.
+     *
+     * @return A boolean.
+     *
+     * @since 1.0.20
+     *
+     * @see #setItemDecimationSupported(boolean)
+     * @see org.jfree.chart.plot.XYPlot#setItemDecimationEnabled(boolean)
+     */
+    public boolean getItemDecimationSupported() {
+        return this.itemDecimationSupported;
+    }
+
+    /**
+     * Sets the flag that indicates whether the renderer can draw a decimated
+     * subset of the items in each series.  Renderers opt in to decimation by
+     * setting this flag in their <code>initialise()</code> method; the plot
+     * only decimates the items when its own flag is also set.
+     *
+     * @param flag  the new flag value.
+     *
+     * @since 1.0.20
+     */
+    public void setItemDecimationSupported(boolean flag) {
+        this.itemDecimationSupported = flag;
+    }
+
+    /**
+     * Returns the flag that indicates whether the renderer can draw the
+     * items appended to a series on their own, on top of the items drawn
+     * earlier (that is, each item is drawn using only the item itself and
+     * the previous item in the dataset, and no state is carried from one
+     * call to <code>drawItem()</code> to the next).  The default value is
+     * <code>false</code>.
+     *
+     * @return A boolean.
+     *
+     * @since 1.0.20
+     *
+     * @see #setItemAppendSupported(boolean)
+     * @see org.jfree.chart.plot.XYPlot#setIncrementalRenderingEnabled(boolean)
+     */
+    public boolean getItemAppendSupported() {
+        return this.itemAppendSupported;
+    }
+
+    /**
+     * Sets the flag that indicates whether the renderer can draw the items
+     * appended to a series on their own.  Renderers opt in by setting this
+     * flag in their <code>initialise()</code> method; the plot only draws
+     * the appended items on their own when its incremental rendering flag is
+     * also set.
+     *
+     * @param flag  the new flag value.
+     *
+     * @since 1.0.20
+     */
+    public void setItemAppendSupported(boolean flag) {
+        this.itemAppendSupported = flag;
+    }
+
     /**
      * Returns the first item index (this is updated with each call to
      * {@link #startSeriesPass(XYDataset, int, int, int, int, int)}.
@@ -72,12 +72,14 @@
 
 package org.jfree.chart.renderer.xy;
 
+import java.awt.BasicStroke;
 import java.awt.Graphics2D;
 import java.awt.Paint;
 import java.awt.Shape;
 import java.awt.Stroke;
 import java.awt.geom.GeneralPath;
 import java.awt.geom.Line2D;
+import java.awt.geom.Path2D;
 import java.awt.geom.Rectangle2D;
 import java.io.IOException;
 import java.io.ObjectInputStream;
@@ -85,6 +87,10 @@ import java.io.ObjectOutputStream;
 import java.io.Serializable;
 
 import org.jfree.chart.LegendItem;
+import org.jfree.chart.axis.DateAxis;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.axis.NumberAxis3D;
+import org.jfree.chart.axis.SymbolAxis;
 import org.jfree.chart.axis.ValueAxis;
 import org.jfree.chart.entity.EntityCollection;
 import org.jfree.chart.event.RendererChangeEvent;
@@ -191,6 +197,12 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
      */
     private boolean drawSeriesLineAsPath;
 
+    /**
+     * A flag that controls whether or not the line for each series is drawn
+     * in a single batch.
+     */
+    private boolean drawSeriesLineAsBatch;
+
     /**
      * Creates a new renderer with both lines and shapes visible.
      */
@@ -224,6 +236,7 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
                                        // default, not outline paint
 
         this.drawSeriesLineAsPath = false;
+        this.drawSeriesLineAsBatch = false;
     }
 
     /**
@@ -254,6 +267,46 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
         }
     }
 
+    /**
+     * Returns a flag that controls whether or not the line for each series
+     * is drawn in a single batch.
+     *
+     * @return A boolean.
+     *
+     * @see #setDrawSeriesLineAsBatch(boolean)
+     *
+     * @since 1.0.20
+     */
+    public boolean getDrawSeriesLineAsBatch() {
+        return this.drawSeriesLineAsBatch;
+    }
+
+    /**
+     * Sets the flag that controls whether or not the line for each series is
+     * drawn in a single batch, and sends a {@link RendererChangeEvent} to all
+     * registered listeners.  In batch mode, all the items to be drawn in a
+     * series are converted to Java2D coordinates in one loop (using a
+     * precomputed linear transform for {@link NumberAxis} and
+     * {@link DateAxis}), consecutive items that fall in the same pixel are
+     * skipped, segments that lie entirely outside the visible part of the
+     * data area are left out, and the line is drawn as a single path.  The
+     * stroke and paint for the line are those for the first item drawn.
+     * This flag takes precedence over the
+     * {@link #getDrawSeriesLineAsPath()} flag.
+     *
+     * @param flag  the flag.
+     *
+     * @see #getDrawSeriesLineAsBatch()
+     *
+     * @since 1.0.20
+     */
+    public void setDrawSeriesLineAsBatch(boolean flag) {
+        if (this.drawSeriesLineAsBatch != flag) {
+            this.drawSeriesLineAsBatch = flag;
+            fireChangeEvent();
+        }
+    }
+
     /**
      * Returns the number of passes through the data that the renderer requires
      * in order to draw the chart.  Most charts will require a single pass, but
@@ -782,6 +835,15 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
         /** The path for the current series. */
         public GeneralPath seriesPath;
 
+        /** The path for the current series in batch mode. */
+        private Path2D.Float batchPath;
+
+        /** The Java2D x-coordinates for the items in batch mode. */
+        private double[] batchX;
+
+        /** The Java2D y-coordinates for the items in batch mode. */
+        private double[] batchY;
+
         /**
          * A flag that indicates if the last (x, y) point was 'good'
          * (non-null).
@@ -796,6 +858,9 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
         public State(PlotRenderingInfo info) {
             super(info);
             this.seriesPath = new GeneralPath();
+            this.batchPath = new Path2D.Float();
+            this.batchX = new double[0];
+            this.batchY = new double[0];
         }
 
         /**
@@ -833,6 +898,7 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
         public void startSeriesPass(XYDataset dataset, int series,
                 int firstItem, int lastItem, int pass, int passCount) {
             this.seriesPath.reset();
+            this.batchPath.reset();
             this.lastPointGood = false;
             super.startSeriesPass(dataset, series, firstItem, lastItem, pass,
                     passCount);
@@ -859,7 +925,46 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
     @Override
     public XYItemRendererState initialise(Graphics2D g2, Rectangle2D dataArea,
             XYPlot plot, XYDataset data, PlotRenderingInfo info) {
-        return new State(info);
+        State state = new State(info);
+        // when the series lines are drawn as a path, the line joins whatever
+        // items are passed to drawItem(), so a decimated subset is fine as
+        // long as nothing is drawn or recorded for the individual items...
+        boolean crosshairs = plot != null && (plot.isDomainCrosshairVisible()
+                || plot.isRangeCrosshairVisible());
+        state.setItemDecimationSupported(this.drawSeriesLineAsPath
+                && !this.drawSeriesLineAsBatch && !isItemOutputVisible(data)
+                && state.getEntityCollection() == null && !crosshairs);
+        // ...but otherwise each line segment is drawn from the previous item
+        // in the dataset, so appended items can be drawn on their own (a
+        // batch draws all the items in the series pass, so it needs both),
+        // as long as no shape or label for an earlier item would be drawn
+        // over the new segment
+        state.setItemAppendSupported(!this.drawSeriesLineAsPath
+                && !this.drawSeriesLineAsBatch && !isItemOutputVisible(data));
+        return state;
+    }
+
+    /**
+     * Returns <code>true</code> if the renderer draws a shape or an item
+     * label for the items in any visible series in the dataset, and
+     * <code>false</code> if it draws only the series lines.  The flags are
+     * checked for the first item in each series.
+     *
+     * @param dataset  the dataset (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    private boolean isItemOutputVisible(XYDataset dataset) {
+        if (dataset == null) {
+            return false;
+        }
+        for (int series = 0; series < dataset.getSeriesCount(); series++) {
+            if (getItemVisible(series, 0) && (getItemShapeVisible(series, 0)
+                    || isItemLabelVisible(series, 0))) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -893,7 +998,15 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
 
         // first pass draws the background (lines, for instance)
         if (isLinePass(pass)) {
-            if (getItemLineVisible(series, item)) {
+            if (this.drawSeriesLineAsBatch && state instanceof State) {
+                // the whole series is drawn with the first item
+                if (item == state.getFirstItemIndex()
+                        && getItemLineVisible(series, item)) {
+                    drawPrimaryLineAsBatch(state, g2, plot, dataset, pass,
+                            series, domainAxis, rangeAxis, dataArea);
+                }
+            }
+            else if (getItemLineVisible(series, item)) {
                 if (this.drawSeriesLineAsPath) {
                     drawPrimaryLineAsPath(state, g2, plot, dataset, pass,
                             series, item, domainAxis, rangeAxis, dataArea);
@@ -1091,6 +1204,218 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
         }
     }
 
+    /**
+     * Draws the line for all the items in the current series pass (first
+     * pass) as a single path.  This is called for the first item in the pass
+     * when the {@link #getDrawSeriesLineAsBatch()} flag is set.
+     *
+     * @param state  the renderer state.
+     * @param g2  the graphics device.
+     * @param plot  the plot.
+     * @param dataset  the dataset.
+     * @param pass  the pass.
+     * @param series  the series index (zero-based).
+     * @param domainAxis  the domain axis.
+     * @param rangeAxis  the range axis.
+     * @param dataArea  the area within which the data is being drawn.
+     *
+     * @since 1.0.20
+     */
+    protected void drawPrimaryLineAsBatch(XYItemRendererState state,
+            Graphics2D g2, XYPlot plot, XYDataset dataset, int pass,
+            int series, ValueAxis domainAxis, ValueAxis rangeAxis,
+            Rectangle2D dataArea) {
+
+        State s = (State) state;
+        int first = state.getFirstItemIndex();
+        int last = state.getLastItemIndex();
+        int count = last - first + 1;
+        if (count < 2) {
+            return;
+        }
+        if (s.batchX.length < count) {
+            s.batchX = new double[count];
+            s.batchY = new double[count];
+        }
+        valuesToJava2D(dataset, series, first, count, true, domainAxis,
+                dataArea, plot.getDomainAxisEdge(), s.batchX);
+        valuesToJava2D(dataset, series, first, count, false, rangeAxis,
+                dataArea, plot.getRangeAxisEdge(), s.batchY);
+        double[] xx = s.batchX;
+        double[] yy = s.batchY;
+        if (plot.getOrientation() == PlotOrientation.HORIZONTAL) {
+            xx = s.batchY;
+            yy = s.batchX;
+        }
+
+        // segments that lie entirely outside these bounds are not drawn
+        Stroke stroke = getItemStroke(series, first);
+        double minX = Double.NEGATIVE_INFINITY;
+        double maxX = Double.POSITIVE_INFINITY;
+        double minY = Double.NEGATIVE_INFINITY;
+        double maxY = Double.POSITIVE_INFINITY;
+        if (stroke instanceof BasicStroke) {
+            Rectangle2D bounds = dataArea;
+            Rectangle2D clip = g2.getClipBounds();
+            if (clip != null) {
+                bounds = dataArea.createIntersection(clip);
+            }
+            // the caps and joins at a break in the path must be outside the
+            // bounds too
+            BasicStroke bs = (BasicStroke) stroke;
+            double margin = bs.getLineWidth() / 2.0
+                    * Math.max(bs.getMiterLimit(), 1.0) + 1.0;
+            minX = bounds.getMinX() - margin;
+            maxX = bounds.getMaxX() + margin;
+            minY = bounds.getMinY() - margin;
+            maxY = bounds.getMaxY() + margin;
+        }
+
+        Path2D.Float path = s.batchPath;
+        path.reset();
+        boolean drawn = false;
+        boolean previousGood = false;
+        double previousX = 0.0;
+        double previousY = 0.0;
+        int previousCode = 0;
+        // is there an open subpath, and is its current point the last
+        // point added (rather than a later point in the same pixel)?
+        boolean open = false;
+        boolean pending = false;
+        double pixelX = 0.0;
+        double pixelY = 0.0;
+        for (int i = 0; i < count; i++) {
+            double x = xx[i];
+            double y = yy[i];
+            if (Double.isNaN(x) || Double.isNaN(y)) {
+                if (pending) {
+                    path.lineTo(previousX, previousY);
+                }
+                open = false;
+                pending = false;
+                previousGood = false;
+                continue;
+            }
+            int code = 0;
+            if (x < minX) {
+                code = 1;
+            }
+            else if (x > maxX) {
+                code = 2;
+            }
+            if (y < minY) {
+                code |= 4;
+            }
+            else if (y > maxY) {
+                code |= 8;
+            }
+            if (previousGood && (code & previousCode) == 0) {
+                if (!open) {
+                    path.moveTo(previousX, previousY);
+                    pixelX = Math.floor(previousX);
+                    pixelY = Math.floor(previousY);
+                    open = true;
+                }
+                if (Math.floor(x) == pixelX && Math.floor(y) == pixelY) {
+                    pending = true;
+                }
+                else {
+                    path.lineTo(x, y);
+                    pixelX = Math.floor(x);
+                    pixelY = Math.floor(y);
+                    pending = false;
+                    drawn = true;
+                }
+            }
+            else {
+                // the segment (if any) is outside the bounds
+                if (pending) {
+                    path.lineTo(previousX, previousY);
+                }
+                open = false;
+                pending = false;
+            }
+            previousGood = true;
+            previousX = x;
+            previousY = y;
+            previousCode = code;
+        }
+        if (pending) {
+            path.lineTo(previousX, previousY);
+            drawn = true;
+        }
+        if (drawn) {
+            drawFirstPassShape(g2, pass, series, first, path);
+        }
+    }
+
+    /**
+     * Converts the x-values or y-values for a run of items to Java2D
+     * coordinates.
+     *
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     * @param first  the index of the first item.
+     * @param count  the number of items.
+     * @param xValues  convert the x-values (<code>true</code>) or the
+     *     y-values (<code>false</code>)?
+     * @param axis  the axis.
+     * @param dataArea  the data area.
+     * @param edge  the axis edge.
+     * @param result  the array for the coordinates.
+     */
+    private static void valuesToJava2D(XYDataset dataset, int series,
+            int first, int count, boolean xValues, ValueAxis axis,
+            Rectangle2D dataArea, RectangleEdge edge, double[] result) {
+        double lower = axis.getLowerBound();
+        double upper = axis.getUpperBound();
+        Class c = axis.getClass();
+        boolean date = (c == DateAxis.class);
+        if (date) {
+            // the date axis works in whole milliseconds
+            lower = (long) lower;
+            upper = (long) upper;
+        }
+        boolean linear = upper > lower && (c == NumberAxis.class
+                || c == NumberAxis3D.class || c == SymbolAxis.class
+                || (date && isLinearTimeline((DateAxis) axis)));
+        if (!linear) {
+            for (int i = 0; i < count; i++) {
+                double v = xValues ? dataset.getXValue(series, first + i)
+                        : dataset.getYValue(series, first + i);
+                result[i] = axis.valueToJava2D(v, dataArea, edge);
+            }
+            return;
+        }
+        double j0 = axis.valueToJava2D(lower, dataArea, edge);
+        double scale = (axis.valueToJava2D(upper, dataArea, edge) - j0)
+                / (upper - lower);
+        for (int i = 0; i < count; i++) {
+            double v = xValues ? dataset.getXValue(series, first + i)
+                    : dataset.getYValue(series, first + i);
+            if (date && !Double.isNaN(v)) {
+                v = (long) v;
+            }
+            result[i] = j0 + (v - lower) * scale;
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if the timeline for a date axis includes
+     * every millisecond in the axis range, so that the axis is linear.
+     *
+     * @param axis  the axis.
+     *
+     * @return A boolean.
+     */
+    private static boolean isLinearTimeline(DateAxis axis) {
+        long lower = (long) axis.getLowerBound();
+        long upper = (long) axis.getUpperBound();
+        return axis.getTimeline().toTimelineValue(lower) == lower
+                && axis.getTimeline().toTimelineValue(upper) == upper
+                && axis.getTimeline().containsDomainRange(lower, upper);
+    }
+
     /**
      * Draws the item shapes and adds chart entities (second pass). This method
      * draws the shapes which mark the item positions. If <code>entities</code>
@@ -1344,6 +1669,9 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
         if (this.drawSeriesLineAsPath != that.drawSeriesLineAsPath) {
             return false;
         }
+        if (this.drawSeriesLineAsBatch != that.drawSeriesLineAsBatch) {
+            return false;
+        }
         return true;
     }
 
@@ -69,10 +69,10 @@ import org.jfree.chart.plot.CrosshairState;
 import org.jfree.chart.plot.PlotOrientation;
 import org.jfree.chart.plot.PlotRenderingInfo;
 import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.util.TextBoundsCache;
 import org.jfree.data.Range;
 import org.jfree.data.xy.IntervalXYDataset;
 import org.jfree.data.xy.XYDataset;
-import org.jfree.text.TextUtilities;
 import org.jfree.ui.RectangleEdge;
 import org.jfree.util.ObjectUtilities;
 import org.jfree.util.PublicCloneable;
@@ -274,7 +274,7 @@ public class YIntervalRenderer extends AbstractXYItemRenderer
         ItemLabelPosition position = getNegativeItemLabelPosition(series, item);
         Point2D anchorPoint = calculateLabelAnchorPoint(
                 position.getItemLabelAnchor(), x, y, orientation);
-        TextUtilities.drawRotatedString(label, g2,
+        TextBoundsCache.getSharedInstance().drawRotatedString(label, g2,
                 (float) anchorPoint.getX(), (float) anchorPoint.getY(),
                 position.getTextAnchor(), position.getAngle(),
                 position.getRotationAnchor());
@@ -102,15 +102,20 @@ public class ChartDeleter implements HttpSessionBindingListener, Serializable {
     /**
      * When this object is unbound from the session (including upon session
      * expiry) the files that have been added to the ArrayList are iterated
-     * and deleted.
+     * and deleted (along with any copies held in the
+     * {@link ChartImageCache}).
      *
      * @param event  the session unbind event.
      */
     @Override
     public void valueUnbound(HttpSessionBindingEvent event) {
+        ChartImageCache cache = ServletUtilities.getChartImageCache();
         Iterator iter = this.chartNames.listIterator();
         while (iter.hasNext()) {
             String filename = (String) iter.next();
+            if (cache != null) {
+                cache.remove(filename);
+            }
             File file = new File(
                 System.getProperty("java.io.tmpdir"), filename
             );
@@ -0,0 +1,589 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------
+ * ChartImageCache.java
+ * --------------------
+ * (C) Copyright 2014, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.servlet;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jfree.chart.util.ParamChecks;
+
+/**
+ * A bounded in-memory store for chart images generated by
+ * {@link ServletUtilities}, used to avoid writing every chart to the
+ * temporary directory and reading it back in the {@link DisplayChart}
+ * servlet.  The store is limited by the total number of image bytes it
+ * holds, and evicts the least recently used images first when that limit is
+ * exceeded.  Images can also be given a time-to-live, after which they are
+ * discarded.
+ * <P>
+ * If spilling is enabled, images evicted to make room for newer ones are
+ * written to the temporary directory (as defined by the system property
+ * <code>java.io.tmpdir</code>) using their filename, so that the
+ * {@link DisplayChart} servlet and the {@link ChartDeleter} continue to find
+ * them there.
+ * <P>
+ * All methods in this class are thread-safe, so a single instance can be
+ * shared by all requests.  Evicted images are written to disk after the
+ * cache lock has been released, and can still be looked up while they are
+ * being written.
+ *
+ * @see ServletUtilities#setChartImageCache(ChartImageCache)
+ *
+ * @since 1.0.20
+ */
+public class ChartImageCache {
+
+    /** The maximum number of image bytes held in memory. */
+    private long maximumByteCount;
+
+    /**
+     * The time-to-live for each image, in milliseconds (zero or less for no
+     * limit).
+     */
+    private long timeToLive;
+
+    /** A flag that controls whether evicted images are written to disk. */
+    private boolean spillToDisk;
+
+    /** The images, keyed by filename, in least recently used order. */
+    private LinkedHashMap images;
+
+    /** The evicted images that are being written to disk. */
+    private Map spilling;
+
+    /** The number of image bytes currently held in memory. */
+    private long byteCount;
+
+    /** The number of lookups that found an image. */
+    private long hitCount;
+
+    /** The number of lookups that did not find an image. */
+    private long missCount;
+
+    /** The number of images evicted to stay within the size limit. */
+    private long evictionCount;
+
+    /** The number of images that expired. */
+    private long expiryCount;
+
+    /** The number of images written to disk. */
+    private long spillCount;
+
+    /**
+     * Creates a new cache with no time-to-live and spilling disabled.
+     *
+     * @param maximumByteCount  the maximum number of image bytes held in
+     *                          memory (must be positive).
+     */
+    public ChartImageCache(long maximumByteCount) {
+        this(maximumByteCount, 0L, false);
+    }
+
+    /**
+     * Creates a new cache.
+     *
+     * @param maximumByteCount  the maximum number of image bytes held in
+     *                          memory (must be positive).
+     * @param timeToLive  the time-to-live for each image in milliseconds
+     *                    (zero or less for no limit).
+     * @param spillToDisk  write evicted images to the temporary directory?
+     */
+    public ChartImageCache(long maximumByteCount, long timeToLive,
+            boolean spillToDisk) {
+        if (maximumByteCount <= 0) {
+            throw new IllegalArgumentException(
+                    "Requires 'maximumByteCount' > 0.");
+        }
+        this.maximumByteCount = maximumByteCount;
+        this.timeToLive = timeToLive;
+        this.spillToDisk = spillToDisk;
+        this.images = new LinkedHashMap(16, 0.75f, true);
+        this.spilling = new HashMap();
+    }
+
+    /**
+     * Returns the maximum number of image bytes held in memory.
+     *
+     * @return The maximum number of bytes.
+     */
+    public synchronized long getMaximumByteCount() {
+        return this.maximumByteCount;
+    }
+
+    /**
+     * Sets the maximum number of image bytes held in memory, evicting images
+     * if necessary.
+     *
+     * @param count  the maximum number of bytes (must be positive).
+     */
+    public void setMaximumByteCount(long count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("Requires 'count' > 0.");
+        }
+        List evicted;
+        synchronized (this) {
+            this.maximumByteCount = count;
+            evicted = evict();
+        }
+        spill(evicted);
+    }
+
+    /**
+     * Returns the time-to-live for each image, in milliseconds.
+     *
+     * @return The time-to-live (zero or less for no limit).
+     */
+    public synchronized long getTimeToLive() {
+        return this.timeToLive;
+    }
+
+    /**
+     * Sets the time-to-live for each image, in milliseconds.  The new value
+     * applies to images already in the cache.
+     *
+     * @param millis  the time-to-live (zero or less for no limit).
+     */
+    public synchronized void setTimeToLive(long millis) {
+        this.timeToLive = millis;
+    }
+
+    /**
+     * Returns the flag that controls whether images evicted from the cache
+     * are written to the temporary directory.
+     *
+     * @return A boolean.
+     */
+    public synchronized boolean isSpillToDisk() {
+        return this.spillToDisk;
+    }
+
+    /**
+     * Sets the flag that controls whether images evicted from the cache are
+     * written to the temporary directory.
+     *
+     * @param spill  the new flag value.
+     */
+    public synchronized void setSpillToDisk(boolean spill) {
+        this.spillToDisk = spill;
+    }
+
+    /**
+     * Adds an image to the cache, replacing any existing image with the same
+     * filename.  An image that is larger than the maximum byte count is not
+     * held in memory (it is written straight to disk if spilling is
+     * enabled).
+     *
+     * @param filename  the filename (<code>null</code> not permitted).
+     * @param data  the encoded image (<code>null</code> not permitted).
+     * @param mimeType  the MIME type (<code>null</code> permitted).
+     */
+    public void put(String filename, byte[] data, String mimeType) {
+        ParamChecks.nullNotPermitted(filename, "filename");
+        ParamChecks.nullNotPermitted(data, "data");
+        CachedImage image = new CachedImage(data, mimeType,
+                System.currentTimeMillis());
+        List evicted;
+        synchronized (this) {
+            CachedImage old = (CachedImage) this.images.remove(filename);
+            if (old != null) {
+                this.byteCount -= old.data.length;
+            }
+            this.spilling.remove(filename);
+            if (data.length > this.maximumByteCount) {
+                this.evictionCount++;
+                evicted = new ArrayList();
+                if (this.spillToDisk) {
+                    this.spilling.put(filename, image);
+                    evicted.add(filename);
+                }
+            }
+            else {
+                this.images.put(filename, image);
+                this.byteCount += data.length;
+                evicted = evict();
+            }
+        }
+        spill(evicted);
+    }
+
+    /**
+     * Returns the image with the specified filename, or <code>null</code> if
+     * it is not in the cache (or has expired).  Images that have been
+     * spilled to disk are not returned by this method (but images that are
+     * still being written to disk are).
+     *
+     * @param filename  the filename (<code>null</code> not permitted).
+     *
+     * @return The image (possibly <code>null</code>).
+     */
+    public synchronized CachedImage get(String filename) {
+        ParamChecks.nullNotPermitted(filename, "filename");
+        CachedImage image = (CachedImage) this.images.get(filename);
+        if (image != null && isExpired(image, System.currentTimeMillis())) {
+            this.images.remove(filename);
+            this.byteCount -= image.data.length;
+            this.expiryCount++;
+            image = null;
+        }
+        if (image == null) {
+            // an evicted image that has not been written to disk yet
+            image = (CachedImage) this.spilling.get(filename);
+        }
+        if (image == null) {
+            this.missCount++;
+        }
+        else {
+            this.hitCount++;
+        }
+        return image;
+    }
+
+    /**
+     * Returns <code>true</code> if the cache holds an image with the
+     * specified filename, and <code>false</code> otherwise.  This method
+     * does not update the hit and miss counts or the usage order.
+     *
+     * @param filename  the filename.
+     *
+     * @return A boolean.
+     */
+    public synchronized boolean containsImage(String filename) {
+        return this.images.containsKey(filename)
+                || this.spilling.containsKey(filename);
+    }
+
+    /**
+     * Removes an image from the cache.
+     *
+     * @param filename  the filename.
+     *
+     * @return A boolean that indicates whether an image was removed.
+     */
+    public synchronized boolean remove(String filename) {
+        if (this.spilling.remove(filename) != null) {
+            // the file is deleted once it has been written
+            return true;
+        }
+        CachedImage image = (CachedImage) this.images.remove(filename);
+        if (image == null) {
+            return false;
+        }
+        this.byteCount -= image.data.length;
+        return true;
+    }
+
+    /**
+     * Removes all expired images from the cache.  Expired images are also
+     * discarded when they are looked up, so calling this method is only
+     * necessary to release memory held by images that are never requested.
+     *
+     * @return The number of images removed.
+     */
+    public synchronized int removeExpiredImages() {
+        if (this.timeToLive <= 0) {
+            return 0;
+        }
+        long now = System.currentTimeMillis();
+        int count = 0;
+        Iterator iterator = this.images.values().iterator();
+        while (iterator.hasNext()) {
+            CachedImage image = (CachedImage) iterator.next();
+            if (isExpired(image, now)) {
+                iterator.remove();
+                this.byteCount -= image.data.length;
+                this.expiryCount++;
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Removes all images from the cache.  The statistics are not reset.
+     */
+    public synchronized void clear() {
+        this.images.clear();
+        this.byteCount = 0L;
+    }
+
+    /**
+     * Returns the number of images held in memory.
+     *
+     * @return The image count.
+     */
+    public synchronized int getImageCount() {
+        return this.images.size();
+    }
+
+    /**
+     * Returns the number of image bytes held in memory.
+     *
+     * @return The byte count.
+     */
+    public synchronized long getByteCount() {
+        return this.byteCount;
+    }
+
+    /**
+     * Returns the number of calls to {@link #get(String)} that found an
+     * image.
+     *
+     * @return The hit count.
+     */
+    public synchronized long getHitCount() {
+        return this.hitCount;
+    }
+
+    /**
+     * Returns the number of calls to {@link #get(String)} that did not find
+     * an image.
+     *
+     * @return The miss count.
+     */
+    public synchronized long getMissCount() {
+        return this.missCount;
+    }
+
+    /**
+     * Returns the number of images evicted to stay within the maximum byte
+     * count.
+     *
+     * @return The eviction count.
+     */
+    public synchronized long getEvictionCount() {
+        return this.evictionCount;
+    }
+
+    /**
+     * Returns the number of images discarded because their time-to-live
+     * was exceeded.
+     *
+     * @return The expiry count.
+     */
+    public synchronized long getExpiryCount() {
+        return this.expiryCount;
+    }
+
+    /**
+     * Returns the number of images written to the temporary directory.
+     *
+     * @return The spill count.
+     */
+    public synchronized long getSpillCount() {
+        return this.spillCount;
+    }
+
+    /**
+     * Resets the hit, miss, eviction, expiry and spill counts to zero.
+     */
+    public synchronized void resetStatistics() {
+        this.hitCount = 0L;
+        this.missCount = 0L;
+        this.evictionCount = 0L;
+        this.expiryCount = 0L;
+        this.spillCount = 0L;
+    }
+
+    /**
+     * Returns <code>true</code> if the image has exceeded the time-to-live.
+     *
+     * @param image  the image.
+     * @param now  the current time.
+     *
+     * @return A boolean.
+     */
+    private boolean isExpired(CachedImage image, long now) {
+        return this.timeToLive > 0
+                && now - image.creationTime >= this.timeToLive;
+    }
+
+    /**
+     * Evicts the least recently used images until the byte count is within
+     * the limit.  The caller must hold the lock on this cache, and should
+     * pass the result to {@link #spill(List)} once it has released the lock.
+     *
+     * @return The filenames of the evicted images to write to disk.
+     */
+    private List evict() {
+        List result = new ArrayList();
+        Iterator iterator = this.images.entrySet().iterator();
+        long now = System.currentTimeMillis();
+        while (this.byteCount > this.maximumByteCount && iterator.hasNext()) {
+            Map.Entry entry = (Map.Entry) iterator.next();
+            CachedImage image = (CachedImage) entry.getValue();
+            iterator.remove();
+            this.byteCount -= image.data.length;
+            if (isExpired(image, now)) {
+                this.expiryCount++;
+            }
+            else {
+                this.evictionCount++;
+                if (this.spillToDisk) {
+                    this.spilling.put(entry.getKey(), image);
+                    result.add(entry.getKey());
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Writes evicted images to the temporary directory.  This method is
+     * called without holding the lock on this cache, so that other requests
+     * are not blocked by the disk writes.  Failures are ignored, in which
+     * case the image is simply lost (as it would be with spilling disabled).
+     *
+     * @param filenames  the filenames returned by {@link #evict()}.
+     */
+    private void spill(List filenames) {
+        for (int i = 0; i < filenames.size(); i++) {
+            String filename = (String) filenames.get(i);
+            CachedImage image;
+            synchronized (this) {
+                image = (CachedImage) this.spilling.get(filename);
+            }
+            if (image == null) {
+                continue;  // removed before it was written
+            }
+            ServletUtilities.createTempDir();
+            File file = new File(System.getProperty("java.io.tmpdir"),
+                    filename);
+            boolean written = false;
+            try {
+                OutputStream out = new BufferedOutputStream(
+                        new FileOutputStream(file));
+                try {
+                    out.write(image.data);
+                }
+                finally {
+                    out.close();
+                }
+                written = true;
+            }
+            catch (IOException e) {
+                // the image is lost
+            }
+            synchronized (this) {
+                if (this.spilling.get(filename) != image) {
+                    // removed (or replaced) while it was being written
+                    written = false;
+                }
+                else {
+                    this.spilling.remove(filename);
+                }
+                if (written) {
+                    this.spillCount++;
+                }
+            }
+            if (!written) {
+                file.delete();
+            }
+        }
+    }
+
+    /**
+     * An encoded chart image held by a {@link ChartImageCache}.
+     */
+    public static class CachedImage {
+
+        /** The encoded image. */
+        private byte[] data;
+
+        /** The MIME type (possibly <code>null</code>). */
+        private String mimeType;
+
+        /** The time the image was added to the cache. */
+        private long creationTime;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param data  the encoded image.
+         * @param mimeType  the MIME type (<code>null</code> permitted).
+         * @param creationTime  the time the image was added to the cache.
+         */
+        CachedImage(byte[] data, String mimeType, long creationTime) {
+            this.data = data;
+            this.mimeType = mimeType;
+            this.creationTime = creationTime;
+        }
+
+        /**
+         * Returns the encoded image.  The array is not copied, so callers
+         * should not modify it.
+         *
+         * @return The encoded image (never <code>null</code>).
+         */
+        public byte[] getData() {
+            return this.data;
+        }
+
+        /**
+         * Returns the MIME type.
+         *
+         * @return The MIME type (possibly <code>null</code>).
+         */
+        public String getMimeType() {
+            return this.mimeType;
+        }
+
+        /**
+         * Returns the time that the image was added to the cache, in
+         * milliseconds since the epoch.
+         *
+         * @return The creation time.
+         */
+        public long getCreationTime() {
+            return this.creationTime;
+        }
+
+    }
+
+}
@@ -0,0 +1,750 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------
+ * ChartRenderService.java
+ * -----------------------
+ * (C) Copyright 2014, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.servlet;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.jfree.chart.ChartUtilities;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.util.ParamChecks;
+import org.jfree.util.ObjectUtilities;
+
+/**
+ * A service that renders charts to PNG or JPEG images on a fixed number of
+ * worker threads, for use in servers that would otherwise render charts on
+ * the request threads (for example, before passing them to
+ * {@link ServletUtilities} or {@link ChartImageCache}).
+ * <P>
+ * Each request is identified by a chart key and a version supplied by the
+ * caller (for example, a dashboard id and the version of its data), together
+ * with the image size and format.  While a request is queued or being
+ * rendered, further requests with the same identity share its result
+ * instead of rendering the chart again.  Once the image has been rendered,
+ * the next request renders the chart again (use a {@link ChartImageCache} to
+ * keep the images).
+ * <P>
+ * The number of distinct requests that can be queued or rendering at the
+ * same time is bounded.  When the limit is reached, a new request waits for
+ * up to the submit timeout (zero by default) and is then rejected with a
+ * {@link RejectedExecutionException}, so a server can respond to bursts by
+ * shedding load rather than starving its request threads.
+ * <P>
+ * The same {@link JFreeChart} instance is never drawn by two worker threads
+ * at once (the service synchronizes on the chart while drawing it).
+ *
+ * @since 1.0.20
+ */
+public class ChartRenderService {
+
+    /** The executor for the render tasks. */
+    private ThreadPoolExecutor executor;
+
+    /** The permits for requests that are queued or rendering. */
+    private Semaphore permits;
+
+    /** The time to wait for a permit, in milliseconds. */
+    private long submitTimeout;
+
+    /** The tasks that are queued or rendering, keyed by request. */
+    private Map tasks;
+
+    /** The number of images rendered. */
+    private long renderCount;
+
+    /** The number of requests that shared an earlier request's result. */
+    private long deduplicatedCount;
+
+    /** The number of requests rejected because the service was busy. */
+    private long rejectedCount;
+
+    /**
+     * Creates a new service.
+     *
+     * @param threadCount  the number of worker threads (must be positive).
+     * @param queueCapacity  the number of distinct requests that can wait
+     *     for a worker thread (zero or more).
+     */
+    public ChartRenderService(int threadCount, int queueCapacity) {
+        if (threadCount <= 0) {
+            throw new IllegalArgumentException("Requires 'threadCount' > 0.");
+        }
+        if (queueCapacity < 0) {
+            throw new IllegalArgumentException(
+                    "Requires 'queueCapacity' >= 0.");
+        }
+        // the queue itself is unbounded, the permits bound the requests
+        this.executor = new ThreadPoolExecutor(threadCount, threadCount, 0L,
+                TimeUnit.MILLISECONDS, new LinkedBlockingQueue(),
+                new WorkerThreadFactory());
+        this.permits = new Semaphore(threadCount + queueCapacity);
+        this.submitTimeout = 0L;
+        this.tasks = new HashMap();
+    }
+
+    /**
+     * Returns the time that a new request waits for the service to accept
+     * it, when the service is at its limit.
+     *
+     * @return The timeout in milliseconds.
+     */
+    public synchronized long getSubmitTimeout() {
+        return this.submitTimeout;
+    }
+
+    /**
+     * Sets the time that a new request waits for the service to accept it,
+     * when the service is at its limit.  With a timeout of zero, such a
+     * request is rejected immediately.
+     *
+     * @param millis  the timeout in milliseconds (zero or more).
+     */
+    public synchronized void setSubmitTimeout(long millis) {
+        if (millis < 0L) {
+            throw new IllegalArgumentException("Requires 'millis' >= 0.");
+        }
+        this.submitTimeout = millis;
+    }
+
+    /**
+     * Submits a request to render a chart as a PNG image.  The result of
+     * the returned future is a <code>byte[]</code> containing the encoded
+     * image (each call to <code>get()</code> returns a new copy).
+     *
+     * @param chartKey  the key that identifies the chart (<code>null</code>
+     *     not permitted).
+     * @param version  the version of the chart's data.
+     * @param chart  the chart (<code>null</code> not permitted).  This is
+     *     not drawn if an identical request is already in progress.
+     * @param width  the image width (must be positive).
+     * @param height  the image height (must be positive).
+     *
+     * @return A future for the encoded image.
+     *
+     * @throws RejectedExecutionException if the service is at its limit
+     *     (after waiting for the submit timeout) or has been shut down.
+     */
+    public Future submitPNG(Object chartKey, long version, JFreeChart chart,
+            int width, int height) {
+        return submit(new RequestKey(chartKey, version, width, height,
+                "png", 0.0f), chart);
+    }
+
+    /**
+     * Submits a request to render a chart as a JPEG image.  The result of
+     * the returned future is a <code>byte[]</code> containing the encoded
+     * image (each call to <code>get()</code> returns a new copy).
+     *
+     * @param chartKey  the key that identifies the chart (<code>null</code>
+     *     not permitted).
+     * @param version  the version of the chart's data.
+     * @param chart  the chart (<code>null</code> not permitted).  This is
+     *     not drawn if an identical request is already in progress.
+     * @param width  the image width (must be positive).
+     * @param height  the image height (must be positive).
+     * @param quality  the JPEG quality setting (0.0 to 1.0).
+     *
+     * @return A future for the encoded image.
+     *
+     * @throws RejectedExecutionException if the service is at its limit
+     *     (after waiting for the submit timeout) or has been shut down.
+     */
+    public Future submitJPEG(Object chartKey, long version, JFreeChart chart,
+            int width, int height, float quality) {
+        return submit(new RequestKey(chartKey, version, width, height,
+                "jpeg", quality), chart);
+    }
+
+    /**
+     * Submits a request, sharing the task for an identical request if there
+     * is one in progress.
+     *
+     * @param key  the request key.
+     * @param chart  the chart.
+     *
+     * @return A future for the encoded image.
+     */
+    private Future submit(RequestKey key, JFreeChart chart) {
+        ParamChecks.nullNotPermitted(chart, "chart");
+        long timeout;
+        synchronized (this) {
+            RenderTask task = (RenderTask) this.tasks.get(key);
+            if (task != null) {
+                return join(task);
+            }
+            timeout = this.submitTimeout;
+        }
+        boolean acquired;
+        try {
+            acquired = this.permits.tryAcquire(timeout, TimeUnit.MILLISECONDS);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        RenderTask task;
+        synchronized (this) {
+            if (!acquired) {
+                this.rejectedCount++;
+                throw new RejectedExecutionException(
+                        "The chart render service is busy.");
+            }
+            // an identical request may have been submitted while waiting
+            task = (RenderTask) this.tasks.get(key);
+            if (task != null) {
+                this.permits.release();
+                return join(task);
+            }
+            task = new RenderTask(key, new RenderCallable(key, chart));
+            this.tasks.put(key, task);
+            task.requestCount = 1;
+        }
+        try {
+            this.executor.execute(task);
+        }
+        catch (RejectedExecutionException e) {
+            // the service has been shut down
+            task.fail(e);
+            throw e;
+        }
+        return new RequestFuture(task);
+    }
+
+    /**
+     * Adds a request to a task that is in progress.
+     *
+     * @param task  the task.
+     *
+     * @return A future for the new request.
+     */
+    private Future join(RenderTask task) {
+        task.requestCount++;
+        this.deduplicatedCount++;
+        return new RequestFuture(task);
+    }
+
+    /**
+     * Returns the number of distinct requests that are queued or rendering.
+     *
+     * @return The request count.
+     */
+    public synchronized int getPendingCount() {
+        return this.tasks.size();
+    }
+
+    /**
+     * Returns the number of images that have been rendered.
+     *
+     * @return The render count.
+     */
+    public synchronized long getRenderCount() {
+        return this.renderCount;
+    }
+
+    /**
+     * Returns the number of requests that shared the result of an identical
+     * request that was already in progress.
+     *
+     * @return The count.
+     */
+    public synchronized long getDeduplicatedCount() {
+        return this.deduplicatedCount;
+    }
+
+    /**
+     * Returns the number of requests that were rejected because the service
+     * was at its limit.
+     *
+     * @return The count.
+     */
+    public synchronized long getRejectedCount() {
+        return this.rejectedCount;
+    }
+
+    /**
+     * Shuts down the service.  Requests that have been accepted are still
+     * completed, but new requests are rejected.
+     */
+    public void shutdown() {
+        this.executor.shutdown();
+    }
+
+    /**
+     * Removes a task from the pending tasks, so that new requests no longer
+     * join it.
+     *
+     * @param task  the task.
+     */
+    private synchronized void removeTask(RenderTask task) {
+        if (this.tasks.get(task.key) == task) {
+            this.tasks.remove(task.key);
+        }
+    }
+
+    /**
+     * Releases the permit held by a task, if it has not been released
+     * already.  This is called when the task has finished running, or when
+     * it will never run (because it was removed from the queue or rejected
+     * by the executor), but not when it is cancelled while it is running,
+     * so that the permits still bound the charts being rendered.
+     *
+     * @param task  the task.
+     */
+    private synchronized void releasePermit(RenderTask task) {
+        if (!task.permitReleased) {
+            task.permitReleased = true;
+            this.permits.release();
+        }
+    }
+
+    /**
+     * Called when a request is cancelled.  The task is cancelled too, if no
+     * other requests are waiting for it.
+     *
+     * @param task  the task.
+     */
+    private synchronized void requestCancelled(RenderTask task) {
+        task.requestCount--;
+        if (task.requestCount == 0) {
+            // new requests must not join a cancelled task
+            removeTask(task);
+            if (task.cancel(false) && this.executor.remove(task)) {
+                // the task was still queued, so it will never run
+                releasePermit(task);
+            }
+        }
+    }
+
+    /**
+     * The identity of a render request.
+     */
+    private static class RequestKey {
+
+        /** The chart key. */
+        private Object chartKey;
+
+        /** The data version. */
+        private long version;
+
+        /** The image width. */
+        private int width;
+
+        /** The image height. */
+        private int height;
+
+        /** The image format. */
+        private String format;
+
+        /** The JPEG quality. */
+        private float quality;
+
+        /**
+         * Creates a new key.
+         *
+         * @param chartKey  the chart key (<code>null</code> not permitted).
+         * @param version  the data version.
+         * @param width  the image width.
+         * @param height  the image height.
+         * @param format  the image format.
+         * @param quality  the JPEG quality.
+         */
+        RequestKey(Object chartKey, long version, int width, int height,
+                String format, float quality) {
+            ParamChecks.nullNotPermitted(chartKey, "chartKey");
+            if (width <= 0) {
+                throw new IllegalArgumentException("Requires 'width' > 0.");
+            }
+            if (height <= 0) {
+                throw new IllegalArgumentException("Requires 'height' > 0.");
+            }
+            this.chartKey = chartKey;
+            this.version = version;
+            this.width = width;
+            this.height = height;
+            this.format = format;
+            this.quality = quality;
+        }
+
+        /**
+         * Tests this key for equality with an arbitrary object.
+         *
+         * @param obj  the object (<code>null</code> permitted).
+         *
+         * @return A boolean.
+         */
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof RequestKey)) {
+                return false;
+            }
+            RequestKey that = (RequestKey) obj;
+            return this.chartKey.equals(that.chartKey)
+                    && this.version == that.version
+                    && this.width == that.width
+                    && this.height == that.height
+                    && this.format.equals(that.format)
+                    && this.quality == that.quality;
+        }
+
+        /**
+         * Returns a hash code for this key.
+         *
+         * @return A hash code.
+         */
+        @Override
+        public int hashCode() {
+            int result = this.chartKey.hashCode();
+            result = 37 * result + (int) (this.version ^ (this.version >>> 32));
+            result = 37 * result + this.width;
+            result = 37 * result + this.height;
+            result = 37 * result + ObjectUtilities.hashCode(this.format);
+            result = 37 * result + Float.floatToIntBits(this.quality);
+            return result;
+        }
+
+    }
+
+    /**
+     * A task that renders a chart and encodes the image.
+     */
+    private class RenderTask extends FutureTask {
+
+        /** The request key. */
+        private RequestKey key;
+
+        /** The number of requests waiting for the result. */
+        private int requestCount;
+
+        /** A flag that indicates whether the permit has been released. */
+        private boolean permitReleased;
+
+        /**
+         * Creates a new task.
+         *
+         * @param key  the request key.
+         * @param callable  the callable that renders the chart.
+         */
+        RenderTask(RequestKey key, Callable callable) {
+            super(callable);
+            this.key = key;
+        }
+
+        /**
+         * Completes the task with an exception.
+         *
+         * @param t  the exception.
+         */
+        void fail(Throwable t) {
+            setException(t);
+            releasePermit(this);
+        }
+
+        /**
+         * Runs the task, releasing its permit when the task finishes (even
+         * if it was cancelled while it was running).
+         */
+        @Override
+        public void run() {
+            try {
+                super.run();
+            }
+            finally {
+                releasePermit(this);
+            }
+        }
+
+        /**
+         * Sets the result of the task.  The task is removed from the
+         * pending tasks first, so that it is no longer pending by the time
+         * that the waiting requests receive the result.
+         *
+         * @param v  the result.
+         */
+        @Override
+        protected void set(Object v) {
+            removeTask(this);
+            super.set(v);
+        }
+
+        /**
+         * Completes the task with an exception, removing it from the pending
+         * tasks first.
+         *
+         * @param t  the exception.
+         */
+        @Override
+        protected void setException(Throwable t) {
+            removeTask(this);
+            super.setException(t);
+        }
+
+        /**
+         * Called when the task completes, fails or is cancelled.
+         */
+        @Override
+        protected void done() {
+            removeTask(this);
+        }
+
+    }
+
+    /**
+     * Renders the chart for a request.
+     */
+    private class RenderCallable implements Callable {
+
+        /** The request key. */
+        private RequestKey key;
+
+        /** The chart. */
+        private JFreeChart chart;
+
+        /**
+         * Creates a new callable.
+         *
+         * @param key  the request key.
+         * @param chart  the chart.
+         */
+        RenderCallable(RequestKey key, JFreeChart chart) {
+            this.key = key;
+            this.chart = chart;
+        }
+
+        /**
+         * Renders the chart.
+         *
+         * @return The encoded image.
+         *
+         * @throws Exception if there is a problem encoding the image.
+         */
+        @Override
+        public Object call() throws Exception {
+            return render(this.key, this.chart);
+        }
+
+    }
+
+    /**
+     * Renders a chart and encodes the image.
+     *
+     * @param key  the request key.
+     * @param chart  the chart.
+     *
+     * @return The encoded image.
+     *
+     * @throws Exception if there is a problem encoding the image.
+     */
+    private byte[] render(RequestKey key, JFreeChart chart) throws Exception {
+        BufferedImage image;
+        synchronized (chart) {
+            image = chart.createBufferedImage(key.width, key.height,
+                    "png".equals(key.format) ? BufferedImage.TYPE_INT_ARGB
+                    : BufferedImage.TYPE_INT_RGB, null);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if ("png".equals(key.format)) {
+            ChartUtilities.writeBufferedImageAsPNG(out, image);
+        }
+        else {
+            ChartUtilities.writeBufferedImageAsJPEG(out, key.quality, image);
+        }
+        synchronized (this) {
+            this.renderCount++;
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * The future returned to each request.  Cancelling a request only
+     * cancels the render task if no other request is waiting for it.
+     */
+    private class RequestFuture implements Future {
+
+        /** The task. */
+        private RenderTask task;
+
+        /** A flag that indicates whether this request was cancelled. */
+        private boolean cancelled;
+
+        /**
+         * Creates a new future.
+         *
+         * @param task  the task.
+         */
+        RequestFuture(RenderTask task) {
+            this.task = task;
+        }
+
+        /**
+         * Cancels this request.
+         *
+         * @param mayInterruptIfRunning  ignored (rendering that has
+         *     started is not interrupted).
+         *
+         * @return A boolean.
+         */
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            synchronized (ChartRenderService.this) {
+                if (this.cancelled || this.task.isDone()) {
+                    return false;
+                }
+                this.cancelled = true;
+                requestCancelled(this.task);
+                return true;
+            }
+        }
+
+        /**
+         * Returns <code>true</code> if this request was cancelled.
+         *
+         * @return A boolean.
+         */
+        @Override
+        public boolean isCancelled() {
+            synchronized (ChartRenderService.this) {
+                return this.cancelled;
+            }
+        }
+
+        /**
+         * Returns <code>true</code> if this request is complete.
+         *
+         * @return A boolean.
+         */
+        @Override
+        public boolean isDone() {
+            return isCancelled() || this.task.isDone();
+        }
+
+        /**
+         * Waits for the image and returns a copy of it.
+         *
+         * @return The encoded image (a <code>byte[]</code>).
+         *
+         * @throws InterruptedException if the thread is interrupted.
+         * @throws ExecutionException if the rendering failed.
+         */
+        @Override
+        public Object get() throws InterruptedException, ExecutionException {
+            checkCancelled();
+            byte[] result = (byte[]) this.task.get();
+            checkCancelled();
+            return result.clone();
+        }
+
+        /**
+         * Waits for the image (up to the specified time) and returns a copy
+         * of it.
+         *
+         * @param timeout  the timeout.
+         * @param unit  the timeout unit.
+         *
+         * @return The encoded image (a <code>byte[]</code>).
+         *
+         * @throws InterruptedException if the thread is interrupted.
+         * @throws ExecutionException if the rendering failed.
+         * @throws TimeoutException if the timeout expires.
+         */
+        @Override
+        public Object get(long timeout, TimeUnit unit)
+                throws InterruptedException, ExecutionException,
+                TimeoutException {
+            checkCancelled();
+            byte[] result = (byte[]) this.task.get(timeout, unit);
+            checkCancelled();
+            return result.clone();
+        }
+
+        /**
+         * Throws an exception if this request was cancelled.
+         */
+        private void checkCancelled() {
+            if (isCancelled()) {
+                throw new CancellationException();
+            }
+        }
+
+    }
+
+    /**
+     * Creates the (daemon) worker threads.
+     */
+    private static class WorkerThreadFactory implements ThreadFactory {
+
+        /** The number of threads created. */
+        private int count;
+
+        /**
+         * Creates a new thread.
+         *
+         * @param r  the runnable.
+         *
+         * @return The thread.
+         */
+        @Override
+        public synchronized Thread newThread(Runnable r) {
+            this.count++;
+            Thread thread = new Thread(r, "ChartRenderService-" + this.count);
+            thread.setDaemon(true);
+            return thread;
+        }
+
+    }
+
+}
@@ -56,8 +56,10 @@ import javax.servlet.http.HttpSession;
 
 /**
  * Servlet used for streaming charts to the client browser from the temporary
- * directory.  You need to add this servlet and mapping to your deployment
- * descriptor (web.xml) in order to get it to work.  The syntax is as follows:
+ * directory (or from the {@link ChartImageCache}, if one has been set using
+ * {@link ServletUtilities#setChartImageCache(ChartImageCache)}).  You need
+ * to add this servlet and mapping to your deployment descriptor (web.xml) in
+ * order to get it to work.  The syntax is as follows:
  * 
  * &lt;xmp&gt;
  * &lt;servlet&gt;
@@ -114,9 +116,15 @@ public class DisplayChart extends HttpServlet {
         //  This is to prevent access to the rest of the file system
         filename = ServletUtilities.searchReplace(filename, "..", "");
 
-        //  Check the file exists
+        //  Look for the chart in the image cache first, then check the file
+        //  exists
+        ChartImageCache cache = ServletUtilities.getChartImageCache();
+        ChartImageCache.CachedImage image = null;
+        if (cache != null) {
+            image = cache.get(filename);
+        }
         File file = new File(System.getProperty("java.io.tmpdir"), filename);
-        if (!file.exists()) {
+        if (image == null && !file.exists()) {
             throw new ServletException(
                     "Unable to display the chart with the filename '" 
                     + filename + "'.");
@@ -145,9 +153,17 @@ public class DisplayChart extends HttpServlet {
 
         if (isChartInUserList || isChartPublic || isOneTimeChart) {
             //  Serve it up
-            ServletUtilities.sendTempFile(file, response);
-            if (isOneTimeChart) {
-                file.delete();
+            if (image != null) {
+                ServletUtilities.sendCachedImage(image, response);
+                if (isOneTimeChart) {
+                    cache.remove(filename);
+                }
+            }
+            else {
+                ServletUtilities.sendTempFile(file, response);
+                if (isOneTimeChart) {
+                    file.delete();
+                }
             }
         }
         else {
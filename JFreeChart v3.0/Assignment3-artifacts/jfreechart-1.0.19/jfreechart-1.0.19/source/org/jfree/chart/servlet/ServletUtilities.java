@@ -59,10 +59,13 @@ package org.jfree.chart.servlet;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.security.SecureRandom;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.Locale;
@@ -87,6 +90,19 @@ public class ServletUtilities {
     /** A prefix for "one time" charts. */
     private static String tempOneTimeFilePrefix = "jfreechart-onetime-";
 
+    /**
+     * The in-memory image cache (if <code>null</code>, charts are saved to
+     * the temporary directory).
+     */
+    private static ChartImageCache chartImageCache;
+
+    /**
+     * Used to generate filenames for images held in the cache (the names
+     * must not be predictable, since anyone who knows a name can fetch the
+     * image through the {@link DisplayChart} servlet).
+     */
+    private static final SecureRandom RANDOM = new SecureRandom();
+
     /**
      * Returns the prefix for the temporary file names generated by this class.
      *
@@ -127,6 +143,35 @@ public class ServletUtilities {
         ServletUtilities.tempOneTimeFilePrefix = prefix;
     }
 
+    /**
+     * Returns the in-memory cache used to hold the chart images created by
+     * this class.
+     *
+     * @return The cache (possibly <code>null</code>).
+     *
+     * @since 1.0.20
+     */
+    public static synchronized ChartImageCache getChartImageCache() {
+        return ServletUtilities.chartImageCache;
+    }
+
+    /**
+     * Sets the in-memory cache used to hold the chart images created by this
+     * class.  When a cache is set, the <code>saveChartAsXXX()</code> methods
+     * encode the chart into the cache instead of writing it to the temporary
+     * directory, and the {@link DisplayChart} servlet serves it from there.
+     * Images that are not in the cache are still looked up in the temporary
+     * directory.
+     *
+     * @param cache  the cache (<code>null</code> permitted, in which case
+     *               charts are saved to the temporary directory).
+     *
+     * @since 1.0.20
+     */
+    public static synchronized void setChartImageCache(ChartImageCache cache) {
+        ServletUtilities.chartImageCache = cache;
+    }
+
     /**
      * Saves the chart as a PNG format file in the temporary directory.
      *
@@ -173,11 +218,18 @@ public class ServletUtilities {
             ChartRenderingInfo info, HttpSession session) throws IOException {
 
         ParamChecks.nullNotPermitted(chart, "chart");
-        ServletUtilities.createTempDir();
         String prefix = ServletUtilities.tempFilePrefix;
         if (session == null) {
             prefix = ServletUtilities.tempOneTimeFilePrefix;
         }
+        ChartImageCache cache = getChartImageCache();
+        if (cache != null) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ChartUtilities.writeChartAsPNG(out, chart, width, height, info);
+            return cacheImage(cache, prefix, ".png", out.toByteArray(),
+                    "image/png", session);
+        }
+        ServletUtilities.createTempDir();
         File tempFile = File.createTempFile(prefix, ".png",
                 new File(System.getProperty("java.io.tmpdir")));
         ChartUtilities.saveChartAsPNG(tempFile, chart, width, height, info);
@@ -245,11 +297,18 @@ public class ServletUtilities {
             throws IOException {
 
         ParamChecks.nullNotPermitted(chart, "chart");
-        ServletUtilities.createTempDir();
         String prefix = ServletUtilities.tempFilePrefix;
         if (session == null) {
             prefix = ServletUtilities.tempOneTimeFilePrefix;
         }
+        ChartImageCache cache = getChartImageCache();
+        if (cache != null) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ChartUtilities.writeChartAsJPEG(out, chart, width, height, info);
+            return cacheImage(cache, prefix, ".jpeg", out.toByteArray(),
+                    "image/jpeg", session);
+        }
+        ServletUtilities.createTempDir();
         File tempFile = File.createTempFile(prefix, ".jpeg",
                 new File(System.getProperty("java.io.tmpdir")));
         ChartUtilities.saveChartAsJPEG(tempFile, chart, width, height, info);
@@ -260,6 +319,43 @@ public class ServletUtilities {
 
     }
 
+    /**
+     * Adds an encoded chart image to the cache under a newly generated
+     * filename, and registers it for deletion when the session expires.
+     *
+     * @param cache  the cache.
+     * @param prefix  the filename prefix.
+     * @param suffix  the filename suffix.
+     * @param data  the encoded image.
+     * @param mimeType  the MIME type.
+     * @param session  the HTTP session (<code>null</code> permitted).
+     *
+     * @return The filename.
+     */
+    private static String cacheImage(ChartImageCache cache, String prefix,
+            String suffix, byte[] data, String mimeType, HttpSession session) {
+        String filename;
+        synchronized (RANDOM) {
+            // the same naming scheme as File.createTempFile(), so that the
+            // name cannot be guessed and does not clash with spilled images
+            do {
+                long n = RANDOM.nextLong();
+                if (n == Long.MIN_VALUE) {
+                    n = 0;
+                }
+                filename = prefix + Math.abs(n) + suffix;
+            }
+            while (cache.containsImage(filename) || new File(
+                    System.getProperty("java.io.tmpdir"), filename).exists());
+        }
+        cache.put(filename, data, mimeType);
+        if (session != null) {
+            ServletUtilities.registerChartForDeletion(new File(filename),
+                    session);
+        }
+        return filename;
+    }
+
     /**
      * Creates the temporary directory if it does not exist.  Throws a
      * <code>RuntimeException</code> if the temporary directory is
@@ -309,6 +405,37 @@ public class ServletUtilities {
         }
     }
 
+    /**
+     * Writes an image held in the {@link ChartImageCache} to the HTTP
+     * response.
+     *
+     * @param image  the image (<code>null</code> not permitted).
+     * @param response  the HTTP response object.
+     *
+     * @throws IOException if there is an I/O problem.
+     *
+     * @since 1.0.20
+     */
+    public static void sendCachedImage(ChartImageCache.CachedImage image,
+            HttpServletResponse response) throws IOException {
+
+        ParamChecks.nullNotPermitted(image, "image");
+        if (image.getMimeType() != null) {
+            response.setHeader("Content-Type", image.getMimeType());
+        }
+        byte[] data = image.getData();
+        response.setHeader("Content-Length", String.valueOf(data.length));
+        SimpleDateFormat sdf = new SimpleDateFormat(
+                "EEE, dd MMM yyyy HH:mm:ss z", Locale.ENGLISH);
+        sdf.setTimeZone(TimeZone.getTimeZone("GMT"));
+        response.setHeader("Last-Modified",
+                sdf.format(new Date(image.getCreationTime())));
+        OutputStream out = response.getOutputStream();
+        out.write(data);
+        out.flush();
+        out.close();
+    }
+
     /**
      * Binary streams the specified file in the temporary directory to the
      * HTTP response in 1KB chunks.
@@ -668,6 +668,26 @@ public class LegendTitle extends Title
         return true;
     }
 
+    /**
+     * Returns a clone of the legend title.  The clone has its own container
+     * for the legend items (these are fetched from the sources each time the
+     * title is arranged), but shares the sources and the wrapper container
+     * (if any) with the original title.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning the
+     *         title.
+     *
+     * @since 1.0.20
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        LegendTitle clone = (LegendTitle) super.clone();
+        clone.items = new BlockContainer(this.items.getArrangement());
+        return clone;
+    }
+
     /**
      * Provides serialization support.
      *
@@ -0,0 +1,143 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------
+ * TaskUtils.java
+ * --------------
+ * (C) Copyright 2014, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Utility methods for running tasks in parallel, used by the classes in
+ * JFreeChart that split their work between the threads of an
+ * <code>ExecutorService</code>.
+ *
+ * @since 1.0.20
+ */
+public class TaskUtils {
+
+    /**
+     * Runs a list of tasks and waits for all of them to finish.  The first
+     * task (and any task that the executor rejects) is run on the calling
+     * thread, and the others are submitted to the executor.  This method
+     * waits for the submitted tasks even if the calling thread is
+     * interrupted (since the tasks usually write to buffers owned by the
+     * caller), and then restores the interrupt status.
+     * <P>
+     * If any task fails, this method throws the first failure once all the
+     * tasks have finished: runtime exceptions and errors are rethrown as
+     * they are, and checked exceptions are wrapped in a
+     * <code>RuntimeException</code>.  The local tasks after a failed local
+     * task are not run.
+     *
+     * @param executor  the executor (<code>null</code> not permitted).
+     * @param tasks  the tasks, each a <code>Callable</code>
+     *     (<code>null</code> not permitted).
+     */
+    public static void runAll(ExecutorService executor, List tasks) {
+        ParamChecks.nullNotPermitted(executor, "executor");
+        ParamChecks.nullNotPermitted(tasks, "tasks");
+        List futures = new ArrayList();
+        List localTasks = new ArrayList();
+        for (int i = 0; i < tasks.size(); i++) {
+            Callable task = (Callable) tasks.get(i);
+            if (i == 0) {
+                localTasks.add(task);
+                continue;
+            }
+            try {
+                futures.add(executor.submit(task));
+            }
+            catch (RejectedExecutionException e) {
+                localTasks.add(task);
+            }
+        }
+        Throwable failure = null;
+        for (int i = 0; i < localTasks.size() && failure == null; i++) {
+            try {
+                ((Callable) localTasks.get(i)).call();
+            }
+            catch (Exception e) {
+                failure = e;
+            }
+            catch (Error e) {
+                failure = e;
+            }
+        }
+        boolean interrupted = false;
+        for (int i = 0; i < futures.size(); i++) {
+            Future future = (Future) futures.get(i);
+            while (true) {
+                try {
+                    future.get();
+                    break;
+                }
+                catch (InterruptedException e) {
+                    // the task may still be using the caller's data, so
+                    // wait for it
+                    interrupted = true;
+                }
+                catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = e.getCause();
+                    }
+                    break;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        if (failure != null) {
+            throw new RuntimeException(failure);
+        }
+    }
+
+}
@@ -0,0 +1,602 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------
+ * TextBoundsCache.java
+ * --------------------
+ * (C) Copyright 2014, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.util;
+
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.font.FontRenderContext;
+import java.awt.font.LineMetrics;
+import java.awt.geom.Rectangle2D;
+import java.text.AttributedString;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.jfree.text.TextMeasurer;
+import org.jfree.text.TextUtilities;
+import org.jfree.ui.TextAnchor;
+
+/**
+ * A bounded cache of string measurements, keyed by the text, the
+ * {@link Font} and the {@link FontRenderContext}.  The axes and renderers
+ * measure the same tick labels and item labels every time a chart is drawn
+ * (and some axes measure them more than once while selecting a tick unit),
+ * so a cache avoids most of the calls to the font layout code.  The cached
+ * values are exactly those returned by the {@link TextUtilities} and
+ * {@link FontMetrics} methods, so the output is unchanged.
+ * <P>
+ * When the cache is full, the least recently used entry is discarded.  The
+ * methods in this class are thread-safe.
+ *
+ * @since 1.0.20
+ */
+public class TextBoundsCache {
+
+    /** The default maximum number of entries. */
+    public static final int DEFAULT_MAXIMUM_ENTRY_COUNT = 4096;
+
+    /** The cache shared by the axes and renderers. */
+    private static final TextBoundsCache SHARED_INSTANCE
+            = new TextBoundsCache(DEFAULT_MAXIMUM_ENTRY_COUNT);
+
+    /** The maximum number of entries. */
+    private int maximumEntryCount;
+
+    /** The entries, in access order. */
+    private LinkedHashMap entries;
+
+    /** The number of measurements that were found in the cache. */
+    private long hitCount;
+
+    /** The number of measurements that were not found in the cache. */
+    private long missCount;
+
+    /**
+     * Returns the cache that is used by the axes and renderers in
+     * JFreeChart.
+     *
+     * @return The shared cache (never <code>null</code>).
+     */
+    public static TextBoundsCache getSharedInstance() {
+        return SHARED_INSTANCE;
+    }
+
+    /**
+     * Creates a new (empty) cache.
+     *
+     * @param maximumEntryCount  the maximum number of entries (must be
+     *     greater than zero).
+     */
+    public TextBoundsCache(int maximumEntryCount) {
+        if (maximumEntryCount <= 0) {
+            throw new IllegalArgumentException(
+                    "Requires 'maximumEntryCount' > 0.");
+        }
+        this.maximumEntryCount = maximumEntryCount;
+        this.entries = new EntryMap(maximumEntryCount);
+    }
+
+    /**
+     * Returns the maximum number of entries in the cache.
+     *
+     * @return The maximum number of entries.
+     */
+    public int getMaximumEntryCount() {
+        return this.maximumEntryCount;
+    }
+
+    /**
+     * Returns the number of entries in the cache.
+     *
+     * @return The number of entries.
+     */
+    public synchronized int getEntryCount() {
+        return this.entries.size();
+    }
+
+    /**
+     * Returns the number of measurements that were found in the cache.
+     *
+     * @return The hit count.
+     *
+     * @see #getMissCount()
+     */
+    public synchronized long getHitCount() {
+        return this.hitCount;
+    }
+
+    /**
+     * Returns the number of measurements that were not found in the cache
+     * (and so had to be calculated).
+     *
+     * @return The miss count.
+     *
+     * @see #getHitCount()
+     */
+    public synchronized long getMissCount() {
+        return this.missCount;
+    }
+
+    /**
+     * Returns the fraction of measurements that were found in the cache, or
+     * <code>0.0</code> if no measurements have been made.
+     *
+     * @return The hit rate (in the range <code>0.0</code> to
+     *     <code>1.0</code>).
+     */
+    public synchronized double getHitRate() {
+        long total = this.hitCount + this.missCount;
+        if (total == 0) {
+            return 0.0;
+        }
+        return (double) this.hitCount / total;
+    }
+
+    /**
+     * Resets the hit and miss counts to zero.
+     */
+    public synchronized void resetStatistics() {
+        this.hitCount = 0;
+        this.missCount = 0;
+    }
+
+    /**
+     * Removes all the entries from the cache.  The hit and miss counts are
+     * not changed.
+     */
+    public synchronized void clear() {
+        this.entries.clear();
+    }
+
+    /**
+     * Returns the bounds for the specified text, as calculated by
+     * {@link TextUtilities#getTextBounds(String, Graphics2D, FontMetrics)}.
+     *
+     * @param text  the text (<code>null</code> not permitted).
+     * @param g2  the graphics target (<code>null</code> not permitted).
+     * @param fm  the font metrics for the graphics target
+     *     (<code>null</code> not permitted).
+     *
+     * @return The text bounds (a new instance that the caller can modify).
+     */
+    public Rectangle2D getTextBounds(String text, Graphics2D g2,
+            FontMetrics fm) {
+        ParamChecks.nullNotPermitted(text, "text");
+        Entry entry = getEntry(text, g2, fm);
+        Rectangle2D bounds;
+        synchronized (this) {
+            bounds = entry.bounds;
+            if (bounds != null) {
+                this.hitCount++;
+                return (Rectangle2D) bounds.clone();
+            }
+        }
+        bounds = TextUtilities.getTextBounds(text, g2, fm);
+        synchronized (this) {
+            entry.bounds = bounds;
+            this.missCount++;
+        }
+        return (Rectangle2D) bounds.clone();
+    }
+
+    /**
+     * Returns the width of the specified text, as calculated by
+     * {@link FontMetrics#stringWidth(String)}.
+     *
+     * @param text  the text (<code>null</code> not permitted).
+     * @param g2  the graphics target (<code>null</code> not permitted).
+     * @param fm  the font metrics for the graphics target
+     *     (<code>null</code> not permitted).
+     *
+     * @return The width.
+     */
+    public int getStringWidth(String text, Graphics2D g2, FontMetrics fm) {
+        ParamChecks.nullNotPermitted(text, "text");
+        Entry entry = getEntry(text, g2, fm);
+        synchronized (this) {
+            if (entry.stringWidth >= 0) {
+                this.hitCount++;
+                return entry.stringWidth;
+            }
+        }
+        int width = fm.stringWidth(text);
+        synchronized (this) {
+            entry.stringWidth = width;
+            this.missCount++;
+        }
+        return width;
+    }
+
+    /**
+     * Returns the ascent, descent and leading from the line metrics for the
+     * specified text.
+     *
+     * @param text  the text.
+     * @param g2  the graphics target.
+     * @param fm  the font metrics for the graphics target.
+     *
+     * @return The metrics (the caller should not modify the array).
+     */
+    private float[] getLineMetrics(String text, Graphics2D g2,
+            FontMetrics fm) {
+        Entry entry = getEntry(text, g2, fm);
+        float[] metrics;
+        synchronized (this) {
+            metrics = entry.lineMetrics;
+            if (metrics != null) {
+                this.hitCount++;
+                return metrics;
+            }
+        }
+        LineMetrics lm = fm.getFont().getLineMetrics(text,
+                g2.getFontRenderContext());
+        metrics = new float[] {lm.getAscent(), lm.getDescent(),
+                lm.getLeading()};
+        synchronized (this) {
+            entry.lineMetrics = metrics;
+            this.missCount++;
+        }
+        return metrics;
+    }
+
+    /**
+     * Returns the entry for the specified text, creating it if necessary.
+     *
+     * @param text  the text.
+     * @param g2  the graphics target.
+     * @param fm  the font metrics for the graphics target.
+     *
+     * @return The entry.
+     */
+    private synchronized Entry getEntry(String text, Graphics2D g2,
+            FontMetrics fm) {
+        Key key = new Key(text, fm.getFont(), g2.getFontRenderContext(),
+                TextUtilities.getUseFontMetricsGetStringBounds());
+        Entry entry = (Entry) this.entries.get(key);
+        if (entry == null) {
+            entry = new Entry();
+            this.entries.put(key, entry);
+        }
+        return entry;
+    }
+
+    /**
+     * Draws a string that is aligned by one anchor point and rotated about
+     * another anchor point, in the same way as
+     * {@link TextUtilities#drawRotatedString(String, Graphics2D, float,
+     * float, TextAnchor, double, TextAnchor)} but using the cached
+     * measurements for the current font.
+     *
+     * @param text  the text (<code>null</code> or an empty string
+     *     permitted, in which case nothing is drawn).
+     * @param g2  the graphics target (<code>null</code> not permitted).
+     * @param x  the x-coordinate for the text anchor.
+     * @param y  the y-coordinate for the text anchor.
+     * @param textAnchor  the text anchor (<code>null</code> not permitted).
+     * @param angle  the rotation angle (in radians).
+     * @param rotationAnchor  the rotation anchor (<code>null</code> not
+     *     permitted).
+     */
+    public void drawRotatedString(String text, Graphics2D g2, float x,
+            float y, TextAnchor textAnchor, double angle,
+            TextAnchor rotationAnchor) {
+        if (text == null || text.equals("")) {
+            return;
+        }
+        FontMetrics fm = g2.getFontMetrics();
+        Rectangle2D bounds = getTextBounds(text, g2, fm);
+        float[] metrics = getLineMetrics(text, g2, fm);
+        float textX = x + textAnchorOffsetX(bounds, textAnchor);
+        float textY = y + textAnchorOffsetY(bounds, metrics, textAnchor);
+        if (angle == 0.0) {
+            if (!TextUtilities.getDrawStringsWithFontAttributes()) {
+                g2.drawString(text, textX, textY);
+            }
+            else {
+                AttributedString as = new AttributedString(text,
+                        g2.getFont().getAttributes());
+                g2.drawString(as.getIterator(), textX, textY);
+            }
+            return;
+        }
+        TextUtilities.drawRotatedString(text, g2, textX, textY, angle,
+                textX + rotationAnchorOffsetX(bounds, rotationAnchor),
+                textY + rotationAnchorOffsetY(bounds, metrics,
+                rotationAnchor));
+    }
+
+    /**
+     * Returns the x-offset that aligns the specified text anchor with the
+     * anchor point.
+     *
+     * @param bounds  the text bounds.
+     * @param anchor  the text anchor.
+     *
+     * @return The offset.
+     */
+    private static float textAnchorOffsetX(Rectangle2D bounds,
+            TextAnchor anchor) {
+        if (anchor.isHorizontalCenter()) {
+            return (float) -bounds.getWidth() / 2.0f;
+        }
+        else if (anchor.isRight()) {
+            return (float) -bounds.getWidth();
+        }
+        return 0.0f;
+    }
+
+    /**
+     * Returns the y-offset that aligns the specified text anchor with the
+     * anchor point.
+     *
+     * @param bounds  the text bounds.
+     * @param metrics  the ascent, descent and leading.
+     * @param anchor  the text anchor.
+     *
+     * @return The offset.
+     */
+    private static float textAnchorOffsetY(Rectangle2D bounds,
+            float[] metrics, TextAnchor anchor) {
+        float descent = metrics[1];
+        float leading = metrics[2];
+        if (anchor.isTop()) {
+            return -descent - leading + (float) bounds.getHeight();
+        }
+        else if (anchor.isHalfAscent()) {
+            return metrics[0] / 2.0f;
+        }
+        else if (anchor.isVerticalCenter()) {
+            return -descent - leading + (float) (bounds.getHeight() / 2.0);
+        }
+        else if (anchor.isBottom()) {
+            return -descent - leading;
+        }
+        return 0.0f;
+    }
+
+    /**
+     * Returns the x-offset from the text origin to the specified rotation
+     * anchor.
+     *
+     * @param bounds  the text bounds.
+     * @param anchor  the rotation anchor.
+     *
+     * @return The offset.
+     */
+    private static float rotationAnchorOffsetX(Rectangle2D bounds,
+            TextAnchor anchor) {
+        if (anchor.isHorizontalCenter()) {
+            return (float) bounds.getWidth() / 2.0f;
+        }
+        else if (anchor.isRight()) {
+            return (float) bounds.getWidth();
+        }
+        return 0.0f;
+    }
+
+    /**
+     * Returns the y-offset from the text origin to the specified rotation
+     * anchor.
+     *
+     * @param bounds  the text bounds.
+     * @param metrics  the ascent, descent and leading.
+     * @param anchor  the rotation anchor.
+     *
+     * @return The offset.
+     */
+    private static float rotationAnchorOffsetY(Rectangle2D bounds,
+            float[] metrics, TextAnchor anchor) {
+        float descent = metrics[1];
+        float leading = metrics[2];
+        if (anchor.isTop()) {
+            return descent + leading - (float) bounds.getHeight();
+        }
+        else if (anchor.isVerticalCenter()) {
+            return descent + leading - (float) (bounds.getHeight() / 2.0);
+        }
+        else if (anchor.isHalfAscent()) {
+            return -(metrics[0] / 2.0f);
+        }
+        else if (anchor.isBottom()) {
+            return descent + leading;
+        }
+        return 0.0f;
+    }
+
+    /**
+     * Creates a text measurer that uses this cache to measure text in the
+     * current font of the specified graphics target, and gives the same
+     * results as {@link org.jfree.text.G2TextMeasurer}.
+     *
+     * @param g2  the graphics target (<code>null</code> not permitted).
+     *
+     * @return A text measurer.
+     */
+    public TextMeasurer createTextMeasurer(final Graphics2D g2) {
+        ParamChecks.nullNotPermitted(g2, "g2");
+        return new TextMeasurer() {
+            @Override
+            public float getStringWidth(String text, int start, int end) {
+                FontMetrics fm = g2.getFontMetrics();
+                return (float) getTextBounds(text.substring(start, end), g2,
+                        fm).getWidth();
+            }
+        };
+    }
+
+    /**
+     * A map that discards its least recently used entry when it grows
+     * beyond a maximum size.
+     */
+    private static class EntryMap extends LinkedHashMap {
+
+        /** For serialization. */
+        private static final long serialVersionUID = -2583941906274561083L;
+
+        /** The maximum number of entries. */
+        private int maximumEntryCount;
+
+        /**
+         * Creates a new map.
+         *
+         * @param maximumEntryCount  the maximum number of entries.
+         */
+        EntryMap(int maximumEntryCount) {
+            super(16, 0.75f, true);
+            this.maximumEntryCount = maximumEntryCount;
+        }
+
+        /**
+         * Returns <code>true</code> if the map has grown beyond its maximum
+         * size.
+         *
+         * @param eldest  the least recently used entry.
+         *
+         * @return A boolean.
+         */
+        @Override
+        protected boolean removeEldestEntry(Map.Entry eldest) {
+            return size() > this.maximumEntryCount;
+        }
+
+    }
+
+    /**
+     * The key for a cache entry.
+     */
+    private static class Key {
+
+        /** The text. */
+        private String text;
+
+        /** The font. */
+        private Font font;
+
+        /** The font render context. */
+        private FontRenderContext frc;
+
+        /**
+         * The value of
+         * {@link TextUtilities#getUseFontMetricsGetStringBounds()}, which
+         * changes the text bounds.
+         */
+        private boolean useStringBounds;
+
+        /** The hash code. */
+        private int hashCode;
+
+        /**
+         * Creates a new key.
+         *
+         * @param text  the text.
+         * @param font  the font.
+         * @param frc  the font render context.
+         * @param useStringBounds  the text bounds flag.
+         */
+        Key(String text, Font font, FontRenderContext frc,
+                boolean useStringBounds) {
+            this.text = text;
+            this.font = font;
+            this.frc = frc;
+            this.useStringBounds = useStringBounds;
+            int h = text.hashCode();
+            h = 31 * h + font.hashCode();
+            h = 31 * h + frc.hashCode();
+            h = 31 * h + (useStringBounds ? 1 : 0);
+            this.hashCode = h;
+        }
+
+        /**
+         * Tests this key for equality with an arbitrary object.
+         *
+         * @param obj  the object (<code>null</code> permitted).
+         *
+         * @return A boolean.
+         */
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) obj;
+            return this.hashCode == that.hashCode
+                    && this.useStringBounds == that.useStringBounds
+                    && this.text.equals(that.text)
+                    && this.font.equals(that.font)
+                    && this.frc.equals(that.frc);
+        }
+
+        /**
+         * Returns a hash code for this key.
+         *
+         * @return A hash code.
+         */
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+
+    }
+
+    /**
+     * The measurements for one key, each of which is calculated when it is
+     * first needed.
+     */
+    private static class Entry {
+
+        /** The text bounds (<code>null</code> if not yet calculated). */
+        private Rectangle2D bounds;
+
+        /** The string width (negative if not yet calculated). */
+        private int stringWidth = -1;
+
+        /**
+         * The ascent, descent and leading (<code>null</code> if not yet
+         * calculated).
+         */
+        private float[] lineMetrics;
+
+    }
+
+}
@@ -0,0 +1,871 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------
+ * MatrixCategoryDataset.java
+ * --------------------------
+ * (C) Copyright 2014, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.category;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+
+import org.jfree.chart.util.ParamChecks;
+import org.jfree.data.Range;
+import org.jfree.data.RangeInfo;
+import org.jfree.data.UnknownKeyException;
+import org.jfree.data.general.AbstractDataset;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.util.PublicCloneable;
+
+/**
+ * An implementation of the {@link CategoryDataset} interface that stores the
+ * values in a dense <code>double[]</code> matrix, with hash-based indexes
+ * for the row and column keys.  Compared to {@link DefaultCategoryDataset},
+ * values are not boxed when they are stored, key lookups take constant time
+ * in both dimensions, and removing a row or column only updates the index
+ * entries for the keys that follow it.
+ * <P>
+ * A <code>null</code> value is stored as <code>Double.NaN</code>, so
+ * {@link #getValue(int, int)} returns <code>null</code> for both (this is
+ * the only difference in behaviour from {@link DefaultCategoryDataset}).
+ *
+ * @since 1.0.20
+ */
+public class MatrixCategoryDataset extends AbstractDataset
+        implements CategoryDataset, RangeInfo, CategoryRangeInfo,
+        PublicCloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 2364571831474823411L;
+
+    /** The initial capacity in each dimension. */
+    private static final int INITIAL_CAPACITY = 8;
+
+    /** The row keys. */
+    private ArrayList rowKeys;
+
+    /** The column keys. */
+    private ArrayList columnKeys;
+
+    /** Maps row keys to row indices (<code>Integer</code>). */
+    private HashMap rowIndex;
+
+    /** Maps column keys to column indices (<code>Integer</code>). */
+    private HashMap columnIndex;
+
+    /**
+     * The values, in row-major order with {@link #columnCapacity} cells per
+     * row.  Unused cells and <code>null</code> values are NaN.
+     */
+    private double[] values;
+
+    /** The number of rows that {@link #values} has room for. */
+    private int rowCapacity;
+
+    /** The number of columns that {@link #values} has room for. */
+    private int columnCapacity;
+
+    /**
+     * Creates a new (empty) dataset.
+     */
+    public MatrixCategoryDataset() {
+        this(INITIAL_CAPACITY, INITIAL_CAPACITY);
+    }
+
+    /**
+     * Creates a new (empty) dataset with room for the specified number of
+     * rows and columns (the dataset grows as required).
+     *
+     * @param rowCapacity  the initial row capacity.
+     * @param columnCapacity  the initial column capacity.
+     */
+    public MatrixCategoryDataset(int rowCapacity, int columnCapacity) {
+        if (rowCapacity < 0 || columnCapacity < 0) {
+            throw new IllegalArgumentException(
+                    "Negative capacity is not permitted.");
+        }
+        this.rowKeys = new ArrayList();
+        this.columnKeys = new ArrayList();
+        this.rowIndex = new HashMap();
+        this.columnIndex = new HashMap();
+        this.rowCapacity = Math.max(rowCapacity, 1);
+        this.columnCapacity = Math.max(columnCapacity, 1);
+        this.values = new double[this.rowCapacity * this.columnCapacity];
+        Arrays.fill(this.values, Double.NaN);
+    }
+
+    /**
+     * Returns the number of rows in the table.
+     *
+     * @return The row count.
+     *
+     * @see #getColumnCount()
+     */
+    @Override
+    public int getRowCount() {
+        return this.rowKeys.size();
+    }
+
+    /**
+     * Returns the number of columns in the table.
+     *
+     * @return The column count.
+     *
+     * @see #getRowCount()
+     */
+    @Override
+    public int getColumnCount() {
+        return this.columnKeys.size();
+    }
+
+    /**
+     * Returns a value from the table.
+     *
+     * @param row  the row index (zero-based).
+     * @param column  the column index (zero-based).
+     *
+     * @return The value (possibly <code>null</code>).
+     *
+     * @see #getDoubleValue(int, int)
+     */
+    @Override
+    public Number getValue(int row, int column) {
+        double v = getDoubleValue(row, column);
+        return Double.isNaN(v) ? null : new Double(v);
+    }
+
+    /**
+     * Returns a value from the table as a primitive, without creating a
+     * <code>Number</code> instance.
+     *
+     * @param row  the row index (zero-based).
+     * @param column  the column index (zero-based).
+     *
+     * @return The value (<code>Double.NaN</code> for a <code>null</code>
+     *     value).
+     */
+    public double getDoubleValue(int row, int column) {
+        if (row < 0 || row >= this.rowKeys.size()) {
+            throw new IndexOutOfBoundsException("Row index out of bounds: "
+                    + row);
+        }
+        if (column < 0 || column >= this.columnKeys.size()) {
+            throw new IndexOutOfBoundsException(
+                    "Column index out of bounds: " + column);
+        }
+        return this.values[row * this.columnCapacity + column];
+    }
+
+    /**
+     * Returns the key for the specified row.
+     *
+     * @param row  the row index (zero-based).
+     *
+     * @return The row key.
+     *
+     * @see #getRowIndex(Comparable)
+     */
+    @Override
+    public Comparable getRowKey(int row) {
+        return (Comparable) this.rowKeys.get(row);
+    }
+
+    /**
+     * Returns the row index for a given key.
+     *
+     * @param key  the row key (<code>null</code> not permitted).
+     *
+     * @return The row index, or <code>-1</code> if the key is not defined.
+     *
+     * @see #getRowKey(int)
+     */
+    @Override
+    public int getRowIndex(Comparable key) {
+        ParamChecks.nullNotPermitted(key, "key");
+        Integer index = (Integer) this.rowIndex.get(key);
+        return (index != null ? index.intValue() : -1);
+    }
+
+    /**
+     * Returns the row keys.
+     *
+     * @return The keys (an unmodifiable list).
+     *
+     * @see #getRowKey(int)
+     */
+    @Override
+    public List getRowKeys() {
+        return Collections.unmodifiableList(this.rowKeys);
+    }
+
+    /**
+     * Returns a column key.
+     *
+     * @param column  the column index (zero-based).
+     *
+     * @return The column key.
+     *
+     * @see #getColumnIndex(Comparable)
+     */
+    @Override
+    public Comparable getColumnKey(int column) {
+        return (Comparable) this.columnKeys.get(column);
+    }
+
+    /**
+     * Returns the column index for a given key.
+     *
+     * @param key  the column key (<code>null</code> not permitted).
+     *
+     * @return The column index, or <code>-1</code> if the key is not
+     *     defined.
+     *
+     * @see #getColumnKey(int)
+     */
+    @Override
+    public int getColumnIndex(Comparable key) {
+        ParamChecks.nullNotPermitted(key, "key");
+        Integer index = (Integer) this.columnIndex.get(key);
+        return (index != null ? index.intValue() : -1);
+    }
+
+    /**
+     * Returns the column keys.
+     *
+     * @return The keys (an unmodifiable list).
+     *
+     * @see #getColumnKey(int)
+     */
+    @Override
+    public List getColumnKeys() {
+        return Collections.unmodifiableList(this.columnKeys);
+    }
+
+    /**
+     * Returns the value for a pair of keys.
+     *
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     *
+     * @return The value (possibly <code>null</code>).
+     *
+     * @throws UnknownKeyException if either key is not defined in the dataset.
+     */
+    @Override
+    public Number getValue(Comparable rowKey, Comparable columnKey) {
+        ParamChecks.nullNotPermitted(rowKey, "rowKey");
+        ParamChecks.nullNotPermitted(columnKey, "columnKey");
+        int c = getColumnIndex(columnKey);
+        if (c < 0) {
+            throw new UnknownKeyException("Unrecognised columnKey: "
+                    + columnKey);
+        }
+        int r = getRowIndex(rowKey);
+        if (r < 0) {
+            throw new UnknownKeyException("Unrecognised rowKey: " + rowKey);
+        }
+        return getValue(r, c);
+    }
+
+    /**
+     * Adds a value to the table.  Performs the same function as setValue().
+     *
+     * @param value  the value (<code>null</code> permitted).
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     */
+    public void addValue(Number value, Comparable rowKey,
+            Comparable columnKey) {
+        setValue(value, rowKey, columnKey);
+    }
+
+    /**
+     * Adds a value to the table.
+     *
+     * @param value  the value.
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     */
+    public void addValue(double value, Comparable rowKey,
+            Comparable columnKey) {
+        setValue(value, rowKey, columnKey);
+    }
+
+    /**
+     * Adds or updates a value in the table and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param value  the value (<code>null</code> permitted).
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     */
+    public void setValue(Number value, Comparable rowKey,
+            Comparable columnKey) {
+        setValue(value != null ? value.doubleValue() : Double.NaN, rowKey,
+                columnKey);
+    }
+
+    /**
+     * Adds or updates a value in the table and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param value  the value (<code>Double.NaN</code> for a
+     *     <code>null</code> value).
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     */
+    public void setValue(double value, Comparable rowKey,
+            Comparable columnKey) {
+        ParamChecks.nullNotPermitted(rowKey, "rowKey");
+        ParamChecks.nullNotPermitted(columnKey, "columnKey");
+        int r = getRowIndex(rowKey);
+        if (r < 0) {
+            r = addRowKey(rowKey);
+        }
+        int c = getColumnIndex(columnKey);
+        if (c < 0) {
+            c = addColumnKey(columnKey);
+        }
+        this.values[r * this.columnCapacity + c] = value;
+        fireDatasetChanged();
+    }
+
+    /**
+     * Adds the specified value to an existing value in the dataset (if the
+     * existing value is <code>null</code>, it is treated as if it were 0.0).
+     *
+     * @param value  the value.
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     *
+     * @throws UnknownKeyException if either key is not defined in the dataset.
+     */
+    public void incrementValue(double value, Comparable rowKey,
+            Comparable columnKey) {
+        double existing = 0.0;
+        Number n = getValue(rowKey, columnKey);
+        if (n != null) {
+            existing = n.doubleValue();
+        }
+        setValue(existing + value, rowKey, columnKey);
+    }
+
+    /**
+     * Sets all the values for one row and sends a single
+     * {@link DatasetChangeEvent} to all registered listeners.  The row is
+     * added if it is not already in the dataset.
+     *
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param rowValues  the values, one for each column in the order of
+     *     {@link #getColumnKeys()} (<code>null</code> not permitted).
+     */
+    public void setRowValues(Comparable rowKey, double[] rowValues) {
+        ParamChecks.nullNotPermitted(rowKey, "rowKey");
+        ParamChecks.nullNotPermitted(rowValues, "rowValues");
+        if (rowValues.length != this.columnKeys.size()) {
+            throw new IllegalArgumentException("Expected "
+                    + this.columnKeys.size() + " values but found "
+                    + rowValues.length + ".");
+        }
+        int r = getRowIndex(rowKey);
+        if (r < 0) {
+            r = addRowKey(rowKey);
+        }
+        System.arraycopy(rowValues, 0, this.values, r * this.columnCapacity,
+                rowValues.length);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Replaces the entire content of the dataset and sends a single
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param rowKeys  the row keys (<code>null</code> not permitted, no
+     *     duplicates).
+     * @param columnKeys  the column keys (<code>null</code> not permitted,
+     *     no duplicates).
+     * @param data  the values, indexed by row then column
+     *     (<code>null</code> not permitted, NaN for <code>null</code>
+     *     values).
+     */
+    public void setValues(Comparable[] rowKeys, Comparable[] columnKeys,
+            double[][] data) {
+        ParamChecks.nullNotPermitted(rowKeys, "rowKeys");
+        ParamChecks.nullNotPermitted(columnKeys, "columnKeys");
+        ParamChecks.nullNotPermitted(data, "data");
+        if (data.length != rowKeys.length) {
+            throw new IllegalArgumentException(
+                    "The data array must have one row per row key.");
+        }
+        for (int r = 0; r < data.length; r++) {
+            if (data[r] == null || data[r].length != columnKeys.length) {
+                throw new IllegalArgumentException("Row " + r
+                        + " must have one value per column key.");
+            }
+        }
+        HashMap newRowIndex = createIndex(rowKeys, "rowKeys");
+        HashMap newColumnIndex = createIndex(columnKeys, "columnKeys");
+        this.rowKeys = new ArrayList(Arrays.asList(rowKeys));
+        this.columnKeys = new ArrayList(Arrays.asList(columnKeys));
+        this.rowIndex = newRowIndex;
+        this.columnIndex = newColumnIndex;
+        this.rowCapacity = Math.max(rowKeys.length, 1);
+        this.columnCapacity = Math.max(columnKeys.length, 1);
+        this.values = new double[this.rowCapacity * this.columnCapacity];
+        Arrays.fill(this.values, Double.NaN);
+        for (int r = 0; r < data.length; r++) {
+            System.arraycopy(data[r], 0, this.values,
+                    r * this.columnCapacity, columnKeys.length);
+        }
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes a value from the dataset and sends a {@link DatasetChangeEvent}
+     * to all registered listeners.  As in {@link DefaultCategoryDataset}, if
+     * the row or column no longer contains any values it is removed as well.
+     *
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     *
+     * @throws UnknownKeyException if either key is not defined in the dataset.
+     */
+    public void removeValue(Comparable rowKey, Comparable columnKey) {
+        ParamChecks.nullNotPermitted(rowKey, "rowKey");
+        ParamChecks.nullNotPermitted(columnKey, "columnKey");
+        int r = getRowIndex(rowKey);
+        if (r < 0) {
+            throw new UnknownKeyException("Unknown key: " + rowKey);
+        }
+        int c = getColumnIndex(columnKey);
+        if (c < 0) {
+            throw new UnknownKeyException("Unknown key: " + columnKey);
+        }
+        this.values[r * this.columnCapacity + c] = Double.NaN;
+        boolean emptyRow = true;
+        int base = r * this.columnCapacity;
+        for (int i = 0; i < this.columnKeys.size() && emptyRow; i++) {
+            emptyRow = Double.isNaN(this.values[base + i]);
+        }
+        if (emptyRow) {
+            deleteRow(r);
+        }
+        boolean emptyColumn = true;
+        for (int i = 0; i < this.rowKeys.size() && emptyColumn; i++) {
+            emptyColumn = Double.isNaN(
+                    this.values[i * this.columnCapacity + c]);
+        }
+        if (emptyColumn) {
+            deleteColumn(c);
+        }
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes a row from the dataset and sends a {@link DatasetChangeEvent}
+     * to all registered listeners.
+     *
+     * @param rowIndex  the row index.
+     *
+     * @see #removeColumn(int)
+     */
+    public void removeRow(int rowIndex) {
+        if (rowIndex < 0 || rowIndex >= this.rowKeys.size()) {
+            throw new IndexOutOfBoundsException("Row index out of bounds: "
+                    + rowIndex);
+        }
+        deleteRow(rowIndex);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes a row from the dataset and sends a {@link DatasetChangeEvent}
+     * to all registered listeners.
+     *
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     *
+     * @throws UnknownKeyException if <code>rowKey</code> is not defined in
+     *         the dataset.
+     */
+    public void removeRow(Comparable rowKey) {
+        int r = getRowIndex(rowKey);
+        if (r < 0) {
+            throw new UnknownKeyException("Unknown key: " + rowKey);
+        }
+        removeRow(r);
+    }
+
+    /**
+     * Removes a column from the dataset and sends a {@link DatasetChangeEvent}
+     * to all registered listeners.
+     *
+     * @param columnIndex  the column index.
+     *
+     * @see #removeRow(int)
+     */
+    public void removeColumn(int columnIndex) {
+        if (columnIndex < 0 || columnIndex >= this.columnKeys.size()) {
+            throw new IndexOutOfBoundsException(
+                    "Column index out of bounds: " + columnIndex);
+        }
+        deleteColumn(columnIndex);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes a column from the dataset and sends a {@link DatasetChangeEvent}
+     * to all registered listeners.
+     *
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     *
+     * @throws UnknownKeyException if <code>columnKey</code> is not defined
+     *         in the dataset.
+     */
+    public void removeColumn(Comparable columnKey) {
+        int c = getColumnIndex(columnKey);
+        if (c < 0) {
+            throw new UnknownKeyException("Unknown key: " + columnKey);
+        }
+        removeColumn(c);
+    }
+
+    /**
+     * Clears all data from the dataset and sends a {@link DatasetChangeEvent}
+     * to all registered listeners.
+     */
+    public void clear() {
+        this.rowKeys.clear();
+        this.columnKeys.clear();
+        this.rowIndex.clear();
+        this.columnIndex.clear();
+        Arrays.fill(this.values, Double.NaN);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns the minimum value in the dataset.
+     *
+     * @param includeInterval  ignored, this dataset has no intervals.
+     *
+     * @return The minimum value (<code>Double.NaN</code> if there are no
+     *     values).
+     */
+    @Override
+    public double getRangeLowerBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return (r != null ? r.getLowerBound() : Double.NaN);
+    }
+
+    /**
+     * Returns the maximum value in the dataset.
+     *
+     * @param includeInterval  ignored, this dataset has no intervals.
+     *
+     * @return The maximum value (<code>Double.NaN</code> if there are no
+     *     values).
+     */
+    @Override
+    public double getRangeUpperBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return (r != null ? r.getUpperBound() : Double.NaN);
+    }
+
+    /**
+     * Returns the range of the values in the dataset, found by scanning the
+     * primitive values directly.
+     *
+     * @param includeInterval  ignored, this dataset has no intervals.
+     *
+     * @return The range (<code>null</code> if there are no values).
+     */
+    @Override
+    public Range getRangeBounds(boolean includeInterval) {
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        int columnCount = this.columnKeys.size();
+        for (int r = 0; r < this.rowKeys.size(); r++) {
+            int base = r * this.columnCapacity;
+            for (int c = 0; c < columnCount; c++) {
+                double v = this.values[base + c];
+                if (v < min) {
+                    min = v;
+                }
+                if (v > max) {
+                    max = v;
+                }
+            }
+        }
+        return (min <= max ? new Range(min, max) : null);
+    }
+
+    /**
+     * Returns the range of the values in the specified rows (series).
+     *
+     * @param visibleSeriesKeys  the keys of the visible series
+     *     (<code>null</code> not permitted).
+     * @param includeInterval  ignored, this dataset has no intervals.
+     *
+     * @return The range (<code>null</code> if there are no values).
+     */
+    @Override
+    public Range getRangeBounds(List visibleSeriesKeys,
+            boolean includeInterval) {
+        ParamChecks.nullNotPermitted(visibleSeriesKeys, "visibleSeriesKeys");
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        int columnCount = this.columnKeys.size();
+        Iterator iterator = visibleSeriesKeys.iterator();
+        while (iterator.hasNext()) {
+            Integer r = (Integer) this.rowIndex.get(iterator.next());
+            if (r == null) {
+                continue;
+            }
+            int base = r.intValue() * this.columnCapacity;
+            for (int c = 0; c < columnCount; c++) {
+                double v = this.values[base + c];
+                if (v < min) {
+                    min = v;
+                }
+                if (v > max) {
+                    max = v;
+                }
+            }
+        }
+        return (min <= max ? new Range(min, max) : null);
+    }
+
+    /**
+     * Creates an index for an array of keys.
+     *
+     * @param keys  the keys.
+     * @param name  the argument name (for error messages).
+     *
+     * @return The index.
+     */
+    private static HashMap createIndex(Comparable[] keys, String name) {
+        HashMap result = new HashMap(keys.length * 2);
+        for (int i = 0; i < keys.length; i++) {
+            ParamChecks.nullNotPermitted(keys[i], name + "[" + i + "]");
+            if (result.put(keys[i], new Integer(i)) != null) {
+                throw new IllegalArgumentException("Duplicate key in '"
+                        + name + "': " + keys[i]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Adds a new row key, growing the value array if necessary.
+     *
+     * @param key  the key.
+     *
+     * @return The index of the new row.
+     */
+    private int addRowKey(Comparable key) {
+        int r = this.rowKeys.size();
+        if (r == this.rowCapacity) {
+            resize(this.rowCapacity * 2, this.columnCapacity);
+        }
+        this.rowKeys.add(key);
+        this.rowIndex.put(key, new Integer(r));
+        return r;
+    }
+
+    /**
+     * Adds a new column key, growing the value array if necessary.
+     *
+     * @param key  the key.
+     *
+     * @return The index of the new column.
+     */
+    private int addColumnKey(Comparable key) {
+        int c = this.columnKeys.size();
+        if (c == this.columnCapacity) {
+            resize(this.rowCapacity, this.columnCapacity * 2);
+        }
+        this.columnKeys.add(key);
+        this.columnIndex.put(key, new Integer(c));
+        return c;
+    }
+
+    /**
+     * Reallocates the value array with the specified capacity, copying the
+     * current values.
+     *
+     * @param rows  the new row capacity.
+     * @param columns  the new column capacity.
+     */
+    private void resize(int rows, int columns) {
+        double[] v = new double[rows * columns];
+        Arrays.fill(v, Double.NaN);
+        int columnCount = this.columnKeys.size();
+        for (int r = 0; r < this.rowKeys.size(); r++) {
+            System.arraycopy(this.values, r * this.columnCapacity, v,
+                    r * columns, columnCount);
+        }
+        this.values = v;
+        this.rowCapacity = rows;
+        this.columnCapacity = columns;
+    }
+
+    /**
+     * Removes a row, shifting the rows below it up and updating the index
+     * entries for their keys only.  No event is sent.
+     *
+     * @param r  the row index.
+     */
+    private void deleteRow(int r) {
+        int rowCount = this.rowKeys.size();
+        System.arraycopy(this.values, (r + 1) * this.columnCapacity,
+                this.values, r * this.columnCapacity,
+                (rowCount - r - 1) * this.columnCapacity);
+        Arrays.fill(this.values, (rowCount - 1) * this.columnCapacity,
+                rowCount * this.columnCapacity, Double.NaN);
+        this.rowIndex.remove(this.rowKeys.remove(r));
+        for (int i = r; i < rowCount - 1; i++) {
+            this.rowIndex.put(this.rowKeys.get(i), new Integer(i));
+        }
+    }
+
+    /**
+     * Removes a column, shifting the columns to the right of it left and
+     * updating the index entries for their keys only.  No event is sent.
+     *
+     * @param c  the column index.
+     */
+    private void deleteColumn(int c) {
+        int columnCount = this.columnKeys.size();
+        for (int r = 0; r < this.rowKeys.size(); r++) {
+            int base = r * this.columnCapacity;
+            System.arraycopy(this.values, base + c + 1, this.values,
+                    base + c, columnCount - c - 1);
+            this.values[base + columnCount - 1] = Double.NaN;
+        }
+        this.columnIndex.remove(this.columnKeys.remove(c));
+        for (int i = c; i < columnCount - 1; i++) {
+            this.columnIndex.put(this.columnKeys.get(i), new Integer(i));
+        }
+    }
+
+    /**
+     * Tests this dataset for equality with an arbitrary object.  The
+     * object can be any {@link CategoryDataset} with the same keys and
+     * values.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof CategoryDataset)) {
+            return false;
+        }
+        CategoryDataset that = (CategoryDataset) obj;
+        if (!getRowKeys().equals(that.getRowKeys())) {
+            return false;
+        }
+        if (!getColumnKeys().equals(that.getColumnKeys())) {
+            return false;
+        }
+        int rowCount = getRowCount();
+        int colCount = getColumnCount();
+        for (int r = 0; r < rowCount; r++) {
+            for (int c = 0; c < colCount; c++) {
+                Number v1 = getValue(r, c);
+                Number v2 = that.getValue(r, c);
+                if (v1 == null) {
+                    if (v2 != null) {
+                        return false;
+                    }
+                }
+                else if (!v1.equals(v2)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code for the dataset.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        int result = this.rowKeys.hashCode();
+        result = 29 * result + this.columnKeys.hashCode();
+        int columnCount = this.columnKeys.size();
+        for (int r = 0; r < this.rowKeys.size(); r++) {
+            int base = r * this.columnCapacity;
+            for (int c = 0; c < columnCount; c++) {
+                long bits = Double.doubleToLongBits(this.values[base + c]);
+                result = 29 * result + (int) (bits ^ (bits >>> 32));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a clone of the dataset.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning the
+     *         dataset.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        MatrixCategoryDataset clone = (MatrixCategoryDataset) super.clone();
+        clone.rowKeys = new ArrayList(this.rowKeys);
+        clone.columnKeys = new ArrayList(this.columnKeys);
+        clone.rowIndex = new HashMap(this.rowIndex);
+        clone.columnIndex = new HashMap(this.columnIndex);
+        clone.values = (double[]) this.values.clone();
+        return clone;
+    }
+
+}
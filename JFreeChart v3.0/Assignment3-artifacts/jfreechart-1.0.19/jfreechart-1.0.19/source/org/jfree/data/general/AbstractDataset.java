@@ -95,6 +95,22 @@ public abstract class AbstractDataset implements Dataset, Cloneable,
      */
     private boolean notify;
 
+    /**
+     * The number of nested batches that are in progress (see
+     * {@link #beginBatch()}).
+     *
+     * @since 1.0.20
+     */
+    private transient int batchDepth;
+
+    /**
+     * A flag that records that a change event was suppressed during a batch,
+     * so that a single event is sent when the batch ends.
+     *
+     * @since 1.0.20
+     */
+    private transient boolean batchChangePending;
+
     /**
      * Constructs a dataset. By default, the dataset is assigned to its own
      * group.
@@ -161,6 +177,75 @@ public abstract class AbstractDataset implements Dataset, Cloneable,
         }    
     }
     
+    /**
+     * Starts a batch of changes.  Until the matching call to
+     * {@link #endBatch()}, change events are not sent to registered
+     * listeners; instead, a single {@link DatasetChangeEvent} is sent when
+     * the batch ends (and only if the dataset changed during the batch).
+     * Batches can be nested, in which case the event is sent when the
+     * outermost batch ends.
+     * <P>
+     * Unlike {@link #setNotify(boolean)}, a batch does not send an event if
+     * nothing changed.
+     *
+     * @see #endBatch()
+     *
+     * @since 1.0.20
+     */
+    public void beginBatch() {
+        this.batchDepth++;
+    }
+
+    /**
+     * Ends a batch of changes that was started with {@link #beginBatch()}.
+     * If this ends the outermost batch and the dataset changed during the
+     * batch, a single {@link DatasetChangeEvent} is sent to all registered
+     * listeners.
+     *
+     * @throws IllegalStateException if there is no batch in progress.
+     *
+     * @see #beginBatch()
+     *
+     * @since 1.0.20
+     */
+    public void endBatch() {
+        if (this.batchDepth == 0) {
+            throw new IllegalStateException("No batch in progress.");
+        }
+        this.batchDepth--;
+        if (this.batchDepth == 0 && this.batchChangePending) {
+            this.batchChangePending = false;
+            notifyListeners(new DatasetChangeEvent(this, this));
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if a batch of changes is in progress, and
+     * <code>false</code> otherwise.
+     *
+     * @return A boolean.
+     *
+     * @see #beginBatch()
+     *
+     * @since 1.0.20
+     */
+    public boolean isBatchInProgress() {
+        return this.batchDepth > 0;
+    }
+
+    /**
+     * Returns <code>true</code> if the dataset has changed during the batch
+     * that is in progress (that is, a change event will be sent when the
+     * batch ends), and <code>false</code> otherwise.
+     *
+     * @return A boolean.
+     *
+     * @since 1.0.20
+     */
+    public boolean isBatchChangePending() {
+        return this.batchChangePending;
+    }
+
     /**
      * Registers an object to receive notification of changes to the dataset.
      *
@@ -217,7 +302,9 @@ public abstract class AbstractDataset implements Dataset, Cloneable,
     }
 
     /**
-     * Notifies all registered listeners that the dataset has changed.
+     * Notifies all registered listeners that the dataset has changed.  If a
+     * batch is in progress, the event is not sent immediately; instead, a
+     * single event is sent when the batch ends.
      *
      * @param event  contains information about the event that triggered the
      *               notification.
@@ -226,6 +313,10 @@ public abstract class AbstractDataset implements Dataset, Cloneable,
      * @see #removeChangeListener(DatasetChangeListener)
      */
     protected void notifyListeners(DatasetChangeEvent event) {
+        if (this.batchDepth > 0) {
+            this.batchChangePending = true;
+            return;
+        }
         Object[] listeners = this.listenerList.getListenerList();
         for (int i = listeners.length - 2; i >= 0; i -= 2) {
             if (listeners[i] == DatasetChangeListener.class) {
@@ -249,6 +340,8 @@ public abstract class AbstractDataset implements Dataset, Cloneable,
     public Object clone() throws CloneNotSupportedException {
         AbstractDataset clone = (AbstractDataset) super.clone();
         clone.listenerList = new EventListenerList();
+        clone.batchDepth = 0;
+        clone.batchChangePending = false;
         return clone;
     }
 
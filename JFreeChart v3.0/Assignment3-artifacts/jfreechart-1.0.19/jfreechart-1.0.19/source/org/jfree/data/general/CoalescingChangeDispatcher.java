@@ -0,0 +1,240 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------------
+ * CoalescingChangeDispatcher.java
+ * -------------------------------
+ * (C) Copyright 2014, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.general;
+
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import javax.swing.Timer;
+
+import org.jfree.chart.util.ParamChecks;
+
+/**
+ * Collapses bursts of change events from datasets and series into (at most)
+ * one event per dataset or series for each frame interval.  Each registered
+ * dataset or series is kept in a batch (see
+ * {@link AbstractDataset#beginBatch()} and {@link Series#beginBatch()}) and,
+ * once per interval, the batch is ended (sending a single change event if
+ * anything changed) and a new one is started.  This is useful for charts
+ * that are updated many times per second, where redrawing the chart for
+ * every change is wasteful:
+ * <pre>
+ * CoalescingChangeDispatcher dispatcher
+ *         = new CoalescingChangeDispatcher(40);
+ * dispatcher.add(dataset);  // at most 25 redraws per second
+ * </pre>
+ * The interval is timed with a <code>javax.swing.Timer</code>, so the
+ * events are sent on the event dispatch thread.  As for the datasets
+ * themselves, this class is not thread-safe, so changes to the registered
+ * datasets should also be made on the event dispatch thread.
+ *
+ * @since 1.0.20
+ */
+public class CoalescingChangeDispatcher implements ActionListener {
+
+    /** The registered datasets. */
+    private List datasets;
+
+    /** The registered series. */
+    private List series;
+
+    /** The timer. */
+    private Timer timer;
+
+    /**
+     * Creates a new dispatcher.
+     *
+     * @param interval  the frame interval in milliseconds (must be
+     *     positive).
+     */
+    public CoalescingChangeDispatcher(int interval) {
+        if (interval <= 0) {
+            throw new IllegalArgumentException("Requires 'interval' > 0.");
+        }
+        this.datasets = new ArrayList();
+        this.series = new ArrayList();
+        this.timer = new Timer(interval, this);
+        this.timer.setCoalesce(true);
+    }
+
+    /**
+     * Returns the frame interval.
+     *
+     * @return The frame interval (in milliseconds).
+     */
+    public int getInterval() {
+        return this.timer.getDelay();
+    }
+
+    /**
+     * Adds a dataset to the dispatcher.  From now on, change events from the
+     * dataset are sent at most once per frame interval.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     *
+     * @see #remove(AbstractDataset)
+     */
+    public void add(AbstractDataset dataset) {
+        ParamChecks.nullNotPermitted(dataset, "dataset");
+        if (!this.datasets.contains(dataset)) {
+            dataset.beginBatch();
+            this.datasets.add(dataset);
+            updateTimer();
+        }
+    }
+
+    /**
+     * Removes a dataset from the dispatcher.  Any pending change event for
+     * the dataset is sent immediately.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     *
+     * @see #add(AbstractDataset)
+     */
+    public void remove(AbstractDataset dataset) {
+        ParamChecks.nullNotPermitted(dataset, "dataset");
+        if (this.datasets.remove(dataset)) {
+            dataset.endBatch();
+            updateTimer();
+        }
+    }
+
+    /**
+     * Adds a series to the dispatcher.  From now on, change events from the
+     * series are sent at most once per frame interval.
+     *
+     * @param s  the series (<code>null</code> not permitted).
+     *
+     * @see #remove(Series)
+     */
+    public void add(Series s) {
+        ParamChecks.nullNotPermitted(s, "s");
+        if (!this.series.contains(s)) {
+            s.beginBatch();
+            this.series.add(s);
+            updateTimer();
+        }
+    }
+
+    /**
+     * Removes a series from the dispatcher.  Any pending change event for
+     * the series is sent immediately.
+     *
+     * @param s  the series (<code>null</code> not permitted).
+     *
+     * @see #add(Series)
+     */
+    public void remove(Series s) {
+        ParamChecks.nullNotPermitted(s, "s");
+        if (this.series.remove(s)) {
+            s.endBatch();
+            updateTimer();
+        }
+    }
+
+    /**
+     * Sends the pending change events for all the registered series and
+     * datasets.  This method is called by the timer once per frame interval,
+     * but can also be called directly.  The series are flushed first, since
+     * a change to a series usually results in a change to the dataset that
+     * contains it.
+     */
+    public void flush() {
+        Iterator iterator = this.series.iterator();
+        while (iterator.hasNext()) {
+            Series s = (Series) iterator.next();
+            if (s.isBatchChangePending()) {
+                s.endBatch();
+                s.beginBatch();
+            }
+        }
+        iterator = this.datasets.iterator();
+        while (iterator.hasNext()) {
+            AbstractDataset d = (AbstractDataset) iterator.next();
+            if (d.isBatchChangePending()) {
+                d.endBatch();
+                d.beginBatch();
+            }
+        }
+    }
+
+    /**
+     * Removes all the datasets and series from the dispatcher (sending any
+     * pending change events) and stops the timer.
+     */
+    public void clear() {
+        while (!this.series.isEmpty()) {
+            remove((Series) this.series.get(0));
+        }
+        while (!this.datasets.isEmpty()) {
+            remove((AbstractDataset) this.datasets.get(0));
+        }
+    }
+
+    /**
+     * Receives notification from the timer that a frame interval has
+     * elapsed.
+     *
+     * @param event  the event.
+     */
+    @Override
+    public void actionPerformed(ActionEvent event) {
+        flush();
+    }
+
+    /**
+     * Starts or stops the timer, depending on whether or not there is
+     * anything registered with the dispatcher.
+     */
+    private void updateTimer() {
+        boolean empty = this.datasets.isEmpty() && this.series.isEmpty();
+        if (empty && this.timer.isRunning()) {
+            this.timer.stop();
+        }
+        else if (!empty && !this.timer.isRunning()) {
+            this.timer.start();
+        }
+    }
+
+}
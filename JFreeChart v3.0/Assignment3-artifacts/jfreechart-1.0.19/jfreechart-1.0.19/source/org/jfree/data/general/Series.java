@@ -101,6 +101,39 @@ public abstract class Series implements Cloneable, Serializable {
     /** A flag that controls whether or not changes are notified. */
     private boolean notify;
 
+    /**
+     * The number of nested batches that are in progress (see
+     * {@link #beginBatch()}).
+     *
+     * @since 1.0.20
+     */
+    private transient int batchDepth;
+
+    /**
+     * A flag that records that a change event was suppressed during a batch,
+     * so that a single event is sent when the batch ends.
+     *
+     * @since 1.0.20
+     */
+    private transient boolean batchChangePending;
+
+    /**
+     * The number of changes made to the data in the series, other than
+     * items appended to the series and the oldest items removed to make room
+     * for them (see {@link #getModificationCount()}).
+     *
+     * @since 1.0.20
+     */
+    private long modificationCount;
+
+    /**
+     * The number of items removed from the start of the series (see
+     * {@link #getRemovedItemCount()}).
+     *
+     * @since 1.0.20
+     */
+    private long removedItemCount;
+
     /**
      * Creates a new series with the specified key.
      *
@@ -218,6 +251,157 @@ public abstract class Series implements Cloneable, Serializable {
         }
     }
 
+    /**
+     * Starts a batch of changes.  Until the matching call to
+     * {@link #endBatch()}, change events are not sent to registered
+     * listeners; instead, a single {@link SeriesChangeEvent} is sent when
+     * the batch ends (and only if the series changed during the batch).
+     * Batches can be nested, in which case the event is sent when the
+     * outermost batch ends.
+     *
+     * @see #endBatch()
+     *
+     * @since 1.0.20
+     */
+    public void beginBatch() {
+        this.batchDepth++;
+    }
+
+    /**
+     * Ends a batch of changes that was started with {@link #beginBatch()}.
+     * If this ends the outermost batch and the series changed during the
+     * batch, a single {@link SeriesChangeEvent} is sent to all registered
+     * listeners.
+     *
+     * @throws IllegalStateException if there is no batch in progress.
+     *
+     * @see #beginBatch()
+     *
+     * @since 1.0.20
+     */
+    public void endBatch() {
+        if (this.batchDepth == 0) {
+            throw new IllegalStateException("No batch in progress.");
+        }
+        this.batchDepth--;
+        if (this.batchDepth == 0 && this.batchChangePending) {
+            this.batchChangePending = false;
+            notifyListeners(new SeriesChangeEvent(this));
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if a batch of changes is in progress, and
+     * <code>false</code> otherwise.
+     *
+     * @return A boolean.
+     *
+     * @see #beginBatch()
+     *
+     * @since 1.0.20
+     */
+    public boolean isBatchInProgress() {
+        return this.batchDepth > 0;
+    }
+
+    /**
+     * Returns <code>true</code> if the series has changed during the batch
+     * that is in progress (that is, a change event will be sent when the
+     * batch ends), and <code>false</code> otherwise.
+     *
+     * @return A boolean.
+     *
+     * @since 1.0.20
+     */
+    public boolean isBatchChangePending() {
+        return this.batchChangePending;
+    }
+
+    /**
+     * Returns a count of the changes made to the data in the series, other
+     * than items appended to the end of the series and the oldest items
+     * removed from the start of the series (which are counted by
+     * {@link #getRemovedItemCount()}).  A listener that records this count
+     * and the item count can tell, when it is next notified, whether the
+     * only changes are new items at the end of the series, even if several
+     * changes were combined into one event (by a batch, or by
+     * {@link #setNotify(boolean)}).
+     * <P>
+     * Subclasses that change the data in other ways than through the methods
+     * of the standard series classes must call {@link #recordModification()}
+     * or {@link #recordRemovedItems(int)}.
+     *
+     * @return The modification count.
+     *
+     * @see #getRemovedItemCount()
+     *
+     * @since 1.0.20
+     */
+    public long getModificationCount() {
+        return this.modificationCount;
+    }
+
+    /**
+     * Returns the number of items that have been removed from the start of
+     * the series, usually to respect a limit on its size (the maximum item
+     * count or, for a time series, the maximum item age).  Other removals
+     * are counted by {@link #getModificationCount()}.
+     *
+     * @return The number of items removed.
+     *
+     * @see #getModificationCount()
+     *
+     * @since 1.0.20
+     */
+    public long getRemovedItemCount() {
+        return this.removedItemCount;
+    }
+
+    /**
+     * Records a change to the data in the series other than items appended
+     * to the end of the series.  This method does not send a change event.
+     *
+     * @see #getModificationCount()
+     *
+     * @since 1.0.20
+     */
+    protected void recordModification() {
+        this.modificationCount++;
+    }
+
+    /**
+     * Records that items have been removed from the start of the series.
+     * This method does not send a change event.
+     *
+     * @param count  the number of items removed.
+     *
+     * @see #getRemovedItemCount()
+     *
+     * @since 1.0.20
+     */
+    protected void recordRemovedItems(int count) {
+        this.removedItemCount += count;
+    }
+
+    /**
+     * Records that a range of items has been removed from the series, as
+     * removed items if the range is at the start of the series and as a
+     * modification otherwise.  This method does not send a change event.
+     *
+     * @param start  the index of the first item removed.
+     * @param count  the number of items removed.
+     *
+     * @since 1.0.20
+     */
+    protected void recordRemoval(int start, int count) {
+        if (start == 0) {
+            recordRemovedItems(count);
+        }
+        else {
+            recordModification();
+        }
+    }
+
     /**
      * Returns <code>true</code> if the series contains no data items, and
      * <code>false</code> otherwise.
@@ -260,6 +444,8 @@ public abstract class Series implements Cloneable, Serializable {
         clone.listeners = new EventListenerList();
         clone.propertyChangeSupport = new PropertyChangeSupport(clone);
         clone.vetoableChangeSupport = new VetoableChangeSupport(clone);
+        clone.batchDepth = 0;
+        clone.batchChangePending = false;
         return clone;
     }
 
@@ -336,12 +522,18 @@ public abstract class Series implements Cloneable, Serializable {
     }
 
     /**
-     * Sends a change event to all registered listeners.
+     * Sends a change event to all registered listeners.  If a batch is in
+     * progress, the event is not sent immediately; instead, a single event is
+     * sent when the batch ends.
      *
      * @param event  contains information about the event that triggered the
      *               notification.
      */
     protected void notifyListeners(SeriesChangeEvent event) {
+        if (this.batchDepth > 0) {
+            this.batchChangePending = true;
+            return;
+        }
 
         Object[] listenerList = this.listeners.getListenerList();
         for (int i = listenerList.length - 2; i >= 0; i -= 2) {
@@ -0,0 +1,1005 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------
+ * CSVSeriesReader.java
+ * --------------------
+ * (C) Copyright 2014, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.io;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.text.DateFormat;
+import java.text.ParsePosition;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TimeZone;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.jfree.chart.util.ParamChecks;
+import org.jfree.data.time.RegularTimePeriod;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.data.xy.PrimitiveXYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+
+/**
+ * A utility class for reading large amounts of numerical data from a CSV
+ * file or input source into an {@link XYSeriesCollection} or a
+ * {@link TimeSeriesCollection}.  One column contains the x-values (or
+ * timestamps) and each of the other columns becomes a series.  If the first
+ * line is a header (the default), it supplies the series keys: a blank
+ * name is replaced by "Series <i>n</i>" (where <i>n</i> is the series
+ * number), and a name that is already used is given a suffix such as
+ * " (2)", so that the keys are unique.
+ * <P>
+ * The input is read in blocks, and the numbers are parsed directly from the
+ * characters in each block, without creating a <code>String</code> for
+ * each field.  If an executor is set, the blocks are parsed in parallel
+ * (while the next blocks are being read) and the results are added to the
+ * series in order, so that very large files can be loaded quickly with a
+ * bounded amount of memory in addition to the series themselves.
+ * <P>
+ * As with {@link CSV}, text delimiters are only removed from the start and
+ * end of a field, so a field cannot contain the field delimiter.  Empty
+ * fields are read as missing (<code>null</code>) values, and lines with no
+ * x-value are ignored.
+ *
+ * @since 1.0.20
+ */
+public class CSVSeriesReader {
+
+    /** The default block size (in characters). */
+    public static final int DEFAULT_BLOCK_SIZE = 1 << 20;
+
+    /** Powers of ten that can be represented exactly as doubles. */
+    private static final double[] POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3, 1e4,
+        1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16,
+        1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+    /** The field delimiter. */
+    private char fieldDelimiter;
+
+    /** The text delimiter. */
+    private char textDelimiter;
+
+    /** The index of the column containing the x-values. */
+    private int xColumn;
+
+    /**
+     * The format for the x-values (<code>null</code> if the x-values are
+     * numbers).
+     */
+    private DateFormat dateFormat;
+
+    /** Is the first line a header containing the series keys? */
+    private boolean firstLineHeader;
+
+    /**
+     * The executor for parsing blocks in parallel (<code>null</code> to
+     * parse the blocks on the calling thread).
+     */
+    private ExecutorService executor;
+
+    /** The maximum number of blocks being parsed at the same time. */
+    private int chunkCount;
+
+    /** The block size (in characters). */
+    private int blockSize;
+
+    /**
+     * Creates a new reader where the field delimiter is a comma, and the
+     * text delimiter is a double-quote.
+     */
+    public CSVSeriesReader() {
+        this(',', '"');
+    }
+
+    /**
+     * Creates a new reader with the specified field and text delimiters.
+     *
+     * @param fieldDelimiter  the field delimiter (usually a comma, semi-colon,
+     *                        colon, tab or space).
+     * @param textDelimiter  the text delimiter (usually a single or double
+     *                       quote).
+     */
+    public CSVSeriesReader(char fieldDelimiter, char textDelimiter) {
+        this.fieldDelimiter = fieldDelimiter;
+        this.textDelimiter = textDelimiter;
+        this.firstLineHeader = true;
+        this.chunkCount = Runtime.getRuntime().availableProcessors();
+        this.blockSize = DEFAULT_BLOCK_SIZE;
+    }
+
+    /**
+     * Returns the index of the column containing the x-values (or
+     * timestamps).  The default is <code>0</code>.
+     *
+     * @return The column index.
+     *
+     * @see #setXColumn(int)
+     */
+    public int getXColumn() {
+        return this.xColumn;
+    }
+
+    /**
+     * Sets the index of the column containing the x-values (or timestamps).
+     *
+     * @param column  the column index (zero-based).
+     *
+     * @see #getXColumn()
+     */
+    public void setXColumn(int column) {
+        if (column < 0) {
+            throw new IllegalArgumentException("Requires 'column' >= 0.");
+        }
+        this.xColumn = column;
+    }
+
+    /**
+     * Returns the format used to parse the x-column.
+     *
+     * @return The format (possibly <code>null</code>).
+     *
+     * @see #setDateFormat(DateFormat)
+     */
+    public DateFormat getDateFormat() {
+        return this.dateFormat;
+    }
+
+    /**
+     * Sets the format used to parse the x-column as timestamps.  If the
+     * format is <code>null</code> (the default), the x-column is parsed as
+     * numbers (for timestamps, the number of milliseconds since
+     * 1-Jan-1970).  Parsing with a format is much slower than parsing
+     * numbers.
+     *
+     * @param format  the format (<code>null</code> permitted).
+     *
+     * @see #getDateFormat()
+     */
+    public void setDateFormat(DateFormat format) {
+        this.dateFormat = format;
+    }
+
+    /**
+     * Returns the flag that indicates whether the first line of the input
+     * is a header containing the series keys.  The default is
+     * <code>true</code>.
+     *
+     * @return A boolean.
+     *
+     * @see #setFirstLineHeader(boolean)
+     */
+    public boolean isFirstLineHeader() {
+        return this.firstLineHeader;
+    }
+
+    /**
+     * Sets the flag that indicates whether the first line of the input is a
+     * header containing the series keys.  If there is no header, the series
+     * keys are "Series 1", "Series 2" and so on.
+     *
+     * @param header  the new flag value.
+     *
+     * @see #isFirstLineHeader()
+     */
+    public void setFirstLineHeader(boolean header) {
+        this.firstLineHeader = header;
+    }
+
+    /**
+     * Returns the executor used to parse blocks of the input in parallel.
+     *
+     * @return The executor (possibly <code>null</code>).
+     *
+     * @see #setExecutor(ExecutorService)
+     */
+    public ExecutorService getExecutor() {
+        return this.executor;
+    }
+
+    /**
+     * Sets the executor used to parse blocks of the input in parallel.  Any
+     * block that the executor rejects is parsed on the calling thread.
+     *
+     * @param executor  the executor (<code>null</code> permitted, in which
+     *     case all blocks are parsed on the calling thread).
+     *
+     * @see #getExecutor()
+     */
+    public void setExecutor(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Returns the maximum number of blocks that are parsed at the same time
+     * when an executor is set.  The default is the number of available
+     * processors.
+     *
+     * @return The chunk count.
+     *
+     * @see #setChunkCount(int)
+     */
+    public int getChunkCount() {
+        return this.chunkCount;
+    }
+
+    /**
+     * Sets the maximum number of blocks that are parsed at the same time
+     * when an executor is set.
+     *
+     * @param count  the chunk count (must be greater than zero).
+     *
+     * @see #getChunkCount()
+     */
+    public void setChunkCount(int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("Requires 'count' > 0.");
+        }
+        this.chunkCount = count;
+    }
+
+    /**
+     * Returns the number of characters read for each block.
+     *
+     * @return The block size.
+     *
+     * @see #setBlockSize(int)
+     */
+    public int getBlockSize() {
+        return this.blockSize;
+    }
+
+    /**
+     * Sets the number of characters read for each block.  A block is
+     * extended if it does not contain a complete line.
+     *
+     * @param size  the block size (must be greater than zero).
+     *
+     * @see #getBlockSize()
+     */
+    public void setBlockSize(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Requires 'size' > 0.");
+        }
+        this.blockSize = size;
+    }
+
+    /**
+     * Reads an {@link XYSeriesCollection} from a CSV file or input source.
+     * Each series is a {@link PrimitiveXYSeries}, with the items in the
+     * order they appear in the input (the series are not sorted).
+     *
+     * @param in  the input source (<code>null</code> not permitted).
+     *
+     * @return An XY dataset.
+     *
+     * @throws IOException if there is an I/O problem or a date can't be
+     *     parsed.
+     * @throws NumberFormatException if a field can't be parsed as a number.
+     * @throws IllegalArgumentException if the x-column is beyond the last
+     *     column in the first line.
+     */
+    public XYSeriesCollection readXYDataset(Reader in) throws IOException {
+        ParamChecks.nullNotPermitted(in, "in");
+        XYTarget target = new XYTarget();
+        read(in, target);
+        XYSeriesCollection dataset = new XYSeriesCollection();
+        for (int i = 0; i < target.series.length; i++) {
+            dataset.addSeries(target.series[i]);
+        }
+        return dataset;
+    }
+
+    /**
+     * Reads a {@link TimeSeriesCollection} from a CSV file or input source.
+     * Each timestamp is converted to a time period of the specified class,
+     * and if several lines fall in the same time period, the value from the
+     * last line is used.
+     *
+     * @param in  the input source (<code>null</code> not permitted).
+     * @param timePeriodClass  the time period class, for example
+     *     <code>Second.class</code> (<code>null</code> not permitted).
+     * @param zone  the time zone for the time periods (<code>null</code>
+     *     not permitted).
+     *
+     * @return A time series collection.
+     *
+     * @throws IOException if there is an I/O problem or a date can't be
+     *     parsed.
+     * @throws NumberFormatException if a field can't be parsed as a number.
+     * @throws IllegalArgumentException if the x-column is beyond the last
+     *     column in the first line.
+     */
+    public TimeSeriesCollection readTimeSeriesCollection(Reader in,
+            Class timePeriodClass, TimeZone zone) throws IOException {
+        ParamChecks.nullNotPermitted(in, "in");
+        ParamChecks.nullNotPermitted(timePeriodClass, "timePeriodClass");
+        ParamChecks.nullNotPermitted(zone, "zone");
+        if (!RegularTimePeriod.class.isAssignableFrom(timePeriodClass)) {
+            throw new IllegalArgumentException(
+                    "The 'timePeriodClass' must be a RegularTimePeriod.");
+        }
+        TimeSeriesTarget target = new TimeSeriesTarget(timePeriodClass,
+                zone);
+        read(in, target);
+        TimeSeriesCollection dataset = new TimeSeriesCollection(zone);
+        for (int i = 0; i < target.series.length; i++) {
+            target.series[i].setNotify(true);
+            dataset.addSeries(target.series[i]);
+        }
+        return dataset;
+    }
+
+    /**
+     * Reads the input in blocks and passes the parsed blocks to a target,
+     * in order.
+     *
+     * @param in  the input source.
+     * @param target  the target.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void read(Reader in, Target target) throws IOException {
+        char[] buffer = new char[this.blockSize];
+        int length = 0;
+        int valueCount = -1;
+        List pending = new ArrayList();
+        try {
+            boolean eof = false;
+            while (!eof) {
+                int n = in.read(buffer, length, buffer.length - length);
+                if (n < 0) {
+                    eof = true;
+                }
+                else {
+                    length += n;
+                }
+                if (!eof && length < buffer.length) {
+                    continue;
+                }
+                int end = eof ? length : lastLineEnd(buffer, length);
+                if (end == 0 && !eof) {
+                    // no complete line in the block, so make it bigger
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                    continue;
+                }
+                int start = 0;
+                if (valueCount < 0) {
+                    int lineEnd = start;
+                    while (lineEnd < end && buffer[lineEnd] != '\n') {
+                        lineEnd++;
+                    }
+                    String[] keys = readKeys(buffer, 0, lineEnd);
+                    valueCount = keys.length;
+                    target.start(keys);
+                    if (this.firstLineHeader) {
+                        start = Math.min(lineEnd + 1, end);
+                    }
+                }
+                Block block = new Block(buffer, start, end, valueCount,
+                        this.xColumn, this.fieldDelimiter, this.textDelimiter,
+                        this.dateFormat == null ? null
+                        : (DateFormat) this.dateFormat.clone());
+                submit(block, pending);
+
+                // start a new buffer with the incomplete line
+                char[] next = new char[Math.max(this.blockSize,
+                        length - end)];
+                System.arraycopy(buffer, end, next, 0, length - end);
+                length -= end;
+                buffer = next;
+
+                int limit = this.executor == null ? 1 : this.chunkCount;
+                while (pending.size() >= limit) {
+                    target.append(getResult(pending.remove(0)));
+                }
+            }
+            while (!pending.isEmpty()) {
+                target.append(getResult(pending.remove(0)));
+            }
+        }
+        finally {
+            for (int i = 0; i < pending.size(); i++) {
+                if (pending.get(i) instanceof Future) {
+                    ((Future) pending.get(i)).cancel(true);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the position after the last line feed in a buffer.
+     *
+     * @param buffer  the buffer.
+     * @param length  the number of characters in the buffer.
+     *
+     * @return The position (<code>0</code> if there is no line feed).
+     */
+    private static int lastLineEnd(char[] buffer, int length) {
+        for (int i = length - 1; i >= 0; i--) {
+            if (buffer[i] == '\n') {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Submits a block to the executor, or parses it on the calling thread if
+     * there is no executor (or the executor rejects it), and adds it to the
+     * list of pending blocks.
+     *
+     * @param block  the block.
+     * @param pending  the pending blocks (parsed blocks and futures).
+     *
+     * @throws IOException if the block is parsed and there is a problem.
+     */
+    private void submit(Block block, List pending) throws IOException {
+        if (this.executor != null) {
+            try {
+                pending.add(this.executor.submit(block));
+                return;
+            }
+            catch (RejectedExecutionException e) {
+                // parse the block on this thread
+            }
+        }
+        block.call();
+        pending.add(block);
+    }
+
+    /**
+     * Returns a parsed block, waiting for it if necessary.
+     *
+     * @param pending  a parsed block or a future for a block.
+     *
+     * @return The block.
+     *
+     * @throws IOException if there was a problem parsing the block, or the
+     *     thread is interrupted.
+     */
+    private Block getResult(Object pending) throws IOException {
+        if (pending instanceof Block) {
+            return (Block) pending;
+        }
+        try {
+            return (Block) ((Future) pending).get();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        }
+        catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            IOException ioe = new IOException(cause.getMessage());
+            ioe.initCause(cause);
+            throw ioe;
+        }
+    }
+
+    /**
+     * Returns the series keys from the first line of the input (the header,
+     * if there is one).
+     *
+     * @param chars  the characters.
+     * @param start  the start of the line.
+     * @param end  the end of the line.
+     *
+     * @return The series keys.
+     *
+     * @throws IllegalArgumentException if the x-column is beyond the last
+     *     column.
+     */
+    private String[] readKeys(char[] chars, int start, int end) {
+        List fields = new ArrayList();
+        int fieldStart = start;
+        for (int i = start; i <= end; i++) {
+            if (i == end || chars[i] == this.fieldDelimiter) {
+                fields.add(removeStringDelimiters(new String(chars,
+                        fieldStart, i - fieldStart)));
+                fieldStart = i + 1;
+            }
+        }
+        if (this.xColumn >= fields.size() && end > start) {
+            // otherwise no line would have an x-value
+            throw new IllegalArgumentException("The x-column ("
+                    + this.xColumn + ") is beyond the last column ("
+                    + (fields.size() - 1) + ").");
+        }
+        int count = Math.max(fields.size() - 1, 0);
+        String[] keys = new String[count];
+        Set used = new HashSet();
+        for (int i = 0; i < count; i++) {
+            int column = i < this.xColumn ? i : i + 1;
+            String key = this.firstLineHeader ? (String) fields.get(column)
+                    : "";
+            if (key.length() == 0) {
+                key = "Series " + (i + 1);
+            }
+            String unique = key;
+            for (int n = 2; used.contains(unique); n++) {
+                unique = key + " (" + n + ")";
+            }
+            used.add(unique);
+            keys[i] = unique;
+        }
+        return keys;
+    }
+
+    /**
+     * Removes the string delimiters from a key (as well as any white space
+     * outside the delimiters).
+     *
+     * @param key  the key (including delimiters).
+     *
+     * @return The key without delimiters.
+     */
+    private String removeStringDelimiters(String key) {
+        String k = key.trim();
+        if (k.length() > 0 && k.charAt(0) == this.textDelimiter) {
+            k = k.substring(1);
+        }
+        if (k.length() > 0 && k.charAt(k.length() - 1)
+                == this.textDelimiter) {
+            k = k.substring(0, k.length() - 1);
+        }
+        return k;
+    }
+
+    /**
+     * Parses a number from a range of characters.  Numbers with up to 15
+     * significant digits and small exponents are converted directly (with
+     * the same result as <code>Double.parseDouble()</code>), and other
+     * numbers are passed to <code>Double.parseDouble()</code>.
+     *
+     * @param chars  the characters.
+     * @param start  the start of the number.
+     * @param end  the end of the number.
+     *
+     * @return The number.
+     *
+     * @throws NumberFormatException if the characters are not a number.
+     */
+    static double parseDouble(char[] chars, int start, int end) {
+        int i = start;
+        boolean negative = false;
+        if (i < end && (chars[i] == '-' || chars[i] == '+')) {
+            negative = chars[i] == '-';
+            i++;
+        }
+        long mantissa = 0L;
+        int digits = 0;
+        int exponent = 0;
+        boolean anyDigits = false;
+        boolean exact = true;
+        while (i < end && chars[i] >= '0' && chars[i] <= '9') {
+            anyDigits = true;
+            if (digits < 18) {
+                mantissa = mantissa * 10 + (chars[i] - '0');
+                if (mantissa != 0) {
+                    digits++;
+                }
+            }
+            else {
+                exponent++;
+                exact &= chars[i] == '0';
+            }
+            i++;
+        }
+        if (i < end && chars[i] == '.') {
+            i++;
+            while (i < end && chars[i] >= '0' && chars[i] <= '9') {
+                anyDigits = true;
+                if (digits < 18) {
+                    mantissa = mantissa * 10 + (chars[i] - '0');
+                    if (mantissa != 0) {
+                        digits++;
+                    }
+                    exponent--;
+                }
+                else {
+                    exact &= chars[i] == '0';
+                }
+                i++;
+            }
+        }
+        if (anyDigits && i < end && (chars[i] == 'e' || chars[i] == 'E')) {
+            i++;
+            boolean negativeExponent = false;
+            if (i < end && (chars[i] == '-' || chars[i] == '+')) {
+                negativeExponent = chars[i] == '-';
+                i++;
+            }
+            int e = 0;
+            boolean anyExponentDigits = false;
+            while (i < end && chars[i] >= '0' && chars[i] <= '9') {
+                anyExponentDigits = true;
+                e = Math.min(e * 10 + (chars[i] - '0'), 100000);
+                i++;
+            }
+            if (!anyExponentDigits) {
+                anyDigits = false;
+            }
+            exponent += negativeExponent ? -e : e;
+        }
+        if (!anyDigits || i != end || !exact || digits > 15
+                || exponent > 22 || exponent < -22) {
+            return Double.parseDouble(new String(chars, start, end - start));
+        }
+        double result = mantissa;
+        if (mantissa != 0L) {
+            if (exponent > 0) {
+                result = result * POWERS_OF_TEN[exponent];
+            }
+            else if (exponent < 0) {
+                result = result / POWERS_OF_TEN[-exponent];
+            }
+        }
+        return negative ? -result : result;
+    }
+
+    /**
+     * Receives the parsed blocks, in order.
+     */
+    private interface Target {
+
+        /**
+         * Called with the series keys before the first block.
+         *
+         * @param keys  the series keys.
+         */
+        void start(String[] keys);
+
+        /**
+         * Adds the values from a parsed block to the series.
+         *
+         * @param block  the block.
+         */
+        void append(Block block);
+
+    }
+
+    /**
+     * A target that adds the values to {@link PrimitiveXYSeries} instances.
+     */
+    private static class XYTarget implements Target {
+
+        /** The series. */
+        private PrimitiveXYSeries[] series = new PrimitiveXYSeries[0];
+
+        @Override
+        public void start(String[] keys) {
+            this.series = new PrimitiveXYSeries[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                this.series[i] = new PrimitiveXYSeries(keys[i], false, true);
+            }
+        }
+
+        @Override
+        public void append(Block block) {
+            for (int s = 0; s < this.series.length; s++) {
+                PrimitiveXYSeries ps = this.series[s];
+                double[] values = block.values[s];
+                for (int r = 0; r < block.rowCount; r++) {
+                    double y = values[r];
+                    if (Double.isNaN(y)) {
+                        ps.add(block.xValues[r], (Number) null, false);
+                    }
+                    else {
+                        ps.add(block.xValues[r], y, false);
+                    }
+                }
+            }
+        }
+
+    }
+
+    /**
+     * A target that adds the values to {@link TimeSeries} instances.
+     */
+    private static class TimeSeriesTarget implements Target {
+
+        /** The time period class. */
+        private Class timePeriodClass;
+
+        /** The time zone. */
+        private TimeZone zone;
+
+        /** A calendar for the time zone. */
+        private Calendar calendar;
+
+        /** The series. */
+        private TimeSeries[] series = new TimeSeries[0];
+
+        /** The time period for the previous line. */
+        private RegularTimePeriod period;
+
+        /** The first millisecond of the time period. */
+        private long periodStart;
+
+        /** The last millisecond of the time period. */
+        private long periodEnd;
+
+        /**
+         * Creates a new target.
+         *
+         * @param timePeriodClass  the time period class.
+         * @param zone  the time zone.
+         */
+        TimeSeriesTarget(Class timePeriodClass, TimeZone zone) {
+            this.timePeriodClass = timePeriodClass;
+            this.zone = zone;
+            this.calendar = Calendar.getInstance(zone);
+        }
+
+        @Override
+        public void start(String[] keys) {
+            this.series = new TimeSeries[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                this.series[i] = new TimeSeries(keys[i]);
+                this.series[i].setNotify(false);
+            }
+        }
+
+        @Override
+        public void append(Block block) {
+            for (int r = 0; r < block.rowCount; r++) {
+                long millis = (long) block.xValues[r];
+                if (this.period == null || millis < this.periodStart
+                        || millis > this.periodEnd) {
+                    this.period = RegularTimePeriod.createInstance(
+                            this.timePeriodClass, new Date(millis),
+                            this.zone);
+                    this.periodStart = this.period.getFirstMillisecond(
+                            this.calendar);
+                    this.periodEnd = this.period.getLastMillisecond(
+                            this.calendar);
+                }
+                for (int s = 0; s < this.series.length; s++) {
+                    double y = block.values[s][r];
+                    this.series[s].addOrUpdate(this.period,
+                            Double.isNaN(y) ? null : new Double(y));
+                }
+            }
+        }
+
+    }
+
+    /**
+     * A block of complete lines from the input, and the values parsed from
+     * it.
+     */
+    private static class Block implements Callable {
+
+        /** The characters. */
+        private char[] chars;
+
+        /** The start of the block. */
+        private int start;
+
+        /** The end of the block. */
+        private int end;
+
+        /** The index of the column containing the x-values. */
+        private int xColumn;
+
+        /** The field delimiter. */
+        private char fieldDelimiter;
+
+        /** The text delimiter. */
+        private char textDelimiter;
+
+        /** The date format (<code>null</code> for numbers). */
+        private DateFormat dateFormat;
+
+        /** The number of lines parsed. */
+        private int rowCount;
+
+        /** The x-values. */
+        private double[] xValues;
+
+        /** The values for each series (NaN for missing values). */
+        private double[][] values;
+
+        /**
+         * Creates a new block.
+         *
+         * @param chars  the characters.
+         * @param start  the start of the block.
+         * @param end  the end of the block (after the last line feed).
+         * @param valueCount  the number of series.
+         * @param xColumn  the index of the x-column.
+         * @param fieldDelimiter  the field delimiter.
+         * @param textDelimiter  the text delimiter.
+         * @param dateFormat  the date format (<code>null</code> for
+         *     numbers).
+         */
+        Block(char[] chars, int start, int end, int valueCount, int xColumn,
+                char fieldDelimiter, char textDelimiter,
+                DateFormat dateFormat) {
+            this.chars = chars;
+            this.start = start;
+            this.end = end;
+            this.xColumn = xColumn;
+            this.fieldDelimiter = fieldDelimiter;
+            this.textDelimiter = textDelimiter;
+            this.dateFormat = dateFormat;
+            int capacity = (end - start) / (4 * (valueCount + 1)) + 16;
+            this.xValues = new double[capacity];
+            this.values = new double[valueCount][capacity];
+        }
+
+        /**
+         * Parses the block.
+         *
+         * @return This block.
+         *
+         * @throws IOException if a date can't be parsed.
+         */
+        @Override
+        public Object call() throws IOException {
+            int i = this.start;
+            while (i < this.end) {
+                int lineEnd = i;
+                while (lineEnd < this.end && this.chars[lineEnd] != '\n') {
+                    lineEnd++;
+                }
+                parseLine(i, lineEnd);
+                i = lineEnd + 1;
+            }
+            this.chars = null;
+            return this;
+        }
+
+        /**
+         * Parses one line.
+         *
+         * @param lineStart  the start of the line.
+         * @param lineEnd  the end of the line.
+         *
+         * @throws IOException if a date can't be parsed.
+         */
+        private void parseLine(int lineStart, int lineEnd)
+                throws IOException {
+            while (lineEnd > lineStart && this.chars[lineEnd - 1] <= ' ') {
+                lineEnd--;
+            }
+            if (lineEnd == lineStart) {
+                return;
+            }
+            int row = this.rowCount;
+            if (row == this.xValues.length) {
+                int capacity = row * 2;
+                this.xValues = Arrays.copyOf(this.xValues, capacity);
+                for (int s = 0; s < this.values.length; s++) {
+                    this.values[s] = Arrays.copyOf(this.values[s],
+                            capacity);
+                }
+            }
+            double x = Double.NaN;
+            for (int s = 0; s < this.values.length; s++) {
+                this.values[s][row] = Double.NaN;
+            }
+            int column = 0;
+            int fieldStart = lineStart;
+            for (int p = lineStart; p <= lineEnd; p++) {
+                if (p < lineEnd && this.chars[p] != this.fieldDelimiter) {
+                    continue;
+                }
+                int valueIndex = column < this.xColumn ? column : column - 1;
+                if (column == this.xColumn) {
+                    x = parseField(fieldStart, p, this.dateFormat);
+                }
+                else if (valueIndex < this.values.length) {
+                    this.values[valueIndex][row] = parseField(fieldStart, p,
+                            null);
+                }
+                fieldStart = p + 1;
+                column++;
+            }
+            if (!Double.isNaN(x)) {
+                this.xValues[row] = x;
+                this.rowCount++;
+            }
+        }
+
+        /**
+         * Parses a field, after removing white space and text delimiters.
+         *
+         * @param fieldStart  the start of the field.
+         * @param fieldEnd  the end of the field.
+         * @param format  the date format (<code>null</code> for a number).
+         *
+         * @return The value (<code>Double.NaN</code> for an empty field).
+         *
+         * @throws IOException if a date can't be parsed.
+         */
+        private double parseField(int fieldStart, int fieldEnd,
+                DateFormat format) throws IOException {
+            char[] c = this.chars;
+            while (fieldStart < fieldEnd && c[fieldStart] <= ' ') {
+                fieldStart++;
+            }
+            while (fieldEnd > fieldStart && c[fieldEnd - 1] <= ' ') {
+                fieldEnd--;
+            }
+            char delimiter = this.textDelimiter;
+            if (fieldStart < fieldEnd && c[fieldStart] == delimiter) {
+                fieldStart++;
+            }
+            if (fieldEnd > fieldStart && c[fieldEnd - 1] == delimiter) {
+                fieldEnd--;
+            }
+            if (fieldStart == fieldEnd) {
+                return Double.NaN;
+            }
+            if (format == null) {
+                return parseDouble(c, fieldStart, fieldEnd);
+            }
+            String text = new String(c, fieldStart, fieldEnd - fieldStart);
+            ParsePosition position = new ParsePosition(0);
+            Date date = format.parse(text, position);
+            if (date == null || position.getIndex() != text.length()) {
+                throw new IOException("Unparseable date: \"" + text + "\"");
+            }
+            return date.getTime();
+        }
+
+    }
+
+}
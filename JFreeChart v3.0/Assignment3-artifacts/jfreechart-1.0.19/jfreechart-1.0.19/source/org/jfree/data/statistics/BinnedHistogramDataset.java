@@ -0,0 +1,947 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------------
+ * BinnedHistogramDataset.java
+ * ---------------------------
+ * (C) Copyright 2014, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+
+import org.jfree.chart.util.ParamChecks;
+import org.jfree.chart.util.TaskUtils;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.xy.AbstractIntervalXYDataset;
+import org.jfree.data.xy.IntervalXYDataset;
+import org.jfree.util.ObjectUtilities;
+import org.jfree.util.PublicCloneable;
+
+/**
+ * A histogram dataset that stores the count for each bin in a primitive
+ * array.  Each series has a fixed number of equal width bins, set when the
+ * series is added, and observations can be added to a series at any time.
+ * The bins are assigned in the same way as in {@link HistogramDataset}: a
+ * value less than the minimum is counted in the first bin, a value greater
+ * than the maximum is counted in the last bin, and a value on the boundary
+ * of two bins is counted in the higher bin (each value is always counted
+ * in the bin whose start and end values contain it).
+ * <code>Double.NaN</code> values are ignored.
+ * <P>
+ * The values are binned in a single pass, without creating an object for
+ * each bin.  If an executor is set, large arrays of values are split into
+ * chunks that are counted in parallel and the counts are merged at the end.
+ *
+ * @see HistogramDataset
+ *
+ * @since 1.0.20
+ */
+public class BinnedHistogramDataset extends AbstractIntervalXYDataset
+        implements IntervalXYDataset, Cloneable, PublicCloneable,
+                   Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 2867410275385726153L;
+
+    /**
+     * The minimum number of values in an array before it is split into
+     * chunks when an executor is set.
+     */
+    private static final int MINIMUM_PARALLEL_VALUES = 1 << 16;
+
+    /** The series (instances of {@link BinnedSeries}). */
+    private List series;
+
+    /** The histogram type. */
+    private HistogramType type;
+
+    /**
+     * The executor for counting large arrays in parallel
+     * (<code>null</code> to count on the calling thread).
+     */
+    private transient ExecutorService executor;
+
+    /** The maximum number of chunks when an executor is set. */
+    private int chunkCount;
+
+    /**
+     * Creates a new (empty) dataset with a default type of
+     * {@link HistogramType}.FREQUENCY.
+     */
+    public BinnedHistogramDataset() {
+        this.series = new ArrayList();
+        this.type = HistogramType.FREQUENCY;
+        this.chunkCount = Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Returns the histogram type.
+     *
+     * @return The type (never <code>null</code>).
+     */
+    public HistogramType getType() {
+        return this.type;
+    }
+
+    /**
+     * Sets the histogram type and sends a {@link DatasetChangeEvent} to all
+     * registered listeners.
+     *
+     * @param type  the type (<code>null</code> not permitted).
+     */
+    public void setType(HistogramType type) {
+        ParamChecks.nullNotPermitted(type, "type");
+        this.type = type;
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns the executor used to count large arrays of values in
+     * parallel.
+     *
+     * @return The executor (possibly <code>null</code>).
+     *
+     * @see #setExecutor(ExecutorService)
+     */
+    public ExecutorService getExecutor() {
+        return this.executor;
+    }
+
+    /**
+     * Sets the executor used to count large arrays of values in parallel.
+     * The calling thread counts the first chunk, and any chunk that the
+     * executor rejects.  The executor is not serialized.
+     *
+     * @param executor  the executor (<code>null</code> permitted, in which
+     *     case all values are counted on the calling thread).
+     *
+     * @see #getExecutor()
+     */
+    public void setExecutor(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Returns the maximum number of chunks that an array of values is split
+     * into when an executor is set.  The default is the number of available
+     * processors.
+     *
+     * @return The chunk count.
+     *
+     * @see #setChunkCount(int)
+     */
+    public int getChunkCount() {
+        return this.chunkCount;
+    }
+
+    /**
+     * Sets the maximum number of chunks that an array of values is split
+     * into when an executor is set.
+     *
+     * @param count  the chunk count (must be greater than zero).
+     *
+     * @see #getChunkCount()
+     */
+    public void setChunkCount(int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("Requires 'count' > 0.");
+        }
+        this.chunkCount = count;
+    }
+
+    /**
+     * Adds a series with no observations to the dataset and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param key  the series key (<code>null</code> not permitted).
+     * @param bins  the number of bins (must be at least 1).
+     * @param minimum  the lower bound of the bin range.
+     * @param maximum  the upper bound of the bin range (must not be less
+     *     than <code>minimum</code>).
+     */
+    public void addSeries(Comparable key, int bins, double minimum,
+            double maximum) {
+        ParamChecks.nullNotPermitted(key, "key");
+        if (bins < 1) {
+            throw new IllegalArgumentException("Requires 'bins' > 0.");
+        }
+        if (!(minimum <= maximum)) {
+            throw new IllegalArgumentException(
+                    "Requires 'minimum' <= 'maximum'.");
+        }
+        this.series.add(new BinnedSeries(key, bins, minimum, maximum));
+        fireDatasetChanged();
+    }
+
+    /**
+     * Adds a series to the dataset, using the specified number of bins
+     * between the smallest and largest of the values, and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param key  the series key (<code>null</code> not permitted).
+     * @param values  the values (<code>null</code> not permitted, and at
+     *     least one value must be something other than
+     *     <code>Double.NaN</code>).
+     * @param bins  the number of bins (must be at least 1).
+     */
+    public void addSeries(Comparable key, double[] values, int bins) {
+        ParamChecks.nullNotPermitted(values, "values");
+        double minimum = Double.NaN;
+        double maximum = Double.NaN;
+        for (int i = 0; i < values.length; i++) {
+            double v = values[i];
+            if (Double.isNaN(v)) {
+                continue;
+            }
+            if (Double.isNaN(minimum)) {
+                minimum = v;
+                maximum = v;
+            }
+            else if (v < minimum) {
+                minimum = v;
+            }
+            else if (v > maximum) {
+                maximum = v;
+            }
+        }
+        if (Double.isNaN(minimum)) {
+            throw new IllegalArgumentException(
+                    "Requires at least one value that is not NaN.");
+        }
+        addSeries(key, values, bins, minimum, maximum);
+    }
+
+    /**
+     * Adds a series to the dataset and sends a {@link DatasetChangeEvent}
+     * to all registered listeners.
+     *
+     * @param key  the series key (<code>null</code> not permitted).
+     * @param values  the values (<code>null</code> not permitted).
+     * @param bins  the number of bins (must be at least 1).
+     * @param minimum  the lower bound of the bin range.
+     * @param maximum  the upper bound of the bin range (must not be less
+     *     than <code>minimum</code>).
+     */
+    public void addSeries(Comparable key, double[] values, int bins,
+            double minimum, double maximum) {
+        ParamChecks.nullNotPermitted(key, "key");
+        ParamChecks.nullNotPermitted(values, "values");
+        if (bins < 1) {
+            throw new IllegalArgumentException("Requires 'bins' > 0.");
+        }
+        if (!(minimum <= maximum)) {
+            throw new IllegalArgumentException(
+                    "Requires 'minimum' <= 'maximum'.");
+        }
+        BinnedSeries s = new BinnedSeries(key, bins, minimum, maximum);
+        count(s, values, 0, values.length);
+        this.series.add(s);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Adds an observation to a series and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.  To add many
+     * observations, use {@link #addObservations(int, double[])}.
+     *
+     * @param series  the series index (in the range <code>0</code> to
+     *     <code>getSeriesCount() - 1</code>).
+     * @param value  the value (ignored if it is <code>Double.NaN</code>).
+     */
+    public void addObservation(int series, double value) {
+        getSeries(series).add(value);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Adds observations to a series and sends a {@link DatasetChangeEvent}
+     * to all registered listeners.
+     *
+     * @param series  the series index (in the range <code>0</code> to
+     *     <code>getSeriesCount() - 1</code>).
+     * @param values  the values (<code>null</code> not permitted).
+     */
+    public void addObservations(int series, double[] values) {
+        ParamChecks.nullNotPermitted(values, "values");
+        addObservations(series, values, 0, values.length);
+    }
+
+    /**
+     * Adds a range of values from an array as observations for a series,
+     * and sends a {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param series  the series index (in the range <code>0</code> to
+     *     <code>getSeriesCount() - 1</code>).
+     * @param values  the values (<code>null</code> not permitted).
+     * @param offset  the index of the first value to add.
+     * @param length  the number of values to add.
+     */
+    public void addObservations(int series, double[] values, int offset,
+            int length) {
+        ParamChecks.nullNotPermitted(values, "values");
+        if (offset < 0 || length < 0 || offset > values.length - length) {
+            throw new IndexOutOfBoundsException("Range " + offset + " to "
+                    + (offset + length) + " is outside the array.");
+        }
+        count(getSeries(series), values, offset, offset + length);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes all the observations from a series and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param series  the series index (in the range <code>0</code> to
+     *     <code>getSeriesCount() - 1</code>).
+     */
+    public void clearObservations(int series) {
+        BinnedSeries s = getSeries(series);
+        Arrays.fill(s.counts, 0L);
+        s.total = 0L;
+        fireDatasetChanged();
+    }
+
+    /**
+     * Counts a range of values into a series, in parallel if an executor is
+     * set and there are enough values.
+     *
+     * @param s  the series.
+     * @param values  the values.
+     * @param start  the index of the first value.
+     * @param end  the index after the last value.
+     */
+    private void count(BinnedSeries s, double[] values, int start, int end) {
+        int length = end - start;
+        int chunks = 1;
+        if (this.executor != null && length >= MINIMUM_PARALLEL_VALUES) {
+            chunks = Math.min(this.chunkCount,
+                    length / (MINIMUM_PARALLEL_VALUES / 4));
+        }
+        if (chunks <= 1) {
+            s.total += s.count(values, start, end, s.counts);
+            return;
+        }
+        List tasks = new ArrayList();
+        for (int i = 0; i < chunks; i++) {
+            tasks.add(new ChunkTask(s, values,
+                    start + (int) ((long) length * i / chunks),
+                    start + (int) ((long) length * (i + 1) / chunks)));
+        }
+        TaskUtils.runAll(this.executor, tasks);
+        // merge the counts only when all the chunks have succeeded
+        for (int i = 0; i < tasks.size(); i++) {
+            ChunkTask task = (ChunkTask) tasks.get(i);
+            for (int b = 0; b < s.counts.length; b++) {
+                s.counts[b] += task.counts[b];
+            }
+            s.total += task.total;
+        }
+    }
+
+    /**
+     * Returns a series.
+     *
+     * @param series  the series index.
+     *
+     * @return The series.
+     */
+    private BinnedSeries getSeries(int series) {
+        return (BinnedSeries) this.series.get(series);
+    }
+
+    /**
+     * Returns the number of observations counted in a bin.
+     *
+     * @param series  the series index (in the range <code>0</code> to
+     *     <code>getSeriesCount() - 1</code>).
+     * @param item  the bin index (zero based).
+     *
+     * @return The count.
+     */
+    public long getCount(int series, int item) {
+        return getSeries(series).counts[item];
+    }
+
+    /**
+     * Returns the total number of observations for a series (not including
+     * any <code>Double.NaN</code> values).
+     *
+     * @param series  the series index (in the range <code>0</code> to
+     *     <code>getSeriesCount() - 1</code>).
+     *
+     * @return The total.
+     */
+    public long getTotal(int series) {
+        return getSeries(series).total;
+    }
+
+    /**
+     * Returns the number of series in the dataset.
+     *
+     * @return The series count.
+     */
+    @Override
+    public int getSeriesCount() {
+        return this.series.size();
+    }
+
+    /**
+     * Returns the key for a series.
+     *
+     * @param series  the series index (in the range <code>0</code> to
+     *     <code>getSeriesCount() - 1</code>).
+     *
+     * @return The series key.
+     */
+    @Override
+    public Comparable getSeriesKey(int series) {
+        return getSeries(series).key;
+    }
+
+    /**
+     * Returns the number of bins for a series.
+     *
+     * @param series  the series index (in the range <code>0</code> to
+     *     <code>getSeriesCount() - 1</code>).
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount(int series) {
+        return getSeries(series).counts.length;
+    }
+
+    /**
+     * Returns the x-value (the middle of the bin) for a bin.
+     *
+     * @param series  the series index (in the range <code>0</code> to
+     *     <code>getSeriesCount() - 1</code>).
+     * @param item  the bin index (zero based).
+     *
+     * @return The x-value.
+     */
+    @Override
+    public Number getX(int series, int item) {
+        return new Double(getXValue(series, item));
+    }
+
+    /**
+     * Returns the x-value (the middle of the bin) for a bin.
+     *
+     * @param series  the series index (in the range <code>0</code> to
+     *     <code>getSeriesCount() - 1</code>).
+     * @param item  the bin index (zero based).
+     *
+     * @return The x-value.
+     */
+    @Override
+    public double getXValue(int series, int item) {
+        BinnedSeries s = getSeries(series);
+        return (s.getBoundary(item) + s.getBoundary(item + 1)) / 2.0;
+    }
+
+    /**
+     * Returns the y-value for a bin (calculated to take into account the
+     * histogram type).
+     *
+     * @param series  the series index (in the range <code>0</code> to
+     *     <code>getSeriesCount() - 1</code>).
+     * @param item  the bin index (zero based).
+     *
+     * @return The y-value.
+     */
+    @Override
+    public Number getY(int series, int item) {
+        return new Double(getYValue(series, item));
+    }
+
+    /**
+     * Returns the y-value for a bin (calculated to take into account the
+     * histogram type).
+     *
+     * @param series  the series index (in the range <code>0</code> to
+     *     <code>getSeriesCount() - 1</code>).
+     * @param item  the bin index (zero based).
+     *
+     * @return The y-value.
+     */
+    @Override
+    public double getYValue(int series, int item) {
+        BinnedSeries s = getSeries(series);
+        double count = s.counts[item];
+        if (this.type == HistogramType.FREQUENCY) {
+            return count;
+        }
+        else if (this.type == HistogramType.RELATIVE_FREQUENCY) {
+            return count / s.total;
+        }
+        else if (this.type == HistogramType.SCALE_AREA_TO_1) {
+            return count / (s.binWidth * s.total);
+        }
+        else { // pretty sure this shouldn't ever happen
+            throw new IllegalStateException();
+        }
+    }
+
+    /**
+     * Returns the start value for a bin.
+     *
+     * @param series  the series index (in the range <code>0</code> to
+     *     <code>getSeriesCount() - 1</code>).
+     * @param item  the bin index (zero based).
+     *
+     * @return The start value.
+     */
+    @Override
+    public Number getStartX(int series, int item) {
+        return new Double(getStartXValue(series, item));
+    }
+
+    /**
+     * Returns the start value for a bin.
+     *
+     * @param series  the series index (in the range <code>0</code> to
+     *     <code>getSeriesCount() - 1</code>).
+     * @param item  the bin index (zero based).
+     *
+     * @return The start value.
+     */
+    @Override
+    public double getStartXValue(int series, int item) {
+        BinnedSeries s = getSeries(series);
+        if (item < 0 || item >= s.counts.length) {
+            throw new IndexOutOfBoundsException("Index " + item
+                    + " out of bounds.");
+        }
+        return s.getBoundary(item);
+    }
+
+    /**
+     * Returns the end value for a bin.
+     *
+     * @param series  the series index (in the range <code>0</code> to
+     *     <code>getSeriesCount() - 1</code>).
+     * @param item  the bin index (zero based).
+     *
+     * @return The end value.
+     */
+    @Override
+    public Number getEndX(int series, int item) {
+        return new Double(getEndXValue(series, item));
+    }
+
+    /**
+     * Returns the end value for a bin.
+     *
+     * @param series  the series index (in the range <code>0</code> to
+     *     <code>getSeriesCount() - 1</code>).
+     * @param item  the bin index (zero based).
+     *
+     * @return The end value.
+     */
+    @Override
+    public double getEndXValue(int series, int item) {
+        BinnedSeries s = getSeries(series);
+        if (item < 0 || item >= s.counts.length) {
+            throw new IndexOutOfBoundsException("Index " + item
+                    + " out of bounds.");
+        }
+        return s.getBoundary(item + 1);
+    }
+
+    /**
+     * Returns the start y-value for a bin (which is the same as the y-value,
+     * this method exists only to support the general form of the
+     * {@link IntervalXYDataset} interface).
+     *
+     * @param series  the series index (in the range <code>0</code> to
+     *     <code>getSeriesCount() - 1</code>).
+     * @param item  the bin index (zero based).
+     *
+     * @return The y-value.
+     */
+    @Override
+    public Number getStartY(int series, int item) {
+        return getY(series, item);
+    }
+
+    /**
+     * Returns the start y-value for a bin (which is the same as the y-value,
+     * this method exists only to support the general form of the
+     * {@link IntervalXYDataset} interface).
+     *
+     * @param series  the series index (in the range <code>0</code> to
+     *     <code>getSeriesCount() - 1</code>).
+     * @param item  the bin index (zero based).
+     *
+     * @return The y-value.
+     */
+    @Override
+    public double getStartYValue(int series, int item) {
+        return getYValue(series, item);
+    }
+
+    /**
+     * Returns the end y-value for a bin (which is the same as the y-value,
+     * this method exists only to support the general form of the
+     * {@link IntervalXYDataset} interface).
+     *
+     * @param series  the series index (in the range <code>0</code> to
+     *     <code>getSeriesCount() - 1</code>).
+     * @param item  the bin index (zero based).
+     *
+     * @return The y-value.
+     */
+    @Override
+    public Number getEndY(int series, int item) {
+        return getY(series, item);
+    }
+
+    /**
+     * Returns the end y-value for a bin (which is the same as the y-value,
+     * this method exists only to support the general form of the
+     * {@link IntervalXYDataset} interface).
+     *
+     * @param series  the series index (in the range <code>0</code> to
+     *     <code>getSeriesCount() - 1</code>).
+     * @param item  the bin index (zero based).
+     *
+     * @return The y-value.
+     */
+    @Override
+    public double getEndYValue(int series, int item) {
+        return getYValue(series, item);
+    }
+
+    /**
+     * Tests this dataset for equality with an arbitrary object.  The
+     * executor and chunk count are not considered.
+     *
+     * @param obj  the object to test against (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof BinnedHistogramDataset)) {
+            return false;
+        }
+        BinnedHistogramDataset that = (BinnedHistogramDataset) obj;
+        if (!ObjectUtilities.equal(this.type, that.type)) {
+            return false;
+        }
+        if (!ObjectUtilities.equal(this.series, that.series)) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        return 37 * this.type.hashCode() + this.series.hashCode();
+    }
+
+    /**
+     * Returns a clone of the dataset.  The clone shares the executor, if
+     * there is one.
+     *
+     * @return A clone of the dataset.
+     *
+     * @throws CloneNotSupportedException if the object cannot be cloned.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        BinnedHistogramDataset clone = (BinnedHistogramDataset) super.clone();
+        clone.series = new ArrayList(this.series.size());
+        for (int i = 0; i < this.series.size(); i++) {
+            clone.series.add(getSeries(i).clone());
+        }
+        return clone;
+    }
+
+    /**
+     * The bins and counts for one series.
+     */
+    private static class BinnedSeries implements Cloneable, Serializable {
+
+        /** For serialization. */
+        private static final long serialVersionUID = -4157350626347381021L;
+
+        /** The series key. */
+        private Comparable key;
+
+        /** The lower bound of the bin range. */
+        private double minimum;
+
+        /** The upper bound of the bin range. */
+        private double maximum;
+
+        /** The bin width. */
+        private double binWidth;
+
+        /** The number of bins per unit, used to find the bin for a value. */
+        private double scale;
+
+        /** The counts. */
+        private long[] counts;
+
+        /** The total number of observations. */
+        private long total;
+
+        /**
+         * Creates a new series with no observations.
+         *
+         * @param key  the key.
+         * @param bins  the number of bins.
+         * @param minimum  the lower bound of the bin range.
+         * @param maximum  the upper bound of the bin range.
+         */
+        BinnedSeries(Comparable key, int bins, double minimum,
+                double maximum) {
+            this.key = key;
+            this.minimum = minimum;
+            this.maximum = maximum;
+            this.binWidth = (maximum - minimum) / bins;
+            this.scale = bins / (maximum - minimum);
+            this.counts = new long[bins];
+        }
+
+        /**
+         * Returns a bin boundary, calculated in the same way as in
+         * {@link HistogramDataset}.
+         *
+         * @param index  the boundary index (<code>0</code> to the number of
+         *     bins).
+         *
+         * @return The boundary.
+         */
+        double getBoundary(int index) {
+            if (index == this.counts.length) {
+                return this.maximum;
+            }
+            return index == 0 ? this.minimum
+                    : this.minimum + index * this.binWidth;
+        }
+
+        /**
+         * Adds one observation.
+         *
+         * @param value  the value.
+         */
+        void add(double value) {
+            if (!Double.isNaN(value)) {
+                this.counts[binIndex(value)]++;
+                this.total++;
+            }
+        }
+
+        /**
+         * Counts a range of values into an array of counts.
+         *
+         * @param values  the values.
+         * @param start  the index of the first value.
+         * @param end  the index after the last value.
+         * @param target  the counts to add to.
+         *
+         * @return The number of values counted.
+         */
+        long count(double[] values, int start, int end, long[] target) {
+            long n = 0;
+            for (int i = start; i < end; i++) {
+                double v = values[i];
+                if (v == v) { // not NaN
+                    target[binIndex(v)]++;
+                    n++;
+                }
+            }
+            return n;
+        }
+
+        /**
+         * Returns the index of the bin for a value.  The estimate from a
+         * multiplication is corrected against the bin boundaries, so that a
+         * value on a boundary is always counted in the higher bin.
+         *
+         * @param value  the value (not <code>Double.NaN</code>).
+         *
+         * @return The bin index.
+         */
+        int binIndex(double value) {
+            int last = this.counts.length - 1;
+            if (value >= this.maximum) {
+                return last;
+            }
+            double estimate = (value - this.minimum) * this.scale;
+            if (!(estimate > 0.0)) {
+                return 0;
+            }
+            int index = estimate >= last ? last : (int) estimate;
+            if (index < last && value >= getBoundary(index + 1)) {
+                index++;
+            }
+            else if (index > 0 && value < getBoundary(index)) {
+                index--;
+            }
+            return index;
+        }
+
+        /**
+         * Tests this series for equality with an arbitrary object.
+         *
+         * @param obj  the object (<code>null</code> permitted).
+         *
+         * @return A boolean.
+         */
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof BinnedSeries)) {
+                return false;
+            }
+            BinnedSeries that = (BinnedSeries) obj;
+            if (!this.key.equals(that.key)) {
+                return false;
+            }
+            if (Double.doubleToLongBits(this.minimum)
+                    != Double.doubleToLongBits(that.minimum)) {
+                return false;
+            }
+            if (Double.doubleToLongBits(this.maximum)
+                    != Double.doubleToLongBits(that.maximum)) {
+                return false;
+            }
+            if (this.total != that.total) {
+                return false;
+            }
+            return Arrays.equals(this.counts, that.counts);
+        }
+
+        /**
+         * Returns a hash code for this instance.
+         *
+         * @return A hash code.
+         */
+        @Override
+        public int hashCode() {
+            return 37 * this.key.hashCode() + Arrays.hashCode(this.counts);
+        }
+
+        /**
+         * Returns a clone of the series.
+         *
+         * @return A clone.
+         *
+         * @throws CloneNotSupportedException not thrown by this class.
+         */
+        @Override
+        public Object clone() throws CloneNotSupportedException {
+            BinnedSeries clone = (BinnedSeries) super.clone();
+            clone.counts = (long[]) this.counts.clone();
+            return clone;
+        }
+
+    }
+
+    /**
+     * A task that counts one chunk of an array of values into its own
+     * array of counts.
+     */
+    private static class ChunkTask implements Callable {
+
+        /** The series. */
+        private BinnedSeries series;
+
+        /** The values. */
+        private double[] values;
+
+        /** The index of the first value. */
+        private int start;
+
+        /** The index after the last value. */
+        private int end;
+
+        /** The counts for this chunk. */
+        private long[] counts;
+
+        /** The number of values counted. */
+        private long total;
+
+        /**
+         * Creates a new task.
+         *
+         * @param series  the series.
+         * @param values  the values.
+         * @param start  the index of the first value.
+         * @param end  the index after the last value.
+         */
+        ChunkTask(BinnedSeries series, double[] values, int start, int end) {
+            this.series = series;
+            this.values = values;
+            this.start = start;
+            this.end = end;
+            this.counts = new long[series.counts.length];
+        }
+
+        /**
+         * Counts the chunk.
+         *
+         * @return <code>null</code>.
+         */
+        @Override
+        public Object call() {
+            this.total = this.series.count(this.values, this.start,
+                    this.end, this.counts);
+            return null;
+        }
+
+    }
+
+}
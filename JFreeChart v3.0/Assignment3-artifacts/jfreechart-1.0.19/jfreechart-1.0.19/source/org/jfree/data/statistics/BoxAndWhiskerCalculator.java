@@ -48,6 +48,7 @@
 package org.jfree.data.statistics;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -56,7 +57,7 @@ import org.jfree.chart.util.ParamChecks;
 /**
  * A utility class that calculates the mean, median, quartiles Q1 and Q3, plus
  * a list of outlier values...all from an arbitrary list of
- * <code>Number</code> objects.
+ * <code>Number</code> objects or an array of <code>double</code> values.
  */
 public abstract class BoxAndWhiskerCalculator {
 
@@ -166,6 +167,125 @@ public abstract class BoxAndWhiskerCalculator {
 
     }
 
+    /**
+     * Calculates the statistics required for a {@link BoxAndWhiskerItem}
+     * from an array of values.  Any values that are <code>Double.NaN</code>
+     * will be ignored.  The array is not modified.
+     * <P>
+     * The results are the same as for
+     * {@link #calculateBoxAndWhiskerStatistics(List)} (apart from rounding
+     * in the mean), but the quartiles are found by selection rather than by
+     * sorting all the values, so this method is much faster for large
+     * arrays.
+     *
+     * @param values  the values (<code>null</code> not permitted).
+     *
+     * @return A box-and-whisker item.
+     *
+     * @since 1.0.20
+     */
+    public static BoxAndWhiskerItem calculateStatistics(double[] values) {
+        return calculateStatistics(values, true);
+    }
+
+    /**
+     * Calculates the statistics required for a {@link BoxAndWhiskerItem}
+     * from an array of values.  Any values that are <code>Double.NaN</code>
+     * will be ignored.
+     *
+     * @param values  the values (<code>null</code> not permitted).
+     * @param copy  if <code>false</code>, the values are reordered in place
+     *     (with any <code>Double.NaN</code> values moved to the end) rather
+     *     than in a copy of the array, which saves memory for very large
+     *     arrays.
+     *
+     * @return A box-and-whisker item.
+     *
+     * @since 1.0.20
+     */
+    public static BoxAndWhiskerItem calculateStatistics(double[] values,
+            boolean copy) {
+
+        ParamChecks.nullNotPermitted(values, "values");
+
+        double[] a = copy ? new double[values.length] : values;
+        int count = 0;
+        double total = 0.0;
+        for (int i = 0; i < values.length; i++) {
+            double v = values[i];
+            if (!Double.isNaN(v)) {
+                total += v;
+                a[count++] = v;
+            }
+        }
+        if (!copy) {
+            Arrays.fill(a, count, a.length, Double.NaN);
+        }
+
+        double mean = count > 0 ? total / count : Double.NaN;
+        double median = Double.NaN;
+        double q1 = Double.NaN;
+        double q3 = Double.NaN;
+        if (count > 0) {
+            // the selections must be made in ascending order
+            OrderStatistics os = new OrderStatistics(a, count);
+            if (count == 1) {
+                q1 = os.median(0, 1);
+                median = q1;
+                q3 = q1;
+            }
+            else {
+                q1 = os.median(0, count % 2 == 1 ? count / 2 + 1 : count / 2);
+                median = os.median(0, count);
+                q3 = os.median(count / 2, count - count / 2);
+            }
+        }
+
+        double interQuartileRange = q3 - q1;
+
+        double upperOutlierThreshold = q3 + (interQuartileRange * 1.5);
+        double lowerOutlierThreshold = q1 - (interQuartileRange * 1.5);
+
+        double upperFaroutThreshold = q3 + (interQuartileRange * 2.0);
+        double lowerFaroutThreshold = q1 - (interQuartileRange * 2.0);
+
+        double minRegularValue = Double.POSITIVE_INFINITY;
+        double maxRegularValue = Double.NEGATIVE_INFINITY;
+        double minOutlier = Double.POSITIVE_INFINITY;
+        double maxOutlier = Double.NEGATIVE_INFINITY;
+        List outliers = new ArrayList();
+
+        for (int i = 0; i < count; i++) {
+            double value = a[i];
+            if (value > upperOutlierThreshold) {
+                outliers.add(new Double(value));
+                if (value > maxOutlier && value <= upperFaroutThreshold) {
+                    maxOutlier = value;
+                }
+            }
+            else if (value < lowerOutlierThreshold) {
+                outliers.add(new Double(value));
+                if (value < minOutlier && value >= lowerFaroutThreshold) {
+                    minOutlier = value;
+                }
+            }
+            else {
+                minRegularValue = Math.min(minRegularValue, value);
+                maxRegularValue = Math.max(maxRegularValue, value);
+            }
+        }
+        minOutlier = Math.min(minOutlier, minRegularValue);
+        maxOutlier = Math.max(maxOutlier, maxRegularValue);
+        // the list-based method returns the outliers in ascending order
+        Collections.sort(outliers);
+
+        return new BoxAndWhiskerItem(new Double(mean), new Double(median),
+                new Double(q1), new Double(q3), new Double(minRegularValue),
+                new Double(maxRegularValue), new Double(minOutlier),
+                new Double(maxOutlier), outliers);
+
+    }
+
     /**
      * Calculates the first quartile for a list of numbers in ascending order.
      * If the items in the list are not in ascending order, the result is
@@ -233,4 +353,135 @@ public abstract class BoxAndWhiskerCalculator {
         return result;
     }
 
+    /**
+     * Finds values by rank in an array, using quickselect.  Each selection
+     * leaves the selected value in its sorted position, with no larger
+     * values before it and no smaller values after it, so the selections
+     * must be made in ascending order of rank and each one only needs to
+     * search the part of the array after the previous one.
+     */
+    private static class OrderStatistics {
+
+        /** The values. */
+        private double[] values;
+
+        /** The number of values. */
+        private int count;
+
+        /** The rank of the last value selected (-1 initially). */
+        private int last;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param values  the values (without <code>Double.NaN</code>).
+         * @param count  the number of values.
+         */
+        OrderStatistics(double[] values, int count) {
+            this.values = values;
+            this.count = count;
+            this.last = -1;
+        }
+
+        /**
+         * Returns the median of the values with ranks in the specified
+         * range, calculated in the same way as
+         * {@link Statistics#calculateMedian(List, int, int, boolean)}.
+         *
+         * @param start  the lowest rank.
+         * @param length  the number of ranks (greater than zero).
+         *
+         * @return The median.
+         */
+        double median(int start, int length) {
+            if (length % 2 == 1) {
+                return get(start + (length - 1) / 2);
+            }
+            double v1 = get(start + length / 2 - 1);
+            double v2 = get(start + length / 2);
+            return (v1 + v2) / 2.0;
+        }
+
+        /**
+         * Returns the value with the specified rank.
+         *
+         * @param k  the rank (not less than the rank of the previous call).
+         *
+         * @return The value.
+         */
+        double get(int k) {
+            if (k > this.last) {
+                select(this.last + 1, this.count - 1, k);
+                this.last = k;
+            }
+            return this.values[k];
+        }
+
+        /**
+         * Moves the value with rank <code>k</code> within a range of the
+         * array to position <code>k</code>, using three-way partitioning so
+         * that repeated values are handled efficiently.  If the partitioning
+         * is not converging, the range is sorted instead.
+         *
+         * @param lo  the start of the range.
+         * @param hi  the end of the range (inclusive).
+         * @param k  the rank.
+         */
+        private void select(int lo, int hi, int k) {
+            double[] a = this.values;
+            int limit = 2 * (32 - Integer.numberOfLeadingZeros(hi - lo + 1));
+            while (hi > lo) {
+                if (limit-- == 0) {
+                    Arrays.sort(a, lo, hi + 1);
+                    return;
+                }
+                double pivot = medianOfThree(a[lo], a[(lo + hi) >>> 1],
+                        a[hi]);
+                int lt = lo;
+                int i = lo;
+                int gt = hi;
+                while (i <= gt) {
+                    double v = a[i];
+                    if (v < pivot) {
+                        a[i++] = a[lt];
+                        a[lt++] = v;
+                    }
+                    else if (v > pivot) {
+                        a[i] = a[gt];
+                        a[gt--] = v;
+                    }
+                    else {
+                        i++;
+                    }
+                }
+                if (k < lt) {
+                    hi = lt - 1;
+                }
+                else if (k > gt) {
+                    lo = gt + 1;
+                }
+                else {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Returns the median of three values.
+         *
+         * @param a  the first value.
+         * @param b  the second value.
+         * @param c  the third value.
+         *
+         * @return The median.
+         */
+        private static double medianOfThree(double a, double b, double c) {
+            if (a < b) {
+                return b < c ? b : (a < c ? c : a);
+            }
+            return a < c ? a : (b < c ? c : b);
+        }
+
+    }
+
 }
@@ -0,0 +1,391 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------
+ * DatasetRegression.java
+ * ----------------------
+ * (C) Copyright 2014, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import org.jfree.chart.util.ParamChecks;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
+import org.jfree.data.general.Series;
+import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.data.xy.XYDataset;
+import org.jfree.data.xy.XYSeriesCollection;
+
+/**
+ * Keeps a {@link RegressionAccumulator} up to date with one series in an
+ * {@link XYDataset}, so that a trend line can be fitted to a series that
+ * is growing without going through all the items each time.  The
+ * regression registers itself as a listener with the dataset.  When items
+ * are appended to the series (including when the oldest items are removed
+ * at the same time, as happens when a series has a maximum item count),
+ * only the new and removed items are processed.  Any other change to the
+ * series causes the sums to be calculated again.
+ * <P>
+ * For an {@link XYSeriesCollection} or a {@link TimeSeriesCollection}, the
+ * series' modification count (see {@link Series#getModificationCount()})
+ * shows whether items were only appended, so each change costs time in
+ * proportion to the number of new and removed items.  For other datasets,
+ * every item that was already in the series is compared with the stored
+ * values.
+ * <P>
+ * A copy of the x- and y-values is kept so that items removed from the
+ * series can be removed from the sums.
+ *
+ * @since 1.0.20
+ */
+public class DatasetRegression implements DatasetChangeListener {
+
+    /** The dataset. */
+    private XYDataset dataset;
+
+    /** The series index. */
+    private int series;
+
+    /** The running sums. */
+    private RegressionAccumulator accumulator;
+
+    /** The index of the first item in the arrays below. */
+    private int start;
+
+    /** The number of items. */
+    private int itemCount;
+
+    /** The x-values added to the accumulator. */
+    private double[] xValues;
+
+    /** The y-values added to the accumulator. */
+    private double[] yValues;
+
+    /** The number of items removed since the sums were last calculated. */
+    private int removedCount;
+
+    /**
+     * The series in the dataset when the sums were last updated
+     * (<code>null</code> if the dataset does not provide access to its
+     * series).
+     */
+    private Series source;
+
+    /** The series' modification count when the sums were last updated. */
+    private long modificationCount;
+
+    /** The series' removed item count when the sums were last updated. */
+    private long removedItemCount;
+
+    /**
+     * Creates a new regression for a series in a dataset.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param series  the series index.
+     * @param order  the order for the polynomial fit (must be greater than
+     *     zero).
+     */
+    public DatasetRegression(XYDataset dataset, int series, int order) {
+        ParamChecks.nullNotPermitted(dataset, "dataset");
+        if (series < 0 || series >= dataset.getSeriesCount()) {
+            throw new IllegalArgumentException("Invalid 'series' index.");
+        }
+        this.dataset = dataset;
+        this.series = series;
+        this.accumulator = new RegressionAccumulator(order);
+        this.xValues = new double[16];
+        this.yValues = new double[16];
+        recalculate();
+        dataset.addChangeListener(this);
+    }
+
+    /**
+     * Returns the dataset.
+     *
+     * @return The dataset (never <code>null</code>).
+     */
+    public XYDataset getDataset() {
+        return this.dataset;
+    }
+
+    /**
+     * Returns the series index.
+     *
+     * @return The series index.
+     */
+    public int getSeries() {
+        return this.series;
+    }
+
+    /**
+     * Returns the accumulator for the series.  The accumulator should not
+     * be modified directly.
+     *
+     * @return The accumulator (never <code>null</code>).
+     */
+    public RegressionAccumulator getAccumulator() {
+        return this.accumulator;
+    }
+
+    /**
+     * Returns the parameters 'a' and 'b' for an equation y = a + bx, fitted
+     * to the series using ordinary least squares regression.
+     *
+     * @return The parameters.
+     *
+     * @see RegressionAccumulator#getOLSRegression()
+     */
+    public double[] getOLSRegression() {
+        return this.accumulator.getOLSRegression();
+    }
+
+    /**
+     * Returns the parameters 'a' and 'b' for an equation y = ax^b, fitted
+     * to the series using a power regression equation.
+     *
+     * @return The parameters.
+     *
+     * @see RegressionAccumulator#getPowerRegression()
+     */
+    public double[] getPowerRegression() {
+        return this.accumulator.getPowerRegression();
+    }
+
+    /**
+     * Returns the parameters of a polynomial fitted to the series.
+     *
+     * @return The parameters.
+     *
+     * @see RegressionAccumulator#getPolynomialRegression()
+     */
+    public double[] getPolynomialRegression() {
+        return this.accumulator.getPolynomialRegression();
+    }
+
+    /**
+     * Stops the regression from listening to the dataset.
+     */
+    public void dispose() {
+        this.dataset.removeChangeListener(this);
+    }
+
+    /**
+     * Receives notification that the dataset has changed, and updates the
+     * sums.
+     *
+     * @param event  the event.
+     */
+    @Override
+    public void datasetChanged(DatasetChangeEvent event) {
+        if (!update()) {
+            recalculate();
+        }
+    }
+
+    /**
+     * Updates the sums if the only changes to the series are items appended
+     * at the end and items removed from the start.
+     *
+     * @return A boolean indicating whether the sums were updated (if
+     *     <code>false</code>, they must be calculated again).
+     */
+    private boolean update() {
+        if (this.series >= this.dataset.getSeriesCount()) {
+            return false;
+        }
+        int count = this.dataset.getItemCount(this.series);
+        int removed = findRemovedItems(count);
+        if (removed < 0) {
+            return false;
+        }
+        int kept = this.itemCount - removed;
+        if (count < kept) {
+            return false;
+        }
+        for (int i = 0; i < removed; i++) {
+            this.accumulator.remove(this.xValues[this.start + i],
+                    this.yValues[this.start + i]);
+        }
+        this.start += removed;
+        this.itemCount = kept;
+        this.removedCount += removed;
+        if (this.removedCount > kept) {
+            // limit the build up of rounding errors from the removals
+            return false;
+        }
+        for (int i = kept; i < count; i++) {
+            addItem(this.dataset.getXValue(this.series, i),
+                    this.dataset.getYValue(this.series, i));
+        }
+        recordCounts();
+        return true;
+    }
+
+    /**
+     * Returns the number of items that have been removed from the start of
+     * the series since the sums were last updated, or <code>-1</code> if the
+     * series has changed in any other way than by items appended at the end
+     * and items removed from the start.
+     *
+     * @param count  the number of items in the series.
+     *
+     * @return The number of items removed, or <code>-1</code>.
+     */
+    private int findRemovedItems(int count) {
+        Series s = getSource();
+        if (s != null) {
+            if (s != this.source
+                    || s.getModificationCount() != this.modificationCount) {
+                return -1;
+            }
+            long removed = s.getRemovedItemCount() - this.removedItemCount;
+            return (removed > this.itemCount ? -1 : (int) removed);
+        }
+        if (this.itemCount == 0 || count == 0) {
+            return -1;
+        }
+        // find the item that is now the first item in the series
+        int removed = 0;
+        while (removed < this.itemCount
+                && !matches(this.start + removed, 0)) {
+            removed++;
+        }
+        int kept = this.itemCount - removed;
+        if (kept == 0 || count < kept) {
+            return -1;
+        }
+        // without a modification count, every item kept must be compared
+        for (int i = 1; i < kept; i++) {
+            if (!matches(this.start + removed + i, i)) {
+                return -1;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Returns the series in the dataset, if the dataset is one that provides
+     * access to its series.
+     *
+     * @return The series (possibly <code>null</code>).
+     */
+    private Series getSource() {
+        if (this.dataset instanceof XYSeriesCollection) {
+            return ((XYSeriesCollection) this.dataset).getSeries(this.series);
+        }
+        if (this.dataset instanceof TimeSeriesCollection) {
+            return ((TimeSeriesCollection) this.dataset).getSeries(
+                    this.series);
+        }
+        return null;
+    }
+
+    /**
+     * Records the series and its change counts, so that the next update can
+     * tell whether items were only appended.
+     */
+    private void recordCounts() {
+        this.source = getSource();
+        if (this.source != null) {
+            this.modificationCount = this.source.getModificationCount();
+            this.removedItemCount = this.source.getRemovedItemCount();
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if a stored item has the same x and y-values
+     * as an item in the series.
+     *
+     * @param index  the index in the stored arrays.
+     * @param item  the item index in the series.
+     *
+     * @return A boolean.
+     */
+    private boolean matches(int index, int item) {
+        return Double.doubleToLongBits(this.xValues[index])
+                == Double.doubleToLongBits(this.dataset.getXValue(
+                this.series, item))
+                && Double.doubleToLongBits(this.yValues[index])
+                == Double.doubleToLongBits(this.dataset.getYValue(
+                this.series, item));
+    }
+
+    /**
+     * Calculates the sums again from all the items in the series.
+     */
+    private void recalculate() {
+        this.accumulator.clear();
+        this.start = 0;
+        this.itemCount = 0;
+        this.removedCount = 0;
+        if (this.series >= this.dataset.getSeriesCount()) {
+            this.source = null;
+            return;
+        }
+        int count = this.dataset.getItemCount(this.series);
+        for (int i = 0; i < count; i++) {
+            addItem(this.dataset.getXValue(this.series, i),
+                    this.dataset.getYValue(this.series, i));
+        }
+        recordCounts();
+    }
+
+    /**
+     * Adds an item to the accumulator and stores its values.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value.
+     */
+    private void addItem(double x, double y) {
+        if (this.start + this.itemCount == this.xValues.length) {
+            int capacity = this.xValues.length;
+            if (this.itemCount >= capacity / 2) {
+                capacity = capacity * 2;
+            }
+            double[] xs = new double[capacity];
+            double[] ys = new double[capacity];
+            System.arraycopy(this.xValues, this.start, xs, 0, this.itemCount);
+            System.arraycopy(this.yValues, this.start, ys, 0, this.itemCount);
+            this.xValues = xs;
+            this.yValues = ys;
+            this.start = 0;
+        }
+        this.xValues[this.start + this.itemCount] = x;
+        this.yValues[this.start + this.itemCount] = y;
+        this.itemCount++;
+        this.accumulator.add(x, y);
+    }
+
+}
@@ -128,6 +128,26 @@ public class DefaultBoxAndWhiskerCategoryDataset extends AbstractDataset
         add(item, rowKey, columnKey);
     }
 
+    /**
+     * Adds an array of values relating to one box-and-whisker entity to the
+     * table.  The various median values are calculated (by the
+     * {@link BoxAndWhiskerCalculator}), and the array is not modified.
+     *
+     * @param values  the values (<code>null</code> not permitted).
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     *
+     * @see #add(List, Comparable, Comparable)
+     *
+     * @since 1.0.20
+     */
+    public void add(double[] values, Comparable rowKey,
+            Comparable columnKey) {
+        BoxAndWhiskerItem item = BoxAndWhiskerCalculator
+                .calculateStatistics(values);
+        add(item, rowKey, columnKey);
+    }
+
     /**
      * Adds a list of values relating to one Box and Whisker entity to the
      * table.  The various median values are calculated.
@@ -0,0 +1,452 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------
+ * RegressionAccumulator.java
+ * --------------------------
+ * (C) Copyright 2014, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import org.jfree.util.PublicCloneable;
+
+/**
+ * Maintains running sums for fitting regression curves to a stream of data
+ * items, so that the fitted parameters can be found at any time without
+ * revisiting the items.  Adding or removing an item takes O(k) time and
+ * the parameters are found in O(1) time for a linear or power fit and in
+ * O(k<sup>3</sup>) time for a polynomial fit, where k is the order of the
+ * polynomial (usually small).  The results are the same (apart from
+ * rounding) as those from the corresponding methods in {@link Regression}.
+ * <P>
+ * The x-values are measured from the first x-value added, which keeps the
+ * sums well conditioned when the x-values are large (for example,
+ * millisecond time values).  Items with a <code>Double.NaN</code> x- or
+ * y-value are ignored.
+ *
+ * @see DatasetRegression
+ *
+ * @since 1.0.20
+ */
+public class RegressionAccumulator implements Cloneable, PublicCloneable,
+        Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -3180458626911624813L;
+
+    /** The order of the polynomial fit. */
+    private int order;
+
+    /** The x-value that the other x-values are measured from. */
+    private double origin;
+
+    /** The sums of u^k, where u = x - origin (k = 0 to 2 * order). */
+    private double[] powerSums;
+
+    /** The sums of u^k * y (k = 0 to order). */
+    private double[] productSums;
+
+    /** The sum of y^2. */
+    private double sumYY;
+
+    /** The number of items with positive x and y-values. */
+    private long logCount;
+
+    /** The sum of ln(x) for the items with positive x and y-values. */
+    private double sumLogX;
+
+    /** The sum of ln(y) for the items with positive x and y-values. */
+    private double sumLogY;
+
+    /** The sum of ln(x)^2 for the items with positive x and y-values. */
+    private double sumLogXX;
+
+    /** The sum of ln(x)ln(y) for the items with positive x and y-values. */
+    private double sumLogXY;
+
+    /**
+     * Creates a new accumulator for linear and power fits (and polynomial
+     * fits of order 1).
+     */
+    public RegressionAccumulator() {
+        this(1);
+    }
+
+    /**
+     * Creates a new accumulator.
+     *
+     * @param order  the order of the polynomial returned by
+     *     {@link #getPolynomialRegression()} (must be greater than zero).
+     */
+    public RegressionAccumulator(int order) {
+        if (order <= 0) {
+            throw new IllegalArgumentException("Requires 'order' > 0.");
+        }
+        this.order = order;
+        this.powerSums = new double[2 * order + 1];
+        this.productSums = new double[order + 1];
+        this.origin = Double.NaN;
+    }
+
+    /**
+     * Returns the order of the polynomial fit.
+     *
+     * @return The order.
+     */
+    public int getOrder() {
+        return this.order;
+    }
+
+    /**
+     * Returns the number of items added (and not removed).
+     *
+     * @return The item count.
+     */
+    public long getItemCount() {
+        return (long) this.powerSums[0];
+    }
+
+    /**
+     * Adds an item.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value.
+     */
+    public void add(double x, double y) {
+        update(x, y, 1.0);
+    }
+
+    /**
+     * Removes an item that was previously added (for example, when it
+     * leaves a sliding window).  Repeated removals can lead to a build up
+     * of rounding errors, so if most of the items are replaced over time it
+     * is a good idea to {@link #clear()} the accumulator and add the
+     * current items again from time to time.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value.
+     */
+    public void remove(double x, double y) {
+        update(x, y, -1.0);
+    }
+
+    /**
+     * Adds an item to or removes an item from the sums.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value.
+     * @param sign  1.0 to add the item or -1.0 to remove it.
+     */
+    private void update(double x, double y, double sign) {
+        if (Double.isNaN(x) || Double.isNaN(y)) {
+            return;
+        }
+        if (Double.isNaN(this.origin)) {
+            this.origin = x;
+        }
+        double u = x - this.origin;
+        double p = sign;
+        for (int k = 0; k < this.powerSums.length; k++) {
+            this.powerSums[k] += p;
+            if (k < this.productSums.length) {
+                this.productSums[k] += p * y;
+            }
+            p *= u;
+        }
+        this.sumYY += sign * y * y;
+        if (x > 0.0 && y > 0.0) {
+            double lx = Math.log(x);
+            double ly = Math.log(y);
+            this.logCount += (long) sign;
+            this.sumLogX += sign * lx;
+            this.sumLogY += sign * ly;
+            this.sumLogXX += sign * lx * lx;
+            this.sumLogXY += sign * lx * ly;
+        }
+    }
+
+    /**
+     * Removes all the items.
+     */
+    public void clear() {
+        this.origin = Double.NaN;
+        Arrays.fill(this.powerSums, 0.0);
+        Arrays.fill(this.productSums, 0.0);
+        this.sumYY = 0.0;
+        this.logCount = 0L;
+        this.sumLogX = 0.0;
+        this.sumLogY = 0.0;
+        this.sumLogXX = 0.0;
+        this.sumLogXY = 0.0;
+    }
+
+    /**
+     * Returns the parameters 'a' and 'b' for an equation y = a + bx, fitted
+     * to the items using ordinary least squares regression.  The result is
+     * returned as a double[], where result[0] --&gt; a, and
+     * result[1] --&gt; b.
+     *
+     * @return The parameters.
+     *
+     * @throws IllegalArgumentException if there are fewer than two items.
+     *
+     * @see Regression#getOLSRegression(double[][])
+     */
+    public double[] getOLSRegression() {
+        double n = this.powerSums[0];
+        if (n < 2) {
+            throw new IllegalArgumentException("Not enough data.");
+        }
+        double sumU = this.powerSums[1];
+        double suu = this.powerSums[2] - (sumU * sumU) / n;
+        double suy = this.productSums[1] - (sumU * this.productSums[0]) / n;
+        double ubar = sumU / n;
+        double ybar = this.productSums[0] / n;
+
+        double[] result = new double[2];
+        result[1] = suy / suu;
+        result[0] = ybar - result[1] * (ubar + this.origin);
+        return result;
+    }
+
+    /**
+     * Returns the parameters 'a' and 'b' for an equation y = ax^b, fitted
+     * to the items using a power regression equation.  Only the items with
+     * x- and y-values greater than zero are used.  The result is returned
+     * as an array, where double[0] --&gt; a, and double[1] --&gt; b.
+     *
+     * @return The parameters.
+     *
+     * @throws IllegalArgumentException if there are fewer than two items
+     *     with positive x- and y-values.
+     *
+     * @see Regression#getPowerRegression(double[][])
+     */
+    public double[] getPowerRegression() {
+        double n = this.logCount;
+        if (n < 2) {
+            throw new IllegalArgumentException("Not enough data.");
+        }
+        double sxx = this.sumLogXX - (this.sumLogX * this.sumLogX) / n;
+        double sxy = this.sumLogXY - (this.sumLogX * this.sumLogY) / n;
+        double xbar = this.sumLogX / n;
+        double ybar = this.sumLogY / n;
+
+        double[] result = new double[2];
+        result[1] = sxy / sxx;
+        result[0] = Math.exp(ybar - result[1] * xbar);
+        return result;
+    }
+
+    /**
+     * Returns the parameters of a polynomial of the order specified in the
+     * constructor, fitted to the items using the method of least squares.
+     * The result is returned as an array in the same form as for the
+     * <code>getPolynomialRegression()</code> method in {@link Regression}:
+     * the coefficients for the powers of x, from x^0 to x^order, followed
+     * by the coefficient of determination (R^2).  The coefficients are
+     * <code>Double.NaN</code> if they cannot be determined (for example, if
+     * all the items have the same x-value).
+     *
+     * @return The parameters.
+     *
+     * @throws IllegalArgumentException if there are fewer than
+     *     <code>order + 1</code> items.
+     */
+    public double[] getPolynomialRegression() {
+        int size = this.order + 1;
+        double n = this.powerSums[0];
+        if (n < size) {
+            throw new IllegalArgumentException("Not enough data.");
+        }
+        double[] c = solveNormalEquations();
+        double[] result = new double[size + 1];
+
+        // the fitted values satisfy sum(yFit^2) = c . productSums
+        double ybar = this.productSums[0] / n;
+        double regression = -n * ybar * ybar;
+        for (int i = 0; i < size; i++) {
+            regression += c[i] * this.productSums[i];
+        }
+        result[size] = regression / (this.sumYY - n * ybar * ybar);
+
+        // change from powers of (x - origin) to powers of x
+        for (int i = 0; i < size; i++) {
+            double binomial = 1.0;
+            double shift = 1.0;
+            double sum = 0.0;
+            for (int j = i; j < size; j++) {
+                sum += c[j] * binomial * shift;
+                binomial = binomial * (j + 1) / (j + 1 - i);
+                shift *= -this.origin;
+            }
+            result[i] = sum;
+        }
+        return result;
+    }
+
+    /**
+     * Solves the normal equations for the polynomial coefficients (in
+     * powers of <code>x - origin</code>) by Cholesky decomposition.
+     *
+     * @return The coefficients (all <code>Double.NaN</code> if the
+     *     equations are singular).
+     */
+    private double[] solveNormalEquations() {
+        int size = this.order + 1;
+        double[][] l = new double[size][size];
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j <= i; j++) {
+                double sum = this.powerSums[i + j];
+                for (int k = 0; k < j; k++) {
+                    sum -= l[i][k] * l[j][k];
+                }
+                if (i == j) {
+                    if (!(sum > 0.0)) {
+                        double[] result = new double[size];
+                        Arrays.fill(result, Double.NaN);
+                        return result;
+                    }
+                    l[i][i] = Math.sqrt(sum);
+                }
+                else {
+                    l[i][j] = sum / l[j][j];
+                }
+            }
+        }
+        // forward substitution for L z = b, then back substitution for
+        // L^T c = z
+        double[] c = new double[size];
+        for (int i = 0; i < size; i++) {
+            double sum = this.productSums[i];
+            for (int k = 0; k < i; k++) {
+                sum -= l[i][k] * c[k];
+            }
+            c[i] = sum / l[i][i];
+        }
+        for (int i = size - 1; i >= 0; i--) {
+            double sum = c[i];
+            for (int k = i + 1; k < size; k++) {
+                sum -= l[k][i] * c[k];
+            }
+            c[i] = sum / l[i][i];
+        }
+        return c;
+    }
+
+    /**
+     * Tests this accumulator for equality with an arbitrary object.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof RegressionAccumulator)) {
+            return false;
+        }
+        RegressionAccumulator that = (RegressionAccumulator) obj;
+        if (this.order != that.order) {
+            return false;
+        }
+        if (Double.doubleToLongBits(this.origin)
+                != Double.doubleToLongBits(that.origin)) {
+            return false;
+        }
+        if (!Arrays.equals(this.powerSums, that.powerSums)) {
+            return false;
+        }
+        if (!Arrays.equals(this.productSums, that.productSums)) {
+            return false;
+        }
+        if (Double.doubleToLongBits(this.sumYY)
+                != Double.doubleToLongBits(that.sumYY)) {
+            return false;
+        }
+        if (this.logCount != that.logCount) {
+            return false;
+        }
+        if (Double.doubleToLongBits(this.sumLogX)
+                != Double.doubleToLongBits(that.sumLogX)) {
+            return false;
+        }
+        if (Double.doubleToLongBits(this.sumLogY)
+                != Double.doubleToLongBits(that.sumLogY)) {
+            return false;
+        }
+        if (Double.doubleToLongBits(this.sumLogXX)
+                != Double.doubleToLongBits(that.sumLogXX)) {
+            return false;
+        }
+        if (Double.doubleToLongBits(this.sumLogXY)
+                != Double.doubleToLongBits(that.sumLogXY)) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        return 37 * this.order + Arrays.hashCode(this.powerSums);
+    }
+
+    /**
+     * Returns a clone of the accumulator.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException not thrown by this class.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        RegressionAccumulator clone = (RegressionAccumulator) super.clone();
+        clone.powerSums = (double[]) this.powerSums.clone();
+        clone.productSums = (double[]) this.productSums.clone();
+        return clone;
+    }
+
+}
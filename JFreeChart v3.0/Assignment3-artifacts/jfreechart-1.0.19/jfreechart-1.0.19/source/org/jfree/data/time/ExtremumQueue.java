@@ -0,0 +1,155 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------
+ * ExtremumQueue.java
+ * ------------------
+ * (C) Copyright 2014, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.time;
+
+import java.io.Serializable;
+
+/**
+ * A monotonic queue of buffer positions, used to maintain the minimum (or
+ * maximum) of a sliding window of values in amortised O(1) time.  The
+ * value at the front of the queue is the current extremum; values that
+ * can never become the extremum (because a newer, better value exists)
+ * are dropped from the back as new values are added.
+ */
+class ExtremumQueue implements Cloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 7514375232698152034L;
+
+    /** The buffer positions. */
+    private int[] positions;
+
+    /** The index of the front of the queue. */
+    private int front;
+
+    /** The number of positions in the queue. */
+    private int size;
+
+    /** Tracks the maximum if <code>true</code>, else the minimum. */
+    private boolean max;
+
+    /**
+     * Creates a new queue.
+     *
+     * @param capacity  the capacity.
+     * @param max  track the maximum?
+     */
+    ExtremumQueue(int capacity, boolean max) {
+        this.positions = new int[capacity];
+        this.max = max;
+    }
+
+    /**
+     * Adds the value at a buffer position (the position must be that of
+     * the newest item).  NaN values are ignored.
+     *
+     * @param pos  the buffer position.
+     * @param values  the values.
+     */
+    void add(int pos, double[] values) {
+        double v = values[pos];
+        if (Double.isNaN(v)) {
+            return;
+        }
+        int n = this.positions.length;
+        while (this.size > 0) {
+            double last = values[this.positions[(this.front + this.size
+                    - 1) % n]];
+            if (this.max ? last > v : last < v) {
+                break;
+            }
+            this.size--;
+        }
+        this.positions[(this.front + this.size) % n] = pos;
+        this.size++;
+    }
+
+    /**
+     * Notifies the queue that the item at a buffer position (the oldest
+     * item) has been removed.
+     *
+     * @param pos  the buffer position.
+     */
+    void evict(int pos) {
+        if (this.size > 0 && this.positions[this.front] == pos) {
+            this.front = (this.front + 1) % this.positions.length;
+            this.size--;
+        }
+    }
+
+    /**
+     * Returns the current extremum.
+     *
+     * @param values  the values.
+     *
+     * @return The extremum (<code>Double.NaN</code> if the queue is
+     *     empty).
+     */
+    double peek(double[] values) {
+        if (this.size == 0) {
+            return Double.NaN;
+        }
+        return values[this.positions[this.front]];
+    }
+
+    /**
+     * Empties the queue.
+     */
+    void clear() {
+        this.front = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Returns a clone of the queue.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException not thrown by this class.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        ExtremumQueue clone = (ExtremumQueue) super.clone();
+        clone.positions = (int[]) this.positions.clone();
+        return clone;
+    }
+
+}
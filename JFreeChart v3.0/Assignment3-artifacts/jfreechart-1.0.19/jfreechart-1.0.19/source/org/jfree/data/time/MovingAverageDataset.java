@@ -0,0 +1,612 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------
+ * MovingAverageDataset.java
+ * -------------------------
+ * (C) Copyright 2014, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.time;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.Arrays;
+
+import org.jfree.chart.util.ParamChecks;
+import org.jfree.data.general.Series;
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeListener;
+import org.jfree.data.xy.AbstractXYDataset;
+import org.jfree.data.xy.XYDataset;
+import org.jfree.data.xy.XYSeries;
+
+/**
+ * A dataset containing moving statistics for a {@link TimeSeries} or an
+ * {@link XYSeries}, calculated over a window of the most recent points and
+ * kept up to date as the source series changes.  The dataset has four
+ * series:
+ * <ul>
+ * <li>{@link #MEAN_SERIES} - the mean of the (non-<code>null</code>)
+ * values in the window;</li>
+ * <li>{@link #EMA_SERIES} - the exponential moving average, with a
+ * smoothing factor of <code>2 / (windowSize + 1)</code>;</li>
+ * <li>{@link #MIN_SERIES} - the minimum value in the window;</li>
+ * <li>{@link #MAX_SERIES} - the maximum value in the window.</li>
+ * </ul>
+ * Each series has one item for each item in the source series, with the
+ * same x-value (for a time series, the x-value is the start, middle or end
+ * of the time period).  The mean, minimum and maximum are <code>null</code>
+ * until the window is full.
+ * <P>
+ * The dataset registers itself as a listener with the source series.  When
+ * items are appended to the source (including when the oldest items are
+ * removed at the same time, as happens when a series has a maximum item
+ * count or age), the statistics for the new items are calculated in O(1)
+ * time per item, using a running sum and monotonic queues for the minimum
+ * and maximum.  Any other change to the source causes all the statistics
+ * to be calculated again.  The window always covers the most recent points
+ * added, even if some of them have since been removed from the source.
+ * The source's modification count (see
+ * {@link Series#getModificationCount()}) tells the dataset whether items
+ * were only appended, even when several changes arrive in one event (for
+ * example, at the end of a batch).
+ * <P>
+ * Unlike the methods in {@link MovingAverage}, which create a snapshot,
+ * this dataset stays live until {@link #dispose()} is called.
+ *
+ * @since 1.0.20
+ */
+public class MovingAverageDataset extends AbstractXYDataset
+        implements SeriesChangeListener {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -1787412359712637042L;
+
+    /** The index of the series containing the mean. */
+    public static final int MEAN_SERIES = 0;
+
+    /** The index of the series containing the exponential moving average. */
+    public static final int EMA_SERIES = 1;
+
+    /** The index of the series containing the minimum. */
+    public static final int MIN_SERIES = 2;
+
+    /** The index of the series containing the maximum. */
+    public static final int MAX_SERIES = 3;
+
+    /** The suffixes for the series keys. */
+    private static final String[] SUFFIXES = {"Mean", "EMA", "Min", "Max"};
+
+    /** The source series (a TimeSeries or an XYSeries). */
+    private Series source;
+
+    /** The x-position for the time periods in a time series. */
+    private TimePeriodAnchor xPosition;
+
+    /** The number of points in the window. */
+    private int windowSize;
+
+    /** The smoothing factor for the exponential moving average. */
+    private double alpha;
+
+    /** The series keys. */
+    private Comparable[] keys;
+
+    /** The values in the window, in a circular buffer (NaN for null). */
+    private double[] window;
+
+    /** The number of points added to the window. */
+    private long pointCount;
+
+    /** The sum of the non-NaN values in the window. */
+    private double sum;
+
+    /** The number of non-NaN values in the window. */
+    private int validCount;
+
+    /** The queue used to track the minimum value in the window. */
+    private ExtremumQueue minQueue;
+
+    /** The queue used to track the maximum value in the window. */
+    private ExtremumQueue maxQueue;
+
+    /** The current exponential moving average (NaN before the first). */
+    private double ema;
+
+    /** The index of the first item in the arrays below. */
+    private int start;
+
+    /** The number of items. */
+    private int itemCount;
+
+    /** The x-values. */
+    private double[] xValues;
+
+    /** The source's modification count when the statistics were updated. */
+    private long modificationCount;
+
+    /** The source's removed item count when the statistics were updated. */
+    private long removedItemCount;
+
+    /** The statistics, indexed by series. */
+    private double[][] statistics;
+
+    /**
+     * Creates a new dataset for a time series, with the x-values at the
+     * start of each time period.
+     *
+     * @param source  the source series (<code>null</code> not permitted).
+     * @param windowSize  the number of points in the window (must be
+     *     greater than zero).
+     */
+    public MovingAverageDataset(TimeSeries source, int windowSize) {
+        this(source, windowSize, TimePeriodAnchor.START);
+    }
+
+    /**
+     * Creates a new dataset for a time series.
+     *
+     * @param source  the source series (<code>null</code> not permitted).
+     * @param windowSize  the number of points in the window (must be
+     *     greater than zero).
+     * @param xPosition  the x-position for each time period
+     *     (<code>null</code> not permitted).
+     */
+    public MovingAverageDataset(TimeSeries source, int windowSize,
+            TimePeriodAnchor xPosition) {
+        this((Series) source, windowSize, xPosition);
+    }
+
+    /**
+     * Creates a new dataset for an {@link XYSeries}.
+     *
+     * @param source  the source series (<code>null</code> not permitted).
+     * @param windowSize  the number of points in the window (must be
+     *     greater than zero).
+     */
+    public MovingAverageDataset(XYSeries source, int windowSize) {
+        this(source, windowSize, TimePeriodAnchor.START);
+    }
+
+    /**
+     * Creates a new dataset.
+     *
+     * @param source  the source series.
+     * @param windowSize  the number of points in the window.
+     * @param xPosition  the x-position for each time period.
+     */
+    private MovingAverageDataset(Series source, int windowSize,
+            TimePeriodAnchor xPosition) {
+        ParamChecks.nullNotPermitted(source, "source");
+        ParamChecks.nullNotPermitted(xPosition, "xPosition");
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("Requires 'windowSize' > 0.");
+        }
+        this.source = source;
+        this.xPosition = xPosition;
+        this.windowSize = windowSize;
+        this.alpha = 2.0 / (windowSize + 1);
+        this.keys = new Comparable[SUFFIXES.length];
+        for (int i = 0; i < SUFFIXES.length; i++) {
+            this.keys[i] = source.getKey() + " " + SUFFIXES[i] + "("
+                    + windowSize + ")";
+        }
+        this.window = new double[windowSize];
+        this.minQueue = new ExtremumQueue(windowSize, false);
+        this.maxQueue = new ExtremumQueue(windowSize, true);
+        this.xValues = new double[16];
+        this.statistics = new double[SUFFIXES.length][16];
+        recalculate();
+        source.addChangeListener(this);
+    }
+
+    /**
+     * Returns the source series.
+     *
+     * @return The source series (never <code>null</code>).
+     */
+    public Series getSource() {
+        return this.source;
+    }
+
+    /**
+     * Returns the number of points in the window.
+     *
+     * @return The window size.
+     */
+    public int getWindowSize() {
+        return this.windowSize;
+    }
+
+    /**
+     * Calculates all the statistics again from the source series and sends
+     * a {@link org.jfree.data.general.DatasetChangeEvent} to all registered
+     * listeners.
+     */
+    public void refresh() {
+        recalculate();
+        fireDatasetChanged();
+    }
+
+    /**
+     * Stops the dataset from listening to the source series.  After this
+     * method is called, the dataset no longer changes.
+     */
+    public void dispose() {
+        this.source.removeChangeListener(this);
+    }
+
+    /**
+     * Returns the number of series in the dataset (always 4).
+     *
+     * @return The series count.
+     */
+    @Override
+    public int getSeriesCount() {
+        return SUFFIXES.length;
+    }
+
+    /**
+     * Returns the key for a series.  The key is the key of the source
+     * series followed by the name of the statistic and the window size, for
+     * example "Sales Mean(20)".
+     *
+     * @param series  the series index (in the range <code>0</code> to
+     *     <code>3</code>).
+     *
+     * @return The series key.
+     */
+    @Override
+    public Comparable getSeriesKey(int series) {
+        return this.keys[series];
+    }
+
+    /**
+     * Returns the number of items in a series (the same as the number of
+     * items in the source series).
+     *
+     * @param series  the series index (ignored).
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount(int series) {
+        return this.itemCount;
+    }
+
+    /**
+     * Returns the x-value for an item.
+     *
+     * @param series  the series index (ignored).
+     * @param item  the item index.
+     *
+     * @return The x-value.
+     */
+    @Override
+    public Number getX(int series, int item) {
+        return new Double(getXValue(series, item));
+    }
+
+    /**
+     * Returns the x-value for an item.
+     *
+     * @param series  the series index (ignored).
+     * @param item  the item index.
+     *
+     * @return The x-value.
+     */
+    @Override
+    public double getXValue(int series, int item) {
+        checkItem(item);
+        return this.xValues[this.start + item];
+    }
+
+    /**
+     * Returns the y-value for an item.
+     *
+     * @param series  the series index (in the range <code>0</code> to
+     *     <code>3</code>).
+     * @param item  the item index.
+     *
+     * @return The y-value (possibly <code>null</code>).
+     */
+    @Override
+    public Number getY(int series, int item) {
+        double y = getYValue(series, item);
+        return Double.isNaN(y) ? null : new Double(y);
+    }
+
+    /**
+     * Returns the y-value for an item.
+     *
+     * @param series  the series index (in the range <code>0</code> to
+     *     <code>3</code>).
+     * @param item  the item index.
+     *
+     * @return The y-value (<code>Double.NaN</code> if there is no value).
+     */
+    @Override
+    public double getYValue(int series, int item) {
+        checkItem(item);
+        return this.statistics[series][this.start + item];
+    }
+
+    /**
+     * Checks that an item index is valid.
+     *
+     * @param item  the item index.
+     */
+    private void checkItem(int item) {
+        if (item < 0 || item >= this.itemCount) {
+            throw new IndexOutOfBoundsException("Index " + item
+                    + " out of bounds.");
+        }
+    }
+
+    /**
+     * Receives notification that the source series has changed, and updates
+     * the statistics.
+     *
+     * @param event  the event.
+     */
+    @Override
+    public void seriesChanged(SeriesChangeEvent event) {
+        if (!appendNewItems()) {
+            recalculate();
+        }
+        fireDatasetChanged();
+    }
+
+    /**
+     * Updates the statistics if the only changes to the source series since
+     * the last update are items appended at the end and items removed from
+     * the start.
+     *
+     * @return A boolean indicating whether the statistics were updated
+     *     (if <code>false</code>, they must be calculated again).
+     */
+    private boolean appendNewItems() {
+        if (this.source.getModificationCount() != this.modificationCount) {
+            return false;
+        }
+        long removed = this.source.getRemovedItemCount()
+                - this.removedItemCount;
+        if (removed > this.itemCount) {
+            // some of the new items were removed before they were seen
+            return false;
+        }
+        int kept = this.itemCount - (int) removed;
+        int count = this.source.getItemCount();
+        if (count < kept) {
+            return false;
+        }
+        this.start += (int) removed;
+        this.itemCount = kept;
+        for (int i = kept; i < count; i++) {
+            addItem(sourceX(i), sourceY(i));
+        }
+        this.removedItemCount = this.source.getRemovedItemCount();
+        return true;
+    }
+
+    /**
+     * Calculates all the statistics again from the source series.
+     */
+    private void recalculate() {
+        Arrays.fill(this.window, Double.NaN);
+        this.pointCount = 0;
+        this.sum = 0.0;
+        this.validCount = 0;
+        this.minQueue.clear();
+        this.maxQueue.clear();
+        this.ema = Double.NaN;
+        this.start = 0;
+        this.itemCount = 0;
+        int count = this.source.getItemCount();
+        for (int i = 0; i < count; i++) {
+            addItem(sourceX(i), sourceY(i));
+        }
+        this.modificationCount = this.source.getModificationCount();
+        this.removedItemCount = this.source.getRemovedItemCount();
+    }
+
+    /**
+     * Adds a point to the window and appends an item with the new
+     * statistics.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value (<code>Double.NaN</code> for a missing value).
+     */
+    private void addItem(double x, double y) {
+        int pos = (int) (this.pointCount % this.windowSize);
+        if (this.pointCount >= this.windowSize) {
+            // the oldest point leaves the window
+            double old = this.window[pos];
+            if (!Double.isNaN(old)) {
+                this.sum -= old;
+                this.validCount--;
+            }
+            this.minQueue.evict(pos);
+            this.maxQueue.evict(pos);
+        }
+        this.window[pos] = y;
+        this.minQueue.add(pos, this.window);
+        this.maxQueue.add(pos, this.window);
+        if (!Double.isNaN(y)) {
+            this.sum += y;
+            this.validCount++;
+            this.ema = Double.isNaN(this.ema) ? y
+                    : this.ema + this.alpha * (y - this.ema);
+        }
+        this.pointCount++;
+        if (pos == this.windowSize - 1) {
+            // recalculate the sum once per window, so that rounding errors
+            // don't build up
+            this.sum = 0.0;
+            for (int i = 0; i < this.windowSize; i++) {
+                if (!Double.isNaN(this.window[i])) {
+                    this.sum += this.window[i];
+                }
+            }
+        }
+
+        ensureCapacity();
+        int index = this.start + this.itemCount;
+        this.xValues[index] = x;
+        boolean full = this.pointCount >= this.windowSize;
+        this.statistics[MEAN_SERIES][index] = (full && this.validCount > 0)
+                ? this.sum / this.validCount : Double.NaN;
+        this.statistics[EMA_SERIES][index] = this.ema;
+        this.statistics[MIN_SERIES][index] = full
+                ? this.minQueue.peek(this.window) : Double.NaN;
+        this.statistics[MAX_SERIES][index] = full
+                ? this.maxQueue.peek(this.window) : Double.NaN;
+        this.itemCount++;
+    }
+
+    /**
+     * Ensures that there is room to append an item to the arrays, moving
+     * the items to the start of the arrays or growing them as required.
+     */
+    private void ensureCapacity() {
+        if (this.start + this.itemCount < this.xValues.length) {
+            return;
+        }
+        int capacity = this.xValues.length;
+        if (this.itemCount >= capacity / 2) {
+            capacity = capacity * 2;
+        }
+        this.xValues = moveItems(this.xValues, capacity);
+        for (int s = 0; s < this.statistics.length; s++) {
+            this.statistics[s] = moveItems(this.statistics[s], capacity);
+        }
+        this.start = 0;
+    }
+
+    /**
+     * Copies the items in an array to the start of an array with the
+     * specified capacity.
+     *
+     * @param array  the array.
+     * @param capacity  the capacity.
+     *
+     * @return The array containing the items.
+     */
+    private double[] moveItems(double[] array, int capacity) {
+        double[] result = (capacity == array.length ? array
+                : new double[capacity]);
+        System.arraycopy(array, this.start, result, 0, this.itemCount);
+        return result;
+    }
+
+    /**
+     * Returns the x-value for an item in the source series.
+     *
+     * @param item  the item index.
+     *
+     * @return The x-value.
+     */
+    private double sourceX(int item) {
+        if (this.source instanceof TimeSeries) {
+            RegularTimePeriod period = ((TimeSeries) this.source)
+                    .getTimePeriod(item);
+            if (this.xPosition == TimePeriodAnchor.START) {
+                return period.getFirstMillisecond();
+            }
+            else if (this.xPosition == TimePeriodAnchor.MIDDLE) {
+                return period.getMiddleMillisecond();
+            }
+            return period.getLastMillisecond();
+        }
+        return ((XYSeries) this.source).getX(item).doubleValue();
+    }
+
+    /**
+     * Returns the y-value for an item in the source series.
+     *
+     * @param item  the item index.
+     *
+     * @return The y-value (<code>Double.NaN</code> for <code>null</code>).
+     */
+    private double sourceY(int item) {
+        Number y;
+        if (this.source instanceof TimeSeries) {
+            y = ((TimeSeries) this.source).getValue(item);
+        }
+        else {
+            y = ((XYSeries) this.source).getY(item);
+        }
+        return (y == null ? Double.NaN : y.doubleValue());
+    }
+
+    /**
+     * Returns a clone of the dataset.  The clone is registered as a listener
+     * with the same source series.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        MovingAverageDataset clone = (MovingAverageDataset) super.clone();
+        clone.keys = (Comparable[]) this.keys.clone();
+        clone.window = (double[]) this.window.clone();
+        clone.minQueue = (ExtremumQueue) this.minQueue.clone();
+        clone.maxQueue = (ExtremumQueue) this.maxQueue.clone();
+        clone.xValues = (double[]) this.xValues.clone();
+        clone.statistics = new double[this.statistics.length][];
+        for (int s = 0; s < this.statistics.length; s++) {
+            clone.statistics[s] = (double[]) this.statistics[s].clone();
+        }
+        this.source.addChangeListener(clone);
+        return clone;
+    }
+
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        this.source.addChangeListener(this);
+    }
+
+}
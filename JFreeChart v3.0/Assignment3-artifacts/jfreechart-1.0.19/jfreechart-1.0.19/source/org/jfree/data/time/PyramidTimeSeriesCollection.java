@@ -0,0 +1,1356 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------------
+ * PyramidTimeSeriesCollection.java
+ * --------------------------------
+ * (C) Copyright 2014, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.time;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import org.jfree.chart.util.ParamChecks;
+import org.jfree.data.DomainInfo;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.jfree.data.RangeInfo;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.SeriesException;
+import org.jfree.data.xy.AbstractIntervalXYDataset;
+import org.jfree.data.xy.IntervalXYDataset;
+import org.jfree.data.xy.MultiResolutionXYDataset;
+import org.jfree.data.xy.XYDataset;
+import org.jfree.data.xy.XYDomainInfo;
+import org.jfree.data.xy.XYRangeInfo;
+import org.jfree.util.PublicCloneable;
+
+/**
+ * A collection of time series for data that is appended in time order, that
+ * keeps summaries of each series at several resolutions so that long series
+ * can be drawn quickly when the chart is zoomed out.  Each x-value is a time
+ * in milliseconds (as for a {@link TimeSeriesCollection}, so the dataset
+ * can be used with a {@link org.jfree.chart.axis.DateAxis}).
+ * <P>
+ * As items are added, they are also aggregated into buckets of fixed
+ * duration for each level of a pyramid (by default 10 seconds, 1 minute,
+ * 10 minutes, 1 hour, 6 hours, 1 day and 1 week).  Each bucket records the
+ * minimum, maximum and mean of the y-values that fall in it.  When an
+ * {@link org.jfree.chart.plot.XYPlot} draws this dataset, it asks for the
+ * dataset that suits the visible x-range (see
+ * {@link #getResolutionDataset(Range, double)}) and the renderer is given the
+ * coarsest level with at least one bucket per pixel, or this dataset if
+ * there is no such level.  In a level dataset, the y-value is the mean of
+ * the bucket, the start and end y-values are the minimum and maximum (so a
+ * renderer such as {@link org.jfree.chart.renderer.xy.DeviationRenderer}
+ * can show the full range of the data) and the start and end x-values are
+ * the bounds of the bucket.  When a level is drawn, the chart entities,
+ * tool tips and item labels refer to the level dataset and bucket index, not
+ * to this collection and the index of an item.
+ * <P>
+ * The pyramid is also used to find the range of the y-values for an x-range,
+ * so automatic range calculation for a zoomed chart does not need to read
+ * every item either.
+ *
+ * @since 1.0.20
+ */
+public class PyramidTimeSeriesCollection extends AbstractIntervalXYDataset
+        implements IntervalXYDataset, DomainInfo, RangeInfo, XYDomainInfo,
+        XYRangeInfo, MultiResolutionXYDataset, PublicCloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 6128531741294869453L;
+
+    /** The default bucket durations (in milliseconds). */
+    private static final long[] DEFAULT_BUCKET_DURATIONS = {10000L, 60000L,
+            600000L, 3600000L, 21600000L, 86400000L, 604800000L};
+
+    /** The bucket duration for each level of the pyramid. */
+    private long[] bucketDurations;
+
+    /** Storage for the series ({@link PyramidSeries} instances). */
+    private List data;
+
+    /** The datasets for the levels (created when required). */
+    private transient LevelDataset[] levelDatasets;
+
+    /**
+     * Creates a new empty collection with the default bucket durations.
+     */
+    public PyramidTimeSeriesCollection() {
+        this(DEFAULT_BUCKET_DURATIONS);
+    }
+
+    /**
+     * Creates a new empty collection.
+     *
+     * @param bucketDurations  the bucket duration (in milliseconds) for each
+     *     level of the pyramid, in ascending order (<code>null</code> not
+     *     permitted).
+     */
+    public PyramidTimeSeriesCollection(long[] bucketDurations) {
+        ParamChecks.nullNotPermitted(bucketDurations, "bucketDurations");
+        for (int i = 0; i < bucketDurations.length; i++) {
+            if (bucketDurations[i] <= 0L || (i > 0
+                    && bucketDurations[i] <= bucketDurations[i - 1])) {
+                throw new IllegalArgumentException("The bucket durations "
+                        + "must be positive and in ascending order.");
+            }
+        }
+        this.bucketDurations = (long[]) bucketDurations.clone();
+        this.data = new ArrayList();
+    }
+
+    /**
+     * Returns the bucket duration (in milliseconds) for each level of the
+     * pyramid.
+     *
+     * @return The bucket durations (a copy of the array).
+     */
+    public long[] getBucketDurations() {
+        return (long[]) this.bucketDurations.clone();
+    }
+
+    /**
+     * Returns the order of the domain values, which is always
+     * {@link DomainOrder#ASCENDING}.
+     *
+     * @return {@link DomainOrder#ASCENDING}.
+     */
+    @Override
+    public DomainOrder getDomainOrder() {
+        return DomainOrder.ASCENDING;
+    }
+
+    /**
+     * Returns the number of series in the collection.
+     *
+     * @return The series count.
+     */
+    @Override
+    public int getSeriesCount() {
+        return this.data.size();
+    }
+
+    /**
+     * Returns the key for a series.
+     *
+     * @param series  the index of the series (zero-based).
+     *
+     * @return The key for a series.
+     */
+    @Override
+    public Comparable getSeriesKey(int series) {
+        return getSeries(series).key;
+    }
+
+    /**
+     * Returns a series.
+     *
+     * @param series  the series index.
+     *
+     * @return The series.
+     */
+    private PyramidSeries getSeries(int series) {
+        return (PyramidSeries) this.data.get(series);
+    }
+
+    /**
+     * Adds a new empty series to the collection and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param key  the series key (<code>null</code> not permitted).
+     *
+     * @return The index of the new series.
+     */
+    public int addSeries(Comparable key) {
+        ParamChecks.nullNotPermitted(key, "key");
+        if (indexOf(key) >= 0) {
+            throw new IllegalArgumentException(
+                    "This dataset already contains a series with the key "
+                    + key);
+        }
+        this.data.add(new PyramidSeries(key, this.bucketDurations));
+        fireDatasetChanged();
+        return this.data.size() - 1;
+    }
+
+    /**
+     * Adds a new series to the collection containing a copy of the items in
+     * a {@link TimeSeries}, and sends a {@link DatasetChangeEvent} to all
+     * registered listeners.  The x-value for each item is the first
+     * millisecond of the time period (in the default time zone), and
+     * <code>null</code> values are added as <code>Double.NaN</code>.
+     *
+     * @param series  the series (<code>null</code> not permitted).
+     *
+     * @return The index of the new series.
+     */
+    public int addSeries(TimeSeries series) {
+        ParamChecks.nullNotPermitted(series, "series");
+        if (indexOf(series.getKey()) >= 0) {
+            throw new IllegalArgumentException(
+                    "This dataset already contains a series with the key "
+                    + series.getKey());
+        }
+        PyramidSeries s = new PyramidSeries(series.getKey(),
+                this.bucketDurations);
+        for (int i = 0; i < series.getItemCount(); i++) {
+            Number value = series.getValue(i);
+            s.add(series.getTimePeriod(i).getFirstMillisecond(),
+                    value != null ? value.doubleValue() : Double.NaN);
+        }
+        this.data.add(s);
+        fireDatasetChanged();
+        return this.data.size() - 1;
+    }
+
+    /**
+     * Removes all the series from the collection and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     */
+    public void removeAllSeries() {
+        this.data.clear();
+        fireDatasetChanged();
+    }
+
+    /**
+     * Adds an item to a series and sends a {@link DatasetChangeEvent} to all
+     * registered listeners.
+     *
+     * @param series  the series index.
+     * @param period  the time period (<code>null</code> not permitted).  The
+     *     x-value is the first millisecond of the period (in the default
+     *     time zone).
+     * @param value  the value (<code>Double.NaN</code> permitted).
+     */
+    public void add(int series, RegularTimePeriod period, double value) {
+        ParamChecks.nullNotPermitted(period, "period");
+        add(series, period.getFirstMillisecond(), value, true);
+    }
+
+    /**
+     * Adds an item to a series and sends a {@link DatasetChangeEvent} to all
+     * registered listeners.
+     *
+     * @param series  the series index.
+     * @param millisecond  the x-value (milliseconds since 1-Jan-1970).
+     * @param value  the value (<code>Double.NaN</code> permitted).
+     */
+    public void add(int series, long millisecond, double value) {
+        add(series, millisecond, value, true);
+    }
+
+    /**
+     * Adds an item to a series and, if requested, sends a
+     * {@link DatasetChangeEvent} to all registered listeners.  Items must be
+     * added in time order.
+     *
+     * @param series  the series index.
+     * @param millisecond  the x-value (milliseconds since 1-Jan-1970).
+     * @param value  the value (<code>Double.NaN</code> permitted).
+     * @param notify  notify listeners?
+     *
+     * @throws SeriesException if <code>millisecond</code> is earlier than
+     *     the x-value of the last item in the series.
+     */
+    public void add(int series, long millisecond, double value,
+            boolean notify) {
+        PyramidSeries s = getSeries(series);
+        if (s.size > 0 && millisecond < s.x[s.size - 1]) {
+            throw new SeriesException("Items must be added in time order.");
+        }
+        s.add(millisecond, value);
+        if (notify) {
+            fireDatasetChanged();
+        }
+    }
+
+    /**
+     * Returns the number of items in a series.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount(int series) {
+        return getSeries(series).size;
+    }
+
+    /**
+     * Returns the x-value for an item within a series.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The x-value.
+     */
+    @Override
+    public double getXValue(int series, int item) {
+        PyramidSeries s = getSeries(series);
+        checkItem(item, s.size);
+        return s.x[item];
+    }
+
+    /**
+     * Returns the x-value for an item within a series.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The x-value.
+     */
+    @Override
+    public Number getX(int series, int item) {
+        return new Double(getXValue(series, item));
+    }
+
+    /**
+     * Returns the starting x-value for an item within a series (this is the
+     * same as the x-value).
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The x-value.
+     */
+    @Override
+    public Number getStartX(int series, int item) {
+        return getX(series, item);
+    }
+
+    /**
+     * Returns the ending x-value for an item within a series (this is the
+     * same as the x-value).
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The x-value.
+     */
+    @Override
+    public Number getEndX(int series, int item) {
+        return getX(series, item);
+    }
+
+    /**
+     * Returns the y-value for an item within a series.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The y-value (possibly <code>Double.NaN</code>).
+     */
+    @Override
+    public double getYValue(int series, int item) {
+        PyramidSeries s = getSeries(series);
+        checkItem(item, s.size);
+        return s.y[item];
+    }
+
+    /**
+     * Returns the y-value for an item within a series.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The y-value (possibly <code>null</code>).
+     */
+    @Override
+    public Number getY(int series, int item) {
+        double y = getYValue(series, item);
+        return (Double.isNaN(y) ? null : new Double(y));
+    }
+
+    /**
+     * Returns the starting y-value for an item within a series (this is the
+     * same as the y-value).
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The y-value (possibly <code>null</code>).
+     */
+    @Override
+    public Number getStartY(int series, int item) {
+        return getY(series, item);
+    }
+
+    /**
+     * Returns the ending y-value for an item within a series (this is the
+     * same as the y-value).
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The y-value (possibly <code>null</code>).
+     */
+    @Override
+    public Number getEndY(int series, int item) {
+        return getY(series, item);
+    }
+
+    /**
+     * Returns a dataset containing the buckets for one level of the pyramid.
+     * The dataset reflects later changes to this collection.
+     *
+     * @param level  the level index (in the range <code>0</code> to
+     *     <code>getBucketDurations().length - 1</code>).
+     *
+     * @return The dataset.
+     */
+    public IntervalXYDataset getLevelDataset(int level) {
+        if (level < 0 || level >= this.bucketDurations.length) {
+            throw new IllegalArgumentException("Invalid level: " + level);
+        }
+        if (this.levelDatasets == null) {
+            this.levelDatasets = new LevelDataset[this.bucketDurations.length];
+        }
+        if (this.levelDatasets[level] == null) {
+            this.levelDatasets[level] = new LevelDataset(level);
+        }
+        return this.levelDatasets[level];
+    }
+
+    /**
+     * Returns the dataset for the coarsest level of the pyramid that has at
+     * least one bucket for each Java2D unit of the specified length, or this
+     * dataset if no level is fine enough.
+     *
+     * @param xRange  the visible x-range (<code>null</code> not permitted).
+     * @param length  the length of the data area along the x-axis, in
+     *     Java2D units.
+     *
+     * @return The dataset to render (never <code>null</code>).
+     */
+    @Override
+    public XYDataset getResolutionDataset(Range xRange, double length) {
+        ParamChecks.nullNotPermitted(xRange, "xRange");
+        if (!(length > 0.0)) {
+            return this;
+        }
+        for (int level = this.bucketDurations.length - 1; level >= 0;
+                level--) {
+            if (this.bucketDurations[level] * length <= xRange.getLength()) {
+                return getLevelDataset(level);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Returns the minimum x-value in the dataset.
+     *
+     * @param includeInterval  ignored (the x-interval is the x-value).
+     *
+     * @return The minimum value (<code>Double.NaN</code> if the dataset is
+     *     empty).
+     */
+    @Override
+    public double getDomainLowerBound(boolean includeInterval) {
+        Range r = getDomainBounds(includeInterval);
+        return (r != null ? r.getLowerBound() : Double.NaN);
+    }
+
+    /**
+     * Returns the maximum x-value in the dataset.
+     *
+     * @param includeInterval  ignored (the x-interval is the x-value).
+     *
+     * @return The maximum value (<code>Double.NaN</code> if the dataset is
+     *     empty).
+     */
+    @Override
+    public double getDomainUpperBound(boolean includeInterval) {
+        Range r = getDomainBounds(includeInterval);
+        return (r != null ? r.getUpperBound() : Double.NaN);
+    }
+
+    /**
+     * Returns the range of the x-values in the dataset.
+     *
+     * @param includeInterval  ignored (the x-interval is the x-value).
+     *
+     * @return The range (<code>null</code> if the dataset is empty).
+     */
+    @Override
+    public Range getDomainBounds(boolean includeInterval) {
+        Range result = null;
+        for (int s = 0; s < this.data.size(); s++) {
+            result = Range.combine(result, getSeries(s).getDomainBounds());
+        }
+        return result;
+    }
+
+    /**
+     * Returns the range of the x-values in the specified series.
+     *
+     * @param visibleSeriesKeys  the keys of the visible series
+     *     (<code>null</code> not permitted).
+     * @param includeInterval  ignored (the x-interval is the x-value).
+     *
+     * @return The range (<code>null</code> if the series are empty).
+     */
+    @Override
+    public Range getDomainBounds(List visibleSeriesKeys,
+            boolean includeInterval) {
+        ParamChecks.nullNotPermitted(visibleSeriesKeys, "visibleSeriesKeys");
+        Range result = null;
+        Iterator iterator = visibleSeriesKeys.iterator();
+        while (iterator.hasNext()) {
+            int s = indexOf((Comparable) iterator.next());
+            if (s >= 0) {
+                result = Range.combine(result,
+                        getSeries(s).getDomainBounds());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the minimum y-value in the dataset.
+     *
+     * @param includeInterval  ignored (the y-interval is the y-value).
+     *
+     * @return The minimum value (<code>Double.NaN</code> if there are no
+     *     y-values).
+     */
+    @Override
+    public double getRangeLowerBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return (r != null ? r.getLowerBound() : Double.NaN);
+    }
+
+    /**
+     * Returns the maximum y-value in the dataset.
+     *
+     * @param includeInterval  ignored (the y-interval is the y-value).
+     *
+     * @return The maximum value (<code>Double.NaN</code> if there are no
+     *     y-values).
+     */
+    @Override
+    public double getRangeUpperBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return (r != null ? r.getUpperBound() : Double.NaN);
+    }
+
+    /**
+     * Returns the range of the y-values in the dataset.
+     *
+     * @param includeInterval  ignored (the y-interval is the y-value).
+     *
+     * @return The range (<code>null</code> if there are no y-values).
+     */
+    @Override
+    public Range getRangeBounds(boolean includeInterval) {
+        Range result = null;
+        for (int s = 0; s < this.data.size(); s++) {
+            result = Range.combine(result, getSeries(s).getRangeBounds());
+        }
+        return result;
+    }
+
+    /**
+     * Returns the range of the y-values in the specified series, including
+     * only those items with x-values in the specified range.  The range is
+     * found from the buckets in the pyramid that lie entirely inside the
+     * x-range, so only the items near the ends of the x-range are read.
+     *
+     * @param visibleSeriesKeys  the keys of the visible series
+     *     (<code>null</code> not permitted).
+     * @param xRange  the x-range (<code>null</code> not permitted).
+     * @param includeInterval  ignored (the y-interval is the y-value).
+     *
+     * @return The range (<code>null</code> if there are no y-values in the
+     *     x-range).
+     */
+    @Override
+    public Range getRangeBounds(List visibleSeriesKeys, Range xRange,
+            boolean includeInterval) {
+        ParamChecks.nullNotPermitted(visibleSeriesKeys, "visibleSeriesKeys");
+        ParamChecks.nullNotPermitted(xRange, "xRange");
+        Range result = null;
+        Iterator iterator = visibleSeriesKeys.iterator();
+        while (iterator.hasNext()) {
+            int s = indexOf((Comparable) iterator.next());
+            if (s >= 0) {
+                result = Range.combine(result,
+                        getSeries(s).findValueRange(xRange));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Tests this collection for equality with an arbitrary object.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof PyramidTimeSeriesCollection)) {
+            return false;
+        }
+        PyramidTimeSeriesCollection that = (PyramidTimeSeriesCollection) obj;
+        if (!Arrays.equals(this.bucketDurations, that.bucketDurations)) {
+            return false;
+        }
+        return this.data.equals(that.data);
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        int result = Arrays.hashCode(this.bucketDurations);
+        result = 29 * result + this.data.hashCode();
+        return result;
+    }
+
+    /**
+     * Returns a clone of this collection.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        PyramidTimeSeriesCollection clone
+                = (PyramidTimeSeriesCollection) super.clone();
+        clone.bucketDurations = (long[]) this.bucketDurations.clone();
+        clone.data = new ArrayList(this.data.size());
+        for (int s = 0; s < this.data.size(); s++) {
+            clone.data.add(getSeries(s).clone());
+        }
+        clone.levelDatasets = null;
+        return clone;
+    }
+
+    /**
+     * Checks an item index.
+     *
+     * @param item  the item index.
+     * @param size  the number of items.
+     */
+    private static void checkItem(int item, int size) {
+        if (item < 0 || item >= size) {
+            throw new IndexOutOfBoundsException("Index: " + item
+                    + ", Size: " + size);
+        }
+    }
+
+    /**
+     * Returns an array with at least the specified capacity, containing the
+     * values from an existing array.
+     *
+     * @param array  the existing array.
+     * @param capacity  the required capacity.
+     *
+     * @return The array (the existing array if it is large enough).
+     */
+    private static double[] ensureCapacity(double[] array, int capacity) {
+        if (array.length >= capacity) {
+            return array;
+        }
+        return Arrays.copyOf(array, Math.max(capacity, array.length * 2));
+    }
+
+    /**
+     * Returns an array with at least the specified capacity, containing the
+     * values from an existing array.
+     *
+     * @param array  the existing array.
+     * @param capacity  the required capacity.
+     *
+     * @return The array (the existing array if it is large enough).
+     */
+    private static int[] ensureCapacity(int[] array, int capacity) {
+        if (array.length >= capacity) {
+            return array;
+        }
+        return Arrays.copyOf(array, Math.max(capacity, array.length * 2));
+    }
+
+    /**
+     * Returns the index of the first value in an ascending array that is
+     * greater than or equal to the specified value.
+     *
+     * @param values  the values.
+     * @param size  the number of values in use.
+     * @param value  the value.
+     *
+     * @return The index (<code>size</code> if there is no such value).
+     */
+    private static int findFirst(double[] values, int size, double value) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] < value) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Updates a minimum and maximum with new values (ignoring
+     * <code>NaN</code>).
+     *
+     * @param result  the minimum and maximum.
+     * @param low  the new low value.
+     * @param high  the new high value.
+     */
+    private static void update(double[] result, double low, double high) {
+        if (low < result[0]) {
+            result[0] = low;
+        }
+        if (high > result[1]) {
+            result[1] = high;
+        }
+    }
+
+    /**
+     * The items in a series, and the buckets for each level of the pyramid.
+     */
+    private static class PyramidSeries implements Cloneable, Serializable {
+
+        /** For serialization. */
+        private static final long serialVersionUID = -4725470917427380413L;
+
+        /** The series key. */
+        private Comparable key;
+
+        /** The x-values. */
+        private double[] x;
+
+        /** The y-values. */
+        private double[] y;
+
+        /** The number of items. */
+        private int size;
+
+        /** The lowest y-value (excluding <code>NaN</code> values). */
+        private double minY;
+
+        /** The highest y-value (excluding <code>NaN</code> values). */
+        private double maxY;
+
+        /** The buckets for each level of the pyramid. */
+        private Buckets[] levels;
+
+        /**
+         * Creates a new empty series.
+         *
+         * @param key  the series key.
+         * @param bucketDurations  the bucket durations for the pyramid.
+         */
+        PyramidSeries(Comparable key, long[] bucketDurations) {
+            this.key = key;
+            this.x = new double[16];
+            this.y = new double[16];
+            this.minY = Double.NaN;
+            this.maxY = Double.NaN;
+            this.levels = new Buckets[bucketDurations.length];
+            for (int i = 0; i < bucketDurations.length; i++) {
+                this.levels[i] = new Buckets(bucketDurations[i]);
+            }
+        }
+
+        /**
+         * Adds an item to the series and the pyramid.
+         *
+         * @param xx  the x-value.
+         * @param yy  the y-value.
+         */
+        void add(double xx, double yy) {
+            this.x = ensureCapacity(this.x, this.size + 1);
+            this.y = ensureCapacity(this.y, this.size + 1);
+            this.x[this.size] = xx;
+            this.y[this.size] = yy;
+            this.size++;
+            if (!Double.isNaN(yy)) {
+                if (Double.isNaN(this.minY)) {
+                    this.minY = yy;
+                    this.maxY = yy;
+                }
+                else {
+                    this.minY = Math.min(this.minY, yy);
+                    this.maxY = Math.max(this.maxY, yy);
+                }
+            }
+            for (int i = 0; i < this.levels.length; i++) {
+                this.levels[i].add(xx, yy);
+            }
+        }
+
+        /**
+         * Returns the range of the x-values.
+         *
+         * @return The range (possibly <code>null</code>).
+         */
+        Range getDomainBounds() {
+            if (this.size == 0) {
+                return null;
+            }
+            return new Range(this.x[0], this.x[this.size - 1]);
+        }
+
+        /**
+         * Returns the range of the y-values.
+         *
+         * @return The range (possibly <code>null</code>).
+         */
+        Range getRangeBounds() {
+            if (Double.isNaN(this.minY)) {
+                return null;
+            }
+            return new Range(this.minY, this.maxY);
+        }
+
+        /**
+         * Returns the range of the y-values for the items with x-values in
+         * the specified range.
+         *
+         * @param xRange  the x-range.
+         *
+         * @return The range (possibly <code>null</code>).
+         */
+        Range findValueRange(Range xRange) {
+            double[] result = {Double.POSITIVE_INFINITY,
+                    Double.NEGATIVE_INFINITY};
+            // the pyramid works with half-open intervals
+            accumulate(this.levels.length - 1, xRange.getLowerBound(),
+                    Math.nextUp(xRange.getUpperBound()), result);
+            if (result[0] > result[1]) {
+                return null;
+            }
+            return new Range(result[0], result[1]);
+        }
+
+        /**
+         * Updates the minimum and maximum y-values for the items with
+         * x-values from <code>lower</code> (inclusive) to <code>upper</code>
+         * (exclusive), using the buckets at the specified level that lie
+         * entirely inside the interval and the finer levels (or the items)
+         * for the remainder at each end.
+         *
+         * @param level  the level (-1 for the items).
+         * @param lower  the lower bound (inclusive).
+         * @param upper  the upper bound (exclusive).
+         * @param result  the minimum and maximum y-values found so far.
+         */
+        private void accumulate(int level, double lower, double upper,
+                double[] result) {
+            if (!(lower < upper)) {
+                return;
+            }
+            if (level < 0) {
+                int i = findFirst(this.x, this.size, lower);
+                while (i < this.size && this.x[i] < upper) {
+                    update(result, this.y[i], this.y[i]);
+                    i++;
+                }
+                return;
+            }
+            Buckets b = this.levels[level];
+            double start = Math.ceil(lower / b.duration) * b.duration;
+            double end = Math.floor(upper / b.duration) * b.duration;
+            if (start >= end) {
+                accumulate(level - 1, lower, upper, result);
+                return;
+            }
+            int i = findFirst(b.start, b.size, start);
+            while (i < b.size && b.start[i] < end) {
+                update(result, b.min[i], b.max[i]);
+                i++;
+            }
+            accumulate(level - 1, lower, start, result);
+            accumulate(level - 1, end, upper, result);
+        }
+
+        /**
+         * Returns a clone of the series.
+         *
+         * @return A clone.
+         */
+        @Override
+        public Object clone() {
+            try {
+                PyramidSeries clone = (PyramidSeries) super.clone();
+                clone.x = (double[]) this.x.clone();
+                clone.y = (double[]) this.y.clone();
+                clone.levels = new Buckets[this.levels.length];
+                for (int i = 0; i < this.levels.length; i++) {
+                    clone.levels[i] = this.levels[i].copy();
+                }
+                return clone;
+            }
+            catch (CloneNotSupportedException e) {
+                throw new IllegalStateException(e.getMessage());
+            }
+        }
+
+        /**
+         * Tests this series for equality with an arbitrary object.  The
+         * buckets are not compared, because they are determined by the
+         * items.
+         *
+         * @param obj  the object (<code>null</code> permitted).
+         *
+         * @return A boolean.
+         */
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof PyramidSeries)) {
+                return false;
+            }
+            PyramidSeries that = (PyramidSeries) obj;
+            if (!this.key.equals(that.key) || this.size != that.size) {
+                return false;
+            }
+            for (int i = 0; i < this.size; i++) {
+                if (Double.doubleToLongBits(this.x[i])
+                        != Double.doubleToLongBits(that.x[i])
+                        || Double.doubleToLongBits(this.y[i])
+                        != Double.doubleToLongBits(that.y[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Returns a hash code for this instance.
+         *
+         * @return A hash code.
+         */
+        @Override
+        public int hashCode() {
+            return 29 * this.key.hashCode() + this.size;
+        }
+
+    }
+
+    /**
+     * The buckets for one level of the pyramid.
+     */
+    private static class Buckets implements Serializable {
+
+        /** For serialization. */
+        private static final long serialVersionUID = 3592468215372416130L;
+
+        /** The bucket duration. */
+        private double duration;
+
+        /** The start of each bucket. */
+        private double[] start;
+
+        /** The lowest y-value in each bucket (<code>NaN</code> if none). */
+        private double[] min;
+
+        /** The highest y-value in each bucket (<code>NaN</code> if none). */
+        private double[] max;
+
+        /** The sum of the y-values in each bucket. */
+        private double[] sum;
+
+        /** The number of y-values (excluding <code>NaN</code>). */
+        private int[] count;
+
+        /** The number of buckets. */
+        private int size;
+
+        /**
+         * Creates a new empty level.
+         *
+         * @param duration  the bucket duration.
+         */
+        Buckets(double duration) {
+            this.duration = duration;
+            this.start = new double[16];
+            this.min = new double[16];
+            this.max = new double[16];
+            this.sum = new double[16];
+            this.count = new int[16];
+        }
+
+        /**
+         * Adds an item to the last bucket, or to a new bucket if the item is
+         * after the end of the last bucket.
+         *
+         * @param x  the x-value.
+         * @param y  the y-value.
+         */
+        void add(double x, double y) {
+            double s = Math.floor(x / this.duration) * this.duration;
+            if (this.size == 0 || this.start[this.size - 1] != s) {
+                int capacity = this.size + 1;
+                this.start = ensureCapacity(this.start, capacity);
+                this.min = ensureCapacity(this.min, capacity);
+                this.max = ensureCapacity(this.max, capacity);
+                this.sum = ensureCapacity(this.sum, capacity);
+                this.count = ensureCapacity(this.count, capacity);
+                this.start[this.size] = s;
+                this.min[this.size] = Double.NaN;
+                this.max[this.size] = Double.NaN;
+                this.sum[this.size] = 0.0;
+                this.count[this.size] = 0;
+                this.size++;
+            }
+            if (Double.isNaN(y)) {
+                return;
+            }
+            int i = this.size - 1;
+            if (this.count[i] == 0) {
+                this.min[i] = y;
+                this.max[i] = y;
+            }
+            else {
+                this.min[i] = Math.min(this.min[i], y);
+                this.max[i] = Math.max(this.max[i], y);
+            }
+            this.sum[i] += y;
+            this.count[i]++;
+        }
+
+        /**
+         * Returns the mean of the y-values in a bucket.
+         *
+         * @param i  the bucket index.
+         *
+         * @return The mean (<code>NaN</code> if the bucket has no y-values).
+         */
+        double getMean(int i) {
+            return (this.count[i] > 0 ? this.sum[i] / this.count[i]
+                    : Double.NaN);
+        }
+
+        /**
+         * Returns a copy of the buckets.
+         *
+         * @return A copy.
+         */
+        Buckets copy() {
+            Buckets copy = new Buckets(this.duration);
+            copy.start = (double[]) this.start.clone();
+            copy.min = (double[]) this.min.clone();
+            copy.max = (double[]) this.max.clone();
+            copy.sum = (double[]) this.sum.clone();
+            copy.count = (int[]) this.count.clone();
+            copy.size = this.size;
+            return copy;
+        }
+
+    }
+
+    /**
+     * A view of the buckets for one level of the pyramid.  The series are
+     * the same as in the collection, and each bucket is one item.
+     */
+    private class LevelDataset extends AbstractIntervalXYDataset {
+
+        /** For serialization. */
+        private static final long serialVersionUID = -2316947728530871264L;
+
+        /** The level. */
+        private int level;
+
+        /**
+         * Creates a new view.
+         *
+         * @param level  the level.
+         */
+        LevelDataset(int level) {
+            this.level = level;
+        }
+
+        /**
+         * Returns the buckets for a series.
+         *
+         * @param series  the series index.
+         *
+         * @return The buckets.
+         */
+        private Buckets getBuckets(int series) {
+            return getSeries(series).levels[this.level];
+        }
+
+        /**
+         * Returns the order of the domain values.
+         *
+         * @return {@link DomainOrder#ASCENDING}.
+         */
+        @Override
+        public DomainOrder getDomainOrder() {
+            return DomainOrder.ASCENDING;
+        }
+
+        /**
+         * Returns the number of series.
+         *
+         * @return The series count.
+         */
+        @Override
+        public int getSeriesCount() {
+            return PyramidTimeSeriesCollection.this.getSeriesCount();
+        }
+
+        /**
+         * Returns the key for a series.
+         *
+         * @param series  the series index.
+         *
+         * @return The series key.
+         */
+        @Override
+        public Comparable getSeriesKey(int series) {
+            return PyramidTimeSeriesCollection.this.getSeriesKey(series);
+        }
+
+        /**
+         * Returns the number of buckets for a series.
+         *
+         * @param series  the series index.
+         *
+         * @return The bucket count.
+         */
+        @Override
+        public int getItemCount(int series) {
+            return getBuckets(series).size;
+        }
+
+        /**
+         * Returns the middle of a bucket.
+         *
+         * @param series  the series index.
+         * @param item  the bucket index.
+         *
+         * @return The x-value.
+         */
+        @Override
+        public double getXValue(int series, int item) {
+            Buckets b = getBuckets(series);
+            checkItem(item, b.size);
+            return b.start[item] + b.duration / 2.0;
+        }
+
+        /**
+         * Returns the middle of a bucket.
+         *
+         * @param series  the series index.
+         * @param item  the bucket index.
+         *
+         * @return The x-value.
+         */
+        @Override
+        public Number getX(int series, int item) {
+            return new Double(getXValue(series, item));
+        }
+
+        /**
+         * Returns the start of a bucket.
+         *
+         * @param series  the series index.
+         * @param item  the bucket index.
+         *
+         * @return The start x-value.
+         */
+        @Override
+        public double getStartXValue(int series, int item) {
+            Buckets b = getBuckets(series);
+            checkItem(item, b.size);
+            return b.start[item];
+        }
+
+        /**
+         * Returns the start of a bucket.
+         *
+         * @param series  the series index.
+         * @param item  the bucket index.
+         *
+         * @return The start x-value.
+         */
+        @Override
+        public Number getStartX(int series, int item) {
+            return new Double(getStartXValue(series, item));
+        }
+
+        /**
+         * Returns the end of a bucket.
+         *
+         * @param series  the series index.
+         * @param item  the bucket index.
+         *
+         * @return The end x-value.
+         */
+        @Override
+        public double getEndXValue(int series, int item) {
+            return getStartXValue(series, item) + getBuckets(series).duration;
+        }
+
+        /**
+         * Returns the end of a bucket.
+         *
+         * @param series  the series index.
+         * @param item  the bucket index.
+         *
+         * @return The end x-value.
+         */
+        @Override
+        public Number getEndX(int series, int item) {
+            return new Double(getEndXValue(series, item));
+        }
+
+        /**
+         * Returns the mean of the y-values in a bucket.
+         *
+         * @param series  the series index.
+         * @param item  the bucket index.
+         *
+         * @return The mean.
+         */
+        @Override
+        public double getYValue(int series, int item) {
+            Buckets b = getBuckets(series);
+            checkItem(item, b.size);
+            return b.getMean(item);
+        }
+
+        /**
+         * Returns the mean of the y-values in a bucket.
+         *
+         * @param series  the series index.
+         * @param item  the bucket index.
+         *
+         * @return The mean (possibly <code>null</code>).
+         */
+        @Override
+        public Number getY(int series, int item) {
+            return toNumber(getYValue(series, item));
+        }
+
+        /**
+         * Returns the lowest y-value in a bucket.
+         *
+         * @param series  the series index.
+         * @param item  the bucket index.
+         *
+         * @return The lowest y-value.
+         */
+        @Override
+        public double getStartYValue(int series, int item) {
+            Buckets b = getBuckets(series);
+            checkItem(item, b.size);
+            return b.min[item];
+        }
+
+        /**
+         * Returns the lowest y-value in a bucket.
+         *
+         * @param series  the series index.
+         * @param item  the bucket index.
+         *
+         * @return The lowest y-value (possibly <code>null</code>).
+         */
+        @Override
+        public Number getStartY(int series, int item) {
+            return toNumber(getStartYValue(series, item));
+        }
+
+        /**
+         * Returns the highest y-value in a bucket.
+         *
+         * @param series  the series index.
+         * @param item  the bucket index.
+         *
+         * @return The highest y-value.
+         */
+        @Override
+        public double getEndYValue(int series, int item) {
+            Buckets b = getBuckets(series);
+            checkItem(item, b.size);
+            return b.max[item];
+        }
+
+        /**
+         * Returns the highest y-value in a bucket.
+         *
+         * @param series  the series index.
+         * @param item  the bucket index.
+         *
+         * @return The highest y-value (possibly <code>null</code>).
+         */
+        @Override
+        public Number getEndY(int series, int item) {
+            return toNumber(getEndYValue(series, item));
+        }
+
+        /**
+         * Converts a value to a number (<code>null</code> for
+         * <code>NaN</code>).
+         *
+         * @param value  the value.
+         *
+         * @return The number.
+         */
+        private Number toNumber(double value) {
+            return (Double.isNaN(value) ? null : new Double(value));
+        }
+
+    }
+
+}
@@ -0,0 +1,851 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------
+ * RingBufferTimeSeries.java
+ * -------------------------
+ * (C) Copyright 2014, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.time;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.TimeZone;
+
+import org.jfree.chart.util.ParamChecks;
+import org.jfree.data.Range;
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesException;
+
+/**
+ * A {@link TimeSeries} with a fixed capacity, designed for charts that are
+ * fed with data at a high rate.  The items are held in circular buffers (the
+ * time periods, a <code>long</code> column of period serial indices and a
+ * <code>double</code> column of values) rather than a list of
+ * {@link TimeSeriesDataItem} objects, so that:
+ * <ul>
+ * <li>appending an item in time order is O(1);</li>
+ * <li>when the series is full, or when items exceed the maximum item count or
+ * maximum item age, the oldest items are discarded in O(1) each;</li>
+ * <li>the minimum and maximum y-values are maintained incrementally using
+ * monotonic queues, so {@link #getMinY()} and {@link #getMaxY()} never
+ * iterate over the data after an append or an eviction.</li>
+ * </ul>
+ * Adding an item out of time order, updating an existing value or deleting
+ * items other than the oldest ones is still supported, but costs O(n).
+ * <P>
+ * Data items returned by {@link #getItems()} and {@link #getDataItem(int)}
+ * are created on demand.
+ *
+ * @since 1.0.20
+ */
+public class RingBufferTimeSeries extends TimeSeries {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -3120712374017862359L;
+
+    /** The time periods. */
+    private RegularTimePeriod[] periods;
+
+    /** The serial index of each time period (used for ordering and aging). */
+    private long[] serials;
+
+    /** The values (<code>null</code> values are stored as NaN). */
+    private double[] values;
+
+    /**
+     * Flags the buffer positions that hold a <code>null</code> value (this
+     * is <code>null</code> until the first <code>null</code> value is added).
+     */
+    private BitSet nullValues;
+
+    /** The buffer position of the first (oldest) item. */
+    private int head;
+
+    /** The number of items in the series. */
+    private int count;
+
+    /** A queue used to track the minimum value. */
+    private ExtremumQueue minQueue;
+
+    /** A queue used to track the maximum value. */
+    private ExtremumQueue maxQueue;
+
+    /**
+     * Creates a new empty series with the specified capacity.
+     *
+     * @param name  the series name (<code>null</code> not permitted).
+     * @param capacity  the maximum number of items held by the series (must
+     *     be positive).
+     */
+    public RingBufferTimeSeries(Comparable name, int capacity) {
+        this(name, DEFAULT_DOMAIN_DESCRIPTION, DEFAULT_RANGE_DESCRIPTION,
+                capacity);
+    }
+
+    /**
+     * Creates a new empty series with the specified capacity.
+     *
+     * @param name  the series name (<code>null</code> not permitted).
+     * @param domain  the domain description (<code>null</code> permitted).
+     * @param range  the range description (<code>null</code> permitted).
+     * @param capacity  the maximum number of items held by the series (must
+     *     be positive).
+     */
+    public RingBufferTimeSeries(Comparable name, String domain, String range,
+            int capacity) {
+        super(name, domain, range);
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Requires 'capacity' > 0.");
+        }
+        this.periods = new RegularTimePeriod[capacity];
+        this.serials = new long[capacity];
+        this.values = new double[capacity];
+        this.minQueue = new ExtremumQueue(capacity, false);
+        this.maxQueue = new ExtremumQueue(capacity, true);
+    }
+
+    /**
+     * Returns the capacity of the series.  When the series is full, adding a
+     * new item causes the oldest item to be discarded.
+     *
+     * @return The capacity.
+     */
+    public int getCapacity() {
+        return this.values.length;
+    }
+
+    /**
+     * Returns the number of items in the series.
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount() {
+        return this.count;
+    }
+
+    /**
+     * Returns an unmodifiable list of the data items in the series.  The
+     * items in the list are created on demand.
+     *
+     * @return The list of data items.
+     */
+    @Override
+    public List getItems() {
+        return Collections.unmodifiableList(new AbstractList() {
+            @Override
+            public Object get(int index) {
+                return getRawDataItem(index);
+            }
+            @Override
+            public int size() {
+                return RingBufferTimeSeries.this.count;
+            }
+        });
+    }
+
+    /**
+     * Sets the maximum number of items that will be retained in the series,
+     * removing the oldest items (and sending a {@link SeriesChangeEvent} to
+     * all registered listeners) if necessary.  The number of items retained
+     * is never more than the capacity of the series.
+     *
+     * @param maximum  the maximum (requires &gt;= 0).
+     */
+    @Override
+    public void setMaximumItemCount(int maximum) {
+        super.setMaximumItemCount(maximum);
+        if (this.count > maximum) {
+            while (this.count > maximum) {
+                removeFirst();
+            }
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Returns the range of y-values in the series, or <code>null</code> if
+     * the series is empty.
+     *
+     * @return The range of y-values in the series (possibly
+     *     <code>null</code>).
+     */
+    @Override
+    public Range findValueRange() {
+        if (this.count == 0) {
+            return null;
+        }
+        return new Range(getMinY(), getMaxY());
+    }
+
+    /**
+     * Returns the smallest y-value in the series, ignoring any
+     * <code>null</code> and <code>Double.NaN</code> values.
+     *
+     * @return The smallest y-value.
+     */
+    @Override
+    public double getMinY() {
+        return this.minQueue.peek(this.values);
+    }
+
+    /**
+     * Returns the largest y-value in the series, ignoring any
+     * <code>null</code> and <code>Double.NaN</code> values.
+     *
+     * @return The largest y-value.
+     */
+    @Override
+    public double getMaxY() {
+        return this.maxQueue.peek(this.values);
+    }
+
+    /**
+     * Returns a data item from the series.  The item is created on demand,
+     * so modifying it will have no effect on the series.
+     *
+     * @param index  the item index.
+     *
+     * @return The data item.
+     */
+    @Override
+    public TimeSeriesDataItem getDataItem(int index) {
+        return getRawDataItem(index);
+    }
+
+    /**
+     * Returns a new data item for the specified index (since this series does
+     * not store data items).
+     *
+     * @param index  the item index (zero-based).
+     *
+     * @return The data item.
+     */
+    @Override
+    TimeSeriesDataItem getRawDataItem(int index) {
+        return new TimeSeriesDataItem(getTimePeriod(index), getValue(index));
+    }
+
+    /**
+     * Returns a new data item for the specified period.
+     *
+     * @param period  the period (<code>null</code> not permitted).
+     *
+     * @return The data item (or <code>null</code> if there is no item for
+     *     the period).
+     */
+    @Override
+    TimeSeriesDataItem getRawDataItem(RegularTimePeriod period) {
+        int index = getIndex(period);
+        if (index >= 0) {
+            return getRawDataItem(index);
+        }
+        return null;
+    }
+
+    /**
+     * Returns the time period at the specified index.
+     *
+     * @param index  the index of the data item.
+     *
+     * @return The time period.
+     */
+    @Override
+    public RegularTimePeriod getTimePeriod(int index) {
+        return this.periods[position(index)];
+    }
+
+    /**
+     * Returns the index for the item (if any) that corresponds to a time
+     * period.
+     *
+     * @param period  the time period (<code>null</code> not permitted).
+     *
+     * @return The index (or a negative value encoding the insertion point, as
+     *     for <code>Collections.binarySearch()</code>).
+     */
+    @Override
+    public int getIndex(RegularTimePeriod period) {
+        ParamChecks.nullNotPermitted(period, "period");
+        return indexOf(period.getSerialIndex());
+    }
+
+    /**
+     * Returns the value at the specified index.
+     *
+     * @param index  index of a value.
+     *
+     * @return The value (possibly <code>null</code>).
+     */
+    @Override
+    public Number getValue(int index) {
+        int pos = position(index);
+        if (isNullValue(pos)) {
+            return null;
+        }
+        return new Double(this.values[pos]);
+    }
+
+    /**
+     * Adds a data item to the series and, if requested, sends a
+     * {@link SeriesChangeEvent} to all registered listeners.  If the series
+     * is full, the oldest item is discarded.
+     *
+     * @param item  the (timeperiod, value) pair (<code>null</code> not
+     *              permitted).
+     * @param notify  notify listeners?
+     */
+    @Override
+    public void add(TimeSeriesDataItem item, boolean notify) {
+        ParamChecks.nullNotPermitted(item, "item");
+        RegularTimePeriod period = item.getPeriod();
+        checkPeriodClass(period);
+        long serial = period.getSerialIndex();
+        int index = this.count;
+        if (this.count > 0 && serial <= this.serials[position(this.count - 1)]) {
+            index = indexOf(serial);
+            if (index >= 0) {
+                StringBuilder b = new StringBuilder();
+                b.append("You are attempting to add an observation for ");
+                b.append("the time period ");
+                b.append(period.toString());
+                b.append(" but the series already contains an observation");
+                b.append(" for that time period. Duplicates are not ");
+                b.append("permitted.  Try using the addOrUpdate() method.");
+                throw new SeriesException(b.toString());
+            }
+            index = -index - 1;
+        }
+        insert(index, period, item.getValue());
+        removeAgedItems(false);
+        if (notify) {
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Updates (changes) the value for a time period.  Throws a
+     * {@link SeriesException} if the period does not exist.
+     *
+     * @param period  the period (<code>null</code> not permitted).
+     * @param value  the value (<code>null</code> permitted).
+     */
+    @Override
+    public void update(RegularTimePeriod period, Number value) {
+        int index = getIndex(period);
+        if (index < 0) {
+            throw new SeriesException("There is no existing value for the "
+                    + "specified 'period'.");
+        }
+        update(index, value);
+    }
+
+    /**
+     * Updates (changes) the value of a data item and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param index  the index of the data item.
+     * @param value  the new value (<code>null</code> permitted).
+     */
+    @Override
+    public void update(int index, Number value) {
+        setValue(position(index), value);
+        recordModification();
+        rebuildQueues();
+        fireSeriesChanged();
+    }
+
+    /**
+     * Adds or updates an item in the times series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param item  the data item (<code>null</code> not permitted).
+     *
+     * @return A copy of the overwritten data item, or <code>null</code> if no
+     *         item was overwritten.
+     */
+    @Override
+    public TimeSeriesDataItem addOrUpdate(TimeSeriesDataItem item) {
+        ParamChecks.nullNotPermitted(item, "item");
+        RegularTimePeriod period = item.getPeriod();
+        checkPeriodClass(period);
+        TimeSeriesDataItem overwritten = null;
+        int index = indexOf(period.getSerialIndex());
+        if (index >= 0) {
+            overwritten = getRawDataItem(index);
+            setValue(position(index), item.getValue());
+            recordModification();
+            rebuildQueues();
+        }
+        else {
+            insert(-index - 1, period, item.getValue());
+        }
+        removeAgedItems(false);
+        fireSeriesChanged();
+        return overwritten;
+    }
+
+    /**
+     * Age items in the series.  Ensure that the timespan from the youngest to
+     * the oldest record in the series does not exceed maximumItemAge time
+     * periods.  Oldest items will be removed (in O(1) each) if required.
+     *
+     * @param notify  controls whether or not a {@link SeriesChangeEvent} is
+     *                sent to registered listeners IF any items are removed.
+     */
+    @Override
+    public void removeAgedItems(boolean notify) {
+        if (this.count > 1) {
+            long latest = this.serials[position(this.count - 1)];
+            removeItemsOlderThan(latest, notify);
+        }
+    }
+
+    /**
+     * Age items in the series.  Ensure that the timespan from the supplied
+     * time to the oldest record in the series does not exceed the maximum
+     * item age.  Oldest items will be removed (in O(1) each) if required.
+     *
+     * @param latest  the time to be compared against when aging data
+     *     (specified in milliseconds).
+     * @param notify  controls whether or not a {@link SeriesChangeEvent} is
+     *                sent to registered listeners IF any items are removed.
+     */
+    @Override
+    public void removeAgedItems(long latest, boolean notify) {
+        if (this.count == 0) {
+            return;
+        }
+        RegularTimePeriod newest = RegularTimePeriod.createInstance(
+                this.timePeriodClass, new Date(latest), TimeZone.getDefault());
+        removeItemsOlderThan(newest.getSerialIndex(), notify);
+    }
+
+    /**
+     * Removes the items that are more than the maximum item age older than
+     * the specified serial index.
+     *
+     * @param latest  the serial index of the latest time period.
+     * @param notify  notify listeners if any items are removed?
+     */
+    private void removeItemsOlderThan(long latest, boolean notify) {
+        long maxAge = getMaximumItemAge();
+        boolean removed = false;
+        while (this.count > 0 && latest - this.serials[this.head] > maxAge) {
+            removeFirst();
+            removed = true;
+        }
+        if (removed && notify) {
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Removes all data items from the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     */
+    @Override
+    public void clear() {
+        if (this.count > 0) {
+            clearStorage();
+            recordModification();
+            this.timePeriodClass = null;
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Deletes the data item for the given time period and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.  If there is no
+     * item with the specified time period, this method does nothing.
+     *
+     * @param period  the period of the item to delete (<code>null</code> not
+     *                permitted).
+     */
+    @Override
+    public void delete(RegularTimePeriod period) {
+        int index = getIndex(period);
+        if (index >= 0) {
+            delete(index, index, true);
+        }
+    }
+
+    /**
+     * Deletes data from start until end index (end inclusive).  Deleting
+     * items from the start of the series takes O(1) per item.
+     *
+     * @param start  the index of the first period to delete.
+     * @param end  the index of the last period to delete.
+     * @param notify  notify listeners?
+     */
+    @Override
+    public void delete(int start, int end, boolean notify) {
+        if (end < start) {
+            throw new IllegalArgumentException("Requires start <= end.");
+        }
+        if (start < 0 || end >= this.count) {
+            throw new IndexOutOfBoundsException("Invalid range: " + start
+                    + " to " + end);
+        }
+        if (start == 0) {
+            for (int i = 0; i <= end; i++) {
+                removeFirst();
+            }
+        }
+        else {
+            int removed = end - start + 1;
+            for (int i = end + 1; i < this.count; i++) {
+                move(position(i), position(i - removed));
+            }
+            for (int i = this.count - removed; i < this.count; i++) {
+                int pos = position(i);
+                this.periods[pos] = null;
+                if (this.nullValues != null) {
+                    this.nullValues.clear(pos);
+                }
+            }
+            this.count -= removed;
+            recordModification();
+            rebuildQueues();
+        }
+        if (this.count == 0) {
+            this.timePeriodClass = null;
+        }
+        if (notify) {
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Returns a clone of the time series.
+     *
+     * @return A clone of the time series.
+     *
+     * @throws CloneNotSupportedException not thrown by this class.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        RingBufferTimeSeries clone = (RingBufferTimeSeries) super.clone();
+        clone.periods = (RegularTimePeriod[]) this.periods.clone();
+        clone.serials = (long[]) this.serials.clone();
+        clone.values = (double[]) this.values.clone();
+        if (this.nullValues != null) {
+            clone.nullValues = (BitSet) this.nullValues.clone();
+        }
+        clone.minQueue = (ExtremumQueue) this.minQueue.clone();
+        clone.maxQueue = (ExtremumQueue) this.maxQueue.clone();
+        return clone;
+    }
+
+    /**
+     * Creates a new series (with the same capacity) by copying a subset of
+     * the data in this series.
+     *
+     * @param start  the index of the first time period to copy.
+     * @param end  the index of the last time period to copy.
+     *
+     * @return A series containing a copy of this series from start until end.
+     *
+     * @throws CloneNotSupportedException if there is a cloning problem.
+     */
+    @Override
+    public TimeSeries createCopy(int start, int end)
+            throws CloneNotSupportedException {
+        if (start < 0) {
+            throw new IllegalArgumentException("Requires start >= 0.");
+        }
+        if (end < start) {
+            throw new IllegalArgumentException("Requires start <= end.");
+        }
+        RingBufferTimeSeries copy = (RingBufferTimeSeries) clone();
+        copy.clearStorage();
+        if (this.count > 0) {
+            for (int i = start; i <= end; i++) {
+                int pos = position(i);
+                copy.insert(copy.count, this.periods[pos],
+                        isNullValue(pos) ? null : new Double(this.values[pos]));
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Creates a new series (with the same capacity) by copying a subset of
+     * the data in this series.
+     *
+     * @param start  the first time period to copy (<code>null</code> not
+     *         permitted).
+     * @param end  the last time period to copy (<code>null</code> not
+     *         permitted).
+     *
+     * @return A time series containing a copy of this time series from start
+     *         until end.
+     *
+     * @throws CloneNotSupportedException if there is a cloning problem.
+     */
+    @Override
+    public TimeSeries createCopy(RegularTimePeriod start,
+            RegularTimePeriod end) throws CloneNotSupportedException {
+        ParamChecks.nullNotPermitted(start, "start");
+        ParamChecks.nullNotPermitted(end, "end");
+        if (start.compareTo(end) > 0) {
+            throw new IllegalArgumentException(
+                    "Requires start on or before end.");
+        }
+        int startIndex = getIndex(start);
+        if (startIndex < 0) {
+            startIndex = -(startIndex + 1);
+        }
+        int endIndex = getIndex(end);
+        if (endIndex < 0) {
+            endIndex = -(endIndex + 1) - 1;
+        }
+        if (startIndex == this.count || endIndex < 0
+                || endIndex < startIndex) {
+            RingBufferTimeSeries copy = (RingBufferTimeSeries) clone();
+            copy.clearStorage();
+            return copy;
+        }
+        return createCopy(startIndex, endIndex);
+    }
+
+    /**
+     * Checks that the period is an instance of the time period class for the
+     * series, setting the class if the series does not have one yet.
+     *
+     * @param period  the period.
+     */
+    private void checkPeriodClass(RegularTimePeriod period) {
+        Class c = period.getClass();
+        if (this.timePeriodClass == null) {
+            this.timePeriodClass = c;
+        }
+        else if (!this.timePeriodClass.equals(c)) {
+            throw new SeriesException("You are trying to add data where the "
+                    + "time period class is " + c.getName() + ", but the "
+                    + "TimeSeries is expecting an instance of "
+                    + this.timePeriodClass.getName() + ".");
+        }
+    }
+
+    /**
+     * Returns the buffer position for an item index.
+     *
+     * @param index  the item index.
+     *
+     * @return The buffer position.
+     */
+    private int position(int index) {
+        if (index < 0 || index >= this.count) {
+            throw new IndexOutOfBoundsException("Index: " + index
+                    + ", Size: " + this.count);
+        }
+        int pos = this.head + index;
+        return pos < this.values.length ? pos : pos - this.values.length;
+    }
+
+    /**
+     * Returns the index of the item with the specified serial index, or a
+     * negative value encoding the insertion point.
+     *
+     * @param serial  the serial index.
+     *
+     * @return The index.
+     */
+    private int indexOf(long serial) {
+        int low = 0;
+        int high = this.count - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long s = this.serials[position(mid)];
+            if (s < serial) {
+                low = mid + 1;
+            }
+            else if (s > serial) {
+                high = mid - 1;
+            }
+            else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Inserts an item at the specified index, discarding the oldest item if
+     * the series is full or exceeds the maximum item count.
+     *
+     * @param index  the index.
+     * @param period  the time period.
+     * @param value  the value (<code>null</code> permitted).
+     */
+    private void insert(int index, RegularTimePeriod period, Number value) {
+        int capacity = this.values.length;
+        if (this.count == capacity) {
+            if (index == 0) {
+                // the new item is the oldest, so it is discarded immediately
+                return;
+            }
+            removeFirst();
+            index--;
+        }
+        this.count++;
+        int pos = position(this.count - 1);
+        if (index < this.count - 1) {
+            recordModification();
+            for (int i = this.count - 1; i > index; i--) {
+                move(position(i - 1), position(i));
+            }
+            pos = position(index);
+        }
+        this.periods[pos] = period;
+        this.serials[pos] = period.getSerialIndex();
+        setValue(pos, value);
+        if (index == this.count - 1) {
+            if (!isNullValue(pos)) {
+                this.minQueue.add(pos, this.values);
+                this.maxQueue.add(pos, this.values);
+            }
+        }
+        else {
+            rebuildQueues();
+        }
+        while (this.count > getMaximumItemCount()) {
+            removeFirst();
+        }
+    }
+
+    /**
+     * Moves the item at one buffer position to another.
+     *
+     * @param from  the source position.
+     * @param to  the target position.
+     */
+    private void move(int from, int to) {
+        this.periods[to] = this.periods[from];
+        this.serials[to] = this.serials[from];
+        this.values[to] = this.values[from];
+        if (this.nullValues != null) {
+            this.nullValues.set(to, this.nullValues.get(from));
+        }
+    }
+
+    /**
+     * Stores a value at the specified buffer position (without updating the
+     * min/max queues).
+     *
+     * @param pos  the buffer position.
+     * @param value  the value (<code>null</code> permitted).
+     */
+    private void setValue(int pos, Number value) {
+        if (value == null) {
+            this.values[pos] = Double.NaN;
+            if (this.nullValues == null) {
+                this.nullValues = new BitSet(this.values.length);
+            }
+            this.nullValues.set(pos);
+        }
+        else {
+            this.values[pos] = value.doubleValue();
+            if (this.nullValues != null) {
+                this.nullValues.clear(pos);
+            }
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if the value at the specified buffer position
+     * is <code>null</code>.
+     *
+     * @param pos  the buffer position.
+     *
+     * @return A boolean.
+     */
+    private boolean isNullValue(int pos) {
+        return this.nullValues != null && this.nullValues.get(pos);
+    }
+
+    /**
+     * Removes the oldest item in O(1).
+     */
+    private void removeFirst() {
+        int pos = this.head;
+        this.minQueue.evict(pos);
+        this.maxQueue.evict(pos);
+        this.periods[pos] = null;
+        if (this.nullValues != null) {
+            this.nullValues.clear(pos);
+        }
+        this.count--;
+        this.head = this.count == 0 ? 0 : (pos + 1) % this.values.length;
+        recordRemovedItems(1);
+    }
+
+    /**
+     * Removes all items, without changing the capacity.
+     */
+    private void clearStorage() {
+        Arrays.fill(this.periods, null);
+        this.nullValues = null;
+        this.head = 0;
+        this.count = 0;
+        this.minQueue.clear();
+        this.maxQueue.clear();
+    }
+
+    /**
+     * Rebuilds the min/max queues by iterating over all the items (required
+     * after an item is inserted, updated or removed other than at the ends
+     * of the buffer).
+     */
+    private void rebuildQueues() {
+        this.minQueue.clear();
+        this.maxQueue.clear();
+        for (int i = 0; i < this.count; i++) {
+            int pos = position(i);
+            if (!isNullValue(pos)) {
+                this.minQueue.add(pos, this.values);
+                this.maxQueue.add(pos, this.values);
+            }
+        }
+    }
+
+}
@@ -382,7 +382,10 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
      *     not permitted).
      * @param zone  the time zone (<code>null</code> not permitted).
      * 
-     * @return The range of y-values.
+     * @return The range of y-values (<code>null</code> if the series is
+     *     empty, and a range with <code>Double.NaN</code> bounds if there
+     *     are no values in range other than <code>null</code> and
+     *     <code>Double.NaN</code>).
      * 
      * @since 1.0.18
      */
@@ -391,21 +394,49 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         ParamChecks.nullNotPermitted(xRange, "xRange");
         ParamChecks.nullNotPermitted(xAnchor, "xAnchor");
         ParamChecks.nullNotPermitted(zone, "zone");
-        if (this.data.isEmpty()) {
+        if (getItemCount() == 0) {
             return null;
         }
         Calendar calendar = Calendar.getInstance(zone);
-        // since the items are ordered, we could be more clever here and avoid
-        // iterating over all the data
+        int count = getItemCount();
+        long first = getTimePeriod(0).getMillisecond(xAnchor, calendar);
+        long last = getTimePeriod(count - 1).getMillisecond(xAnchor,
+                calendar);
+        if (xRange.contains(first) && xRange.contains(last)) {
+            // all the items are in range, so use the cached bounds (if
+            // there are no values other than null and NaN, return the same
+            // NaN range as the scan below does)
+            if (Double.isNaN(getMinY())) {
+                return new Range(Double.NaN, Double.NaN);
+            }
+            return new Range(getMinY(), getMaxY());
+        }
+
+        // the items are ordered, so a binary search finds the first item
+        // that might be in range and we stop at the first item beyond it
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            long millis = getTimePeriod(mid).getMillisecond(xAnchor, calendar);
+            if (millis < xRange.getLowerBound()) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
         double lowY = Double.POSITIVE_INFINITY;
         double highY = Double.NEGATIVE_INFINITY;
-        for (int i = 0; i < this.data.size(); i++) {
-            TimeSeriesDataItem item = (TimeSeriesDataItem) this.data.get(i);
-            long millis = item.getPeriod().getMillisecond(xAnchor, calendar);
-            if (xRange.contains(millis)) {
-                Number n = item.getValue();
-                if (n != null) {
-                    double v = n.doubleValue();
+        for (int i = low; i < count; i++) {
+            long millis = getTimePeriod(i).getMillisecond(xAnchor, calendar);
+            if (millis > xRange.getUpperBound()) {
+                break;
+            }
+            Number n = getValue(i);
+            if (n != null) {
+                double v = n.doubleValue();
+                if (!Double.isNaN(v)) {
                     lowY = Math.min(lowY, v);
                     highY = Math.max(highY, v);
                 }
@@ -690,6 +721,7 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
                 int index = Collections.binarySearch(this.data, item);
                 if (index < 0) {
                     this.data.add(-index - 1, item);
+                    recordModification();
                     added = true;
                 }
                 else {
@@ -709,6 +741,7 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
             // check if this addition will exceed the maximum item count...
             if (getItemCount() > this.maximumItemCount) {
                 TimeSeriesDataItem d = (TimeSeriesDataItem) this.data.remove(0);
+                recordRemovedItems(1);
                 updateBoundsForRemovedItem(d);
             }
 
@@ -822,6 +855,7 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
             }
         }
         item.setValue(value);
+        recordModification();
         if (iterate) {
             updateMinMaxYByIteration();
         }
@@ -927,6 +961,7 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
                 iterate = oldY <= this.minY || oldY >= this.maxY;
             }
             existing.setValue(item.getValue());
+            recordModification();
             if (iterate) {
                 updateMinMaxYByIteration();
             }
@@ -938,12 +973,16 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         }
         else {
             item = (TimeSeriesDataItem) item.clone();
+            if (-index - 1 < this.data.size()) {
+                recordModification();
+            }
             this.data.add(-index - 1, item);
             updateBoundsForAddedItem(item);
 
             // check if this addition will exceed the maximum item count...
             if (getItemCount() > this.maximumItemCount) {
                 TimeSeriesDataItem d = (TimeSeriesDataItem) this.data.remove(0);
+                recordRemovedItems(1);
                 updateBoundsForRemovedItem(d);
             }
         }
@@ -972,6 +1011,7 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
             while ((latest - getTimePeriod(0).getSerialIndex())
                     > this.maximumItemAge) {
                 this.data.remove(0);
+                recordRemovedItems(1);
                 removed = true;
             }
             if (removed) {
@@ -1024,6 +1064,7 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         while (getItemCount() > 0 && (index
                 - getTimePeriod(0).getSerialIndex()) > this.maximumItemAge) {
             this.data.remove(0);
+            recordRemovedItems(1);
             removed = true;
         }
         if (removed) {
@@ -1041,6 +1082,7 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
     public void clear() {
         if (this.data.size() > 0) {
             this.data.clear();
+            recordModification();
             this.timePeriodClass = null;
             this.minY = Double.NaN;
             this.maxY = Double.NaN;
@@ -1061,6 +1103,7 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         if (index >= 0) {
             TimeSeriesDataItem item = (TimeSeriesDataItem) this.data.remove(
                     index);
+            recordRemoval(index, 1);
             updateBoundsForRemovedItem(item);
             if (this.data.isEmpty()) {
                 this.timePeriodClass = null;
@@ -1095,6 +1138,7 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         for (int i = 0; i <= (end - start); i++) {
             this.data.remove(start);
         }
+        recordRemoval(start, end - start + 1);
         updateMinMaxYByIteration();
         if (this.data.isEmpty()) {
             this.timePeriodClass = null;
@@ -1251,7 +1295,7 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         if (count != that.getItemCount()) {
             return false;
         }
-        if (!ObjectUtilities.equal(this.data, that.data)) {
+        if (!ObjectUtilities.equal(getItems(), that.getItems())) {
             return false;
         }
         return super.equals(obj);
@@ -0,0 +1,895 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------
+ * MappedXYDataset.java
+ * --------------------
+ * (C) Copyright 2014, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.xy;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.jfree.chart.util.ParamChecks;
+import org.jfree.data.DomainInfo;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.jfree.data.RangeInfo;
+
+/**
+ * A read-only {@link IntervalXYDataset} that reads its data from a file
+ * that is mapped into memory, so that a chart can display series that are
+ * too large to be held on the Java heap.  The file is written by
+ * {@link MappedXYDatasetWriter} and contains, for each series, columns of
+ * little-endian <code>double</code> values for the x-values and y-values
+ * (and optionally the start and end x and y-values).  The x-values in each
+ * series are in ascending order, so this dataset reports
+ * {@link DomainOrder#ASCENDING} and renderers can find the visible items
+ * with a binary search.  The bounds of each series are stored in the file,
+ * so the axis ranges can be calculated without reading the data.
+ * <P>
+ * The file should not be modified while the dataset is in use.  The memory
+ * mapping is released when the dataset is garbage collected.
+ *
+ * @see MappedXYDatasetWriter
+ *
+ * @since 1.0.20
+ */
+public class MappedXYDataset extends AbstractIntervalXYDataset
+        implements IntervalXYDataset, DomainInfo, RangeInfo, XYDomainInfo,
+        XYRangeInfo {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -2364380153470651402L;
+
+    /** The value at the start of the file that identifies the format. */
+    static final int MAGIC = 0x4A465859;
+
+    /** The version of the file format. */
+    static final int VERSION = 1;
+
+    /** A flag indicating that the file contains the interval columns. */
+    static final int FLAG_INTERVALS = 1;
+
+    /** The size (in bytes) of the file header. */
+    static final int HEADER_SIZE = 16;
+
+    /** The size (in bytes) of a series header, excluding the key. */
+    static final int SERIES_HEADER_SIZE = 8 + 8 * 8 + 4;
+
+    /** The column index for the x-values. */
+    static final int X = 0;
+
+    /** The column index for the y-values. */
+    static final int Y = 1;
+
+    /** The column index for the start x-values. */
+    static final int START_X = 2;
+
+    /** The column index for the end x-values. */
+    static final int END_X = 3;
+
+    /** The column index for the start y-values. */
+    static final int START_Y = 4;
+
+    /** The column index for the end y-values. */
+    static final int END_Y = 5;
+
+    /** The index of the lowest x-value in the series bounds. */
+    static final int X_LOW = 0;
+
+    /** The index of the highest x-value in the series bounds. */
+    static final int X_HIGH = 1;
+
+    /** The index of the lowest y-value in the series bounds. */
+    static final int Y_LOW = 2;
+
+    /** The index of the highest y-value in the series bounds. */
+    static final int Y_HIGH = 3;
+
+    /** The index of the lowest start x-value in the series bounds. */
+    static final int START_X_LOW = 4;
+
+    /** The index of the highest end x-value in the series bounds. */
+    static final int END_X_HIGH = 5;
+
+    /** The index of the lowest start y-value in the series bounds. */
+    static final int START_Y_LOW = 6;
+
+    /** The index of the highest end y-value in the series bounds. */
+    static final int END_Y_HIGH = 7;
+
+    /**
+     * The number of bits for the offset within a mapped segment (a single
+     * mapping can be no larger than <code>Integer.MAX_VALUE</code> bytes).
+     */
+    private static final int SEGMENT_SHIFT = 30;
+
+    /** The maximum size of a mapped segment. */
+    private static final long SEGMENT_SIZE = 1L << SEGMENT_SHIFT;
+
+    /** The mask for the offset within a mapped segment. */
+    private static final long SEGMENT_MASK = SEGMENT_SIZE - 1;
+
+    /** The file. */
+    private File file;
+
+    /** The series keys. */
+    private transient String[] seriesKeys;
+
+    /** The series indices, keyed by series key. */
+    private transient Map seriesIndices;
+
+    /** The number of items in each series. */
+    private transient int[] itemCounts;
+
+    /** The bounds of each series (see {@link #X_LOW} etc.). */
+    private transient double[][] bounds;
+
+    /** The file position of each column for each series. */
+    private transient long[][] columnOffsets;
+
+    /** The mapped segments of the file. */
+    private transient MappedByteBuffer[] segments;
+
+    /**
+     * Creates a new dataset that reads its data from the specified file.
+     *
+     * @param file  the file (<code>null</code> not permitted).
+     *
+     * @throws IOException if the file cannot be read or is not in the
+     *     expected format.
+     */
+    public MappedXYDataset(File file) throws IOException {
+        ParamChecks.nullNotPermitted(file, "file");
+        this.file = file.getAbsoluteFile();
+        open();
+    }
+
+    /**
+     * Returns the file that the data is read from.
+     *
+     * @return The file (never <code>null</code>).
+     */
+    public File getFile() {
+        return this.file;
+    }
+
+    /**
+     * Reads the headers from the file and maps the file into memory.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void open() throws IOException {
+        RandomAccessFile raf = new RandomAccessFile(this.file, "r");
+        try {
+            FileChannel channel = raf.getChannel();
+            long fileSize = channel.size();
+            ByteBuffer header = read(channel, 0, HEADER_SIZE);
+            if (header.getInt() != MAGIC) {
+                throw new IOException("Not a mapped XY dataset file: "
+                        + this.file);
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported file version: "
+                        + version);
+            }
+            int seriesCount = header.getInt();
+            int flags = header.getInt();
+            if (seriesCount < 0) {
+                throw new IOException("Invalid series count: "
+                        + seriesCount);
+            }
+            boolean intervals = (flags & FLAG_INTERVALS) != 0;
+
+            this.seriesKeys = new String[seriesCount];
+            this.seriesIndices = new HashMap();
+            this.itemCounts = new int[seriesCount];
+            this.bounds = new double[seriesCount][];
+            long position = HEADER_SIZE;
+            for (int s = 0; s < seriesCount; s++) {
+                ByteBuffer b = read(channel, position, SERIES_HEADER_SIZE);
+                long count = b.getLong();
+                if (count < 0 || count > Integer.MAX_VALUE) {
+                    throw new IOException("Invalid item count: " + count);
+                }
+                this.itemCounts[s] = (int) count;
+                this.bounds[s] = new double[8];
+                for (int i = 0; i < 8; i++) {
+                    this.bounds[s][i] = b.getDouble();
+                }
+                int keyLength = b.getInt();
+                position += SERIES_HEADER_SIZE;
+                if (keyLength < 0 || position + keyLength > fileSize) {
+                    throw new IOException("Invalid series key length: "
+                            + keyLength);
+                }
+                this.seriesKeys[s] = new String(read(channel, position,
+                        keyLength).array(), "UTF-8");
+                this.seriesIndices.put(this.seriesKeys[s], new Integer(s));
+                position += keyLength;
+            }
+
+            // the columns are aligned on 8 byte boundaries, so a value never
+            // spans two segments
+            position = align(position);
+            this.columnOffsets = new long[seriesCount][6];
+            for (int s = 0; s < seriesCount; s++) {
+                long columnSize = (long) this.itemCounts[s] * 8;
+                long[] offsets = this.columnOffsets[s];
+                offsets[X] = position;
+                offsets[Y] = position + columnSize;
+                if (intervals) {
+                    offsets[START_X] = position + 2 * columnSize;
+                    offsets[END_X] = position + 3 * columnSize;
+                    offsets[START_Y] = position + 4 * columnSize;
+                    offsets[END_Y] = position + 5 * columnSize;
+                    position += 6 * columnSize;
+                }
+                else {
+                    offsets[START_X] = offsets[X];
+                    offsets[END_X] = offsets[X];
+                    offsets[START_Y] = offsets[Y];
+                    offsets[END_Y] = offsets[Y];
+                    position += 2 * columnSize;
+                }
+            }
+            if (position > fileSize) {
+                throw new IOException("The file is truncated: " + this.file);
+            }
+
+            int segmentCount = (int) ((position + SEGMENT_SIZE - 1)
+                    >>> SEGMENT_SHIFT);
+            this.segments = new MappedByteBuffer[segmentCount];
+            for (int i = 0; i < segmentCount; i++) {
+                long start = (long) i << SEGMENT_SHIFT;
+                this.segments[i] = channel.map(FileChannel.MapMode.READ_ONLY,
+                        start, Math.min(SEGMENT_SIZE, position - start));
+                this.segments[i].order(ByteOrder.LITTLE_ENDIAN);
+            }
+        }
+        finally {
+            raf.close();
+        }
+    }
+
+    /**
+     * Reads bytes from a file channel into a new (little-endian) buffer.
+     *
+     * @param channel  the channel.
+     * @param position  the file position.
+     * @param length  the number of bytes to read.
+     *
+     * @return The buffer, ready for reading.
+     *
+     * @throws IOException if there is an I/O problem or the end of the file
+     *     is reached.
+     */
+    private static ByteBuffer read(FileChannel channel, long position,
+            int length) throws IOException {
+        ByteBuffer result = ByteBuffer.allocate(length);
+        while (result.hasRemaining()) {
+            int n = channel.read(result, position + result.position());
+            if (n < 0) {
+                throw new IOException("Unexpected end of file.");
+            }
+        }
+        result.flip();
+        result.order(ByteOrder.LITTLE_ENDIAN);
+        return result;
+    }
+
+    /**
+     * Rounds a file position up to the next multiple of 8.
+     *
+     * @param position  the position.
+     *
+     * @return The aligned position.
+     */
+    static long align(long position) {
+        return (position + 7) & ~7L;
+    }
+
+    /**
+     * Returns a value from the file.
+     *
+     * @param series  the series index.
+     * @param column  the column index.
+     * @param item  the item index.
+     *
+     * @return The value.
+     */
+    private double getValue(int series, int column, int item) {
+        if (item < 0 || item >= this.itemCounts[series]) {
+            throw new IndexOutOfBoundsException("Index: " + item
+                    + ", Size: " + this.itemCounts[series]);
+        }
+        long position = this.columnOffsets[series][column] + ((long) item << 3);
+        return this.segments[(int) (position >>> SEGMENT_SHIFT)].getDouble(
+                (int) (position & SEGMENT_MASK));
+    }
+
+    /**
+     * Returns the number of series in the dataset.
+     *
+     * @return The series count.
+     */
+    @Override
+    public int getSeriesCount() {
+        return this.seriesKeys.length;
+    }
+
+    /**
+     * Returns the key for a series.  The keys are stored in the file as
+     * strings.
+     *
+     * @param series  the series index (in the range <code>0</code> to
+     *     <code>getSeriesCount() - 1</code>).
+     *
+     * @return The key for the series.
+     */
+    @Override
+    public Comparable getSeriesKey(int series) {
+        return this.seriesKeys[series];
+    }
+
+    /**
+     * Returns the index of the series with the specified key, or -1 if
+     * there is no such series in the dataset.
+     *
+     * @param seriesKey  the series key (<code>null</code> permitted).
+     *
+     * @return The index, or -1.
+     */
+    @Override
+    public int indexOf(Comparable seriesKey) {
+        Integer index = (Integer) this.seriesIndices.get(seriesKey);
+        return (index != null ? index.intValue() : -1);
+    }
+
+    /**
+     * Returns the order of the domain values in the dataset, which is always
+     * {@link DomainOrder#ASCENDING}.
+     *
+     * @return {@link DomainOrder#ASCENDING}.
+     */
+    @Override
+    public DomainOrder getDomainOrder() {
+        return DomainOrder.ASCENDING;
+    }
+
+    /**
+     * Returns the number of items in a series.
+     *
+     * @param series  the series index (in the range <code>0</code> to
+     *     <code>getSeriesCount() - 1</code>).
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount(int series) {
+        return this.itemCounts[series];
+    }
+
+    /**
+     * Returns the x-value for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The x-value.
+     */
+    @Override
+    public double getXValue(int series, int item) {
+        return getValue(series, X, item);
+    }
+
+    /**
+     * Returns the x-value for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The x-value.
+     */
+    @Override
+    public Number getX(int series, int item) {
+        return new Double(getXValue(series, item));
+    }
+
+    /**
+     * Returns the y-value for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The y-value.
+     */
+    @Override
+    public double getYValue(int series, int item) {
+        return getValue(series, Y, item);
+    }
+
+    /**
+     * Returns the y-value for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The y-value.
+     */
+    @Override
+    public Number getY(int series, int item) {
+        return new Double(getYValue(series, item));
+    }
+
+    /**
+     * Returns the start x-value for an item within a series (this is the
+     * x-value if the file has no interval columns).
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The start x-value.
+     */
+    @Override
+    public double getStartXValue(int series, int item) {
+        return getValue(series, START_X, item);
+    }
+
+    /**
+     * Returns the start x-value for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The start x-value.
+     */
+    @Override
+    public Number getStartX(int series, int item) {
+        return new Double(getStartXValue(series, item));
+    }
+
+    /**
+     * Returns the end x-value for an item within a series (this is the
+     * x-value if the file has no interval columns).
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The end x-value.
+     */
+    @Override
+    public double getEndXValue(int series, int item) {
+        return getValue(series, END_X, item);
+    }
+
+    /**
+     * Returns the end x-value for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The end x-value.
+     */
+    @Override
+    public Number getEndX(int series, int item) {
+        return new Double(getEndXValue(series, item));
+    }
+
+    /**
+     * Returns the start y-value for an item within a series (this is the
+     * y-value if the file has no interval columns).
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The start y-value.
+     */
+    @Override
+    public double getStartYValue(int series, int item) {
+        return getValue(series, START_Y, item);
+    }
+
+    /**
+     * Returns the start y-value for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The start y-value.
+     */
+    @Override
+    public Number getStartY(int series, int item) {
+        return new Double(getStartYValue(series, item));
+    }
+
+    /**
+     * Returns the end y-value for an item within a series (this is the
+     * y-value if the file has no interval columns).
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The end y-value.
+     */
+    @Override
+    public double getEndYValue(int series, int item) {
+        return getValue(series, END_Y, item);
+    }
+
+    /**
+     * Returns the end y-value for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The end y-value.
+     */
+    @Override
+    public Number getEndY(int series, int item) {
+        return new Double(getEndYValue(series, item));
+    }
+
+    /**
+     * Returns the minimum x-value in the dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *     x-interval is taken into account.
+     *
+     * @return The minimum value (<code>Double.NaN</code> if the dataset
+     *     contains no values).
+     */
+    @Override
+    public double getDomainLowerBound(boolean includeInterval) {
+        Range r = getDomainBounds(includeInterval);
+        return (r != null ? r.getLowerBound() : Double.NaN);
+    }
+
+    /**
+     * Returns the maximum x-value in the dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *     x-interval is taken into account.
+     *
+     * @return The maximum value (<code>Double.NaN</code> if the dataset
+     *     contains no values).
+     */
+    @Override
+    public double getDomainUpperBound(boolean includeInterval) {
+        Range r = getDomainBounds(includeInterval);
+        return (r != null ? r.getUpperBound() : Double.NaN);
+    }
+
+    /**
+     * Returns the range of the x-values in the dataset, using the bounds
+     * stored in the file.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *     x-interval is taken into account.
+     *
+     * @return The range (<code>null</code> if the dataset contains no
+     *     values).
+     */
+    @Override
+    public Range getDomainBounds(boolean includeInterval) {
+        Range result = null;
+        for (int s = 0; s < getSeriesCount(); s++) {
+            result = Range.combineIgnoringNaN(result,
+                    getSeriesDomainBounds(s, includeInterval));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the range of the x-values in the specified series, using the
+     * bounds stored in the file.
+     *
+     * @param visibleSeriesKeys  the keys of the visible series
+     *     (<code>null</code> not permitted).
+     * @param includeInterval  a flag that determines whether or not the
+     *     x-interval is taken into account.
+     *
+     * @return The range (<code>null</code> if the series contain no
+     *     values).
+     */
+    @Override
+    public Range getDomainBounds(List visibleSeriesKeys,
+            boolean includeInterval) {
+        ParamChecks.nullNotPermitted(visibleSeriesKeys, "visibleSeriesKeys");
+        Range result = null;
+        Iterator iterator = visibleSeriesKeys.iterator();
+        while (iterator.hasNext()) {
+            int s = indexOf((Comparable) iterator.next());
+            if (s >= 0) {
+                result = Range.combineIgnoringNaN(result,
+                        getSeriesDomainBounds(s, includeInterval));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the minimum y-value in the dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *     y-interval is taken into account.
+     *
+     * @return The minimum value (<code>Double.NaN</code> if the dataset
+     *     contains no values).
+     */
+    @Override
+    public double getRangeLowerBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return (r != null ? r.getLowerBound() : Double.NaN);
+    }
+
+    /**
+     * Returns the maximum y-value in the dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *     y-interval is taken into account.
+     *
+     * @return The maximum value (<code>Double.NaN</code> if the dataset
+     *     contains no values).
+     */
+    @Override
+    public double getRangeUpperBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return (r != null ? r.getUpperBound() : Double.NaN);
+    }
+
+    /**
+     * Returns the range of the y-values in the dataset, using the bounds
+     * stored in the file.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *     y-interval is taken into account.
+     *
+     * @return The range (<code>null</code> if the dataset contains no
+     *     values).
+     */
+    @Override
+    public Range getRangeBounds(boolean includeInterval) {
+        Range result = null;
+        for (int s = 0; s < getSeriesCount(); s++) {
+            result = Range.combineIgnoringNaN(result,
+                    getSeriesRangeBounds(s, includeInterval));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the range of the y-values in the specified series, including
+     * only those items with x-values in the specified range.  The bounds
+     * stored in the file are used for each series that lies entirely within
+     * the x-range, otherwise the items in the x-range are found with a
+     * binary search and their y-values are read.
+     *
+     * @param visibleSeriesKeys  the keys of the visible series
+     *     (<code>null</code> not permitted).
+     * @param xRange  the x-range (<code>null</code> not permitted).
+     * @param includeInterval  a flag that determines whether or not the
+     *     y-interval is taken into account.
+     *
+     * @return The range (<code>null</code> if there are no y-values in the
+     *     x-range).
+     */
+    @Override
+    public Range getRangeBounds(List visibleSeriesKeys, Range xRange,
+            boolean includeInterval) {
+        ParamChecks.nullNotPermitted(visibleSeriesKeys, "visibleSeriesKeys");
+        ParamChecks.nullNotPermitted(xRange, "xRange");
+        Range result = null;
+        Iterator iterator = visibleSeriesKeys.iterator();
+        while (iterator.hasNext()) {
+            int s = indexOf((Comparable) iterator.next());
+            if (s >= 0) {
+                result = Range.combineIgnoringNaN(result,
+                        findValueRange(s, xRange, includeInterval));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the range of the x-values in a series.
+     *
+     * @param series  the series index.
+     * @param includeInterval  include the x-interval?
+     *
+     * @return The range (possibly <code>null</code>).
+     */
+    private Range getSeriesDomainBounds(int series, boolean includeInterval) {
+        double[] b = this.bounds[series];
+        if (includeInterval) {
+            return createRange(b[START_X_LOW], b[END_X_HIGH]);
+        }
+        return createRange(b[X_LOW], b[X_HIGH]);
+    }
+
+    /**
+     * Returns the range of the y-values in a series.
+     *
+     * @param series  the series index.
+     * @param includeInterval  include the y-interval?
+     *
+     * @return The range (possibly <code>null</code>).
+     */
+    private Range getSeriesRangeBounds(int series, boolean includeInterval) {
+        double[] b = this.bounds[series];
+        if (includeInterval) {
+            return createRange(b[START_Y_LOW], b[END_Y_HIGH]);
+        }
+        return createRange(b[Y_LOW], b[Y_HIGH]);
+    }
+
+    /**
+     * Returns the range of the y-values for the items in a series with
+     * x-values in the specified range.
+     *
+     * @param series  the series index.
+     * @param xRange  the x-range.
+     * @param includeInterval  include the y-interval?
+     *
+     * @return The range (possibly <code>null</code>).
+     */
+    private Range findValueRange(int series, Range xRange,
+            boolean includeInterval) {
+        double[] b = this.bounds[series];
+        if (xRange.contains(b[X_LOW]) && xRange.contains(b[X_HIGH])) {
+            return getSeriesRangeBounds(series, includeInterval);
+        }
+        int first = findItem(series, xRange.getLowerBound(), false);
+        int end = findItem(series, xRange.getUpperBound(), true);
+        int lowColumn = (includeInterval ? START_Y : Y);
+        int highColumn = (includeInterval ? END_Y : Y);
+        double low = Double.POSITIVE_INFINITY;
+        double high = Double.NEGATIVE_INFINITY;
+        for (int i = first; i < end; i++) {
+            double lv = getValue(series, lowColumn, i);
+            if (lv < low) {
+                low = lv;
+            }
+            double hv = getValue(series, highColumn, i);
+            if (hv > high) {
+                high = hv;
+            }
+        }
+        return createRange(low, high);
+    }
+
+    /**
+     * Returns the index of the first item in a series with an x-value that
+     * is greater than (or, if <code>after</code> is <code>false</code>,
+     * equal to) the specified value.
+     *
+     * @param series  the series index.
+     * @param x  the x-value.
+     * @param after  if <code>true</code>, skip items with an x-value equal
+     *     to <code>x</code>.
+     *
+     * @return The item index (the item count if there is no such item).
+     */
+    private int findItem(int series, double x, boolean after) {
+        int low = 0;
+        int high = this.itemCounts[series];
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            double v = getValue(series, X, mid);
+            if (v < x || (after && v == x)) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Creates a range, or returns <code>null</code> if the lower bound is
+     * greater than the upper bound (or either bound is <code>NaN</code>).
+     *
+     * @param lower  the lower bound.
+     * @param upper  the upper bound.
+     *
+     * @return The range (possibly <code>null</code>).
+     */
+    private static Range createRange(double lower, double upper) {
+        if (lower <= upper) {
+            return new Range(lower, upper);
+        }
+        return null;
+    }
+
+    /**
+     * Tests this dataset for equality with an arbitrary object.  Two
+     * instances are equal if they read their data from the same file.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof MappedXYDataset)) {
+            return false;
+        }
+        MappedXYDataset that = (MappedXYDataset) obj;
+        return this.file.equals(that.file);
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        return this.file.hashCode();
+    }
+
+    /**
+     * Provides serialization support.  The file is mapped into memory again
+     * when the dataset is deserialized.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        open();
+    }
+
+}
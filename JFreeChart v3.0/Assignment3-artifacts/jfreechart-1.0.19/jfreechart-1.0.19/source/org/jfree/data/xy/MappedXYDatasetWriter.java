@@ -0,0 +1,262 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------
+ * MappedXYDatasetWriter.java
+ * --------------------------
+ * (C) Copyright 2014, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.xy;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+import org.jfree.chart.util.ParamChecks;
+
+/**
+ * A utility class that writes an {@link XYDataset} to a file in the format
+ * read by {@link MappedXYDataset}.  The values are written one column at a
+ * time through a small buffer, so the writer itself needs very little
+ * memory.
+ *
+ * @see MappedXYDataset
+ *
+ * @since 1.0.20
+ */
+public class MappedXYDatasetWriter {
+
+    /** The size of the write buffer. */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Private constructor prevents object creation.
+     */
+    private MappedXYDatasetWriter() {
+        // no requirements
+    }
+
+    /**
+     * Writes a dataset to a file, replacing any existing content.  If the
+     * dataset is an {@link IntervalXYDataset}, the start and end x and
+     * y-values are written too.  The series keys are written as strings
+     * (using their <code>toString()</code> method).
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param file  the file (<code>null</code> not permitted).
+     *
+     * @throws IOException if there is an I/O problem.
+     * @throws IllegalArgumentException if any series contains an x-value
+     *     that is <code>NaN</code> or smaller than the previous x-value (in
+     *     this case the file is deleted).
+     */
+    public static void write(XYDataset dataset, File file)
+            throws IOException {
+        ParamChecks.nullNotPermitted(dataset, "dataset");
+        ParamChecks.nullNotPermitted(file, "file");
+        boolean intervals = dataset instanceof IntervalXYDataset;
+        int seriesCount = dataset.getSeriesCount();
+        byte[][] keys = new byte[seriesCount][];
+        long headerSize = MappedXYDataset.HEADER_SIZE;
+        for (int s = 0; s < seriesCount; s++) {
+            keys[s] = dataset.getSeriesKey(s).toString().getBytes("UTF-8");
+            headerSize += MappedXYDataset.SERIES_HEADER_SIZE + keys[s].length;
+        }
+
+        boolean success = false;
+        RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        try {
+            raf.setLength(0);
+            // the columns start at the aligned header size, so the file must
+            // extend that far even if all the series are empty
+            raf.setLength(MappedXYDataset.align(headerSize));
+            FileChannel channel = raf.getChannel();
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+            // the data is written first, so that the bounds are known when
+            // the header is written
+            double[][] bounds = new double[seriesCount][];
+            long position = MappedXYDataset.align(headerSize);
+            int columnCount = (intervals ? 6 : 2);
+            for (int s = 0; s < seriesCount; s++) {
+                double[] low = new double[columnCount];
+                double[] high = new double[columnCount];
+                for (int c = 0; c < columnCount; c++) {
+                    low[c] = Double.POSITIVE_INFINITY;
+                    high[c] = Double.NEGATIVE_INFINITY;
+                    int itemCount = dataset.getItemCount(s);
+                    double previous = Double.NEGATIVE_INFINITY;
+                    for (int i = 0; i < itemCount; i++) {
+                        double v = getValue(dataset, s, c, i);
+                        if (c == MappedXYDataset.X && !(v >= previous)) {
+                            throw new IllegalArgumentException("The x-values "
+                                    + "in series " + s + " are not in "
+                                    + "ascending order (item " + i + ").");
+                        }
+                        previous = v;
+                        if (v < low[c]) {
+                            low[c] = v;
+                        }
+                        if (v > high[c]) {
+                            high[c] = v;
+                        }
+                        if (!buffer.hasRemaining()) {
+                            position += flush(channel, buffer, position);
+                        }
+                        buffer.putDouble(v);
+                    }
+                }
+                for (int c = 0; c < columnCount; c++) {
+                    if (!(low[c] <= high[c])) {
+                        low[c] = Double.NaN;
+                        high[c] = Double.NaN;
+                    }
+                }
+                bounds[s] = createBounds(low, high, intervals);
+            }
+            flush(channel, buffer, position);
+
+            ByteBuffer header = ByteBuffer.allocate((int) headerSize);
+            header.order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MappedXYDataset.MAGIC);
+            header.putInt(MappedXYDataset.VERSION);
+            header.putInt(seriesCount);
+            header.putInt(intervals ? MappedXYDataset.FLAG_INTERVALS : 0);
+            for (int s = 0; s < seriesCount; s++) {
+                header.putLong(dataset.getItemCount(s));
+                for (int i = 0; i < bounds[s].length; i++) {
+                    header.putDouble(bounds[s][i]);
+                }
+                header.putInt(keys[s].length);
+                header.put(keys[s]);
+            }
+            flush(channel, header, 0);
+            success = true;
+        }
+        finally {
+            raf.close();
+            if (!success) {
+                file.delete();
+            }
+        }
+    }
+
+    /**
+     * Returns a value from the dataset.
+     *
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     * @param column  the column index (see {@link MappedXYDataset#X} etc.).
+     * @param item  the item index.
+     *
+     * @return The value.
+     */
+    private static double getValue(XYDataset dataset, int series, int column,
+            int item) {
+        switch (column) {
+            case MappedXYDataset.X:
+                return dataset.getXValue(series, item);
+            case MappedXYDataset.Y:
+                return dataset.getYValue(series, item);
+            case MappedXYDataset.START_X:
+                return ((IntervalXYDataset) dataset).getStartXValue(series,
+                        item);
+            case MappedXYDataset.END_X:
+                return ((IntervalXYDataset) dataset).getEndXValue(series,
+                        item);
+            case MappedXYDataset.START_Y:
+                return ((IntervalXYDataset) dataset).getStartYValue(series,
+                        item);
+            default:
+                return ((IntervalXYDataset) dataset).getEndYValue(series,
+                        item);
+        }
+    }
+
+    /**
+     * Creates the bounds for a series from the lowest and highest value in
+     * each column (an empty column has bounds of <code>NaN</code>).
+     *
+     * @param low  the lowest value in each column.
+     * @param high  the highest value in each column.
+     * @param intervals  were the interval columns written?
+     *
+     * @return The bounds (see {@link MappedXYDataset#X_LOW} etc.).
+     */
+    private static double[] createBounds(double[] low, double[] high,
+            boolean intervals) {
+        double[] result = new double[8];
+        result[MappedXYDataset.X_LOW] = low[MappedXYDataset.X];
+        result[MappedXYDataset.X_HIGH] = high[MappedXYDataset.X];
+        result[MappedXYDataset.Y_LOW] = low[MappedXYDataset.Y];
+        result[MappedXYDataset.Y_HIGH] = high[MappedXYDataset.Y];
+        int startX = (intervals ? MappedXYDataset.START_X : MappedXYDataset.X);
+        int endX = (intervals ? MappedXYDataset.END_X : MappedXYDataset.X);
+        int startY = (intervals ? MappedXYDataset.START_Y : MappedXYDataset.Y);
+        int endY = (intervals ? MappedXYDataset.END_Y : MappedXYDataset.Y);
+        result[MappedXYDataset.START_X_LOW] = low[startX];
+        result[MappedXYDataset.END_X_HIGH] = high[endX];
+        result[MappedXYDataset.START_Y_LOW] = low[startY];
+        result[MappedXYDataset.END_Y_HIGH] = high[endY];
+        return result;
+    }
+
+    /**
+     * Writes the contents of a buffer to a channel and clears the buffer.
+     *
+     * @param channel  the channel.
+     * @param buffer  the buffer.
+     * @param position  the file position.
+     *
+     * @return The number of bytes written.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private static int flush(FileChannel channel, ByteBuffer buffer,
+            long position) throws IOException {
+        buffer.flip();
+        int result = buffer.remaining();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, position + buffer.position());
+        }
+        buffer.clear();
+        return result;
+    }
+
+}
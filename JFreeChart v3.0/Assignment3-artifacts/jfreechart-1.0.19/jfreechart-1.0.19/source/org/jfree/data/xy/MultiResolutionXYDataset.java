@@ -0,0 +1,77 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------------
+ * MultiResolutionXYDataset.java
+ * -----------------------------
+ * (C) Copyright 2014, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.xy;
+
+import org.jfree.data.Range;
+
+/**
+ * An interface that can (optionally) be implemented by an {@link XYDataset}
+ * that holds summaries of its data at several resolutions.  When the
+ * dataset is drawn by an {@link org.jfree.chart.plot.XYPlot}, the plot asks
+ * for the dataset that suits the visible x-range and the size of the data
+ * area, and passes that dataset to the renderer in place of this one.
+ * <P>
+ * Since the renderer only sees the returned dataset, the chart entities,
+ * tool tips, URLs and item labels that it generates refer to that dataset
+ * and to item indices within it (for a summary, each item typically covers
+ * many items of this dataset).  Code that handles chart mouse events
+ * should not assume that {@link
+ * org.jfree.chart.entity.XYItemEntity#getDataset()} returns this dataset.
+ *
+ * @since 1.0.20
+ */
+public interface MultiResolutionXYDataset extends XYDataset {
+
+    /**
+     * Returns the dataset to render when the specified x-range is displayed
+     * across the specified length (in Java2D units).  The returned dataset
+     * must contain the same series, in the same order, as this dataset (it
+     * can be this dataset).
+     *
+     * @param xRange  the visible x-range (<code>null</code> not permitted).
+     * @param length  the length of the data area along the x-axis, in
+     *     Java2D units.
+     *
+     * @return The dataset to render (never <code>null</code>).
+     */
+    public XYDataset getResolutionDataset(Range xRange, double length);
+
+}
@@ -0,0 +1,972 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------
+ * PrimitiveXYSeries.java
+ * ----------------------
+ * (C) Copyright 2014, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.xy;
+
+import java.util.AbstractList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+import org.jfree.chart.util.ParamChecks;
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesException;
+
+/**
+ * An {@link XYSeries} that stores its x and y values in growable arrays of
+ * <code>double</code> primitives instead of a list of {@link XYDataItem}
+ * objects.  The series supports the same API, auto-sort and duplicate
+ * x-value rules as {@link XYSeries}, so it can be added to an
+ * {@link XYSeriesCollection} in place of a regular series, but uses an order
+ * of magnitude less memory for large series and never creates objects in the
+ * {@link #getXValue(int)} and {@link #getYValue(int)} methods.
+ * <P>
+ * Data items returned by {@link #getDataItem(int)} and {@link #getItems()}
+ * are created on demand, so changes to those items are not reflected in the
+ * series.  Items removed from the front of the series (for example, when the
+ * maximum item count is exceeded) are discarded in constant time.
+ *
+ * @since 1.0.20
+ */
+public class PrimitiveXYSeries extends XYSeries {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 4297812387128472615L;
+
+    /** The initial capacity of the value arrays. */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** Storage for the x-values. */
+    private double[] xValues;
+
+    /** Storage for the y-values (<code>null</code> y-values store NaN). */
+    private double[] yValues;
+
+    /**
+     * Flags the array positions that hold a <code>null</code> y-value (this
+     * is <code>null</code> until the first <code>null</code> y-value is
+     * added).
+     */
+    private BitSet nullY;
+
+    /** The array position of the first item in the series. */
+    private int offset;
+
+    /** The number of items in the series. */
+    private int itemCount;
+
+    /** The lowest x-value in the series, excluding Double.NaN values. */
+    private double minX;
+
+    /** The highest x-value in the series, excluding Double.NaN values. */
+    private double maxX;
+
+    /** The lowest y-value in the series, excluding Double.NaN values. */
+    private double minY;
+
+    /** The highest y-value in the series, excluding Double.NaN values. */
+    private double maxY;
+
+    /**
+     * Creates a new empty series.  By default, items added to the series will
+     * be sorted into ascending order by x-value, and duplicate x-values will
+     * be allowed (these defaults can be modified with another constructor).
+     *
+     * @param key  the series key (<code>null</code> not permitted).
+     */
+    public PrimitiveXYSeries(Comparable key) {
+        this(key, true, true);
+    }
+
+    /**
+     * Constructs a new empty series, with the auto-sort flag set as requested,
+     * and duplicate values allowed.
+     *
+     * @param key  the series key (<code>null</code> not permitted).
+     * @param autoSort  a flag that controls whether or not the items in the
+     *                  series are sorted.
+     */
+    public PrimitiveXYSeries(Comparable key, boolean autoSort) {
+        this(key, autoSort, true);
+    }
+
+    /**
+     * Constructs a new series that contains no data.
+     *
+     * @param key  the series key (<code>null</code> not permitted).
+     * @param autoSort  a flag that controls whether or not the items in the
+     *                  series are sorted.
+     * @param allowDuplicateXValues  a flag that controls whether duplicate
+     *                               x-values are allowed.
+     */
+    public PrimitiveXYSeries(Comparable key, boolean autoSort,
+            boolean allowDuplicateXValues) {
+        this(key, autoSort, allowDuplicateXValues, INITIAL_CAPACITY);
+    }
+
+    /**
+     * Constructs a new series that contains no data, with storage
+     * pre-allocated for the specified number of items.
+     *
+     * @param key  the series key (<code>null</code> not permitted).
+     * @param autoSort  a flag that controls whether or not the items in the
+     *                  series are sorted.
+     * @param allowDuplicateXValues  a flag that controls whether duplicate
+     *                               x-values are allowed.
+     * @param initialCapacity  the initial capacity (must be positive).
+     */
+    public PrimitiveXYSeries(Comparable key, boolean autoSort,
+            boolean allowDuplicateXValues, int initialCapacity) {
+        super(key, autoSort, allowDuplicateXValues);
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException(
+                    "Requires 'initialCapacity' > 0.");
+        }
+        this.xValues = new double[initialCapacity];
+        this.yValues = new double[initialCapacity];
+        this.minX = Double.NaN;
+        this.maxX = Double.NaN;
+        this.minY = Double.NaN;
+        this.maxY = Double.NaN;
+    }
+
+    /**
+     * Returns the smallest x-value in the series, ignoring any Double.NaN
+     * values.
+     *
+     * @return The smallest x-value.
+     */
+    @Override
+    public double getMinX() {
+        return this.minX;
+    }
+
+    /**
+     * Returns the largest x-value in the series, ignoring any Double.NaN
+     * values.
+     *
+     * @return The largest x-value.
+     */
+    @Override
+    public double getMaxX() {
+        return this.maxX;
+    }
+
+    /**
+     * Returns the smallest y-value in the series, ignoring any null and
+     * Double.NaN values.
+     *
+     * @return The smallest y-value.
+     */
+    @Override
+    public double getMinY() {
+        return this.minY;
+    }
+
+    /**
+     * Returns the largest y-value in the series, ignoring any null and
+     * Double.NaN values.
+     *
+     * @return The largest y-value.
+     */
+    @Override
+    public double getMaxY() {
+        return this.maxY;
+    }
+
+    /**
+     * Returns the number of items in the series.
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount() {
+        return this.itemCount;
+    }
+
+    /**
+     * Returns an unmodifiable list of the data items in the series.  The
+     * items in the list are created on demand.
+     *
+     * @return The list of data items.
+     */
+    @Override
+    public List getItems() {
+        return Collections.unmodifiableList(new AbstractList() {
+            @Override
+            public Object get(int index) {
+                return getRawDataItem(index);
+            }
+            @Override
+            public int size() {
+                return PrimitiveXYSeries.this.itemCount;
+            }
+        });
+    }
+
+    /**
+     * Sets the maximum number of items that will be retained in the series,
+     * removing items from the start of the series (and sending a
+     * {@link SeriesChangeEvent} to all registered listeners) if necessary.
+     *
+     * @param maximum  the maximum number of items for the series.
+     */
+    @Override
+    public void setMaximumItemCount(int maximum) {
+        super.setMaximumItemCount(maximum);
+        int remove = this.itemCount - maximum;
+        if (remove > 0) {
+            removeFirst(remove);
+            recordRemovedItems(remove);
+            findBoundsByIteration();
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Adds a data item to the series and sends a {@link SeriesChangeEvent} to
+     * all registered listeners.
+     *
+     * @param x  the x value.
+     * @param y  the y value.
+     */
+    @Override
+    public void add(double x, double y) {
+        add(x, y, true);
+    }
+
+    /**
+     * Adds a data item to the series and, if requested, sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param x  the x value.
+     * @param y  the y value.
+     * @param notify  a flag that controls whether or not a
+     *                {@link SeriesChangeEvent} is sent to all registered
+     *                listeners.
+     */
+    @Override
+    public void add(double x, double y, boolean notify) {
+        addValue(x, y, false);
+        if (notify) {
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Adds a data item to the series and, if requested, sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param item  the (x, y) item (<code>null</code> not permitted).
+     * @param notify  a flag that controls whether or not a
+     *                {@link SeriesChangeEvent} is sent to all registered
+     *                listeners.
+     */
+    @Override
+    public void add(XYDataItem item, boolean notify) {
+        ParamChecks.nullNotPermitted(item, "item");
+        addValue(item.getXValue(), item.getYValue(), item.getY() == null);
+        if (notify) {
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Adds an item to the series, enforcing the auto-sort, duplicate x-value
+     * and maximum item count rules, without sending a change event.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value (ignored if <code>isNull</code> is
+     *     <code>true</code>).
+     * @param isNull  a flag indicating a <code>null</code> y-value.
+     */
+    private void addValue(double x, double y, boolean isNull) {
+        int index;
+        if (getAutoSort()) {
+            index = findInsertionIndex(x);
+            if (!getAllowDuplicateXValues() && index > 0
+                    && compare(this.xValues[this.offset + index - 1], x)
+                    == 0) {
+                throw new SeriesException("X-value already exists.");
+            }
+        }
+        else {
+            if (!getAllowDuplicateXValues() && indexOf(x) >= 0) {
+                throw new SeriesException("X-value already exists.");
+            }
+            index = this.itemCount;
+        }
+        if (index < this.itemCount) {
+            recordModification();
+        }
+        insert(index, x, y, isNull);
+        updateBoundsForAddedValue(x, y, isNull);
+        if (this.itemCount > getMaximumItemCount()) {
+            double removedX = this.xValues[this.offset];
+            double removedY = this.yValues[this.offset];
+            boolean removedNull = isNullY(this.offset);
+            removeFirst(1);
+            recordRemovedItems(1);
+            updateBoundsForRemovedValue(removedX, removedY, removedNull);
+        }
+    }
+
+    /**
+     * Deletes a range of items from the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param start  the start index (zero-based).
+     * @param end  the end index (zero-based).
+     */
+    @Override
+    public void delete(int start, int end) {
+        if (start < 0 || end >= this.itemCount || start > end + 1) {
+            throw new IndexOutOfBoundsException("Invalid range: " + start
+                    + " to " + end);
+        }
+        removeRange(start, end + 1);
+        recordRemoval(start, end - start + 1);
+        findBoundsByIteration();
+        fireSeriesChanged();
+    }
+
+    /**
+     * Removes the item at the specified index and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param index  the index.
+     *
+     * @return The item removed.
+     */
+    @Override
+    public XYDataItem remove(int index) {
+        XYDataItem removed = getRawDataItem(index);
+        int pos = this.offset + index;
+        double x = this.xValues[pos];
+        double y = this.yValues[pos];
+        boolean isNull = isNullY(pos);
+        removeRange(index, index + 1);
+        recordRemoval(index, 1);
+        updateBoundsForRemovedValue(x, y, isNull);
+        fireSeriesChanged();
+        return removed;
+    }
+
+    /**
+     * Removes all data items from the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     */
+    @Override
+    public void clear() {
+        if (this.itemCount > 0) {
+            this.offset = 0;
+            this.itemCount = 0;
+            this.nullY = null;
+            this.minX = Double.NaN;
+            this.maxX = Double.NaN;
+            this.minY = Double.NaN;
+            this.maxY = Double.NaN;
+            recordModification();
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Return the data item with the specified index.
+     *
+     * @param index  the index.
+     *
+     * @return The data item with the specified index.
+     */
+    @Override
+    public XYDataItem getDataItem(int index) {
+        return getRawDataItem(index);
+    }
+
+    /**
+     * Returns a new data item for the specified index (since there are no
+     * data items stored by this series).
+     *
+     * @param index  the index.
+     *
+     * @return The data item with the specified index.
+     */
+    @Override
+    XYDataItem getRawDataItem(int index) {
+        return new XYDataItem(getX(index), getY(index));
+    }
+
+    /**
+     * Returns the x-value at the specified index.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The x-value (never <code>null</code>).
+     */
+    @Override
+    public Number getX(int index) {
+        return new Double(getXValue(index));
+    }
+
+    /**
+     * Returns the y-value at the specified index.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The y-value (possibly <code>null</code>).
+     */
+    @Override
+    public Number getY(int index) {
+        checkIndex(index);
+        if (isNullY(this.offset + index)) {
+            return null;
+        }
+        return new Double(this.yValues[this.offset + index]);
+    }
+
+    /**
+     * Returns the x-value (as a double primitive) at the specified index.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The x-value.
+     */
+    @Override
+    public double getXValue(int index) {
+        checkIndex(index);
+        return this.xValues[this.offset + index];
+    }
+
+    /**
+     * Returns the y-value (as a double primitive) at the specified index.
+     * This method returns <code>Double.NaN</code> for a <code>null</code>
+     * y-value.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The y-value.
+     */
+    @Override
+    public double getYValue(int index) {
+        checkIndex(index);
+        return this.yValues[this.offset + index];
+    }
+
+    /**
+     * Updates the value of an item in the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param index  the item (zero based index).
+     * @param y  the new value (<code>null</code> permitted).
+     *
+     * @deprecated Renamed {@link #updateByIndex(int, Number)} to avoid
+     *         confusion with the {@link #update(Number, Number)} method.
+     */
+    @Override
+    public void update(int index, Number y) {
+        checkIndex(index);
+        updateValue(this.offset + index, y);
+        recordModification();
+        fireSeriesChanged();
+    }
+
+    /**
+     * Adds or updates an item in the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param item  the data item (<code>null</code> not permitted).
+     *
+     * @return A copy of the overwritten data item, or <code>null</code> if no
+     *         item was overwritten.
+     */
+    @Override
+    public XYDataItem addOrUpdate(XYDataItem item) {
+        ParamChecks.nullNotPermitted(item, "item");
+        if (getAllowDuplicateXValues()) {
+            add(item);
+            return null;
+        }
+        XYDataItem overwritten = null;
+        int index = indexOf(item.getXValue());
+        if (index >= 0) {
+            overwritten = getRawDataItem(index);
+            updateValue(this.offset + index, item.getY());
+            recordModification();
+        }
+        else {
+            addValue(item.getXValue(), item.getYValue(), item.getY() == null);
+        }
+        fireSeriesChanged();
+        return overwritten;
+    }
+
+    /**
+     * Returns the index of the item with the specified x-value, or a negative
+     * index if the series does not contain an item with that x-value.  For a
+     * sorted series, the negative index encodes the insertion point in the
+     * same way as <code>Collections.binarySearch()</code>.
+     *
+     * @param x  the x-value (<code>null</code> not permitted).
+     *
+     * @return The index.
+     */
+    @Override
+    public int indexOf(Number x) {
+        ParamChecks.nullNotPermitted(x, "x");
+        return indexOf(x.doubleValue());
+    }
+
+    /**
+     * Returns the index of the item with the specified x-value, or a negative
+     * index if the series does not contain an item with that x-value.
+     *
+     * @param x  the x-value.
+     *
+     * @return The index.
+     */
+    private int indexOf(double x) {
+        if (getAutoSort()) {
+            int low = 0;
+            int high = this.itemCount - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int c = compare(this.xValues[this.offset + mid], x);
+                if (c < 0) {
+                    low = mid + 1;
+                }
+                else if (c > 0) {
+                    high = mid - 1;
+                }
+                else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+        for (int i = 0; i < this.itemCount; i++) {
+            if (compare(this.xValues[this.offset + i], x) == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns a new array containing the x and y values from this series.
+     *
+     * @return A new array containing the x and y values from this series.
+     */
+    @Override
+    public double[][] toArray() {
+        double[][] result = new double[2][];
+        result[0] = new double[this.itemCount];
+        result[1] = new double[this.itemCount];
+        System.arraycopy(this.xValues, this.offset, result[0], 0,
+                this.itemCount);
+        System.arraycopy(this.yValues, this.offset, result[1], 0,
+                this.itemCount);
+        return result;
+    }
+
+    /**
+     * Returns a clone of the series.
+     *
+     * @return A clone of the series.
+     *
+     * @throws CloneNotSupportedException if there is a cloning problem.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        PrimitiveXYSeries clone = (PrimitiveXYSeries) super.clone();
+        clone.xValues = (double[]) this.xValues.clone();
+        clone.yValues = (double[]) this.yValues.clone();
+        if (this.nullY != null) {
+            clone.nullY = (BitSet) this.nullY.clone();
+        }
+        return clone;
+    }
+
+    /**
+     * Creates a new series by copying a subset of the data in this series.
+     *
+     * @param start  the index of the first item to copy.
+     * @param end  the index of the last item to copy.
+     *
+     * @return A series containing a copy of this series from start until end.
+     *
+     * @throws CloneNotSupportedException if there is a cloning problem.
+     */
+    @Override
+    public XYSeries createCopy(int start, int end)
+            throws CloneNotSupportedException {
+        PrimitiveXYSeries copy = (PrimitiveXYSeries) clone();
+        copy.offset = 0;
+        copy.itemCount = 0;
+        copy.nullY = null;
+        if (this.itemCount > 0) {
+            int count = end - start + 1;
+            copy.xValues = new double[Math.max(count, INITIAL_CAPACITY)];
+            copy.yValues = new double[copy.xValues.length];
+            for (int i = 0; i < count; i++) {
+                int pos = this.offset + start + i;
+                copy.insert(i, this.xValues[pos], this.yValues[pos],
+                        isNullY(pos));
+            }
+        }
+        copy.findBoundsByIteration();
+        return copy;
+    }
+
+    /**
+     * Compares two x-values in the same way as
+     * {@link XYDataItem#compareTo(Object)}.
+     *
+     * @param x1  the first x-value.
+     * @param x2  the second x-value.
+     *
+     * @return A negative, zero or positive integer.
+     */
+    private static int compare(double x1, double x2) {
+        double d = x1 - x2;
+        if (d > 0.0) {
+            return 1;
+        }
+        if (d < 0.0) {
+            return -1;
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the index at which an item with the given x-value should be
+     * inserted into a sorted series (after any items with the same x-value).
+     *
+     * @param x  the x-value.
+     *
+     * @return The insertion index.
+     */
+    private int findInsertionIndex(double x) {
+        // fast path for appending in ascending order...
+        if (this.itemCount == 0 || compare(this.xValues[this.offset
+                + this.itemCount - 1], x) <= 0) {
+            return this.itemCount;
+        }
+        int low = 0;
+        int high = this.itemCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(this.xValues[this.offset + mid], x) <= 0) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Inserts a value at the specified index, growing (or compacting) the
+     * storage arrays as required.
+     *
+     * @param index  the index (zero-based).
+     * @param x  the x-value.
+     * @param y  the y-value.
+     * @param isNull  a flag indicating a <code>null</code> y-value.
+     */
+    private void insert(int index, double x, double y, boolean isNull) {
+        if (this.offset + this.itemCount == this.xValues.length) {
+            ensureCapacity(this.itemCount + 1);
+        }
+        int pos = this.offset + index;
+        int tail = this.itemCount - index;
+        if (tail > 0) {
+            System.arraycopy(this.xValues, pos, this.xValues, pos + 1, tail);
+            System.arraycopy(this.yValues, pos, this.yValues, pos + 1, tail);
+            if (this.nullY != null) {
+                for (int i = this.offset + this.itemCount; i > pos; i--) {
+                    this.nullY.set(i, this.nullY.get(i - 1));
+                }
+            }
+        }
+        this.xValues[pos] = x;
+        if (isNull) {
+            this.yValues[pos] = Double.NaN;
+            if (this.nullY == null) {
+                this.nullY = new BitSet();
+            }
+            this.nullY.set(pos);
+        }
+        else {
+            this.yValues[pos] = y;
+            if (this.nullY != null) {
+                this.nullY.clear(pos);
+            }
+        }
+        this.itemCount++;
+    }
+
+    /**
+     * Makes room for at least <code>required</code> items starting at array
+     * position zero, reclaiming the space released by items removed from the
+     * front of the series before allocating larger arrays.
+     *
+     * @param required  the required capacity.
+     */
+    private void ensureCapacity(int required) {
+        double[] xs = this.xValues;
+        double[] ys = this.yValues;
+        if (required > xs.length || this.offset < xs.length / 2) {
+            int capacity = Math.max(required, xs.length + (xs.length >> 1));
+            xs = new double[capacity];
+            ys = new double[capacity];
+        }
+        System.arraycopy(this.xValues, this.offset, xs, 0, this.itemCount);
+        System.arraycopy(this.yValues, this.offset, ys, 0, this.itemCount);
+        if (this.nullY != null) {
+            this.nullY = this.nullY.get(this.offset,
+                    this.offset + this.itemCount);
+        }
+        this.xValues = xs;
+        this.yValues = ys;
+        this.offset = 0;
+    }
+
+    /**
+     * Removes the items in the range <code>start</code> (inclusive) to
+     * <code>end</code> (exclusive).
+     *
+     * @param start  the start index.
+     * @param end  the end index (exclusive).
+     */
+    private void removeRange(int start, int end) {
+        if (start == 0) {
+            removeFirst(end);
+            return;
+        }
+        int count = end - start;
+        int from = this.offset + end;
+        int to = this.offset + start;
+        int tail = this.itemCount - end;
+        System.arraycopy(this.xValues, from, this.xValues, to, tail);
+        System.arraycopy(this.yValues, from, this.yValues, to, tail);
+        if (this.nullY != null) {
+            for (int i = 0; i < tail; i++) {
+                this.nullY.set(to + i, this.nullY.get(from + i));
+            }
+            this.nullY.clear(to + tail, this.offset + this.itemCount);
+        }
+        this.itemCount -= count;
+    }
+
+    /**
+     * Removes the specified number of items from the start of the series in
+     * constant time.
+     *
+     * @param count  the number of items to remove.
+     */
+    private void removeFirst(int count) {
+        if (this.nullY != null) {
+            this.nullY.clear(this.offset, this.offset + count);
+        }
+        this.offset += count;
+        this.itemCount -= count;
+        if (this.itemCount == 0) {
+            this.offset = 0;
+        }
+    }
+
+    /**
+     * Updates the y-value at the specified array position, maintaining the
+     * cached bounds.
+     *
+     * @param pos  the array position.
+     * @param y  the new y-value (<code>null</code> permitted).
+     */
+    private void updateValue(int pos, Number y) {
+        boolean iterate = false;
+        double oldY = this.yValues[pos];
+        if (!Double.isNaN(oldY)) {
+            iterate = oldY <= this.minY || oldY >= this.maxY;
+        }
+        if (y == null) {
+            this.yValues[pos] = Double.NaN;
+            if (this.nullY == null) {
+                this.nullY = new BitSet();
+            }
+            this.nullY.set(pos);
+        }
+        else {
+            this.yValues[pos] = y.doubleValue();
+            if (this.nullY != null) {
+                this.nullY.clear(pos);
+            }
+        }
+        if (iterate) {
+            findBoundsByIteration();
+        }
+        else if (y != null) {
+            this.minY = minIgnoreNaN(this.minY, y.doubleValue());
+            this.maxY = maxIgnoreNaN(this.maxY, y.doubleValue());
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if the y-value at the specified array
+     * position is <code>null</code>.
+     *
+     * @param pos  the array position.
+     *
+     * @return A boolean.
+     */
+    private boolean isNullY(int pos) {
+        return this.nullY != null && this.nullY.get(pos);
+    }
+
+    /**
+     * Checks that an index is within the bounds of the series.
+     *
+     * @param index  the index.
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.itemCount) {
+            throw new IndexOutOfBoundsException("Index: " + index
+                    + ", Size: " + this.itemCount);
+        }
+    }
+
+    /**
+     * Updates the cached bounds for an added value.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value.
+     * @param isNull  a flag indicating a <code>null</code> y-value.
+     */
+    private void updateBoundsForAddedValue(double x, double y,
+            boolean isNull) {
+        this.minX = minIgnoreNaN(this.minX, x);
+        this.maxX = maxIgnoreNaN(this.maxX, x);
+        if (!isNull) {
+            this.minY = minIgnoreNaN(this.minY, y);
+            this.maxY = maxIgnoreNaN(this.maxY, y);
+        }
+    }
+
+    /**
+     * Updates the cached bounds on the basis that the specified value has
+     * just been removed.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value.
+     * @param isNull  a flag indicating a <code>null</code> y-value.
+     */
+    private void updateBoundsForRemovedValue(double x, double y,
+            boolean isNull) {
+        boolean contributesToX = !Double.isNaN(x)
+                && (x <= this.minX || x >= this.maxX);
+        boolean contributesToY = !isNull && !Double.isNaN(y)
+                && (y <= this.minY || y >= this.maxY);
+        if (contributesToY) {
+            findBoundsByIteration();
+        }
+        else if (contributesToX) {
+            if (getAutoSort() && this.itemCount > 0) {
+                this.minX = this.xValues[this.offset];
+                this.maxX = this.xValues[this.offset + this.itemCount - 1];
+            }
+            else {
+                findBoundsByIteration();
+            }
+        }
+    }
+
+    /**
+     * Finds the bounds of the x and y values for the series, by iterating
+     * through all the values.
+     */
+    private void findBoundsByIteration() {
+        this.minX = Double.NaN;
+        this.maxX = Double.NaN;
+        this.minY = Double.NaN;
+        this.maxY = Double.NaN;
+        int end = this.offset + this.itemCount;
+        for (int i = this.offset; i < end; i++) {
+            updateBoundsForAddedValue(this.xValues[i], this.yValues[i],
+                    isNullY(i));
+        }
+    }
+
+    /**
+     * Returns the minimum of two values, ignoring any Double.NaN values.
+     *
+     * @param a  the first value.
+     * @param b  the second value.
+     *
+     * @return The minimum of the two values.
+     */
+    private static double minIgnoreNaN(double a, double b) {
+        if (Double.isNaN(a)) {
+            return b;
+        }
+        if (Double.isNaN(b)) {
+            return a;
+        }
+        return Math.min(a, b);
+    }
+
+    /**
+     * Returns the maximum of two values, ignoring any Double.NaN values.
+     *
+     * @param a  the first value.
+     * @param b  the second value.
+     *
+     * @return The maximum of the two values.
+     */
+    private static double maxIgnoreNaN(double a, double b) {
+        if (Double.isNaN(a)) {
+            return b;
+        }
+        if (Double.isNaN(b)) {
+            return a;
+        }
+        return Math.max(a, b);
+    }
+
+}
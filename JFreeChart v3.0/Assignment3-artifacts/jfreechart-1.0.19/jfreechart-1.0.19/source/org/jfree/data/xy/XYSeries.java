@@ -85,7 +85,7 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import org.jfree.chart.util.ParamChecks;
-
+import org.jfree.data.Range;
 import org.jfree.data.general.Series;
 import org.jfree.data.general.SeriesChangeEvent;
 import org.jfree.data.general.SeriesException;
@@ -239,6 +239,65 @@ public class XYSeries extends Series implements Cloneable, Serializable {
         return this.maxY;
     }
 
+    /**
+     * Returns the range of y-values for the items in the series with x-values
+     * that fall within the specified range.  If all the items are in range,
+     * the cached bounds are used; otherwise, for a sorted series, only the
+     * items within the x-range are examined.
+     *
+     * @param xRange  the x-range (<code>null</code> not permitted).
+     *
+     * @return The range of y-values (<code>null</code> if there are no
+     *     y-values in the x-range).
+     *
+     * @since 1.0.20
+     */
+    public Range findValueRange(Range xRange) {
+        ParamChecks.nullNotPermitted(xRange, "xRange");
+        int count = getItemCount();
+        if (count == 0) {
+            return null;
+        }
+        if (xRange.contains(getMinX()) && xRange.contains(getMaxX())) {
+            if (Double.isNaN(getMinY())) {
+                return null;
+            }
+            return new Range(getMinY(), getMaxY());
+        }
+        int start = 0;
+        if (this.autoSort) {
+            int high = count;
+            while (start < high) {
+                int mid = (start + high) >>> 1;
+                if (getXValue(mid) < xRange.getLowerBound()) {
+                    start = mid + 1;
+                }
+                else {
+                    high = mid;
+                }
+            }
+        }
+        double lower = Double.POSITIVE_INFINITY;
+        double upper = Double.NEGATIVE_INFINITY;
+        for (int i = start; i < count; i++) {
+            double x = getXValue(i);
+            if (this.autoSort && x > xRange.getUpperBound()) {
+                break;
+            }
+            if (xRange.contains(x)) {
+                double y = getYValue(i);
+                if (!Double.isNaN(y)) {
+                    lower = Math.min(lower, y);
+                    upper = Math.max(upper, y);
+                }
+            }
+        }
+        if (lower > upper) {
+            return null;
+        }
+        return new Range(lower, upper);
+    }
+
     /**
      * Updates the cached values for the minimum and maximum data values.
      *
@@ -388,6 +447,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
         int remove = this.data.size() - maximum;
         if (remove > 0) {
             this.data.subList(0, remove).clear();
+            recordRemovedItems(remove);
             findBoundsByIteration();
             fireSeriesChanged();
         }
@@ -509,6 +569,9 @@ public class XYSeries extends Series implements Cloneable, Serializable {
         if (this.autoSort) {
             int index = Collections.binarySearch(this.data, item);
             if (index < 0) {
+                if (-index - 1 < this.data.size()) {
+                    recordModification();
+                }
                 this.data.add(-index - 1, item);
             }
             else {
@@ -520,6 +583,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
                         index++;
                     }
                     if (index < this.data.size()) {
+                        recordModification();
                         this.data.add(index, item);
                     }
                     else {
@@ -545,6 +609,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
         updateBoundsForAddedItem(item);
         if (getItemCount() > this.maximumItemCount) {
             XYDataItem removed = (XYDataItem) this.data.remove(0);
+            recordRemovedItems(1);
             updateBoundsForRemovedItem(removed);
         }
         if (notify) {
@@ -561,6 +626,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      */
     public void delete(int start, int end) {
         this.data.subList(start, end + 1).clear();
+        recordRemoval(start, end - start + 1);
         findBoundsByIteration();
         fireSeriesChanged();
     }
@@ -575,6 +641,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      */
     public XYDataItem remove(int index) {
         XYDataItem removed = (XYDataItem) this.data.remove(index);
+        recordRemoval(index, 1);
         updateBoundsForRemovedItem(removed);
         fireSeriesChanged();
         return removed;
@@ -601,6 +668,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
     public void clear() {
         if (this.data.size() > 0) {
             this.data.clear();
+            recordModification();
             this.minX = Double.NaN;
             this.maxX = Double.NaN;
             this.minY = Double.NaN;
@@ -656,6 +724,34 @@ public class XYSeries extends Series implements Cloneable, Serializable {
         return getRawDataItem(index).getY();
     }
 
+    /**
+     * Returns the x-value (as a double primitive) at the specified index.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The x-value.
+     *
+     * @since 1.0.20
+     */
+    public double getXValue(int index) {
+        return getRawDataItem(index).getXValue();
+    }
+
+    /**
+     * Returns the y-value (as a double primitive) at the specified index.
+     * This method returns <code>Double.NaN</code> for a <code>null</code>
+     * y-value.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The y-value.
+     *
+     * @since 1.0.20
+     */
+    public double getYValue(int index) {
+        return getRawDataItem(index).getYValue();
+    }
+
     /**
      * Updates the value of an item in the series and sends a
      * {@link SeriesChangeEvent} to all registered listeners.
@@ -676,6 +772,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
             iterate = oldY <= this.minY || oldY >= this.maxY;
         }
         item.setY(y);
+        recordModification();
 
         if (iterate) {
             findBoundsByIteration();
@@ -817,6 +914,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
                 iterate = oldY <= this.minY || oldY >= this.maxY;
             }
             existing.setY(item.getY());
+            recordModification();
 
             if (iterate) {
                 findBoundsByIteration();
@@ -834,6 +932,9 @@ public class XYSeries extends Series implements Cloneable, Serializable {
             // append the value to the list...
             item = (XYDataItem) item.clone();
             if (this.autoSort) {
+                if (-index - 1 < this.data.size()) {
+                    recordModification();
+                }
                 this.data.add(-index - 1, item);
             }
             else {
@@ -844,6 +945,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
             // check if this addition will exceed the maximum item count...
             if (getItemCount() > this.maximumItemCount) {
                 XYDataItem removed = (XYDataItem) this.data.remove(0);
+                recordRemovedItems(1);
                 updateBoundsForRemovedItem(removed);
             }
         }
@@ -974,7 +1076,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
         if (this.allowDuplicateXValues != that.allowDuplicateXValues) {
             return false;
         }
-        if (!ObjectUtilities.equal(this.data, that.data)) {
+        if (!ObjectUtilities.equal(getItems(), that.getItems())) {
             return false;
         }
         return true;
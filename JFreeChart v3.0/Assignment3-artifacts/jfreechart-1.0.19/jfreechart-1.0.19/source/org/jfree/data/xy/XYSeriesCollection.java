@@ -90,8 +90,8 @@ import org.jfree.util.PublicCloneable;
  * dataset.
  */
 public class XYSeriesCollection extends AbstractIntervalXYDataset
-        implements IntervalXYDataset, DomainInfo, RangeInfo, 
-        VetoableChangeListener, PublicCloneable, Serializable {
+        implements IntervalXYDataset, DomainInfo, RangeInfo, XYDomainInfo,
+        XYRangeInfo, VetoableChangeListener, PublicCloneable, Serializable {
 
     /** For serialization. */
     private static final long serialVersionUID = -7590013825931496766L;
@@ -358,6 +358,21 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
         return s.getX(item);
     }
 
+    /**
+     * Returns the x-value (as a double primitive) for the specified series
+     * and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The value.
+     */
+    @Override
+    public double getXValue(int series, int item) {
+        XYSeries s = (XYSeries) this.data.get(series);
+        return s.getXValue(item);
+    }
+
     /**
      * Returns the starting X value for the specified series and item.
      *
@@ -398,6 +413,22 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
         return s.getY(index);
     }
 
+    /**
+     * Returns the y-value (as a double primitive) for the specified series
+     * and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The value (<code>Double.NaN</code> for a <code>null</code>
+     *     y-value).
+     */
+    @Override
+    public double getYValue(int series, int item) {
+        XYSeries s = (XYSeries) this.data.get(series);
+        return s.getYValue(item);
+    }
+
     /**
      * Returns the starting Y value for the specified series and item.
      *
@@ -575,6 +606,83 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
         }
     }
 
+    /**
+     * Returns the bounds of the x-values for the specified series.  This
+     * uses the bounds cached by each series, so it does not iterate over the
+     * data items.
+     *
+     * @param visibleSeriesKeys  the keys for the visible series
+     *     (<code>null</code> not permitted).
+     * @param includeInterval  include the x-interval?
+     *
+     * @return The bounds (or <code>null</code> if the visible series contain
+     *     no values).
+     *
+     * @since 1.0.20
+     */
+    @Override
+    public Range getDomainBounds(List visibleSeriesKeys,
+            boolean includeInterval) {
+        ParamChecks.nullNotPermitted(visibleSeriesKeys, "visibleSeriesKeys");
+        double lower = Double.POSITIVE_INFINITY;
+        double upper = Double.NEGATIVE_INFINITY;
+        Iterator iterator = visibleSeriesKeys.iterator();
+        while (iterator.hasNext()) {
+            Comparable key = (Comparable) iterator.next();
+            XYSeries series = getSeries(key);
+            double minX = series.getMinX();
+            if (!Double.isNaN(minX)) {
+                lower = Math.min(lower, minX);
+            }
+            double maxX = series.getMaxX();
+            if (!Double.isNaN(maxX)) {
+                upper = Math.max(upper, maxX);
+            }
+        }
+        if (lower > upper) {
+            return null;
+        }
+        if (includeInterval) {
+            double lowerAdj = getIntervalWidth() * getIntervalPositionFactor();
+            double upperAdj = getIntervalWidth() - lowerAdj;
+            lower = lower - lowerAdj;
+            upper = upper + upperAdj;
+        }
+        return new Range(lower, upper);
+    }
+
+    /**
+     * Returns the bounds of the y-values for the specified series, including
+     * only those items with x-values in the specified range.  For each series
+     * that lies entirely within the x-range, the bounds cached by the series
+     * are used (see {@link XYSeries#findValueRange(Range)}).
+     *
+     * @param visibleSeriesKeys  the keys for the visible series
+     *     (<code>null</code> not permitted).
+     * @param xRange  the x-range (<code>null</code> not permitted).
+     * @param includeInterval  ignored (there is no y-interval for this
+     *     dataset).
+     *
+     * @return The bounds (or <code>null</code> if there are no y-values in
+     *     range).
+     *
+     * @since 1.0.20
+     */
+    @Override
+    public Range getRangeBounds(List visibleSeriesKeys, Range xRange,
+            boolean includeInterval) {
+        ParamChecks.nullNotPermitted(visibleSeriesKeys, "visibleSeriesKeys");
+        ParamChecks.nullNotPermitted(xRange, "xRange");
+        Range result = null;
+        Iterator iterator = visibleSeriesKeys.iterator();
+        while (iterator.hasNext()) {
+            Comparable key = (Comparable) iterator.next();
+            XYSeries series = getSeries(key);
+            result = Range.combine(result, series.findValueRange(xRange));
+        }
+        return result;
+    }
+
     /**
      * Returns the interval width. This is used to calculate the start and end
      * x-values, if/when the dataset is used as an {@link IntervalXYDataset}.
@@ -44,18 +44,24 @@ package org.jfree.chart;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertFalse;
+import java.awt.Graphics2D;
 import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
 import java.util.EventListener;
 import java.util.List;
 
 import javax.swing.event.CaretListener;
 
 import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.entity.EntityCollection;
 import org.jfree.chart.event.ChartChangeEvent;
 import org.jfree.chart.event.ChartChangeListener;
 import org.jfree.chart.plot.PlotOrientation;
 import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.title.TextTitle;
 import org.jfree.data.xy.DefaultXYDataset;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
 import org.junit.Test;
 
 /**
@@ -343,4 +349,95 @@ public class ChartPanelTest implements ChartChangeListener, ChartMouseListener {
         panel.setMouseWheelEnabled(false);
         assertFalse(panel.isMouseWheelEnabled());
     }
+
+    /**
+     * Paints the panel into a new image.
+     *
+     * @param panel  the panel.
+     *
+     * @return The image.
+     */
+    private BufferedImage paint(ChartPanel panel) {
+        BufferedImage image = new BufferedImage(panel.getWidth(),
+                panel.getHeight(), BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        panel.paintComponent(g2);
+        g2.dispose();
+        return image;
+    }
+
+    /**
+     * A change to the data should redraw only the data area when the
+     * data area refresh is enabled, and the result should be the same as
+     * drawing the whole chart.
+     */
+    @Test
+    public void testDataAreaRefresh() {
+        final int[] titleDrawCount = new int[1];
+        XYSeries series = new XYSeries("S1");
+        series.add(1.0, 1.0);
+        series.add(2.0, 3.0);
+        XYSeriesCollection dataset = new XYSeriesCollection(series);
+        JFreeChart chart = ChartFactory.createXYLineChart(null, "X", "Y",
+                dataset, PlotOrientation.VERTICAL, true, false, false);
+        chart.setTitle(new TextTitle("Title") {
+            @Override
+            public Object draw(Graphics2D g2, Rectangle2D area,
+                    Object params) {
+                titleDrawCount[0]++;
+                return super.draw(g2, area, params);
+            }
+        });
+        XYPlot plot = (XYPlot) chart.getPlot();
+        plot.getDomainAxis().setRange(0.0, 10.0);
+        plot.getRangeAxis().setRange(0.0, 10.0);
+        ChartPanel panel = new ChartPanel(chart);
+        panel.setDataAreaRefreshEnabled(true);
+        assertTrue(panel.isDataAreaRefreshEnabled());
+        panel.setSize(400, 300);
+        paint(panel);
+        assertEquals(1, titleDrawCount[0]);
+
+        series.add(3.0, 2.0);
+        series.add(4.0, 8.0);
+        BufferedImage image1 = paint(panel);
+        assertEquals(1, titleDrawCount[0]);
+
+        ChartPanel panel2 = new ChartPanel(chart);
+        panel2.setSize(400, 300);
+        BufferedImage image2 = paint(panel2);
+        assertEquals(2, titleDrawCount[0]);
+        for (int x = 0; x < 400; x++) {
+            for (int y = 0; y < 300; y++) {
+                assertEquals(image2.getRGB(x, y), image1.getRGB(x, y));
+            }
+        }
+        EntityCollection entities1
+                = panel.getChartRenderingInfo().getEntityCollection();
+        EntityCollection entities2
+                = panel2.getChartRenderingInfo().getEntityCollection();
+        assertEquals(entities2.getEntityCount(), entities1.getEntityCount());
+        for (int i = 0; i < entities1.getEntityCount(); i++) {
+            assertEquals(entities2.getEntity(i), entities1.getEntity(i));
+        }
+
+        // a new series changes the legend, so the whole chart is redrawn
+        XYSeries series2 = new XYSeries("S2");
+        series2.add(5.0, 5.0);
+        dataset.addSeries(series2);
+        paint(panel);
+        assertEquals(3, titleDrawCount[0]);
+
+        // as does a change to the data that changes an axis range
+        plot.getRangeAxis().setAutoRange(true);
+        paint(panel);
+        assertEquals(4, titleDrawCount[0]);
+        series.add(6.0, 6.0);
+        paint(panel);
+        assertEquals(4, titleDrawCount[0]);
+        series.add(7.0, 50.0);
+        paint(panel);
+        assertEquals(5, titleDrawCount[0]);
+    }
+
 }
@@ -0,0 +1,158 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------------
+ * ParallelChartRendererTest.java
+ * ------------------------------
+ * (C) Copyright 2014, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.data.general.DatasetChangeListener;
+import org.jfree.data.general.DefaultPieDataset;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link ParallelChartRenderer} class.
+ */
+public class ParallelChartRendererTest {
+
+    /** The executor. */
+    private ExecutorService executor;
+
+    /**
+     * A dataset that counts the registered listeners.
+     */
+    static class CountingDataset extends XYSeriesCollection {
+
+        int listenerCount;
+
+        @Override
+        public void addChangeListener(DatasetChangeListener listener) {
+            super.addChangeListener(listener);
+            this.listenerCount++;
+        }
+
+        @Override
+        public void removeChangeListener(DatasetChangeListener listener) {
+            super.removeChangeListener(listener);
+            this.listenerCount--;
+        }
+    }
+
+    @Before
+    public void setUp() {
+        this.executor = Executors.newFixedThreadPool(3);
+    }
+
+    @After
+    public void tearDown() {
+        this.executor.shutdown();
+    }
+
+    /**
+     * Returns the pixels of an image.
+     *
+     * @param image  the image.
+     *
+     * @return The pixels.
+     */
+    private static int[] pixels(BufferedImage image) {
+        return image.getRGB(0, 0, image.getWidth(), image.getHeight(), null, 0,
+                image.getWidth());
+    }
+
+    /**
+     * The image drawn in bands should be the same as the image drawn in one
+     * pass, and the chart copies should be released from the dataset.
+     */
+    @Test
+    public void testSameAsSerial() {
+        CountingDataset dataset = new CountingDataset();
+        Random random = new Random(1L);
+        for (int s = 0; s < 3; s++) {
+            XYSeries series = new XYSeries("S" + s);
+            for (int i = 0; i < 500; i++) {
+                series.add(i, random.nextGaussian());
+            }
+            dataset.addSeries(series);
+        }
+        JFreeChart chart = ChartFactory.createXYLineChart("Title", "X", "Y",
+                dataset, PlotOrientation.VERTICAL, true, true, false);
+        int listeners = dataset.listenerCount;
+
+        BufferedImage expected = chart.createBufferedImage(400, 301);
+        ParallelChartRenderer renderer = new ParallelChartRenderer(
+                this.executor, 4);
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        BufferedImage actual = renderer.createBufferedImage(chart, 400, 301,
+                info);
+        assertTrue(Arrays.equals(pixels(expected), pixels(actual)));
+        assertEquals(listeners, dataset.listenerCount);
+        assertTrue(info.getEntityCollection().getEntityCount() > 1500);
+    }
+
+    /**
+     * A chart with an unsupported plot is drawn in the usual way.
+     */
+    @Test
+    public void testPieChart() {
+        DefaultPieDataset dataset = new DefaultPieDataset();
+        dataset.setValue("A", 1.0);
+        dataset.setValue("B", 2.0);
+        JFreeChart chart = ChartFactory.createPieChart("Pie", dataset);
+        BufferedImage expected = chart.createBufferedImage(200, 150);
+        ParallelChartRenderer renderer = new ParallelChartRenderer(
+                this.executor, 4);
+        BufferedImage actual = renderer.createBufferedImage(chart, 200, 150,
+                null);
+        assertTrue(Arrays.equals(pixels(expected), pixels(actual)));
+    }
+
+}
@@ -0,0 +1,179 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------------
+ * StreamingPNGEncoderTest.java
+ * ----------------------------
+ * (C) Copyright 2014, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.encoders;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.Ellipse2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.imageio.ImageIO;
+
+import org.junit.Test;
+
+/**
+ * Tests for the {@link StreamingPNGEncoder} class.
+ */
+public class StreamingPNGEncoderTest {
+
+    /**
+     * Creates a test image.
+     *
+     * @return The image.
+     */
+    private static BufferedImage createImage() {
+        BufferedImage image = new BufferedImage(123, 77,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
+                RenderingHints.VALUE_ANTIALIAS_ON);
+        g2.setPaint(new GradientPaint(0f, 0f, Color.red, 100f, 70f,
+                new Color(0, 0, 255, 128)));
+        g2.fillRect(10, 5, 100, 60);
+        g2.setPaint(Color.green);
+        g2.fill(new Ellipse2D.Double(40.0, 20.0, 60.0, 50.0));
+        g2.dispose();
+        return image;
+    }
+
+    /**
+     * Decodes an image and checks that it matches the original.
+     *
+     * @param expected  the original image.
+     * @param png  the encoded image.
+     * @param alpha  was the alpha channel encoded?
+     *
+     * @throws IOException if there is an IO problem.
+     */
+    private static void check(BufferedImage expected, byte[] png,
+            boolean alpha) throws IOException {
+        BufferedImage actual = ImageIO.read(new ByteArrayInputStream(png));
+        assertEquals(expected.getWidth(), actual.getWidth());
+        assertEquals(expected.getHeight(), actual.getHeight());
+        int mask = alpha ? 0xFFFFFFFF : 0x00FFFFFF;
+        for (int y = 0; y < expected.getHeight(); y++) {
+            for (int x = 0; x < expected.getWidth(); x++) {
+                assertEquals(expected.getRGB(x, y) & mask,
+                        actual.getRGB(x, y) & mask);
+            }
+        }
+    }
+
+    /**
+     * Each filter should produce an image that decodes to the original.
+     *
+     * @throws IOException if there is an IO problem.
+     */
+    @Test
+    public void testFilters() throws IOException {
+        BufferedImage image = createImage();
+        StreamingPNGEncoder encoder = new StreamingPNGEncoder();
+        for (int f = StreamingPNGEncoder.FILTER_NONE;
+                f <= StreamingPNGEncoder.FILTER_ADAPTIVE; f++) {
+            encoder.setFilter(f);
+            encoder.setEncodingAlpha(false);
+            check(image, encoder.encode(image), false);
+            encoder.setEncodingAlpha(true);
+            check(image, encoder.encode(image), true);
+        }
+        encoder.setQuality(0.0f);
+        check(image, encoder.encode(image), true);
+    }
+
+    /**
+     * The output should be the same when the bands are filtered in parallel.
+     *
+     * @throws IOException if there is an IO problem.
+     */
+    @Test
+    public void testParallel() throws IOException {
+        BufferedImage image = createImage();
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            StreamingPNGEncoder e1 = new StreamingPNGEncoder();
+            StreamingPNGEncoder e2 = new StreamingPNGEncoder(executor);
+            e1.setEncodingAlpha(true);
+            e2.setEncodingAlpha(true);
+            byte[] png = e2.encode(image);
+            assertTrue(Arrays.equals(e1.encode(image), png));
+            check(image, png, true);
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Check that invalid settings are rejected.
+     */
+    @Test
+    public void testSettings() {
+        StreamingPNGEncoder encoder = new StreamingPNGEncoder();
+        assertEquals(6.0f, encoder.getQuality(), 0.0f);
+        assertEquals(StreamingPNGEncoder.FILTER_ADAPTIVE, encoder.getFilter());
+        try {
+            encoder.setQuality(10.0f);
+            fail("IllegalArgumentException expected.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            encoder.setFilter(6);
+            fail("IllegalArgumentException expected.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+}
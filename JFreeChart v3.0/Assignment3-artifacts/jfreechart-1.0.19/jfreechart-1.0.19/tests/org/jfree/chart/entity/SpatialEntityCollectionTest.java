@@ -0,0 +1,137 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------------
+ * SpatialEntityCollectionTest.java
+ * --------------------------------
+ * (C) Copyright 2014, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.entity;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Rectangle2D;
+import java.util.Random;
+
+import org.jfree.chart.TestUtilities;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link SpatialEntityCollection} class.
+ */
+public class SpatialEntityCollectionTest {
+
+    /**
+     * The look-up should always find the same entity as a
+     * {@link StandardEntityCollection}.
+     */
+    @Test
+    public void testGetEntity() {
+        StandardEntityCollection c1 = new StandardEntityCollection();
+        SpatialEntityCollection c2 = new SpatialEntityCollection();
+        Random random = new Random(7L);
+        // a large entity underneath the others, as for a plot entity
+        ChartEntity background = new ChartEntity(new Rectangle2D.Double(0.0,
+                0.0, 500.0, 500.0));
+        c1.add(background);
+        c2.add(background);
+        for (int i = 0; i < 2000; i++) {
+            double x = random.nextDouble() * 400.0;
+            double y = random.nextDouble() * 400.0;
+            double s = 1.0 + random.nextDouble() * 20.0;
+            ChartEntity entity = new ChartEntity(i % 2 == 0
+                    ? new Rectangle2D.Double(x, y, s, s)
+                    : new Ellipse2D.Double(x, y, s, s));
+            c1.add(entity);
+            c2.add(entity);
+        }
+        for (int i = 0; i < 5000; i++) {
+            double x = random.nextDouble() * 520.0 - 10.0;
+            double y = random.nextDouble() * 520.0 - 10.0;
+            assertSame(c1.getEntity(x, y), c2.getEntity(x, y));
+        }
+        assertNull(c2.getEntity(600.0, 600.0));
+
+        // adding an entity discards the index
+        ChartEntity top = new ChartEntity(new Rectangle2D.Double(10.0, 10.0,
+                5.0, 5.0));
+        c2.add(top);
+        assertSame(top, c2.getEntity(12.0, 12.0));
+        c2.clear();
+        assertNull(c2.getEntity(12.0, 12.0));
+        assertEquals(0, c2.getEntityCount());
+    }
+
+    /**
+     * Confirm that cloning works.
+     *
+     * @throws CloneNotSupportedException if there is a cloning problem.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        SpatialEntityCollection c1 = new SpatialEntityCollection();
+        for (int i = 0; i < 100; i++) {
+            c1.add(new ChartEntity(new Rectangle2D.Double(i, i, 1.0, 1.0)));
+        }
+        assertEquals(50.0, c1.getEntity(50.5, 50.5).getArea().getBounds2D()
+                .getX(), 0.0);
+        SpatialEntityCollection c2 = (SpatialEntityCollection) c1.clone();
+        assertTrue(c1 != c2);
+        assertEquals(c1, c2);
+        assertEquals(50.0, c2.getEntity(50.5, 50.5).getArea().getBounds2D()
+                .getX(), 0.0);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        SpatialEntityCollection c1 = new SpatialEntityCollection();
+        for (int i = 0; i < 100; i++) {
+            c1.add(new ChartEntity(new Rectangle2D.Double(i, i, 1.0, 1.0)));
+        }
+        SpatialEntityCollection c2 = (SpatialEntityCollection)
+                TestUtilities.serialised(c1);
+        assertEquals(c1, c2);
+        assertEquals(20.0, c2.getEntity(20.5, 20.5).getArea().getBounds2D()
+                .getX(), 0.0);
+    }
+
+}
@@ -49,13 +49,17 @@ import java.awt.Graphics2D;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import org.jfree.chart.ChartRenderingInfo;
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.TestUtilities;
 import org.jfree.chart.annotations.XYTextAnnotation;
 import org.jfree.chart.axis.AxisLocation;
 import org.jfree.chart.axis.NumberAxis;
 import org.jfree.chart.event.ChartChangeEvent;
+import org.jfree.chart.entity.EntityCollection;
 import org.jfree.chart.event.ChartChangeListener;
 import org.jfree.chart.renderer.xy.StandardXYItemRenderer;
 import org.jfree.chart.renderer.xy.XYItemRenderer;
@@ -164,6 +168,48 @@ public class CombinedDomainXYPlotTest implements ChartChangeListener {
         assertTrue(this.events.isEmpty());
     }
 
+    /**
+     * Drawing the subplots with an executor should give the same image and
+     * rendering info as drawing them one after the other.
+     */
+    @Test
+    public void testDrawWithSubplotExecutor() {
+        CombinedDomainXYPlot plot = createPlot();
+        plot.add(new XYPlot(createDataset1(), null, new NumberAxis("Range 3"),
+                new StandardXYItemRenderer()));
+        JFreeChart chart = new JFreeChart(plot);
+        chart.setAntiAlias(false);
+        chart.setTextAntiAlias(false);
+        ChartRenderingInfo info1 = new ChartRenderingInfo();
+        BufferedImage image1 = chart.createBufferedImage(400, 300, info1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            plot.setSubplotExecutor(executor);
+            ChartRenderingInfo info2 = new ChartRenderingInfo();
+            BufferedImage image2 = chart.createBufferedImage(400, 300, info2);
+            for (int x = 0; x < 400; x++) {
+                for (int y = 0; y < 300; y++) {
+                    assertEquals(image1.getRGB(x, y), image2.getRGB(x, y));
+                }
+            }
+            EntityCollection entities1 = info1.getEntityCollection();
+            EntityCollection entities2 = info2.getEntityCollection();
+            assertEquals(entities1.getEntityCount(),
+                    entities2.getEntityCount());
+            for (int i = 0; i < entities1.getEntityCount(); i++) {
+                assertEquals(entities1.getEntity(i), entities2.getEntity(i));
+            }
+            PlotRenderingInfo plotInfo = info2.getPlotInfo();
+            assertEquals(3, plotInfo.getSubplotCount());
+            assertTrue(plotInfo.getSubplotInfo(2).getOwner() == info2);
+            assertEquals(info1.getPlotInfo(), plotInfo);
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
     /**
      * Creates a sample dataset.
      *
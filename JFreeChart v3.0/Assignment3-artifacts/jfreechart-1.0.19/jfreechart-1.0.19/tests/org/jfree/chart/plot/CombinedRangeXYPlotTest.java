@@ -49,13 +49,17 @@ import java.awt.Graphics2D;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import org.jfree.chart.ChartRenderingInfo;
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.TestUtilities;
 import org.jfree.chart.annotations.XYTextAnnotation;
 import org.jfree.chart.axis.AxisLocation;
 import org.jfree.chart.axis.NumberAxis;
 import org.jfree.chart.event.ChartChangeEvent;
+import org.jfree.chart.entity.EntityCollection;
 import org.jfree.chart.event.ChartChangeListener;
 import org.jfree.chart.renderer.xy.StandardXYItemRenderer;
 import org.jfree.chart.renderer.xy.XYItemRenderer;
@@ -155,6 +159,81 @@ public class CombinedRangeXYPlotTest implements ChartChangeListener {
         assertTrue(this.events.isEmpty());
     }
 
+    /**
+     * Drawing the subplots with an executor should give the same image and
+     * rendering info as drawing them one after the other, with the subplots
+     * laid out along the domain and sharing the range axis.
+     */
+    @Test
+    public void testDrawWithSubplotExecutor() {
+        CombinedRangeXYPlot plot = createPlot();
+        plot.add(new XYPlot(createDataset1(), new NumberAxis("X3"), null,
+                new StandardXYItemRenderer()), 2);
+        plot.setRangeAxisLocation(AxisLocation.BOTTOM_OR_RIGHT);
+        JFreeChart chart = new JFreeChart(plot);
+        chart.setAntiAlias(false);
+        chart.setTextAntiAlias(false);
+        PlotOrientation[] orientations = new PlotOrientation[] {
+            PlotOrientation.VERTICAL, PlotOrientation.HORIZONTAL};
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int o = 0; o < orientations.length; o++) {
+                plot.setOrientation(orientations[o]);
+                plot.setSubplotExecutor(null);
+                ChartRenderingInfo info1 = new ChartRenderingInfo();
+                BufferedImage image1 = chart.createBufferedImage(400, 300,
+                        info1);
+                plot.setSubplotExecutor(executor);
+                ChartRenderingInfo info2 = new ChartRenderingInfo();
+                BufferedImage image2 = chart.createBufferedImage(400, 300,
+                        info2);
+                for (int x = 0; x < 400; x++) {
+                    for (int y = 0; y < 300; y++) {
+                        assertEquals(image1.getRGB(x, y),
+                                image2.getRGB(x, y));
+                    }
+                }
+                EntityCollection entities1 = info1.getEntityCollection();
+                EntityCollection entities2 = info2.getEntityCollection();
+                assertEquals(entities1.getEntityCount(),
+                        entities2.getEntityCount());
+                for (int i = 0; i < entities1.getEntityCount(); i++) {
+                    assertEquals(entities1.getEntity(i),
+                            entities2.getEntity(i));
+                }
+                PlotRenderingInfo plotInfo = info2.getPlotInfo();
+                assertEquals(3, plotInfo.getSubplotCount());
+                assertTrue(plotInfo.getSubplotInfo(2).getOwner() == info2);
+                assertEquals(info1.getPlotInfo(), plotInfo);
+
+                // the subplots follow each other along the domain axis and
+                // span the same range as the shared range axis
+                boolean vertical = orientations[o] == PlotOrientation.VERTICAL;
+                Rectangle2D area0 = plotInfo.getSubplotInfo(0).getDataArea();
+                for (int i = 1; i < 3; i++) {
+                    Rectangle2D area = plotInfo.getSubplotInfo(i)
+                            .getDataArea();
+                    Rectangle2D previous = plotInfo.getSubplotInfo(i - 1)
+                            .getDataArea();
+                    if (vertical) {
+                        assertTrue(area.getMinX() > previous.getMaxX());
+                        assertEquals(area0.getMinY(), area.getMinY(), 0.5);
+                        assertEquals(area0.getHeight(), area.getHeight(),
+                                0.5);
+                    }
+                    else {
+                        assertTrue(area.getMinY() > previous.getMaxY());
+                        assertEquals(area0.getMinX(), area.getMinX(), 0.5);
+                        assertEquals(area0.getWidth(), area.getWidth(), 0.5);
+                    }
+                }
+            }
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
     /**
      * Creates a sample dataset.
      *
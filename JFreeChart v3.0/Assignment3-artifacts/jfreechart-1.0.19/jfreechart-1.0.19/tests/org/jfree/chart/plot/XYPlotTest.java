@@ -67,10 +67,13 @@ import java.awt.Stroke;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartRenderingInfo;
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.LegendItem;
 import org.jfree.chart.LegendItemCollection;
@@ -79,12 +82,16 @@ import org.jfree.chart.annotations.XYTextAnnotation;
 import org.jfree.chart.axis.AxisLocation;
 import org.jfree.chart.axis.DateAxis;
 import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.entity.ChartEntity;
+import org.jfree.chart.entity.EntityCollection;
 import org.jfree.chart.event.MarkerChangeListener;
 import org.jfree.chart.labels.StandardXYToolTipGenerator;
 import org.jfree.chart.renderer.xy.DefaultXYItemRenderer;
 import org.jfree.chart.renderer.xy.StandardXYItemRenderer;
 import org.jfree.chart.renderer.xy.XYBarRenderer;
 import org.jfree.chart.renderer.xy.XYItemRenderer;
+import org.jfree.chart.renderer.xy.XYItemRendererState;
 import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
 import org.jfree.chart.util.DefaultShadowGenerator;
 import org.jfree.data.time.Day;
@@ -433,6 +440,18 @@ public class XYPlotTest {
         lic2.add(new LegendItem("XYZ", Color.red));
         plot2.setFixedLegendItems(lic2);
         assertTrue(plot1.equals(plot2));
+
+        // itemDecimationEnabled
+        plot1.setItemDecimationEnabled(true);
+        assertFalse(plot1.equals(plot2));
+        plot2.setItemDecimationEnabled(true);
+        assertTrue(plot1.equals(plot2));
+
+        // incrementalRenderingEnabled
+        plot1.setIncrementalRenderingEnabled(true);
+        assertFalse(plot1.equals(plot2));
+        plot2.setIncrementalRenderingEnabled(true);
+        assertTrue(plot1.equals(plot2));
     }
 
     /**
@@ -1371,5 +1390,206 @@ public class XYPlotTest {
         plot.addRangeMarker(99, yMarker1, Layer.FOREGROUND);
         assertTrue(plot.getRangeMarkers(99, Layer.FOREGROUND).contains(yMarker1));
     }
-    
+
+    /**
+     * A renderer that counts the calls to drawItem() for the first pass.
+     */
+    static class CountingRenderer extends XYLineAndShapeRenderer {
+
+        /** The number of items drawn. */
+        int count;
+
+        @Override
+        public void drawItem(Graphics2D g2, XYItemRendererState state,
+                Rectangle2D dataArea, PlotRenderingInfo info, XYPlot plot,
+                ValueAxis domainAxis, ValueAxis rangeAxis, XYDataset dataset,
+                int series, int item, CrosshairState crosshairState,
+                int pass) {
+            if (pass == 0) {
+                this.count++;
+            }
+            super.drawItem(g2, state, dataArea, info, plot, domainAxis,
+                    rangeAxis, dataset, series, item, crosshairState, pass);
+        }
+    }
+
+    /**
+     * Creates a chart for the incremental rendering test.
+     *
+     * @param dataset  the dataset.
+     * @param renderer  the renderer.
+     *
+     * @return The chart.
+     */
+    private JFreeChart createStripChart(XYDataset dataset,
+            XYItemRenderer renderer) {
+        NumberAxis xAxis = new NumberAxis("X");
+        xAxis.setRange(0.0, 100.0);
+        NumberAxis yAxis = new NumberAxis("Y");
+        yAxis.setRange(-10.0, 10.0);
+        return new JFreeChart(new XYPlot(dataset, xAxis, yAxis, renderer));
+    }
+
+    /**
+     * Returns a sorted list containing the class, area and tool tip of each
+     * entity in a collection.
+     *
+     * @param entities  the entities.
+     *
+     * @return The list.
+     */
+    private List<String> entityAreas(EntityCollection entities) {
+        List<String> result = new ArrayList<String>();
+        for (int i = 0; i < entities.getEntityCount(); i++) {
+            ChartEntity entity = entities.getEntity(i);
+            result.add(entity.getClass().getName() + " "
+                    + entity.getShapeCoords() + " "
+                    + entity.getToolTipText());
+        }
+        Collections.sort(result);
+        return result;
+    }
+
+    /**
+     * When incremental rendering is enabled, appending items to a series
+     * should draw only the new items, and give the same result as drawing
+     * all the items.
+     */
+    @Test
+    public void testIncrementalRendering() {
+        XYSeries s1 = new XYSeries("S1");
+        XYSeries s2 = new XYSeries("S2");
+        for (int i = 0; i < 20; i++) {
+            s1.add(i, Math.sin(i / 3.0) * 8.0);
+            s2.add(i, Math.cos(i / 5.0) * 5.0);
+        }
+        XYSeriesCollection dataset = new XYSeriesCollection(s1);
+        dataset.addSeries(s2);
+        CountingRenderer renderer = new CountingRenderer();
+        renderer.setBaseShapesVisible(false);
+        JFreeChart chart = createStripChart(dataset, renderer);
+        XYPlot plot = (XYPlot) chart.getPlot();
+        plot.setIncrementalRenderingEnabled(true);
+        chart.createBufferedImage(400, 300, new ChartRenderingInfo());
+        assertEquals(40, renderer.count);
+
+        for (int i = 20; i < 30; i++) {
+            s1.add(i, Math.sin(i / 3.0) * 8.0);
+        }
+        renderer.count = 0;
+        ChartRenderingInfo info1 = new ChartRenderingInfo();
+        BufferedImage image1 = chart.createBufferedImage(400, 300, info1);
+        assertEquals(10, renderer.count);
+
+        JFreeChart chart2 = createStripChart(dataset,
+                new XYLineAndShapeRenderer(true, false));
+        ((XYPlot) chart2.getPlot()).setIncrementalRenderingEnabled(true);
+        ChartRenderingInfo info2 = new ChartRenderingInfo();
+        BufferedImage image2 = chart2.createBufferedImage(400, 300, info2);
+        for (int x = 0; x < 400; x++) {
+            for (int y = 0; y < 300; y++) {
+                assertEquals(image2.getRGB(x, y), image1.getRGB(x, y));
+            }
+        }
+        assertEquals(entityAreas(info2.getEntityCollection()),
+                entityAreas(info1.getEntityCollection()));
+
+        // items appended to a series that is drawn below another series
+        // mean all the items are drawn again...
+        s2.add(20, 0.0);
+        renderer.count = 0;
+        chart.createBufferedImage(400, 300, null);
+        assertEquals(51, renderer.count);
+
+        // ...as do other changes to the plot...
+        renderer.setSeriesVisible(1, Boolean.FALSE);
+        renderer.count = 0;
+        chart.createBufferedImage(400, 300, null);
+        assertEquals(51, renderer.count);
+
+        // ...and changes to the axis ranges...
+        plot.getRangeAxis().setAutoRange(true);
+        chart.createBufferedImage(400, 300, null);
+        s1.add(30, 50.0);
+        renderer.count = 0;
+        chart.createBufferedImage(400, 300, null);
+        assertEquals(52, renderer.count);
+
+        // ...and changes to existing items
+        plot.getRangeAxis().setRange(-100.0, 100.0);
+        chart.createBufferedImage(400, 300, null);
+        s1.updateByIndex(30, new Double(40.0));
+        renderer.count = 0;
+        chart.createBufferedImage(400, 300, null);
+        assertEquals(52, renderer.count);
+        s1.add(31, 30.0);
+        renderer.count = 0;
+        chart.createBufferedImage(400, 300, null);
+        assertEquals(1, renderer.count);
+
+        // renderers that draw shapes, or draw each series as a single path,
+        // draw all the items
+        renderer.setSeriesShapesVisible(0, true);
+        chart.createBufferedImage(400, 300, null);
+        s1.add(32, 30.0);
+        renderer.count = 0;
+        chart.createBufferedImage(400, 300, null);
+        assertEquals(54, renderer.count);
+        renderer.setSeriesShapesVisible(0, false);
+        renderer.setDrawSeriesLineAsPath(true);
+        chart.createBufferedImage(400, 300, null);
+        s1.add(33, 30.0);
+        renderer.count = 0;
+        chart.createBufferedImage(400, 300, null);
+        assertEquals(55, renderer.count);
+    }
+
+    /**
+     * When incremental rendering is enabled, a change to an earlier item
+     * (on its own, or in the same event as appended items) should give the
+     * same result as drawing all the items.
+     */
+    @Test
+    public void testIncrementalRenderingAfterUpdate() {
+        XYSeries series = new XYSeries("S1");
+        for (int i = 0; i < 20; i++) {
+            series.add(i, i % 5);
+        }
+        XYSeriesCollection dataset = new XYSeriesCollection(series);
+        JFreeChart chart = createStripChart(dataset,
+                new XYLineAndShapeRenderer(true, false));
+        ((XYPlot) chart.getPlot()).setIncrementalRenderingEnabled(true);
+        chart.createBufferedImage(400, 300, null);
+
+        series.updateByIndex(2, new Double(8.0));
+        assertSameImage(dataset, chart.createBufferedImage(400, 300, null));
+
+        series.setNotify(false);
+        series.updateByIndex(5, new Double(-8.0));
+        series.add(20, 1.0);
+        series.setNotify(true);
+        assertSameImage(dataset, chart.createBufferedImage(400, 300, null));
+    }
+
+    /**
+     * Checks that an image has the same pixels as a new strip chart for the
+     * dataset (drawn for the first time, so all the items are drawn).
+     *
+     * @param dataset  the dataset.
+     * @param actual  the actual image.
+     */
+    private void assertSameImage(XYDataset dataset, BufferedImage actual) {
+        JFreeChart chart = createStripChart(dataset,
+                new XYLineAndShapeRenderer(true, false));
+        ((XYPlot) chart.getPlot()).setIncrementalRenderingEnabled(true);
+        BufferedImage expected = chart.createBufferedImage(400, 300, null);
+        assertEquals(expected.getWidth(), actual.getWidth());
+        assertEquals(expected.getHeight(), actual.getHeight());
+        for (int x = 0; x < expected.getWidth(); x++) {
+            for (int y = 0; y < expected.getHeight(); y++) {
+                assertEquals(expected.getRGB(x, y), actual.getRGB(x, y));
+            }
+        }
+    }
+
 }
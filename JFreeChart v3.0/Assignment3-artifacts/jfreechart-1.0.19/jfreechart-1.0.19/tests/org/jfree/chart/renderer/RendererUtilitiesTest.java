@@ -41,12 +41,17 @@
 
 package org.jfree.chart.renderer;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
+import java.awt.geom.Rectangle2D;
+
+import org.jfree.chart.axis.NumberAxis;
 import org.jfree.data.DomainOrder;
 import org.jfree.data.xy.DefaultXYDataset;
 import org.jfree.data.xy.XYSeries;
 import org.jfree.data.xy.XYSeriesCollection;
+import org.jfree.ui.RectangleEdge;
 import org.junit.Test;
 
 /**
@@ -502,4 +507,44 @@ public class RendererUtilitiesTest {
         assertEquals(2, bounds[1]);
     }
 
+    /**
+     * Some checks for the findDecimatedItems() method.
+     */
+    @Test
+    public void testFindDecimatedItems() {
+        NumberAxis xAxis = new NumberAxis("X");
+        xAxis.setRange(0.0, 10.0);
+        Rectangle2D area = new Rectangle2D.Double(0.0, 0.0, 10.0, 10.0);
+        DefaultXYDataset d = new DefaultXYDataset();
+
+        // one item per pixel column - nothing is removed
+        d.addSeries("S1", new double[][] {{0.5, 1.5, 2.5}, {1.0, 2.0, 3.0}});
+        assertArrayEquals(new int[] {0, 1, 2},
+                RendererUtilities.findDecimatedItems(d, 0, 0, 2, xAxis, area,
+                RectangleEdge.BOTTOM));
+
+        // many items in one column - keep first, min, max and last
+        d.addSeries("S2", new double[][] {
+                {1.1, 1.2, 1.3, 1.4, 1.5, 1.6, 1.7, 2.5},
+                {5.0, 4.0, 9.0, 6.0, 1.0, 5.0, 5.5, 3.0}});
+        assertArrayEquals(new int[] {0, 2, 4, 6, 7},
+                RendererUtilities.findDecimatedItems(d, 1, 0, 7, xAxis, area,
+                RectangleEdge.BOTTOM));
+        assertArrayEquals(new int[] {1, 2, 4, 5},
+                RendererUtilities.findDecimatedItems(d, 1, 1, 5, xAxis, area,
+                RectangleEdge.BOTTOM));
+
+        // NaN values are always kept, so that gaps are preserved
+        d.addSeries("S3", new double[][] {
+                {1.1, 1.2, 1.3, 1.4, 1.5, 1.6},
+                {5.0, 4.0, Double.NaN, 6.0, 1.0, 5.0}});
+        assertArrayEquals(new int[] {0, 1, 2, 3, 4, 5},
+                RendererUtilities.findDecimatedItems(d, 2, 0, 5, xAxis, area,
+                RectangleEdge.BOTTOM));
+
+        // an empty range
+        assertEquals(0, RendererUtilities.findDecimatedItems(d, 0, 2, 1,
+                xAxis, area, RectangleEdge.BOTTOM).length);
+    }
+
 }
@@ -48,19 +48,32 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertFalse;
 
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.Shape;
 import java.awt.geom.Line2D;
+import java.awt.geom.Path2D;
+import java.awt.geom.PathIterator;
 import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
 
 import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartRenderingInfo;
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.LegendItem;
 import org.jfree.chart.TestUtilities;
+import org.jfree.chart.axis.DateAxis;
 import org.jfree.chart.axis.NumberAxis;
 import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.PlotRenderingInfo;
 import org.jfree.chart.plot.XYPlot;
 import org.jfree.chart.urls.TimeSeriesURLGenerator;
 import org.jfree.data.Range;
 import org.jfree.data.xy.TableXYDataset;
+import org.jfree.data.xy.XYDataset;
 import org.jfree.data.xy.XYSeries;
 import org.jfree.data.xy.XYSeriesCollection;
 import org.jfree.util.PublicCloneable;
@@ -151,6 +164,11 @@ public class XYLineAndShapeRendererTest {
         assertFalse(r1.equals(r2));
         r2.setDrawSeriesLineAsPath(true);
         assertTrue(r1.equals(r2));
+
+        r1.setDrawSeriesLineAsBatch(true);
+        assertFalse(r1.equals(r2));
+        r2.setDrawSeriesLineAsBatch(true);
+        assertTrue(r1.equals(r2));
     }
 
     /**
@@ -313,4 +331,200 @@ public class XYLineAndShapeRendererTest {
         assertEquals(2, li.getSeriesIndex());
     }
 
+    /**
+     * Draws a chart and returns the pixels.
+     *
+     * @param chart  the chart.
+     *
+     * @return The pixels.
+     */
+    private static int[] drawChart(JFreeChart chart) {
+        BufferedImage image = new BufferedImage(400, 300,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 400, 300));
+        g2.dispose();
+        return image.getRGB(0, 0, 400, 300, null, 0, 400);
+    }
+
+    /**
+     * Drawing the series lines in batch mode should give the same result
+     * as drawing them as a path, when no two items fall in the same pixel.
+     */
+    @Test
+    public void testDrawSeriesLineAsBatch() {
+        XYSeries s1 = new XYSeries("S1");
+        XYSeries s2 = new XYSeries("S2");
+        for (int i = 0; i < 60; i++) {
+            s1.add(i * 1000.0, (i % 7) * (i % 5) - 4.0);
+            s2.add(i * 1000.0, i == 20 || i == 41 ? null
+                    : new Double(Math.sin(i / 3.0) * 20.0));
+        }
+        XYSeriesCollection dataset = new XYSeriesCollection(s1);
+        dataset.addSeries(s2);
+        XYLineAndShapeRenderer r = new XYLineAndShapeRenderer(true, false);
+        r.setDrawSeriesLineAsPath(true);
+        XYPlot plot = new XYPlot(dataset, new DateAxis("X"),
+                new NumberAxis("Y"), r);
+        JFreeChart chart = new JFreeChart(plot);
+        chart.setAntiAlias(false);
+        chart.getRenderingHints().put(RenderingHints.KEY_STROKE_CONTROL,
+                RenderingHints.VALUE_STROKE_PURE);
+        // some segments are entirely outside the data area
+        plot.getDomainAxis().setRange(9500.0, 47300.0);
+        plot.getRangeAxis().setRange(-5.0, 11.0);
+        PlotOrientation[] orientations = new PlotOrientation[] {
+            PlotOrientation.VERTICAL, PlotOrientation.HORIZONTAL};
+        for (int i = 0; i < orientations.length; i++) {
+            plot.setOrientation(orientations[i]);
+            r.setDrawSeriesLineAsBatch(false);
+            int[] expected = drawChart(chart);
+            r.setDrawSeriesLineAsBatch(true);
+            assertTrue(Arrays.equals(expected, drawChart(chart)));
+        }
+    }
+
+    /**
+     * In batch mode, consecutive items in the same pixel should be skipped.
+     */
+    @Test
+    public void testDrawSeriesLineAsBatchPath() {
+        final Shape[] paths = new Shape[1];
+        XYLineAndShapeRenderer r = new XYLineAndShapeRenderer(true, false) {
+            @Override
+            protected void drawFirstPassShape(Graphics2D g2, int pass,
+                    int series, int item, Shape shape) {
+                // the renderer reuses the path
+                paths[0] = new Path2D.Double(shape);
+                super.drawFirstPassShape(g2, pass, series, item, shape);
+            }
+        };
+        r.setDrawSeriesLineAsBatch(true);
+        XYSeries s1 = new XYSeries("S1");
+        for (int i = 0; i < 20000; i++) {
+            s1.add(i, 5.0);
+        }
+        XYPlot plot = new XYPlot(new XYSeriesCollection(s1),
+                new NumberAxis("X"), new NumberAxis("Y"), r);
+        drawChart(new JFreeChart(plot));
+        int segments = 0;
+        PathIterator iterator = paths[0].getPathIterator(null);
+        double[] coords = new double[6];
+        double lastX = Double.NEGATIVE_INFINITY;
+        while (!iterator.isDone()) {
+            int type = iterator.currentSegment(coords);
+            assertTrue(coords[0] >= lastX);
+            lastX = coords[0];
+            if (type == PathIterator.SEG_LINETO) {
+                segments++;
+            }
+            iterator.next();
+        }
+        assertTrue(segments > 100);
+        assertTrue(segments < 500);
+    }
+
+    /**
+     * The renderer should only support decimation when it draws the series
+     * lines as a path and nothing is drawn or recorded for each item.
+     */
+    @Test
+    public void testItemDecimationSupported() {
+        XYSeries s1 = new XYSeries("S1");
+        s1.add(1.0, 2.0);
+        XYSeriesCollection dataset = new XYSeriesCollection(s1);
+        XYLineAndShapeRenderer r = new XYLineAndShapeRenderer(true, false);
+        XYPlot plot = new XYPlot(dataset, new NumberAxis("X"),
+                new NumberAxis("Y"), r);
+        Rectangle2D area = new Rectangle2D.Double(0, 0, 100, 100);
+        assertFalse(r.initialise(null, area, plot, dataset, null)
+                .getItemDecimationSupported());
+        r.setDrawSeriesLineAsPath(true);
+        assertTrue(r.initialise(null, area, plot, dataset, null)
+                .getItemDecimationSupported());
+
+        // shapes, item labels, entities and crosshairs need every item
+        r.setSeriesShapesVisible(0, true);
+        assertFalse(r.initialise(null, area, plot, dataset, null)
+                .getItemDecimationSupported());
+        r.setSeriesVisible(0, Boolean.FALSE);
+        assertTrue(r.initialise(null, area, plot, dataset, null)
+                .getItemDecimationSupported());
+        r.setSeriesVisible(0, Boolean.TRUE);
+        r.setSeriesShapesVisible(0, false);
+        r.setSeriesItemLabelsVisible(0, true);
+        assertFalse(r.initialise(null, area, plot, dataset, null)
+                .getItemDecimationSupported());
+        r.setSeriesItemLabelsVisible(0, false);
+        PlotRenderingInfo info = new ChartRenderingInfo().getPlotInfo();
+        assertFalse(r.initialise(null, area, plot, dataset, info)
+                .getItemDecimationSupported());
+        plot.setDomainCrosshairVisible(true);
+        assertFalse(r.initialise(null, area, plot, dataset, null)
+                .getItemDecimationSupported());
+    }
+
+    /**
+     * Creates a chart with two series for the incremental rendering test,
+     * with thick lines and large white-filled shapes so that any overlap
+     * between an appended line segment and an earlier shape shows up.
+     *
+     * @param dataset  the dataset.
+     * @param shapes  draw the shapes?
+     *
+     * @return The chart.
+     */
+    private static JFreeChart createIncrementalChart(XYDataset dataset,
+            boolean shapes) {
+        XYLineAndShapeRenderer r = new XYLineAndShapeRenderer(true, shapes);
+        r.setUseFillPaint(true);
+        r.setBaseFillPaint(Color.WHITE);
+        r.setBaseStroke(new BasicStroke(4.0f));
+        r.setAutoPopulateSeriesStroke(false);
+        r.setBaseShape(new Rectangle2D.Double(-6.0, -6.0, 12.0, 12.0));
+        r.setAutoPopulateSeriesShape(false);
+        NumberAxis xAxis = new NumberAxis("X");
+        xAxis.setRange(0.0, 30.0);
+        NumberAxis yAxis = new NumberAxis("Y");
+        yAxis.setRange(-10.0, 10.0);
+        XYPlot plot = new XYPlot(dataset, xAxis, yAxis, r);
+        plot.setIncrementalRenderingEnabled(true);
+        return new JFreeChart(plot);
+    }
+
+    /**
+     * With incremental rendering enabled, a chart drawn after items are
+     * appended should match a chart that draws all the items, whether or
+     * not the shapes are visible and whichever series the items go to.
+     */
+    @Test
+    public void testIncrementalRenderingMatchesFullDraw() {
+        boolean[] shapes = new boolean[] {true, false};
+        for (int i = 0; i < shapes.length; i++) {
+            XYSeries s1 = new XYSeries("S1");
+            XYSeries s2 = new XYSeries("S2");
+            for (int x = 0; x < 10; x++) {
+                s1.add(x, (x % 3) * 4.0 - 4.0);
+                s2.add(x, (x % 4) * 3.0 - 4.0);
+            }
+            XYSeriesCollection dataset = new XYSeriesCollection(s1);
+            dataset.addSeries(s2);
+            JFreeChart chart = createIncrementalChart(dataset, shapes[i]);
+            drawChart(chart);
+            // the series cross, so the order they are drawn in matters
+            for (int x = 10; x < 14; x++) {
+                s1.add(x, (x % 3) * 4.0 - 4.0);
+                s2.add(x, (x % 4) * 3.0 - 4.0);
+            }
+            int[] expected = drawChart(createIncrementalChart(dataset,
+                    shapes[i]));
+            assertTrue(Arrays.equals(expected, drawChart(chart)));
+
+            // the first series is drawn last, so its items can be appended
+            s1.add(14, 4.0);
+            expected = drawChart(createIncrementalChart(dataset, shapes[i]));
+            assertTrue(Arrays.equals(expected, drawChart(chart)));
+        }
+    }
+
 }
@@ -0,0 +1,189 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------
+ * ChartImageCacheTest.java
+ * ------------------------
+ * (C) Copyright 2014, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.servlet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.JFreeChart;
+import org.jfree.data.general.DefaultPieDataset;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link ChartImageCache} class.
+ */
+public class ChartImageCacheTest {
+
+    /**
+     * The least recently used images should be evicted first, based on the
+     * number of bytes held.
+     */
+    @Test
+    public void testEviction() {
+        ChartImageCache cache = new ChartImageCache(100);
+        cache.put("A", new byte[40], "image/png");
+        cache.put("B", new byte[40], "image/png");
+        assertNotNull(cache.get("A"));
+        cache.put("C", new byte[40], "image/png");
+        assertEquals(2, cache.getImageCount());
+        assertEquals(80, cache.getByteCount());
+        assertTrue(cache.containsImage("A"));
+        assertFalse(cache.containsImage("B"));
+        assertEquals(1, cache.getEvictionCount());
+
+        // replacing an image updates the byte count
+        cache.put("A", new byte[10], "image/png");
+        assertEquals(50, cache.getByteCount());
+
+        // an image larger than the limit is never held
+        cache.put("D", new byte[101], "image/png");
+        assertFalse(cache.containsImage("D"));
+        assertEquals(50, cache.getByteCount());
+
+        cache.setMaximumByteCount(45);
+        assertEquals(1, cache.getImageCount());
+        assertTrue(cache.containsImage("A"));
+        assertTrue(cache.remove("A"));
+        assertFalse(cache.remove("A"));
+        assertEquals(0, cache.getByteCount());
+    }
+
+    /**
+     * Check the hit and miss counts.
+     */
+    @Test
+    public void testStatistics() {
+        ChartImageCache cache = new ChartImageCache(100);
+        cache.put("A", new byte[] {1, 2, 3}, "image/png");
+        ChartImageCache.CachedImage image = cache.get("A");
+        assertEquals(3, image.getData().length);
+        assertEquals("image/png", image.getMimeType());
+        assertNull(cache.get("B"));
+        assertNull(cache.get("C"));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        cache.resetStatistics();
+        assertEquals(0, cache.getMissCount());
+        cache.clear();
+        assertEquals(0, cache.getImageCount());
+        assertEquals(0, cache.getByteCount());
+    }
+
+    /**
+     * Images are discarded once the time-to-live has passed.
+     *
+     * @throws InterruptedException if the test is interrupted.
+     */
+    @Test
+    public void testTimeToLive() throws InterruptedException {
+        ChartImageCache cache = new ChartImageCache(100, 20L, false);
+        cache.put("A", new byte[10], null);
+        cache.put("B", new byte[10], null);
+        Thread.sleep(50L);
+        assertNull(cache.get("A"));
+        assertEquals(1, cache.getExpiryCount());
+        assertEquals(1, cache.removeExpiredImages());
+        assertEquals(0, cache.getImageCount());
+        assertEquals(0, cache.getByteCount());
+    }
+
+    /**
+     * Evicted images are written to the temporary directory when spilling
+     * is enabled.
+     */
+    @Test
+    public void testSpillToDisk() {
+        ChartImageCache cache = new ChartImageCache(10, 0L, true);
+        String name = "jfreechart-cachetest-" + System.nanoTime() + ".png";
+        File file = new File(System.getProperty("java.io.tmpdir"), name);
+        try {
+            cache.put(name, new byte[8], "image/png");
+            assertFalse(file.exists());
+            cache.put("other", new byte[8], "image/png");
+            assertTrue(file.exists());
+            assertEquals(8, file.length());
+            assertEquals(1, cache.getSpillCount());
+            assertFalse(cache.containsImage(name));
+            assertNull(cache.get(name));
+            assertEquals(1, cache.getImageCount());
+        }
+        finally {
+            file.delete();
+        }
+    }
+
+    /**
+     * Charts saved by {@link ServletUtilities} should go to the cache when
+     * one is set.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testServletUtilities() throws IOException {
+        ChartImageCache cache = new ChartImageCache(1000000);
+        ServletUtilities.setChartImageCache(cache);
+        try {
+            JFreeChart chart = ChartFactory.createPieChart("Pie",
+                    new DefaultPieDataset(), true, false, false);
+            String name = ServletUtilities.saveChartAsPNG(chart, 200, 100,
+                    null);
+            assertTrue(name.startsWith(
+                    ServletUtilities.getTempOneTimeFilePrefix()));
+            assertTrue(name.endsWith(".png"));
+            assertFalse(new File(System.getProperty("java.io.tmpdir"),
+                    name).exists());
+            ChartImageCache.CachedImage image = cache.get(name);
+            assertEquals("image/png", image.getMimeType());
+            assertEquals((byte) 0x89, image.getData()[0]);
+        }
+        finally {
+            ServletUtilities.setChartImageCache(null);
+        }
+    }
+
+}
@@ -0,0 +1,278 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------------
+ * ChartRenderServiceTest.java
+ * ---------------------------
+ * (C) Copyright 2014, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.servlet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import javax.imageio.ImageIO;
+
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.title.TextTitle;
+import org.jfree.data.general.DefaultPieDataset;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link ChartRenderService} class.
+ */
+public class ChartRenderServiceTest {
+
+    /**
+     * A title that waits for a latch when it is drawn, so that tests can
+     * keep a render task in progress.
+     */
+    static class BlockingTitle extends TextTitle {
+
+        /** The latch. */
+        private CountDownLatch latch;
+
+        /** Counts the number of times the title is drawn. */
+        private int drawCount;
+
+        /**
+         * Creates a new title.
+         *
+         * @param latch  the latch.
+         */
+        BlockingTitle(CountDownLatch latch) {
+            super("Blocking");
+            this.latch = latch;
+        }
+
+        @Override
+        public Object draw(Graphics2D g2, Rectangle2D area, Object params) {
+            synchronized (this) {
+                this.drawCount++;
+            }
+            try {
+                this.latch.await(10, TimeUnit.SECONDS);
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return super.draw(g2, area, params);
+        }
+
+        synchronized int getDrawCount() {
+            return this.drawCount;
+        }
+
+    }
+
+    /**
+     * Creates a chart with a title that blocks until the latch is released.
+     *
+     * @param latch  the latch.
+     *
+     * @return The chart.
+     */
+    private JFreeChart createChart(CountDownLatch latch) {
+        DefaultPieDataset dataset = new DefaultPieDataset();
+        dataset.setValue("A", 1.0);
+        dataset.setValue("B", 2.0);
+        JFreeChart chart = ChartFactory.createPieChart("Pie", dataset);
+        chart.addSubtitle(new BlockingTitle(latch));
+        return chart;
+    }
+
+    /**
+     * Identical requests that are in progress at the same time should share
+     * a single rendering.
+     *
+     * @throws Exception if there is a problem.
+     */
+    @Test
+    public void testDeduplication() throws Exception {
+        ChartRenderService service = new ChartRenderService(2, 4);
+        CountDownLatch latch = new CountDownLatch(1);
+        JFreeChart chart = createChart(latch);
+        Future f1 = service.submitPNG("pie", 1L, chart, 200, 100);
+        Future f2 = service.submitPNG("pie", 1L, createChart(latch), 200,
+                100);
+        Future f3 = service.submitPNG("pie", 2L, chart, 200, 100);
+        Future f4 = service.submitPNG("pie", 1L, chart, 300, 100);
+        assertEquals(3, service.getPendingCount());
+        assertEquals(1, service.getDeduplicatedCount());
+        latch.countDown();
+
+        byte[] b1 = (byte[]) f1.get();
+        byte[] b2 = (byte[]) f2.get();
+        assertTrue(b1 != b2);
+        assertTrue(Arrays.equals(b1, b2));
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(b1));
+        assertEquals(200, image.getWidth());
+        assertEquals(100, image.getHeight());
+        assertTrue(Arrays.equals(b1, (byte[]) f3.get()));
+        image = ImageIO.read(new ByteArrayInputStream((byte[]) f4.get()));
+        assertEquals(300, image.getWidth());
+        assertEquals(3, service.getRenderCount());
+        assertEquals(0, service.getPendingCount());
+
+        // once a request is complete, the chart is rendered again
+        service.submitPNG("pie", 1L, chart, 200, 100).get();
+        assertEquals(4, service.getRenderCount());
+        BlockingTitle title = (BlockingTitle) chart.getSubtitle(1);
+        assertEquals(4, title.getDrawCount());
+        service.shutdown();
+    }
+
+    /**
+     * When the service is at its limit, new requests should be rejected.
+     *
+     * @throws Exception if there is a problem.
+     */
+    @Test
+    public void testBackpressure() throws Exception {
+        ChartRenderService service = new ChartRenderService(1, 1);
+        CountDownLatch latch = new CountDownLatch(1);
+        JFreeChart chart = createChart(latch);
+        Future f1 = service.submitPNG("c1", 1L, chart, 100, 100);
+        Future f2 = service.submitPNG("c2", 1L, chart, 100, 100);
+        try {
+            service.submitPNG("c3", 1L, chart, 100, 100);
+            fail("RejectedExecutionException expected.");
+        }
+        catch (RejectedExecutionException e) {
+            // expected
+        }
+        assertEquals(1, service.getRejectedCount());
+
+        // an identical request is not rejected
+        Future f3 = service.submitPNG("c2", 1L, chart, 100, 100);
+
+        // a request that waits gets in once a task completes
+        service.setSubmitTimeout(10000L);
+        latch.countDown();
+        Future f4 = service.submitPNG("c3", 1L, chart, 100, 100);
+        assertTrue(((byte[]) f1.get()).length > 0);
+        assertTrue(Arrays.equals((byte[]) f2.get(), (byte[]) f3.get()));
+        assertTrue(((byte[]) f4.get()).length > 0);
+        assertEquals(1, service.getRejectedCount());
+        service.shutdown();
+    }
+
+    /**
+     * Cancelling one request should not cancel the others that share its
+     * rendering.
+     *
+     * @throws Exception if there is a problem.
+     */
+    @Test
+    public void testCancel() throws Exception {
+        ChartRenderService service = new ChartRenderService(1, 2);
+        CountDownLatch latch = new CountDownLatch(1);
+        JFreeChart chart = createChart(latch);
+        Future f1 = service.submitPNG("c1", 1L, chart, 100, 100);
+        Future f2 = service.submitJPEG("c2", 1L, chart, 100, 100, 0.8f);
+        Future f3 = service.submitJPEG("c2", 1L, chart, 100, 100, 0.8f);
+        assertTrue(f2.cancel(false));
+        assertTrue(f2.isCancelled());
+        assertFalse(f3.isDone());
+        try {
+            f2.get();
+            fail("CancellationException expected.");
+        }
+        catch (CancellationException e) {
+            // expected
+        }
+
+        // cancelling the last request for a queued task cancels the task
+        Future f4 = service.submitPNG("c4", 1L, chart, 100, 100);
+        assertTrue(f4.cancel(true));
+        assertEquals(2, service.getPendingCount());
+        latch.countDown();
+        assertTrue(((byte[]) f1.get()).length > 0);
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(
+                (byte[]) f3.get()));
+        assertEquals(100, image.getWidth());
+        assertFalse(f3.cancel(false));
+        service.shutdown();
+        assertEquals(2, service.getRenderCount());
+    }
+
+    /**
+     * A task that is cancelled while it is rendering should hold on to its
+     * permit until the rendering finishes.
+     *
+     * @throws Exception if there is a problem.
+     */
+    @Test
+    public void testCancelRunningTask() throws Exception {
+        ChartRenderService service = new ChartRenderService(1, 0);
+        CountDownLatch latch = new CountDownLatch(1);
+        JFreeChart chart = createChart(latch);
+        BlockingTitle title = (BlockingTitle) chart.getSubtitle(1);
+        Future f1 = service.submitPNG("c1", 1L, chart, 100, 100);
+        while (title.getDrawCount() == 0) {
+            Thread.sleep(10L);
+        }
+        assertTrue(f1.cancel(false));
+        assertEquals(0, service.getPendingCount());
+        try {
+            service.submitPNG("c2", 1L, createChart(latch), 100, 100);
+            fail("RejectedExecutionException expected.");
+        }
+        catch (RejectedExecutionException e) {
+            // expected, the cancelled task is still rendering
+        }
+
+        service.setSubmitTimeout(10000L);
+        latch.countDown();
+        Future f2 = service.submitPNG("c2", 1L, chart, 100, 100);
+        assertTrue(((byte[]) f2.get()).length > 0);
+        service.shutdown();
+    }
+
+}
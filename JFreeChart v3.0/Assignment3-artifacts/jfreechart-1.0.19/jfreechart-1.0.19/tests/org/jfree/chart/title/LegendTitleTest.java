@@ -143,6 +143,9 @@ public class LegendTitleTest {
         assertFalse(t1.equals(t2));
         t2.setBounds(new Rectangle2D.Double(40.0, 30.0, 20.0, 10.0));
         assertTrue(t1.equals(t2));
+
+        // the legend items are fetched into separate containers
+        assertTrue(t1.getItemContainer() != t2.getItemContainer());
     }
 
     /**
@@ -0,0 +1,177 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------------
+ * ParallelShadowGeneratorTest.java
+ * --------------------------------
+ * (C) Copyright 2014, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.jfree.chart.TestUtilities;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link ParallelShadowGenerator} class.
+ */
+public class ParallelShadowGeneratorTest {
+
+    /**
+     * Creates an image containing some random rectangles.
+     *
+     * @param random  the random number generator.
+     * @param width  the width.
+     * @param height  the height.
+     *
+     * @return The image.
+     */
+    private static BufferedImage createImage(Random random, int width,
+            int height) {
+        BufferedImage image = new BufferedImage(width, height,
+                BufferedImage.TYPE_INT_ARGB);
+        for (int i = 0; i < 20; i++) {
+            int x = random.nextInt(width);
+            int y = random.nextInt(height);
+            int w = Math.min(random.nextInt(width / 2 + 1), width - x);
+            int h = Math.min(random.nextInt(height / 2 + 1), height - y);
+            int argb = random.nextInt();
+            for (int yy = y; yy < y + h; yy++) {
+                for (int xx = x; xx < x + w; xx++) {
+                    image.setRGB(xx, yy, argb);
+                }
+            }
+        }
+        return image;
+    }
+
+    /**
+     * Returns the pixels of an image.
+     *
+     * @param image  the image.
+     *
+     * @return The pixels.
+     */
+    private static int[] getPixels(BufferedImage image) {
+        return image.getRGB(0, 0, image.getWidth(), image.getHeight(), null,
+                0, image.getWidth());
+    }
+
+    /**
+     * The shadows should be identical to those from the
+     * {@link DefaultShadowGenerator}, with and without an executor.
+     */
+    @Test
+    public void testSameAsDefault() {
+        Random random = new Random(19L);
+        int[] sizes = new int[] {1, 2, 5, 8};
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            for (int i = 0; i < sizes.length; i++) {
+                DefaultShadowGenerator g1 = new DefaultShadowGenerator(
+                        sizes[i], Color.BLUE, 0.7f, 4, Math.PI / 3);
+                ParallelShadowGenerator g2 = new ParallelShadowGenerator(
+                        sizes[i], Color.BLUE, 0.7f, 4, Math.PI / 3);
+                ParallelShadowGenerator g3 = new ParallelShadowGenerator(
+                        sizes[i], Color.BLUE, 0.7f, 4, Math.PI / 3);
+                g3.setExecutor(executor);
+                g3.setBandCount(4);
+                // the second image is large enough to be split into bands
+                BufferedImage[] images = new BufferedImage[] {
+                    createImage(random, 37, 23),
+                    createImage(random, 401, 299),
+                    createImage(random, 11, 60)};
+                for (int j = 0; j < images.length; j++) {
+                    int[] expected = getPixels(g1.createDropShadow(
+                            images[j]));
+                    assertArrayEquals(expected, getPixels(
+                            g2.createDropShadow(images[j])));
+                    assertArrayEquals(expected, getPixels(
+                            g3.createDropShadow(images[j])));
+                }
+                assertEquals(g1.calculateOffsetX(), g2.calculateOffsetX());
+                assertEquals(g1.calculateOffsetY(), g2.calculateOffsetY());
+            }
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * The shadow size must be greater than zero.
+     */
+    @Test
+    public void testConstructor() {
+        try {
+            new ParallelShadowGenerator(0, Color.BLACK, 0.5f, 5, 0.0);
+            fail("IllegalArgumentException expected.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.  The
+     * executor is not serialized.
+     */
+    @Test
+    public void testSerialization() {
+        ParallelShadowGenerator g1 = new ParallelShadowGenerator(3,
+                Color.RED, 0.4f, 2, 1.0);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        g1.setExecutor(executor);
+        ParallelShadowGenerator g2 = (ParallelShadowGenerator)
+                TestUtilities.serialised(g1);
+        executor.shutdown();
+        assertEquals(g1, g2);
+        assertNull(g2.getExecutor());
+        BufferedImage image = createImage(new Random(1L), 20, 20);
+        assertArrayEquals(getPixels(g1.createDropShadow(image)),
+                getPixels(g2.createDropShadow(image)));
+    }
+
+}
@@ -0,0 +1,156 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------
+ * TaskUtilsTest.java
+ * ------------------
+ * (C) Copyright 2014, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Test;
+
+/**
+ * Tests for the {@link TaskUtils} class.
+ */
+public class TaskUtilsTest {
+
+    /**
+     * A task that records the thread it ran on, and optionally fails.
+     */
+    static class RecordingTask implements Callable {
+
+        /** The exception to throw (possibly <code>null</code>). */
+        Exception failure;
+
+        /** The thread the task ran on. */
+        volatile Thread thread;
+
+        @Override
+        public Object call() throws Exception {
+            this.thread = Thread.currentThread();
+            if (this.failure != null) {
+                throw this.failure;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * All the tasks run, with the first (and any rejected tasks) on the
+     * calling thread.
+     */
+    @Test
+    public void testRunAll() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        List tasks = new ArrayList();
+        for (int i = 0; i < 4; i++) {
+            tasks.add(new RecordingTask());
+        }
+        try {
+            TaskUtils.runAll(executor, tasks);
+        }
+        finally {
+            executor.shutdown();
+        }
+        assertTrue(((RecordingTask) tasks.get(0)).thread
+                == Thread.currentThread());
+        for (int i = 1; i < 4; i++) {
+            Thread thread = ((RecordingTask) tasks.get(i)).thread;
+            assertTrue(thread != null && thread != Thread.currentThread());
+        }
+
+        // the executor has been shut down, so it rejects every task
+        for (int i = 0; i < 4; i++) {
+            ((RecordingTask) tasks.get(i)).thread = null;
+        }
+        TaskUtils.runAll(executor, tasks);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(((RecordingTask) tasks.get(i)).thread
+                    == Thread.currentThread());
+        }
+    }
+
+    /**
+     * A failure is rethrown once all the tasks have finished, and checked
+     * exceptions are wrapped.
+     */
+    @Test
+    public void testFailure() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List tasks = new ArrayList();
+            for (int i = 0; i < 3; i++) {
+                tasks.add(new RecordingTask());
+            }
+            IllegalStateException e1 = new IllegalStateException();
+            ((RecordingTask) tasks.get(1)).failure = e1;
+            try {
+                TaskUtils.runAll(executor, tasks);
+                fail("Should have thrown an exception.");
+            }
+            catch (IllegalStateException e) {
+                assertTrue(e == e1);
+            }
+            assertTrue(((RecordingTask) tasks.get(2)).thread != null);
+
+            IOException e2 = new IOException("Failed.");
+            ((RecordingTask) tasks.get(1)).failure = null;
+            ((RecordingTask) tasks.get(0)).failure = e2;
+            try {
+                TaskUtils.runAll(executor, tasks);
+                fail("Should have thrown an exception.");
+            }
+            catch (RuntimeException e) {
+                assertEquals(e2, e.getCause());
+            }
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
+}
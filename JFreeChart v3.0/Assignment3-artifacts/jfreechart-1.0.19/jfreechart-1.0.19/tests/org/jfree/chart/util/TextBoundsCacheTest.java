@@ -0,0 +1,209 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------
+ * TextBoundsCacheTest.java
+ * ------------------------
+ * (C) Copyright 2014, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.JFreeChart;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.jfree.text.TextUtilities;
+import org.jfree.ui.TextAnchor;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link TextBoundsCache} class.
+ */
+public class TextBoundsCacheTest {
+
+    /**
+     * The cached bounds should be the same as the bounds from
+     * TextUtilities, and a repeated request should be a cache hit.
+     */
+    @Test
+    public void testGetTextBounds() {
+        BufferedImage image = new BufferedImage(10, 10,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        FontMetrics fm = g2.getFontMetrics(new Font("Dialog", Font.PLAIN,
+                12));
+        TextBoundsCache cache = new TextBoundsCache(10);
+        Rectangle2D b1 = cache.getTextBounds("123.45", g2, fm);
+        assertEquals(TextUtilities.getTextBounds("123.45", g2, fm), b1);
+        assertEquals(0, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+
+        // the caller can modify the result
+        b1.setRect(0.0, 0.0, 1.0, 1.0);
+        Rectangle2D b2 = cache.getTextBounds("123.45", g2, fm);
+        assertEquals(TextUtilities.getTextBounds("123.45", g2, fm), b2);
+        assertEquals(fm.stringWidth("123.45"),
+                cache.getStringWidth("123.45", g2, fm));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(1.0 / 3.0, cache.getHitRate(), 0.0000000001);
+        assertEquals(1, cache.getEntryCount());
+
+        // a different font is a different entry
+        FontMetrics fm2 = g2.getFontMetrics(new Font("Dialog", Font.BOLD,
+                12));
+        assertEquals(TextUtilities.getTextBounds("123.45", g2, fm2),
+                cache.getTextBounds("123.45", g2, fm2));
+        assertEquals(2, cache.getEntryCount());
+        cache.resetStatistics();
+        assertEquals(0, cache.getMissCount());
+        assertEquals(0.0, cache.getHitRate(), 0.0);
+        g2.dispose();
+    }
+
+    /**
+     * The least recently used entry should be discarded when the cache is
+     * full.
+     */
+    @Test
+    public void testEviction() {
+        BufferedImage image = new BufferedImage(10, 10,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        FontMetrics fm = g2.getFontMetrics();
+        TextBoundsCache cache = new TextBoundsCache(2);
+        cache.getTextBounds("A", g2, fm);
+        cache.getTextBounds("B", g2, fm);
+        cache.getTextBounds("A", g2, fm);
+        cache.getTextBounds("C", g2, fm);
+        assertEquals(2, cache.getEntryCount());
+        assertEquals(1, cache.getHitCount());
+        cache.getTextBounds("A", g2, fm);
+        assertEquals(2, cache.getHitCount());
+        cache.getTextBounds("B", g2, fm);
+        assertEquals(2, cache.getHitCount());
+        assertEquals(4, cache.getMissCount());
+        cache.clear();
+        assertEquals(0, cache.getEntryCount());
+        g2.dispose();
+    }
+
+    /**
+     * Strings drawn using the cache should be identical to the strings
+     * drawn by TextUtilities, for every text anchor and rotation anchor.
+     */
+    @Test
+    public void testDrawRotatedString() {
+        TextAnchor[] anchors = new TextAnchor[] {TextAnchor.TOP_LEFT,
+            TextAnchor.TOP_CENTER, TextAnchor.TOP_RIGHT,
+            TextAnchor.HALF_ASCENT_LEFT, TextAnchor.HALF_ASCENT_CENTER,
+            TextAnchor.CENTER_LEFT, TextAnchor.CENTER,
+            TextAnchor.CENTER_RIGHT, TextAnchor.BASELINE_CENTER,
+            TextAnchor.BOTTOM_LEFT, TextAnchor.BOTTOM_RIGHT};
+        double[] angles = new double[] {0.0, Math.PI / 4.0, -Math.PI / 2.0};
+        TextBoundsCache cache = new TextBoundsCache(10);
+        for (int i = 0; i < anchors.length; i++) {
+            for (int j = 0; j < angles.length; j++) {
+                TextAnchor rotationAnchor = anchors[anchors.length - 1 - i];
+                BufferedImage image1 = new BufferedImage(120, 120,
+                        BufferedImage.TYPE_INT_ARGB);
+                Graphics2D g1 = createGraphics(image1);
+                TextUtilities.drawRotatedString("Sample 123", g1, 60.0f,
+                        60.0f, anchors[i], angles[j], rotationAnchor);
+                g1.dispose();
+                BufferedImage image2 = new BufferedImage(120, 120,
+                        BufferedImage.TYPE_INT_ARGB);
+                Graphics2D g2 = createGraphics(image2);
+                cache.drawRotatedString("Sample 123", g2, 60.0f, 60.0f,
+                        anchors[i], angles[j], rotationAnchor);
+                g2.dispose();
+                assertArrayEquals(anchors[i] + ", " + angles[j],
+                        image1.getRGB(0, 0, 120, 120, null, 0, 120),
+                        image2.getRGB(0, 0, 120, 120, null, 0, 120));
+            }
+        }
+        assertTrue(cache.getHitCount() > 0);
+    }
+
+    /**
+     * Drawing a chart a second time should find the tick label
+     * measurements in the shared cache.
+     */
+    @Test
+    public void testSharedInstance() {
+        XYSeries series = new XYSeries("S1");
+        series.add(1.0, 17.0);
+        series.add(9.0, 324.0);
+        JFreeChart chart = ChartFactory.createXYLineChart("Title", "X", "Y",
+                new XYSeriesCollection(series));
+        TextBoundsCache cache = TextBoundsCache.getSharedInstance();
+        chart.createBufferedImage(300, 200);
+        long hits = cache.getHitCount();
+        long misses = cache.getMissCount();
+        chart.createBufferedImage(300, 200);
+        assertTrue(cache.getHitCount() > hits);
+        assertTrue(cache.getHitCount() - hits
+                > cache.getMissCount() - misses);
+    }
+
+    /**
+     * Creates a graphics target with anti-aliased text and a fixed font.
+     *
+     * @param image  the image.
+     *
+     * @return The graphics target.
+     */
+    private static Graphics2D createGraphics(BufferedImage image) {
+        Graphics2D g2 = image.createGraphics();
+        g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING,
+                RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        g2.setFont(new Font("Dialog", Font.PLAIN, 14));
+        g2.setPaint(Color.BLACK);
+        return g2;
+    }
+
+}
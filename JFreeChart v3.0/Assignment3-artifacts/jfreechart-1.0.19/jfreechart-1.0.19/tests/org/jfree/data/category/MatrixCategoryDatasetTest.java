@@ -0,0 +1,236 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------------
+ * MatrixCategoryDatasetTest.java
+ * ------------------------------
+ * (C) Copyright 2014, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.category;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.jfree.chart.TestUtilities;
+import org.jfree.data.Range;
+import org.jfree.data.UnknownKeyException;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
+import org.jfree.data.general.DatasetUtilities;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link MatrixCategoryDataset} class.
+ */
+public class MatrixCategoryDatasetTest implements DatasetChangeListener {
+
+    private static final double EPSILON = 0.0000000001;
+
+    /** The number of events received. */
+    private int eventCount;
+
+    /**
+     * Receives a change event.
+     *
+     * @param event  the event.
+     */
+    @Override
+    public void datasetChanged(DatasetChangeEvent event) {
+        this.eventCount++;
+    }
+
+    /**
+     * A random sequence of operations should leave the dataset equal to a
+     * {@link DefaultCategoryDataset} that has had the same operations
+     * applied.
+     */
+    @Test
+    public void testAgainstDefaultCategoryDataset() {
+        Random random = new Random(17L);
+        DefaultCategoryDataset d1 = new DefaultCategoryDataset();
+        MatrixCategoryDataset d2 = new MatrixCategoryDataset(1, 1);
+        for (int i = 0; i < 2000; i++) {
+            String row = "R" + random.nextInt(12);
+            String column = "C" + random.nextInt(30);
+            int op = random.nextInt(10);
+            if (op < 7) {
+                Double value = (random.nextInt(10) == 0 ? null
+                        : new Double(random.nextInt(1000)));
+                d1.setValue(value, row, column);
+                d2.setValue(value, row, column);
+            }
+            else if (op == 7 && d1.getRowIndex(row) >= 0) {
+                d1.removeRow(row);
+                d2.removeRow(row);
+            }
+            else if (op == 8 && d1.getColumnIndex(column) >= 0) {
+                d1.removeColumn(column);
+                d2.removeColumn(column);
+            }
+            else if (d1.getRowIndex(row) >= 0
+                    && d1.getColumnIndex(column) >= 0) {
+                d1.removeValue(row, column);
+                d2.removeValue(row, column);
+            }
+            assertEquals(d1, d2);
+            assertEquals(d2, d1);
+            assertEquals(d1.getRowIndex(row), d2.getRowIndex(row));
+            assertEquals(d1.getColumnIndex(column), d2.getColumnIndex(column));
+        }
+        assertEquals(DatasetUtilities.iterateRangeBounds(d1),
+                d2.getRangeBounds(false));
+    }
+
+    /**
+     * Check the bulk update methods.
+     */
+    @Test
+    public void testSetValues() {
+        MatrixCategoryDataset d = new MatrixCategoryDataset();
+        d.addChangeListener(this);
+        d.setValues(new Comparable[] {"R1", "R2"},
+                new Comparable[] {"C1", "C2", "C3"},
+                new double[][] {{1.0, 2.0, 3.0}, {4.0, Double.NaN, 6.0}});
+        assertEquals(1, this.eventCount);
+        assertEquals(2, d.getRowCount());
+        assertEquals(3, d.getColumnCount());
+        assertEquals(6.0, d.getValue("R2", "C3").doubleValue(), EPSILON);
+        assertNull(d.getValue(1, 1));
+        assertEquals(1, d.getColumnIndex("C2"));
+
+        d.setRowValues("R3", new double[] {7.0, 8.0, 9.0});
+        d.setRowValues("R1", new double[] {0.0, 0.0, -1.0});
+        assertEquals(3, this.eventCount);
+        assertEquals(2, d.getRowIndex("R3"));
+        assertEquals(8.0, d.getDoubleValue(2, 1), EPSILON);
+        assertEquals(-1.0, d.getValue("R1", "C3").doubleValue(), EPSILON);
+        assertEquals(new Range(-1.0, 9.0), d.getRangeBounds(true));
+        assertEquals(new Range(4.0, 9.0), d.getRangeBounds(
+                Arrays.asList(new String[] {"R2", "R3"}), false));
+
+        try {
+            d.setRowValues("R4", new double[2]);
+            fail("IllegalArgumentException expected.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            d.setValues(new Comparable[] {"A", "A"}, new Comparable[] {"B"},
+                    new double[][] {{1.0}, {2.0}});
+            fail("IllegalArgumentException expected.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        assertEquals(3, d.getRowCount());
+    }
+
+    /**
+     * Removing a row or column should update the indices of the keys that
+     * follow it.
+     */
+    @Test
+    public void testRemove() {
+        MatrixCategoryDataset d = new MatrixCategoryDataset();
+        for (int r = 0; r < 5; r++) {
+            for (int c = 0; c < 20; c++) {
+                d.addValue(r * 100 + c, "R" + r, "C" + c);
+            }
+        }
+        d.removeColumn("C3");
+        d.removeRow(1);
+        assertEquals(4, d.getRowCount());
+        assertEquals(19, d.getColumnCount());
+        assertEquals(-1, d.getColumnIndex("C3"));
+        assertEquals(3, d.getColumnIndex("C4"));
+        assertEquals(1, d.getRowIndex("R2"));
+        assertEquals(204.0, d.getDoubleValue(1, 3), EPSILON);
+        assertEquals(419.0, d.getValue("R4", "C19").doubleValue(), EPSILON);
+        try {
+            d.removeRow("R1");
+            fail("UnknownKeyException expected.");
+        }
+        catch (UnknownKeyException e) {
+            // expected
+        }
+        d.clear();
+        assertEquals(0, d.getRowCount());
+        assertNull(d.getRangeBounds(false));
+        d.addValue(1.0, "R", "C");
+        assertEquals(1.0, d.getDoubleValue(0, 0), EPSILON);
+    }
+
+    /**
+     * Confirm that cloning works.
+     *
+     * @throws CloneNotSupportedException if there is a cloning problem.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        MatrixCategoryDataset d1 = new MatrixCategoryDataset();
+        d1.addValue(1.0, "R1", "C1");
+        d1.addValue(null, "R2", "C1");
+        MatrixCategoryDataset d2 = (MatrixCategoryDataset) d1.clone();
+        assertTrue(d1 != d2);
+        assertEquals(d1, d2);
+        assertEquals(d1.hashCode(), d2.hashCode());
+        d2.addValue(2.0, "R3", "C2");
+        assertFalse(d1.equals(d2));
+        assertEquals(-1, d1.getRowIndex("R3"));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        MatrixCategoryDataset d1 = new MatrixCategoryDataset();
+        d1.addValue(1.0, "R1", "C1");
+        d1.addValue(null, "R2", "C2");
+        MatrixCategoryDataset d2 = (MatrixCategoryDataset)
+                TestUtilities.serialised(d1);
+        assertEquals(d1, d2);
+        d2.addValue(3.0, "R2", "C3");
+        assertEquals(2, d2.getColumnIndex("C3"));
+    }
+
+}
@@ -0,0 +1,170 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------------------
+ * CoalescingChangeDispatcherTest.java
+ * -----------------------------------
+ * (C) Copyright 2014, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.general;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link CoalescingChangeDispatcher} class, and the batch
+ * methods in {@link AbstractDataset} and {@link Series}.
+ */
+public class CoalescingChangeDispatcherTest {
+
+    /**
+     * A listener that counts the events it receives.
+     */
+    static class CountingListener implements DatasetChangeListener,
+            SeriesChangeListener {
+
+        int datasetEvents;
+
+        int seriesEvents;
+
+        @Override
+        public void datasetChanged(DatasetChangeEvent event) {
+            this.datasetEvents++;
+        }
+
+        @Override
+        public void seriesChanged(SeriesChangeEvent event) {
+            this.seriesEvents++;
+        }
+    }
+
+    /**
+     * A batch on a dataset sends a single event when the outermost batch
+     * ends, and no event if nothing changed.
+     */
+    @Test
+    public void testDatasetBatch() {
+        DefaultPieDataset dataset = new DefaultPieDataset();
+        CountingListener listener = new CountingListener();
+        dataset.addChangeListener(listener);
+        dataset.beginBatch();
+        dataset.setValue("A", 1.0);
+        dataset.beginBatch();
+        dataset.setValue("B", 2.0);
+        dataset.endBatch();
+        assertTrue(dataset.isBatchInProgress());
+        assertTrue(dataset.isBatchChangePending());
+        assertEquals(0, listener.datasetEvents);
+        dataset.endBatch();
+        assertFalse(dataset.isBatchInProgress());
+        assertEquals(1, listener.datasetEvents);
+
+        dataset.beginBatch();
+        dataset.endBatch();
+        assertEquals(1, listener.datasetEvents);
+
+        try {
+            dataset.endBatch();
+            fail("IllegalStateException expected.");
+        }
+        catch (IllegalStateException e) {
+            // expected
+        }
+    }
+
+    /**
+     * A batch on a series sends a single event to the series listeners, and
+     * so a single event from the collection.
+     */
+    @Test
+    public void testSeriesBatch() {
+        XYSeries series = new XYSeries("S");
+        XYSeriesCollection dataset = new XYSeriesCollection(series);
+        CountingListener listener = new CountingListener();
+        series.addChangeListener(listener);
+        dataset.addChangeListener(listener);
+        series.beginBatch();
+        for (int i = 0; i < 100; i++) {
+            series.add(i, i);
+        }
+        assertEquals(0, listener.seriesEvents);
+        series.endBatch();
+        assertEquals(1, listener.seriesEvents);
+        assertEquals(1, listener.datasetEvents);
+    }
+
+    /**
+     * Pending events are sent once per flush.
+     */
+    @Test
+    public void testFlush() {
+        XYSeries series = new XYSeries("S");
+        XYSeriesCollection dataset = new XYSeriesCollection(series);
+        CountingListener listener = new CountingListener();
+        dataset.addChangeListener(listener);
+        CoalescingChangeDispatcher dispatcher
+                = new CoalescingChangeDispatcher(1000);
+        dispatcher.add(dataset);
+        for (int i = 0; i < 100; i++) {
+            series.add(i, i);
+        }
+        assertEquals(0, listener.datasetEvents);
+        dispatcher.flush();
+        assertEquals(1, listener.datasetEvents);
+        dispatcher.flush();
+        assertEquals(1, listener.datasetEvents);
+
+        series.add(100, 100);
+        dispatcher.remove(dataset);
+        assertEquals(2, listener.datasetEvents);
+        assertFalse(dataset.isBatchInProgress());
+        series.add(101, 101);
+        assertEquals(3, listener.datasetEvents);
+
+        dispatcher.add(series);
+        series.add(102, 102);
+        series.add(103, 103);
+        dispatcher.clear();
+        assertEquals(4, listener.datasetEvents);
+        assertFalse(series.isBatchInProgress());
+    }
+
+}
@@ -0,0 +1,291 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------
+ * CSVSeriesReaderTest.java
+ * ------------------------
+ * (C) Copyright 2014, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.text.SimpleDateFormat;
+import java.util.Random;
+import java.util.TimeZone;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.jfree.data.time.Minute;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link CSVSeriesReader} class.
+ */
+public class CSVSeriesReaderTest {
+
+    private static final double EPSILON = 0.0000000001;
+
+    /**
+     * Checks that a number is parsed to exactly the same value as
+     * <code>Double.parseDouble()</code>.
+     *
+     * @param text  the number.
+     */
+    private void checkParseDouble(String text) {
+        char[] chars = (" " + text + " ").toCharArray();
+        double expected = Double.parseDouble(text);
+        double result = CSVSeriesReader.parseDouble(chars, 1,
+                chars.length - 1);
+        assertEquals(text, Double.doubleToLongBits(expected),
+                Double.doubleToLongBits(result));
+    }
+
+    /**
+     * Some checks for the parseDouble() method.
+     */
+    @Test
+    public void testParseDouble() {
+        String[] texts = {"0", "-0", "1", "+3", "-0.5", ".5", "5.", "0.1",
+            "1e5", "1.5E-3", "123.456e+2", "0.000001", "1234567890123456",
+            "12345678901234567890123", "0.30000000000000004", "1e-22",
+            "1e23", "1e400", "4.9e-324", "NaN", "-Infinity"};
+        for (int i = 0; i < texts.length; i++) {
+            checkParseDouble(texts[i]);
+        }
+        Random random = new Random(1L);
+        for (int i = 0; i < 10000; i++) {
+            double v = random.nextGaussian() * Math.pow(10,
+                    random.nextInt(20) - 10);
+            checkParseDouble(Double.toString(v));
+            checkParseDouble(String.valueOf(Math.round(v * 1000) / 1000.0));
+        }
+        String[] invalid = {"", "-", "1e", "abc", "1.2.3", "1e5x"};
+        for (int i = 0; i < invalid.length; i++) {
+            char[] chars = invalid[i].toCharArray();
+            try {
+                CSVSeriesReader.parseDouble(chars, 0, chars.length);
+                fail("NumberFormatException expected for '" + invalid[i]
+                        + "'.");
+            }
+            catch (NumberFormatException e) {
+                // expected
+            }
+        }
+    }
+
+    /**
+     * Some checks for reading an XY dataset.
+     *
+     * @throws IOException if there is a problem.
+     */
+    @Test
+    public void testReadXYDataset() throws IOException {
+        String csv = "\"A\", X, \"B\"\r\n"
+                + "1.5, 1, 2\r\n"
+                + "\r\n"
+                + ", 2, \"3.25\"\r\n"
+                + "4, , 5\n"
+                + "6, 3\n"
+                + "7, 4, 8";
+        CSVSeriesReader reader = new CSVSeriesReader();
+        reader.setXColumn(1);
+        XYSeriesCollection dataset = reader.readXYDataset(
+                new StringReader(csv));
+        assertEquals(2, dataset.getSeriesCount());
+        assertEquals("A", dataset.getSeriesKey(0));
+        assertEquals("B", dataset.getSeriesKey(1));
+        assertEquals(4, dataset.getItemCount(0));
+        assertEquals(1.0, dataset.getXValue(0, 0), EPSILON);
+        assertEquals(1.5, dataset.getYValue(0, 0), EPSILON);
+        assertNull(dataset.getY(0, 1));
+        assertEquals(3.25, dataset.getYValue(1, 1), EPSILON);
+        assertEquals(6.0, dataset.getYValue(0, 2), EPSILON);
+        assertNull(dataset.getY(1, 2));
+        assertEquals(4.0, dataset.getXValue(1, 3), EPSILON);
+        assertEquals(8.0, dataset.getYValue(1, 3), EPSILON);
+
+        // without a header, with a different delimiter
+        reader = new CSVSeriesReader(';', '\'');
+        reader.setFirstLineHeader(false);
+        dataset = reader.readXYDataset(new StringReader("1;2;3\n4;5;6\n"));
+        assertEquals(2, dataset.getSeriesCount());
+        assertEquals("Series 2", dataset.getSeriesKey(1));
+        assertEquals(2, dataset.getItemCount(1));
+        assertEquals(6.0, dataset.getYValue(1, 1), EPSILON);
+
+        dataset = reader.readXYDataset(new StringReader(""));
+        assertEquals(0, dataset.getSeriesCount());
+    }
+
+    /**
+     * Reading in small blocks, in parallel, should give the same result as
+     * reading in one block.
+     *
+     * @throws IOException if there is a problem.
+     */
+    @Test
+    public void testReadInBlocks() throws IOException {
+        Random random = new Random(2L);
+        StringBuffer csv = new StringBuffer("X,Y1,Y2\n");
+        for (int i = 0; i < 20000; i++) {
+            csv.append(i).append(',').append(random.nextGaussian());
+            csv.append(',').append(random.nextInt(100)).append('\n');
+        }
+        CSVSeriesReader reader = new CSVSeriesReader();
+        XYSeriesCollection expected = reader.readXYDataset(new StringReader(
+                csv.toString()));
+        assertEquals(20000, expected.getItemCount(0));
+
+        reader.setBlockSize(1000);
+        assertEquals(expected, reader.readXYDataset(new StringReader(
+                csv.toString())));
+
+        // a block size smaller than a line
+        reader.setBlockSize(5);
+        assertEquals(expected, reader.readXYDataset(new StringReader(
+                csv.toString())));
+
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            reader.setExecutor(executor);
+            reader.setChunkCount(4);
+            reader.setBlockSize(4096);
+            assertEquals(expected, reader.readXYDataset(new StringReader(
+                    csv.toString())));
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Some checks for reading a time series collection.
+     *
+     * @throws IOException if there is a problem.
+     */
+    @Test
+    public void testReadTimeSeriesCollection() throws IOException {
+        TimeZone zone = TimeZone.getTimeZone("GMT");
+        SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+        format.setTimeZone(zone);
+        String csv = "Time,Value\n"
+                + "2014-03-01 10:00:05,1.0\n"
+                + "2014-03-01 10:00:45,2.0\n"
+                + "2014-03-01 10:01:00,\n"
+                + "2014-03-01 10:02:30,4.0\n";
+        CSVSeriesReader reader = new CSVSeriesReader();
+        reader.setDateFormat(format);
+        TimeSeriesCollection dataset = reader.readTimeSeriesCollection(
+                new StringReader(csv), Minute.class, zone);
+        assertEquals(1, dataset.getSeriesCount());
+        TimeSeries series = dataset.getSeries(0);
+        assertEquals("Value", series.getKey());
+        assertEquals(3, series.getItemCount());
+        Minute m = new Minute(0, 10, 1, 3, 2014);
+        assertEquals(m, series.getTimePeriod(0));
+        assertEquals(2.0, series.getValue(0).doubleValue(), EPSILON);
+        assertNull(series.getValue(1));
+        assertEquals(4.0, series.getValue(2).doubleValue(), EPSILON);
+
+        try {
+            reader.readTimeSeriesCollection(new StringReader(
+                    "Time,Value\n2014-03-01,1.0\n"), Minute.class, zone);
+            fail("IOException expected.");
+        }
+        catch (IOException e) {
+            // expected
+        }
+
+        // a date followed by other characters is not accepted
+        try {
+            reader.readTimeSeriesCollection(new StringReader(
+                    "Time,Value\n2014-03-01 10:00:05 PM,1.0\n"), Minute.class,
+                    zone);
+            fail("IOException expected.");
+        }
+        catch (IOException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Blank and duplicate names in the header are replaced by unique keys.
+     *
+     * @throws IOException if there is a problem.
+     */
+    @Test
+    public void testSeriesKeys() throws IOException {
+        CSVSeriesReader reader = new CSVSeriesReader();
+        XYSeriesCollection dataset = reader.readXYDataset(new StringReader(
+                "X,A,,A,\"\",A (2),A\n1,2,3,4,5,6,7\n"));
+        assertEquals(6, dataset.getSeriesCount());
+        assertEquals("A", dataset.getSeriesKey(0));
+        assertEquals("Series 2", dataset.getSeriesKey(1));
+        assertEquals("A (2)", dataset.getSeriesKey(2));
+        assertEquals("Series 4", dataset.getSeriesKey(3));
+        assertEquals("A (2) (2)", dataset.getSeriesKey(4));
+        assertEquals("A (3)", dataset.getSeriesKey(5));
+        assertEquals(7.0, dataset.getYValue(5, 0), EPSILON);
+    }
+
+    /**
+     * An x-column beyond the last column is rejected.
+     *
+     * @throws IOException if there is a problem.
+     */
+    @Test
+    public void testXColumnBeyondLastColumn() throws IOException {
+        CSVSeriesReader reader = new CSVSeriesReader();
+        reader.setXColumn(2);
+        try {
+            reader.readXYDataset(new StringReader("A,B\n1,2\n"));
+            fail("IllegalArgumentException expected.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        assertEquals(0, reader.readXYDataset(new StringReader(""))
+                .getSeriesCount());
+    }
+
+}
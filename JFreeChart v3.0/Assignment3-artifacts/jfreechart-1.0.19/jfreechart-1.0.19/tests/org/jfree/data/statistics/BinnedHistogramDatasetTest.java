@@ -0,0 +1,227 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------------
+ * BinnedHistogramDatasetTest.java
+ * -------------------------------
+ * (C) Copyright 2014, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.jfree.chart.TestUtilities;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link BinnedHistogramDataset} class.
+ */
+public class BinnedHistogramDatasetTest {
+
+    private static final double EPSILON = 0.0000000001;
+
+    /**
+     * Some checks that the correct values are assigned to bins.
+     */
+    @Test
+    public void testBins() {
+        double[] values = {1.0, 2.0, 3.0, 4.0, 6.0, 12.0, 5.0, 6.3, 4.5,
+            Double.NaN};
+        BinnedHistogramDataset d = new BinnedHistogramDataset();
+        d.addSeries("Series 1", values, 5);
+        assertEquals(3.0, d.getYValue(0, 0), EPSILON);
+        assertEquals(3.0, d.getYValue(0, 1), EPSILON);
+        assertEquals(2.0, d.getYValue(0, 2), EPSILON);
+        assertEquals(0.0, d.getYValue(0, 3), EPSILON);
+        assertEquals(1.0, d.getYValue(0, 4), EPSILON);
+        assertEquals(9L, d.getTotal(0));
+        assertEquals(1.0, d.getStartXValue(0, 0), EPSILON);
+        assertEquals(12.0, d.getEndXValue(0, 4), EPSILON);
+        assertEquals(2.1, d.getXValue(0, 0), EPSILON);
+
+        // values on a boundary go in the higher bin, values outside the
+        // range go in the first or last bin
+        d.addSeries("Series 2", new double[] {-5.0, 0.0, 0.1, 0.25, 0.5, 0.75,
+            1.0, 9.0, Double.NEGATIVE_INFINITY}, 10, 0.0, 1.0);
+        assertEquals(3L, d.getCount(1, 0));
+        assertEquals(1L, d.getCount(1, 1));
+        assertEquals(1L, d.getCount(1, 2));
+        assertEquals(1L, d.getCount(1, 5));
+        assertEquals(1L, d.getCount(1, 7));
+        assertEquals(2L, d.getCount(1, 9));
+        assertEquals(9L, d.getTotal(1));
+    }
+
+    /**
+     * The counts and bin boundaries should match those in a
+     * {@link HistogramDataset}, for each histogram type.
+     */
+    @Test
+    public void testMatchesHistogramDataset() {
+        Random random = new Random(1L);
+        double[] values = new double[10000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextGaussian() * 50.0;
+        }
+        HistogramDataset expected = new HistogramDataset();
+        expected.addSeries("S1", values, 37);
+        expected.addSeries("S2", values, 20, -40.0, 60.0);
+        BinnedHistogramDataset d = new BinnedHistogramDataset();
+        d.addSeries("S1", values, 37);
+        d.addSeries("S2", values, 20, -40.0, 60.0);
+        HistogramType[] types = {HistogramType.FREQUENCY,
+            HistogramType.RELATIVE_FREQUENCY, HistogramType.SCALE_AREA_TO_1};
+        for (int t = 0; t < types.length; t++) {
+            expected.setType(types[t]);
+            d.setType(types[t]);
+            assertEquals(2, d.getSeriesCount());
+            for (int s = 0; s < 2; s++) {
+                assertEquals(expected.getSeriesKey(s), d.getSeriesKey(s));
+                assertEquals(expected.getItemCount(s), d.getItemCount(s));
+                for (int i = 0; i < d.getItemCount(s); i++) {
+                    assertEquals(expected.getYValue(s, i),
+                            d.getYValue(s, i), EPSILON);
+                    assertEquals(expected.getStartXValue(s, i),
+                            d.getStartXValue(s, i), 0.0);
+                    assertEquals(expected.getEndXValue(s, i),
+                            d.getEndXValue(s, i), 0.0);
+                    assertEquals(expected.getXValue(s, i),
+                            d.getXValue(s, i), 0.0);
+                }
+            }
+        }
+    }
+
+    /**
+     * Adding observations in several steps, or in parallel, should give
+     * the same counts as adding them all at once.
+     *
+     * @throws Exception if there is a problem.
+     */
+    @Test
+    public void testAddObservations() throws Exception {
+        Random random = new Random(2L);
+        double[] values = new double[300000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextDouble() * 100.0;
+        }
+        BinnedHistogramDataset d1 = new BinnedHistogramDataset();
+        d1.addSeries("S", values, 50, 0.0, 100.0);
+
+        BinnedHistogramDataset d2 = new BinnedHistogramDataset();
+        d2.addSeries("S", 50, 0.0, 100.0);
+        assertEquals(0L, d2.getTotal(0));
+        d2.addObservations(0, values, 0, 1000);
+        d2.addObservation(0, values[1000]);
+        d2.addObservations(0, values, 1001, values.length - 1001);
+        assertEquals(d1, d2);
+
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            BinnedHistogramDataset d3 = new BinnedHistogramDataset();
+            d3.setExecutor(executor);
+            d3.setChunkCount(4);
+            d3.addSeries("S", values, 50, 0.0, 100.0);
+            assertEquals(d1, d3);
+            assertEquals(values.length, d3.getTotal(0));
+            d3.clearObservations(0);
+            assertEquals(0L, d3.getTotal(0));
+            assertEquals(0.0, d3.getYValue(0, 10), EPSILON);
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Some checks for the equals() method.
+     */
+    @Test
+    public void testEquals() {
+        BinnedHistogramDataset d1 = new BinnedHistogramDataset();
+        BinnedHistogramDataset d2 = new BinnedHistogramDataset();
+        assertEquals(d1, d2);
+        d1.addSeries("S", new double[] {1.0, 2.0}, 2);
+        assertFalse(d1.equals(d2));
+        d2.addSeries("S", new double[] {1.0, 2.0}, 2);
+        assertEquals(d1, d2);
+        assertEquals(d1.hashCode(), d2.hashCode());
+        d1.addObservation(0, 1.5);
+        assertFalse(d1.equals(d2));
+        d2.addObservation(0, 1.5);
+        assertEquals(d1, d2);
+        d1.setType(HistogramType.RELATIVE_FREQUENCY);
+        assertFalse(d1.equals(d2));
+        d2.setType(HistogramType.RELATIVE_FREQUENCY);
+        assertEquals(d1, d2);
+    }
+
+    /**
+     * Confirm that cloning works.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        BinnedHistogramDataset d1 = new BinnedHistogramDataset();
+        d1.addSeries("S", new double[] {1.0, 2.0, 3.0}, 3);
+        BinnedHistogramDataset d2 = (BinnedHistogramDataset) d1.clone();
+        assertTrue(d1 != d2);
+        assertEquals(d1, d2);
+        d1.addObservation(0, 1.0);
+        assertFalse(d1.equals(d2));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        BinnedHistogramDataset d1 = new BinnedHistogramDataset();
+        d1.addSeries("S", new double[] {1.0, 2.0, 3.0}, 3);
+        BinnedHistogramDataset d2 = (BinnedHistogramDataset)
+                TestUtilities.serialised(d1);
+        assertEquals(d1, d2);
+        d2.addObservation(0, 2.5);
+        assertEquals(2L, d2.getCount(0, 2));
+    }
+
+}
@@ -42,9 +42,12 @@ package org.jfree.data.statistics;
 
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 import org.junit.Test;
 
 /**
@@ -162,4 +165,102 @@ public class BoxAndWhiskerCalculatorTest {
         assertEquals(1.0, theItem.getMinRegularValue().doubleValue(), EPSILON);
         assertEquals(4.0, theItem.getMaxRegularValue().doubleValue(), EPSILON);
     }
+
+    /**
+     * Checks that the statistics for an array match those for a list of
+     * the same values.
+     *
+     * @param values  the values.
+     */
+    private void checkCalculateStatistics(double[] values) {
+        List list = new ArrayList();
+        for (int i = 0; i < values.length; i++) {
+            list.add(new Double(values[i]));
+        }
+        BoxAndWhiskerItem expected
+            = BoxAndWhiskerCalculator.calculateBoxAndWhiskerStatistics(list);
+        double[] copy = (double[]) values.clone();
+        BoxAndWhiskerItem item
+            = BoxAndWhiskerCalculator.calculateStatistics(values);
+        assertTrue(Arrays.equals(copy, values));
+        assertEquals(expected.getMean().doubleValue(),
+                item.getMean().doubleValue(), EPSILON);
+        assertEquals(expected.getMedian(), item.getMedian());
+        assertEquals(expected.getQ1(), item.getQ1());
+        assertEquals(expected.getQ3(), item.getQ3());
+        assertEquals(expected.getMinRegularValue(),
+                item.getMinRegularValue());
+        assertEquals(expected.getMaxRegularValue(),
+                item.getMaxRegularValue());
+        assertEquals(expected.getMinOutlier(), item.getMinOutlier());
+        assertEquals(expected.getMaxOutlier(), item.getMaxOutlier());
+        assertEquals(expected.getOutliers(), item.getOutliers());
+
+        // reordering the values in place gives the same result
+        item = BoxAndWhiskerCalculator.calculateStatistics(copy, false);
+        assertEquals(expected.getMedian(), item.getMedian());
+        assertEquals(expected.getQ1(), item.getQ1());
+        assertEquals(expected.getQ3(), item.getQ3());
+        assertEquals(expected.getOutliers(), item.getOutliers());
+    }
+
+    /**
+     * The statistics for an array should be the same as for a list.
+     */
+    @Test
+    public void testCalculateStatistics() {
+        try {
+            BoxAndWhiskerCalculator.calculateStatistics(null);
+            fail("IllegalArgumentException expected.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        BoxAndWhiskerItem item = BoxAndWhiskerCalculator.calculateStatistics(
+                new double[] {Double.NaN, 1.1});
+        assertEquals(1.1, item.getMean().doubleValue(), EPSILON);
+        assertEquals(1.1, item.getQ1().doubleValue(), EPSILON);
+        assertEquals(1.1, item.getQ3().doubleValue(), EPSILON);
+        assertTrue(Double.isNaN(BoxAndWhiskerCalculator.calculateStatistics(
+                new double[0]).getMedian().doubleValue()));
+
+        Random random = new Random(1L);
+        for (int n = 1; n < 60; n++) {
+            double[] values = new double[n];
+            for (int i = 0; i < n; i++) {
+                values[i] = random.nextGaussian();
+            }
+            values[random.nextInt(n)] = 12.0;
+            checkCalculateStatistics(values);
+        }
+
+        // many repeated values, and a long run of sorted values
+        double[] values = new double[100001];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i < 50000 ? random.nextInt(20) : i;
+        }
+        checkCalculateStatistics(values);
+    }
+
+    /**
+     * Values that are NaN should be moved to the end of the array when it is
+     * reordered in place.
+     */
+    @Test
+    public void testCalculateStatisticsInPlace() {
+        double[] values = {5.0, Double.NaN, 3.0, 1.0, Double.NaN, 4.0, 2.0};
+        BoxAndWhiskerItem item
+            = BoxAndWhiskerCalculator.calculateStatistics(values, false);
+        assertEquals(3.0, item.getMedian().doubleValue(), EPSILON);
+        assertEquals(2.0, item.getQ1().doubleValue(), EPSILON);
+        assertEquals(4.0, item.getQ3().doubleValue(), EPSILON);
+        assertTrue(Double.isNaN(values[5]));
+        assertTrue(Double.isNaN(values[6]));
+        double[] sorted = new double[5];
+        System.arraycopy(values, 0, sorted, 0, 5);
+        Arrays.sort(sorted);
+        assertTrue(Arrays.equals(new double[] {1.0, 2.0, 3.0, 4.0, 5.0},
+                sorted));
+    }
+
 }
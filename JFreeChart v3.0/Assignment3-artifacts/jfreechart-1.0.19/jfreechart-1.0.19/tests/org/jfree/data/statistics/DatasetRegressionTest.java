@@ -0,0 +1,150 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------
+ * DatasetRegressionTest.java
+ * --------------------------
+ * (C) Copyright 2014, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.jfree.data.xy.DefaultXYDataset;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link DatasetRegression} class.
+ */
+public class DatasetRegressionTest {
+
+    /**
+     * Checks that a regression matches the result from the
+     * {@link Regression} class.
+     *
+     * @param r  the regression.
+     */
+    private void check(DatasetRegression r) {
+        double[] expected = Regression.getPolynomialRegression(
+                r.getDataset(), r.getSeries(), 2);
+        double[] result = r.getPolynomialRegression();
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], result[i],
+                    Math.abs(expected[i]) * 0.000001);
+        }
+        expected = Regression.getOLSRegression(r.getDataset(),
+                r.getSeries());
+        result = r.getOLSRegression();
+        assertEquals(expected[0], result[0], 0.000001);
+        assertEquals(expected[1], result[1], 0.000001);
+    }
+
+    /**
+     * The regression should follow a series as items are added, removed
+     * and updated.
+     */
+    @Test
+    public void testFollowsSeries() {
+        XYSeries s1 = new XYSeries("S1");
+        XYSeries s2 = new XYSeries("S2");
+        s1.setMaximumItemCount(100);
+        XYSeriesCollection dataset = new XYSeriesCollection();
+        dataset.addSeries(s1);
+        dataset.addSeries(s2);
+        Random random = new Random(1L);
+        for (int i = 0; i < 3; i++) {
+            s1.add(i, random.nextGaussian());
+        }
+        DatasetRegression r = new DatasetRegression(dataset, 0, 2);
+        check(r);
+        for (int i = 3; i < 500; i++) {
+            s1.add(i, i * 0.1 + random.nextGaussian());
+            s2.add(i, 1.0);
+            if (i % 37 == 0) {
+                check(r);
+                assertEquals(s1.getItemCount(),
+                        r.getAccumulator().getItemCount());
+            }
+        }
+        check(r);
+
+        // updating or removing an item in the middle
+        s1.updateByIndex(50, new Double(25.0));
+        check(r);
+        s1.remove(10);
+        check(r);
+        assertEquals(99L, r.getAccumulator().getItemCount());
+
+        r.dispose();
+        s1.clear();
+        assertEquals(99L, r.getAccumulator().getItemCount());
+    }
+
+    /**
+     * A change to an existing item that arrives in the same event as an
+     * appended item should be picked up, whether or not the dataset
+     * provides a modification count for the series.
+     */
+    @Test
+    public void testUpdateAndAppend() {
+        XYSeries s1 = new XYSeries("S1");
+        for (int i = 0; i < 10; i++) {
+            s1.add(i, i);
+        }
+        XYSeriesCollection dataset = new XYSeriesCollection(s1);
+        DatasetRegression r = new DatasetRegression(dataset, 0, 2);
+        s1.setNotify(false);
+        s1.updateByIndex(5, new Double(100.0));
+        s1.add(10, 10.0);
+        s1.setNotify(true);
+        check(r);
+
+        // a dataset without access to its series
+        DefaultXYDataset dataset2 = new DefaultXYDataset();
+        double[][] data = {{0.0, 1.0, 2.0, 3.0, 4.0, 5.0},
+            {0.0, 1.0, 2.0, 3.0, 4.0, 5.0}};
+        dataset2.addSeries("S1", data);
+        r = new DatasetRegression(dataset2, 0, 2);
+        dataset2.addSeries("S1", new double[][] {{0.0, 1.0, 2.0, 3.0, 4.0,
+            5.0, 6.0}, {0.0, 1.0, 20.0, 3.0, 4.0, 5.0, 6.0}});
+        check(r);
+        assertEquals(7L, r.getAccumulator().getItemCount());
+    }
+
+}
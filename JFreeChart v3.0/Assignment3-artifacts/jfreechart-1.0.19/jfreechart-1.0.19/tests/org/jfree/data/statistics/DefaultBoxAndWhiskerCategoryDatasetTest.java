@@ -289,4 +289,26 @@ public class DefaultBoxAndWhiskerCategoryDatasetTest {
         assertEquals(new Range(8.5, 9.5), data.getRangeBounds(true));
     }
 
+    /**
+     * Adding an array of values should give the same item as adding a list
+     * of the same values.
+     */
+    @Test
+    public void testAddArray() {
+        DefaultBoxAndWhiskerCategoryDataset d1
+                = new DefaultBoxAndWhiskerCategoryDataset();
+        DefaultBoxAndWhiskerCategoryDataset d2
+                = new DefaultBoxAndWhiskerCategoryDataset();
+        double[] values = {4.0, 1.0, 9.0, 3.0, 25.0, 2.0};
+        ArrayList list = new ArrayList();
+        for (int i = 0; i < values.length; i++) {
+            list.add(new Double(values[i]));
+        }
+        d1.add(list, "R1", "C1");
+        d2.add(values, "R1", "C1");
+        assertEquals(d1, d2);
+        assertEquals(2.0, d2.getQ1Value(0, 0).doubleValue(), EPSILON);
+        assertEquals(new Range(1.0, 9.0), d2.getRangeBounds(false));
+    }
+
 }
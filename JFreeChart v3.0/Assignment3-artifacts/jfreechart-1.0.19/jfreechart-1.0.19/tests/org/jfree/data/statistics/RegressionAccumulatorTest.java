@@ -0,0 +1,234 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------------
+ * RegressionAccumulatorTest.java
+ * ------------------------------
+ * (C) Copyright 2014, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Random;
+
+import org.jfree.chart.TestUtilities;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link RegressionAccumulator} class.
+ */
+public class RegressionAccumulatorTest {
+
+    /**
+     * Creates a series of random data around a curve.
+     *
+     * @param n  the number of items.
+     * @param x0  the first x-value.
+     *
+     * @return The data.
+     */
+    private XYSeriesCollection createData(int n, double x0) {
+        Random random = new Random(1L);
+        XYSeries s = new XYSeries("S");
+        for (int i = 0; i < n; i++) {
+            double x = x0 + i * 0.5 + random.nextDouble();
+            s.add(x, 10.0 + 0.4 * (x - x0) - 0.001 * (x - x0) * (x - x0)
+                    + random.nextGaussian());
+        }
+        return new XYSeriesCollection(s);
+    }
+
+    /**
+     * The results should match those from the {@link Regression} class.
+     */
+    @Test
+    public void testMatchesRegression() {
+        XYSeriesCollection dataset = createData(200, 1.0);
+        RegressionAccumulator a = new RegressionAccumulator(3);
+        for (int i = 0; i < dataset.getItemCount(0); i++) {
+            a.add(dataset.getXValue(0, i), dataset.getYValue(0, i));
+        }
+        a.add(Double.NaN, 1.0);
+        assertEquals(200L, a.getItemCount());
+
+        double[] expected = Regression.getOLSRegression(dataset, 0);
+        double[] result = a.getOLSRegression();
+        assertEquals(expected[0], result[0], 0.0000001);
+        assertEquals(expected[1], result[1], 0.0000001);
+
+        expected = Regression.getPowerRegression(dataset, 0);
+        result = a.getPowerRegression();
+        assertEquals(expected[0], result[0], 0.0000001);
+        assertEquals(expected[1], result[1], 0.0000001);
+
+        expected = Regression.getPolynomialRegression(dataset, 0, 3);
+        result = a.getPolynomialRegression();
+        assertEquals(expected.length, result.length);
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], result[i], 0.0000001);
+        }
+    }
+
+    /**
+     * Large x-values (such as millisecond times) should not spoil the
+     * polynomial fit.
+     */
+    @Test
+    public void testLargeXValues() {
+        double x0 = 1.4e12;
+        XYSeriesCollection dataset = createData(100, x0);
+        RegressionAccumulator a = new RegressionAccumulator(2);
+        for (int i = 0; i < dataset.getItemCount(0); i++) {
+            a.add(dataset.getXValue(0, i), dataset.getYValue(0, i));
+        }
+        double[] c = a.getPolynomialRegression();
+        // compare the fitted values with a fit to the same data shifted
+        RegressionAccumulator b = new RegressionAccumulator(2);
+        for (int i = 0; i < dataset.getItemCount(0); i++) {
+            b.add(dataset.getXValue(0, i) - x0, dataset.getYValue(0, i));
+        }
+        double[] d = b.getPolynomialRegression();
+        assertEquals(d[3], c[3], 0.0000001);
+        double u = 20.0;
+        double expected = d[0] + d[1] * u + d[2] * u * u;
+        double x = x0 + u;
+        assertEquals(expected, c[0] + c[1] * x + c[2] * x * x,
+                Math.abs(c[0]) * 1e-10);
+
+        double[] ols = a.getOLSRegression();
+        double[] olsShifted = b.getOLSRegression();
+        assertEquals(olsShifted[1], ols[1], 0.0000001);
+        assertEquals(olsShifted[0] + olsShifted[1] * u, ols[0] + ols[1] * x,
+                0.0001);
+    }
+
+    /**
+     * Removing items should give the same results as never adding them.
+     */
+    @Test
+    public void testRemove() {
+        XYSeriesCollection dataset = createData(50, 10.0);
+        RegressionAccumulator a = new RegressionAccumulator(2);
+        RegressionAccumulator b = new RegressionAccumulator(2);
+        for (int i = 0; i < 50; i++) {
+            a.add(dataset.getXValue(0, i), dataset.getYValue(0, i));
+            if (i >= 20) {
+                b.add(dataset.getXValue(0, i), dataset.getYValue(0, i));
+            }
+        }
+        for (int i = 0; i < 20; i++) {
+            a.remove(dataset.getXValue(0, i), dataset.getYValue(0, i));
+        }
+        assertEquals(30L, a.getItemCount());
+        double[] expected = b.getPolynomialRegression();
+        double[] result = a.getPolynomialRegression();
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], result[i], 0.000001);
+        }
+        a.clear();
+        assertEquals(0L, a.getItemCount());
+        try {
+            a.getOLSRegression();
+            fail("IllegalArgumentException expected.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    /**
+     * A polynomial can't be fitted to items that all have the same x-value.
+     */
+    @Test
+    public void testSingular() {
+        RegressionAccumulator a = new RegressionAccumulator(2);
+        a.add(1.0, 1.0);
+        a.add(1.0, 2.0);
+        a.add(1.0, 3.0);
+        assertTrue(Double.isNaN(a.getPolynomialRegression()[1]));
+    }
+
+    /**
+     * Some checks for the equals() method.
+     */
+    @Test
+    public void testEquals() {
+        RegressionAccumulator a1 = new RegressionAccumulator(2);
+        RegressionAccumulator a2 = new RegressionAccumulator(2);
+        assertEquals(a1, a2);
+        a1.add(1.0, 2.0);
+        assertFalse(a1.equals(a2));
+        a2.add(1.0, 2.0);
+        assertEquals(a1, a2);
+        assertEquals(a1.hashCode(), a2.hashCode());
+        assertFalse(a1.equals(new RegressionAccumulator(3)));
+    }
+
+    /**
+     * Confirm that cloning works.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        RegressionAccumulator a1 = new RegressionAccumulator();
+        a1.add(1.0, 2.0);
+        RegressionAccumulator a2 = (RegressionAccumulator) a1.clone();
+        assertTrue(a1 != a2);
+        assertEquals(a1, a2);
+        a1.add(2.0, 3.0);
+        assertFalse(a1.equals(a2));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        RegressionAccumulator a1 = new RegressionAccumulator(2);
+        a1.add(1.0, 2.0);
+        a1.add(2.0, 5.0);
+        RegressionAccumulator a2 = (RegressionAccumulator)
+                TestUtilities.serialised(a1);
+        assertEquals(a1, a2);
+    }
+
+}
@@ -0,0 +1,292 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------------
+ * MovingAverageDatasetTest.java
+ * -----------------------------
+ * (C) Copyright 2014, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.time;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.jfree.chart.TestUtilities;
+import org.jfree.data.xy.XYSeries;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link MovingAverageDataset} class.
+ */
+public class MovingAverageDatasetTest {
+
+    private static final double EPSILON = 0.0000000001;
+
+    /**
+     * Checks the statistics in a dataset against values calculated directly
+     * from the values that have been added.
+     *
+     * @param d  the dataset.
+     * @param values  all the values added to the source series.
+     * @param first  the index (in values) of the first item in the dataset.
+     */
+    private void check(MovingAverageDataset d, Double[] values, int first) {
+        int n = d.getWindowSize();
+        double alpha = 2.0 / (n + 1);
+        double ema = Double.NaN;
+        for (int i = 0; i < first + d.getItemCount(0); i++) {
+            if (values[i] != null) {
+                double v = values[i].doubleValue();
+                ema = Double.isNaN(ema) ? v : ema + alpha * (v - ema);
+            }
+            if (i < first) {
+                continue;
+            }
+            int item = i - first;
+            assertEquals(ema, d.getYValue(MovingAverageDataset.EMA_SERIES,
+                    item), EPSILON);
+            if (i < n - 1) {
+                assertNull(d.getY(MovingAverageDataset.MEAN_SERIES, item));
+                assertNull(d.getY(MovingAverageDataset.MIN_SERIES, item));
+                assertNull(d.getY(MovingAverageDataset.MAX_SERIES, item));
+                continue;
+            }
+            double sum = 0.0;
+            int count = 0;
+            double min = Double.NaN;
+            double max = Double.NaN;
+            for (int j = i - n + 1; j <= i; j++) {
+                if (values[j] != null) {
+                    double v = values[j].doubleValue();
+                    sum += v;
+                    count++;
+                    min = Double.isNaN(min) ? v : Math.min(min, v);
+                    max = Double.isNaN(max) ? v : Math.max(max, v);
+                }
+            }
+            assertEquals(count == 0 ? Double.NaN : sum / count,
+                    d.getYValue(MovingAverageDataset.MEAN_SERIES, item),
+                    EPSILON);
+            assertEquals(min, d.getYValue(MovingAverageDataset.MIN_SERIES,
+                    item), EPSILON);
+            assertEquals(max, d.getYValue(MovingAverageDataset.MAX_SERIES,
+                    item), EPSILON);
+        }
+    }
+
+    /**
+     * Some checks for a time series source that is appended to.
+     */
+    @Test
+    public void testTimeSeries() {
+        TimeSeries s = new TimeSeries("S");
+        Random random = new Random(1L);
+        Double[] values = new Double[500];
+        Day day = new Day(1, 1, 2014);
+        for (int i = 0; i < 10; i++) {
+            values[i] = new Double(random.nextInt(100));
+            s.add(day, values[i]);
+            day = (Day) day.next();
+        }
+        MovingAverageDataset d = new MovingAverageDataset(s, 7);
+        assertEquals(4, d.getSeriesCount());
+        assertEquals("S Mean(7)", d.getSeriesKey(0));
+        assertEquals("S Max(7)", d.getSeriesKey(3));
+        assertEquals(10, d.getItemCount(0));
+        check(d, values, 0);
+        for (int i = 10; i < values.length; i++) {
+            values[i] = (i % 13 == 0) ? null
+                    : new Double(random.nextGaussian() * 100.0);
+            s.add(day, values[i]);
+            day = (Day) day.next();
+        }
+        assertEquals(values.length, d.getItemCount(0));
+        assertEquals(s.getTimePeriod(20).getFirstMillisecond(),
+                d.getXValue(0, 20), EPSILON);
+        check(d, values, 0);
+
+        // an update is picked up
+        s.update(100, new Double(1000.0));
+        values[100] = new Double(1000.0);
+        check(d, values, 0);
+
+        d.dispose();
+        s.add(day, 1.0);
+        assertEquals(values.length, d.getItemCount(0));
+    }
+
+    /**
+     * When the source has a maximum item count, the oldest items are
+     * removed as new ones are added, but the window still includes them.
+     */
+    @Test
+    public void testMaximumItemCount() {
+        TimeSeries s = new TimeSeries("S");
+        s.setMaximumItemCount(20);
+        MovingAverageDataset d = new MovingAverageDataset(s, 5,
+                TimePeriodAnchor.MIDDLE);
+        Random random = new Random(2L);
+        Double[] values = new Double[1000];
+        Second second = new Second();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = new Double(random.nextDouble());
+            s.add(second, values[i]);
+            second = (Second) second.next();
+            int first = Math.max(i - 19, 0);
+            assertEquals(i - first + 1, d.getItemCount(0));
+            assertEquals(s.getTimePeriod(0).getMiddleMillisecond(),
+                    d.getXValue(0, 0), EPSILON);
+            if (i % 97 == 0) {
+                check(d, values, first);
+            }
+        }
+        check(d, values, values.length - 20);
+    }
+
+    /**
+     * Some checks for an {@link XYSeries} source.
+     */
+    @Test
+    public void testXYSeries() {
+        XYSeries s = new XYSeries("S");
+        MovingAverageDataset d = new MovingAverageDataset(s, 3);
+        assertEquals(0, d.getItemCount(0));
+        Double[] values = {new Double(3.0), new Double(1.0), null,
+            new Double(2.0), null, null, null, new Double(5.0)};
+        for (int i = 0; i < values.length; i++) {
+            s.add(i * 2.0, values[i]);
+        }
+        assertEquals(8, d.getItemCount(0));
+        assertEquals(6.0, d.getXValue(1, 3), EPSILON);
+        check(d, values, 0);
+        assertNull(d.getY(MovingAverageDataset.MEAN_SERIES, 6));
+        assertEquals(5.0, d.getYValue(MovingAverageDataset.MIN_SERIES, 7),
+                EPSILON);
+
+        // removing the first item doesn't change the other statistics
+        s.remove(0);
+        assertEquals(7, d.getItemCount(0));
+        check(d, values, 1);
+
+        // removing another item triggers a full recalculation
+        s.remove(2);
+        Double[] remaining = {values[1], values[2], values[4], values[5],
+            values[6], values[7]};
+        check(d, remaining, 0);
+    }
+
+    /**
+     * A change to an existing item that arrives in the same event as an
+     * appended item (at the end of a batch, or when notifications are
+     * switched back on) is picked up.
+     */
+    @Test
+    public void testUpdateAndAppend() {
+        XYSeries s = new XYSeries("S");
+        Double[] values = new Double[12];
+        for (int i = 0; i < 10; i++) {
+            values[i] = new Double(i);
+            s.add(i, i);
+        }
+        MovingAverageDataset d = new MovingAverageDataset(s, 3);
+        s.beginBatch();
+        s.updateByIndex(5, new Double(100.0));
+        s.add(10, 10.0);
+        s.endBatch();
+        values[5] = new Double(100.0);
+        values[10] = new Double(10.0);
+        check(d, values, 0);
+        assertEquals(107.0 / 3.0, d.getYValue(
+                MovingAverageDataset.MEAN_SERIES, 5), EPSILON);
+
+        s.setNotify(false);
+        s.updateByIndex(2, new Double(-50.0));
+        s.add(11, 11.0);
+        s.setNotify(true);
+        values[2] = new Double(-50.0);
+        values[11] = new Double(11.0);
+        check(d, values, 0);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check that it still follows
+     * the source.
+     */
+    @Test
+    public void testSerialization() {
+        TimeSeries s = new TimeSeries("S");
+        Day day = new Day(1, 1, 2014);
+        for (int i = 0; i < 5; i++) {
+            s.add(day, i);
+            day = (Day) day.next();
+        }
+        MovingAverageDataset d1 = new MovingAverageDataset(s, 2);
+        MovingAverageDataset d2 = (MovingAverageDataset)
+                TestUtilities.serialised(d1);
+        assertEquals(5, d2.getItemCount(0));
+        assertEquals(3.5, d2.getYValue(0, 4), EPSILON);
+        TimeSeries s2 = (TimeSeries) d2.getSource();
+        s2.add(day, 9.0);
+        assertEquals(6, d2.getItemCount(0));
+        assertEquals(6.5, d2.getYValue(0, 5), EPSILON);
+        assertEquals(9.0, d2.getYValue(3, 5), EPSILON);
+        assertEquals(5, d1.getItemCount(0));
+    }
+
+    /**
+     * Confirm that cloning works.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        TimeSeries s = new TimeSeries("S");
+        s.add(new Year(2014), 1.0);
+        MovingAverageDataset d1 = new MovingAverageDataset(s, 1);
+        MovingAverageDataset d2 = (MovingAverageDataset) d1.clone();
+        assertTrue(d1 != d2);
+        s.add(new Year(2015), 2.0);
+        assertEquals(2, d1.getItemCount(0));
+        assertEquals(2, d2.getItemCount(0));
+        d2.dispose();
+        s.add(new Year(2016), 3.0);
+        assertEquals(3, d1.getItemCount(0));
+        assertEquals(2, d2.getItemCount(0));
+    }
+
+}
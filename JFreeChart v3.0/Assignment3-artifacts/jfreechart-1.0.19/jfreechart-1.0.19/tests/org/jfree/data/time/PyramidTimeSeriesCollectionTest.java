@@ -0,0 +1,333 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------------------
+ * PyramidTimeSeriesCollectionTest.java
+ * ------------------------------------
+ * (C) Copyright 2014, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.time;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.TestUtilities;
+import org.jfree.chart.axis.DateAxis;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.entity.XYItemEntity;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.jfree.data.general.DatasetUtilities;
+import org.jfree.data.general.SeriesException;
+import org.jfree.data.xy.IntervalXYDataset;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link PyramidTimeSeriesCollection} class.
+ */
+public class PyramidTimeSeriesCollectionTest {
+
+    private static final double EPSILON = 0.0000000001;
+
+    /**
+     * Creates a collection with one series containing a value for each
+     * second over the specified number of seconds.
+     *
+     * @param seconds  the number of seconds.
+     *
+     * @return The collection.
+     */
+    private PyramidTimeSeriesCollection createCollection(int seconds) {
+        PyramidTimeSeriesCollection c = new PyramidTimeSeriesCollection();
+        c.addSeries("S1");
+        Random random = new Random(7L);
+        for (int i = 0; i < seconds; i++) {
+            double value = (i % 97 == 0 ? Double.NaN
+                    : random.nextGaussian() * 10.0 + i / 100.0);
+            c.add(0, 1000L * i, value, false);
+        }
+        return c;
+    }
+
+    /**
+     * The buckets for each level should hold the minimum, maximum and mean
+     * of the items in them.
+     */
+    @Test
+    public void testLevelDatasets() {
+        PyramidTimeSeriesCollection c = createCollection(7200);
+        assertEquals(DomainOrder.ASCENDING, c.getDomainOrder());
+        long[] durations = c.getBucketDurations();
+        for (int level = 0; level < 3; level++) {
+            IntervalXYDataset d = c.getLevelDataset(level);
+            int perBucket = (int) (durations[level] / 1000L);
+            assertEquals(DomainOrder.ASCENDING, d.getDomainOrder());
+            assertEquals("S1", d.getSeriesKey(0));
+            assertEquals(7200 / perBucket, d.getItemCount(0));
+            for (int b = 0; b < d.getItemCount(0); b++) {
+                double min = Double.POSITIVE_INFINITY;
+                double max = Double.NEGATIVE_INFINITY;
+                double sum = 0.0;
+                int count = 0;
+                for (int i = b * perBucket; i < (b + 1) * perBucket; i++) {
+                    double y = c.getYValue(0, i);
+                    if (!Double.isNaN(y)) {
+                        min = Math.min(min, y);
+                        max = Math.max(max, y);
+                        sum += y;
+                        count++;
+                    }
+                }
+                assertEquals(min, d.getStartYValue(0, b), EPSILON);
+                assertEquals(max, d.getEndYValue(0, b), EPSILON);
+                assertEquals(sum / count, d.getYValue(0, b), EPSILON);
+                assertEquals(b * durations[level], d.getStartXValue(0, b),
+                        EPSILON);
+                assertEquals((b + 1) * durations[level], d.getEndXValue(0, b),
+                        EPSILON);
+            }
+        }
+        // a bucket with no y-values
+        c.add(0, 7200000L, Double.NaN);
+        IntervalXYDataset d = c.getLevelDataset(0);
+        assertEquals(721, d.getItemCount(0));
+        assertNull(d.getY(0, 720));
+        assertNull(d.getStartY(0, 720));
+    }
+
+    /**
+     * The resolution dataset should be the coarsest level with at least one
+     * bucket per unit of length.
+     */
+    @Test
+    public void testGetResolutionDataset() {
+        PyramidTimeSeriesCollection c = createCollection(100);
+        // 1 day across 1000 pixels is 86.4 seconds per pixel
+        assertSame(c.getLevelDataset(1), c.getResolutionDataset(
+                new Range(0.0, 86400000.0), 1000.0));
+        assertSame(c.getLevelDataset(1), c.getResolutionDataset(
+                new Range(0.0, 60000000.0), 1000.0));
+        assertSame(c.getLevelDataset(0), c.getResolutionDataset(
+                new Range(0.0, 59999999.0), 1000.0));
+        // 1 minute across 1000 pixels needs the items
+        assertSame(c, c.getResolutionDataset(new Range(0.0, 60000.0),
+                1000.0));
+        assertSame(c.getLevelDataset(6), c.getResolutionDataset(
+                new Range(0.0, 1.0E13), 100.0));
+        assertSame(c, c.getResolutionDataset(new Range(0.0, 1.0E13), 0.0));
+    }
+
+    /**
+     * The range bounds found with the pyramid should be the same as the
+     * range bounds found by iterating over the items.
+     */
+    @Test
+    public void testGetRangeBounds() {
+        PyramidTimeSeriesCollection c = createCollection(20000);
+        List keys = Arrays.asList(new String[] {"S1"});
+        Random random = new Random(11L);
+        for (int i = 0; i < 200; i++) {
+            double x0 = random.nextDouble() * 2.2E7 - 1.0E6;
+            double x1 = x0 + random.nextDouble() * random.nextDouble() * 2.0E7;
+            if (i % 10 == 0) {
+                // bounds that fall on item x-values and bucket boundaries
+                x0 = Math.floor(x0 / 60000.0) * 60000.0;
+                x1 = Math.floor(x1 / 10000.0) * 10000.0;
+            }
+            Range xRange = new Range(x0, Math.max(x0, x1));
+            assertEquals(DatasetUtilities.iterateToFindRangeBounds(c, keys,
+                    xRange, false), c.getRangeBounds(keys, xRange, false));
+        }
+        assertEquals(DatasetUtilities.iterateRangeBounds(c),
+                c.getRangeBounds(false));
+        assertEquals(new Range(0.0, 1.9999E7), c.getDomainBounds(keys, true));
+        assertNull(c.getRangeBounds(keys, new Range(-5.0, -1.0), false));
+    }
+
+    /**
+     * Items must be added in time order.
+     */
+    @Test
+    public void testAddOutOfOrder() {
+        PyramidTimeSeriesCollection c = new PyramidTimeSeriesCollection();
+        c.addSeries("S1");
+        c.add(0, new Second(0, 0, 0, 1, 1, 2014), 1.0);
+        c.add(0, new Second(0, 0, 0, 1, 1, 2014), 2.0);
+        try {
+            c.add(0, new Second(59, 59, 23, 31, 12, 2013), 3.0);
+            fail("SeriesException expected.");
+        }
+        catch (SeriesException e) {
+            // expected
+        }
+        assertEquals(2, c.getItemCount(0));
+        try {
+            c.addSeries("S1");
+            fail("IllegalArgumentException expected.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    /**
+     * A series copied from a {@link TimeSeries} should have the same x and
+     * y-values as a {@link TimeSeriesCollection}.
+     */
+    @Test
+    public void testAddTimeSeries() {
+        TimeSeries s = new TimeSeries("S1");
+        s.add(new Minute(1, 2, 3, 4, 2014), 1.0);
+        s.add(new Minute(2, 2, 3, 4, 2014), null);
+        s.add(new Minute(3, 2, 3, 4, 2014), 3.0);
+        TimeSeriesCollection expected = new TimeSeriesCollection(s);
+        PyramidTimeSeriesCollection c = new PyramidTimeSeriesCollection();
+        c.addSeries(s);
+        assertEquals(3, c.getItemCount(0));
+        for (int i = 0; i < 3; i++) {
+            assertEquals(expected.getXValue(0, i), c.getXValue(0, i),
+                    EPSILON);
+            assertEquals(expected.getY(0, i), c.getY(0, i));
+        }
+        assertEquals(expected.getDomainBounds(false),
+                c.getDomainBounds(false));
+    }
+
+    /**
+     * When the plot draws the dataset zoomed out, the renderer should be
+     * given a level dataset.
+     */
+    @Test
+    public void testDrawZoomedOut() {
+        PyramidTimeSeriesCollection c = createCollection(21600);
+        XYLineAndShapeRenderer renderer = new XYLineAndShapeRenderer(true,
+                false);
+        XYPlot plot = new XYPlot(c, new DateAxis("X"), new NumberAxis("Y"),
+                renderer);
+        JFreeChart chart = new JFreeChart(plot);
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        BufferedImage image = new BufferedImage(400, 200,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 400, 200), info);
+        g2.dispose();
+        Rectangle2D dataArea = info.getPlotInfo().getDataArea();
+        IntervalXYDataset expected = (IntervalXYDataset)
+                c.getResolutionDataset(plot.getDomainAxis().getRange(),
+                dataArea.getWidth());
+        assertTrue(expected != c);
+        EntityCollection entities = info.getEntityCollection();
+        int count = 0;
+        for (int i = 0; i < entities.getEntityCount(); i++) {
+            if (entities.getEntity(i) instanceof XYItemEntity) {
+                XYItemEntity entity = (XYItemEntity) entities.getEntity(i);
+                assertSame(expected, entity.getDataset());
+                count++;
+            }
+        }
+        assertTrue(count > 0);
+        assertTrue(count <= expected.getItemCount(0));
+    }
+
+    /**
+     * Confirm that the equals method can distinguish all the required
+     * fields.
+     */
+    @Test
+    public void testEquals() {
+        PyramidTimeSeriesCollection c1 = new PyramidTimeSeriesCollection();
+        PyramidTimeSeriesCollection c2 = new PyramidTimeSeriesCollection();
+        assertEquals(c1, c2);
+        c1.addSeries("S1");
+        assertFalse(c1.equals(c2));
+        c2.addSeries("S1");
+        assertEquals(c1, c2);
+        c1.add(0, 1000L, 1.0);
+        assertFalse(c1.equals(c2));
+        c2.add(0, 1000L, 1.0);
+        assertEquals(c1, c2);
+        assertEquals(c1.hashCode(), c2.hashCode());
+        assertFalse(c1.equals(new PyramidTimeSeriesCollection(
+                new long[] {1000L})));
+    }
+
+    /**
+     * Confirm that cloning works.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        PyramidTimeSeriesCollection c1 = createCollection(100);
+        PyramidTimeSeriesCollection c2
+                = (PyramidTimeSeriesCollection) c1.clone();
+        assertTrue(c1 != c2);
+        assertEquals(c1, c2);
+        c2.add(0, 100000L, 5.0);
+        assertFalse(c1.equals(c2));
+        assertEquals(10, c1.getLevelDataset(0).getItemCount(0));
+        assertEquals(11, c2.getLevelDataset(0).getItemCount(0));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        PyramidTimeSeriesCollection c1 = createCollection(100);
+        PyramidTimeSeriesCollection c2 = (PyramidTimeSeriesCollection)
+                TestUtilities.serialised(c1);
+        assertEquals(c1, c2);
+        assertEquals(c1.getLevelDataset(0).getYValue(0, 3),
+                c2.getLevelDataset(0).getYValue(0, 3), EPSILON);
+    }
+
+}
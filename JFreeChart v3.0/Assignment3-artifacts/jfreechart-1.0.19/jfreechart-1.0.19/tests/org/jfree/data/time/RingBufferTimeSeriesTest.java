@@ -0,0 +1,270 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------------
+ * RingBufferTimeSeriesTest.java
+ * -----------------------------
+ * (C) Copyright 2014, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.time;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.List;
+import java.util.Random;
+import java.util.TimeZone;
+
+import org.jfree.chart.TestUtilities;
+import org.jfree.data.Range;
+import org.jfree.data.general.SeriesException;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link RingBufferTimeSeries} class.
+ */
+public class RingBufferTimeSeriesTest {
+
+    private static final double EPSILON = 0.0000000001;
+
+    /**
+     * The series should compare as equal to a regular {@link TimeSeries}
+     * with the same items.
+     */
+    @Test
+    public void testEqualsTimeSeries() {
+        TimeSeries s1 = new TimeSeries("S");
+        RingBufferTimeSeries s2 = new RingBufferTimeSeries("S", 10);
+        s1.add(new Day(3, 1, 2014), 3.0);
+        s1.add(new Day(1, 1, 2014), 1.0);
+        s1.add(new Day(2, 1, 2014), null);
+        s2.add(new Day(3, 1, 2014), 3.0);
+        s2.add(new Day(1, 1, 2014), 1.0);
+        s2.add(new Day(2, 1, 2014), null);
+        assertTrue(s1.equals(s2));
+        assertTrue(s2.equals(s1));
+        assertEquals(1, s2.getIndex(new Day(2, 1, 2014)));
+        assertNull(s2.getValue(1));
+        assertEquals(-4, s2.getIndex(new Day(4, 1, 2014)));
+    }
+
+    /**
+     * When the series is full, the oldest items are discarded and the min/max
+     * values are kept up to date.
+     */
+    @Test
+    public void testCapacity() {
+        RingBufferTimeSeries s = new RingBufferTimeSeries("S", 3);
+        s.add(new Millisecond(0, 0, 0, 0, 1, 1, 2014), 5.0);
+        s.add(new Millisecond(1, 0, 0, 0, 1, 1, 2014), 1.0);
+        s.add(new Millisecond(2, 0, 0, 0, 1, 1, 2014), 4.0);
+        assertEquals(1.0, s.getMinY(), EPSILON);
+        assertEquals(5.0, s.getMaxY(), EPSILON);
+        s.add(new Millisecond(3, 0, 0, 0, 1, 1, 2014), 3.0);
+        assertEquals(3, s.getItemCount());
+        assertEquals(1.0, s.getMinY(), EPSILON);
+        assertEquals(4.0, s.getMaxY(), EPSILON);
+        s.add(new Millisecond(4, 0, 0, 0, 1, 1, 2014), 2.0);
+        assertEquals(2.0, s.getMinY(), EPSILON);
+        assertEquals(4.0, s.getMaxY(), EPSILON);
+        assertEquals(new Millisecond(2, 0, 0, 0, 1, 1, 2014),
+                s.getTimePeriod(0));
+
+        // an item older than all the others is discarded immediately
+        s.add(new Millisecond(1, 0, 0, 0, 1, 1, 2014), 99.0);
+        assertEquals(3, s.getItemCount());
+        assertEquals(4.0, s.getMaxY(), EPSILON);
+    }
+
+    /**
+     * The incrementally maintained min/max values should always match those
+     * calculated by a regular {@link TimeSeries}.
+     */
+    @Test
+    public void testMinMaxAgainstTimeSeries() {
+        Random random = new Random(42L);
+        TimeSeries s1 = new TimeSeries("S");
+        s1.setMaximumItemCount(50);
+        RingBufferTimeSeries s2 = new RingBufferTimeSeries("S", 50);
+        s2.setMaximumItemCount(50);
+        RegularTimePeriod t = new Second(0, 0, 0, 1, 1, 2014);
+        for (int i = 0; i < 1000; i++) {
+            double v = random.nextInt(100);
+            s1.add(t, v);
+            s2.add(t, v);
+            t = t.next();
+            assertEquals(s1.getMinY(), s2.getMinY(), EPSILON);
+            assertEquals(s1.getMaxY(), s2.getMaxY(), EPSILON);
+        }
+        assertEquals(s1, s2);
+        s1.update(10, new Double(500.0));
+        s2.update(10, new Double(500.0));
+        assertEquals(500.0, s2.getMaxY(), EPSILON);
+        s1.delete(5, 20);
+        s2.delete(5, 20);
+        assertEquals(s1, s2);
+        assertEquals(s1.getMaxY(), s2.getMaxY(), EPSILON);
+    }
+
+    /**
+     * The range of y-values within a range of x-values should match the
+     * range calculated by a regular {@link TimeSeries}, including when the
+     * series is used for the range bounds of the visible domain.
+     */
+    @Test
+    public void testFindValueRange() {
+        TimeZone zone = TimeZone.getTimeZone("GMT");
+        TimeSeries s1 = new TimeSeries("S");
+        RingBufferTimeSeries s2 = new RingBufferTimeSeries("S", 10);
+        Range xRange = new Range(0.0, 1.0);
+        assertNull(s2.findValueRange(xRange, TimePeriodAnchor.MIDDLE, zone));
+        for (int i = 0; i < 15; i++) {
+            Year year = new Year(2000 + i);
+            s1.add(year, (i % 4) * 10.0);
+            s2.add(year, (i % 4) * 10.0);
+        }
+        s1.delete(0, 4);
+        Calendar calendar = Calendar.getInstance(zone);
+        xRange = new Range(new Year(2007).getFirstMillisecond(calendar),
+                new Year(2009).getLastMillisecond(calendar));
+        Range expected = s1.findValueRange(xRange, TimePeriodAnchor.MIDDLE,
+                zone);
+        assertEquals(new Range(0.0, 30.0), expected);
+        assertEquals(expected, s2.findValueRange(xRange,
+                TimePeriodAnchor.MIDDLE, zone));
+
+        TimeSeriesCollection dataset = new TimeSeriesCollection(s2, zone);
+        List keys = Arrays.asList(new Comparable[] {"S"});
+        xRange = new Range(new Year(2012).getFirstMillisecond(calendar),
+                new Year(2013).getLastMillisecond(calendar));
+        assertEquals(new Range(0.0, 10.0),
+                dataset.getRangeBounds(keys, xRange, true));
+    }
+
+    /**
+     * Items older than the maximum item age are removed.
+     */
+    @Test
+    public void testMaximumItemAge() {
+        RingBufferTimeSeries s = new RingBufferTimeSeries("S", 100);
+        s.setMaximumItemAge(2);
+        s.add(new Year(2000), 10.0);
+        s.add(new Year(2001), 1.0);
+        s.add(new Year(2002), 2.0);
+        s.add(new Year(2003), 3.0);
+        assertEquals(3, s.getItemCount());
+        assertEquals(new Year(2001), s.getTimePeriod(0));
+        assertEquals(3.0, s.getMaxY(), EPSILON);
+        s.setMaximumItemCount(1);
+        assertEquals(1, s.getItemCount());
+        assertEquals(3.0, s.getMinY(), EPSILON);
+    }
+
+    /**
+     * Duplicate time periods are rejected by add(), but accepted by
+     * addOrUpdate().
+     */
+    @Test
+    public void testAddOrUpdate() {
+        RingBufferTimeSeries s = new RingBufferTimeSeries("S", 10);
+        s.add(new Year(2000), 1.0);
+        try {
+            s.add(new Year(2000), 2.0);
+            fail("SeriesException expected.");
+        }
+        catch (SeriesException e) {
+            // expected
+        }
+        TimeSeriesDataItem old = s.addOrUpdate(new Year(2000), 2.0);
+        assertEquals(new TimeSeriesDataItem(new Year(2000), 1.0), old);
+        assertEquals(2.0, s.getMinY(), EPSILON);
+        assertNull(s.addOrUpdate(new Year(1999), 0.5));
+        assertEquals(0.5, s.getMinY(), EPSILON);
+        assertEquals(new Year(1999), s.getTimePeriod(0));
+        try {
+            s.add(new Month(1, 2000), 2.0);
+            fail("SeriesException expected.");
+        }
+        catch (SeriesException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Confirm that cloning and copying produce independent series.
+     *
+     * @throws CloneNotSupportedException if there is a cloning problem.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        RingBufferTimeSeries s1 = new RingBufferTimeSeries("S", 5);
+        s1.add(new Year(2000), 1.0);
+        s1.add(new Year(2001), 2.0);
+        s1.add(new Year(2002), 3.0);
+        RingBufferTimeSeries s2 = (RingBufferTimeSeries) s1.clone();
+        assertTrue(s1 != s2);
+        assertEquals(s1, s2);
+        s2.add(new Year(2003), 4.0);
+        assertFalse(s1.equals(s2));
+        assertEquals(3.0, s1.getMaxY(), EPSILON);
+
+        TimeSeries s3 = s1.createCopy(new Year(2001), new Year(2005));
+        assertEquals(2, s3.getItemCount());
+        assertEquals(2.0, s3.getMinY(), EPSILON);
+        TimeSeries s4 = s1.createCopy(new Year(2010), new Year(2011));
+        assertEquals(0, s4.getItemCount());
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        RingBufferTimeSeries s1 = new RingBufferTimeSeries("S", 5);
+        s1.add(new Year(2000), 1.0);
+        s1.add(new Year(2001), null);
+        RingBufferTimeSeries s2 = (RingBufferTimeSeries)
+                TestUtilities.serialised(s1);
+        assertEquals(s1, s2);
+        s2.add(new Year(2002), 2.0);
+        assertEquals(2.0, s2.getMaxY(), EPSILON);
+    }
+
+}
@@ -1203,4 +1203,48 @@ public class TimeSeriesTest implements SeriesChangeListener {
         assertTrue(ts.findValueRange(range, TimePeriodAnchor.MIDDLE, tzone).isNaNRange());
         assertTrue(ts.findValueRange(range, TimePeriodAnchor.END, tzone).isNaNRange());
     }
+
+    /**
+     * When all the items are in range, the cached bounds are used and the
+     * result should match a scan of the items, including for a series that
+     * holds only null and NaN values.
+     */
+    @Test
+    public void testFindValueRangeWithoutValues() {
+        TimeZone tzone = TimeZone.getTimeZone("Europe/London");
+        Calendar calendar = new GregorianCalendar(tzone, Locale.UK);
+        calendar.clear();
+        calendar.set(2014, Calendar.JANUARY, 1, 0, 0);
+        long start = calendar.getTimeInMillis();
+        calendar.clear();
+        calendar.set(2014, Calendar.DECEMBER, 31, 0, 0);
+        long end = calendar.getTimeInMillis();
+        Range all = new Range(start, end);
+        Range part = new Range(start, start + 3L * 24 * 60 * 60 * 1000);
+
+        TimeSeries ts = new TimeSeries("Time Series");
+        ts.add(new Day(2, 1, 2014), null);
+        ts.add(new Day(3, 1, 2014), Double.NaN);
+        ts.add(new Day(10, 1, 2014), null);
+        assertTrue(ts.findValueRange(all, TimePeriodAnchor.MIDDLE,
+                tzone).isNaNRange());
+        assertTrue(ts.findValueRange(part, TimePeriodAnchor.MIDDLE,
+                tzone).isNaNRange());
+
+        ts.clear();
+        ts.add(new Day(2, 1, 2014), Double.NaN);
+        ts.add(new Day(10, 1, 2014), Double.NaN);
+        assertTrue(ts.findValueRange(all, TimePeriodAnchor.MIDDLE,
+                tzone).isNaNRange());
+        assertTrue(ts.findValueRange(part, TimePeriodAnchor.MIDDLE,
+                tzone).isNaNRange());
+
+        // a value makes the two paths return the same real range
+        ts.add(new Day(3, 1, 2014), 4.0);
+        ts.add(new Day(11, 1, 2014), 7.0);
+        assertEquals(new Range(4.0, 7.0), ts.findValueRange(all,
+                TimePeriodAnchor.MIDDLE, tzone));
+        assertEquals(new Range(4.0, 4.0), ts.findValueRange(part,
+                TimePeriodAnchor.MIDDLE, tzone));
+    }
 }
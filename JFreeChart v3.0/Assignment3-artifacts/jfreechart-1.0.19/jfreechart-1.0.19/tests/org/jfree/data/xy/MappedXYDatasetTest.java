@@ -0,0 +1,312 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------
+ * MappedXYDatasetTest.java
+ * ------------------------
+ * (C) Copyright 2014, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.xy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import org.jfree.chart.TestUtilities;
+import org.jfree.chart.renderer.RendererUtilities;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.jfree.data.general.DatasetUtilities;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link MappedXYDataset} and {@link MappedXYDatasetWriter}
+ * classes.
+ */
+public class MappedXYDatasetTest {
+
+    private static final double EPSILON = 0.0000000001;
+
+    /**
+     * Creates a temporary file that is deleted when the tests finish.
+     *
+     * @return The file.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private File createTempFile() throws IOException {
+        File file = File.createTempFile("MappedXYDatasetTest", ".dat");
+        file.deleteOnExit();
+        return file;
+    }
+
+    /**
+     * Creates a sample dataset.
+     *
+     * @return A dataset.
+     */
+    private XYSeriesCollection createSampleDataset() {
+        XYSeries s1 = new XYSeries("S1");
+        for (int i = 0; i < 1000; i++) {
+            s1.add(i * 0.5, Math.sin(i / 10.0) * 100.0);
+        }
+        s1.add(500.0, null);
+        XYSeries s2 = new XYSeries("S2");
+        s2.add(10.0, 1.0);
+        s2.add(10.0, 7.0);
+        s2.add(20.0, -3.0);
+        XYSeriesCollection result = new XYSeriesCollection(s1);
+        result.addSeries(s2);
+        result.addSeries(new XYSeries("S3"));
+        return result;
+    }
+
+    /**
+     * A dataset written to a file and read back should contain the same
+     * values and bounds.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testWriteAndRead() throws IOException {
+        XYSeriesCollection source = createSampleDataset();
+        source.setIntervalWidth(0.5);
+        File file = createTempFile();
+        MappedXYDatasetWriter.write(source, file);
+        MappedXYDataset d = new MappedXYDataset(file);
+        assertEquals(DomainOrder.ASCENDING, d.getDomainOrder());
+        assertEquals(3, d.getSeriesCount());
+        assertEquals("S2", d.getSeriesKey(1));
+        assertEquals(2, d.indexOf("S3"));
+        assertEquals(-1, d.indexOf("S4"));
+        for (int s = 0; s < source.getSeriesCount(); s++) {
+            assertEquals(source.getItemCount(s), d.getItemCount(s));
+            for (int i = 0; i < source.getItemCount(s); i++) {
+                assertEquals(source.getXValue(s, i), d.getXValue(s, i),
+                        EPSILON);
+                assertEquals(source.getYValue(s, i), d.getYValue(s, i),
+                        EPSILON);
+                assertEquals(source.getStartXValue(s, i),
+                        d.getStartXValue(s, i), EPSILON);
+                assertEquals(source.getEndXValue(s, i),
+                        d.getEndXValue(s, i), EPSILON);
+                assertEquals(source.getEndYValue(s, i),
+                        d.getEndYValue(s, i), EPSILON);
+            }
+        }
+        assertTrue(Double.isNaN(d.getYValue(0, 1000)));
+        assertEquals(DatasetUtilities.iterateDomainBounds(source, true),
+                d.getDomainBounds(true));
+        assertEquals(DatasetUtilities.iterateDomainBounds(source, false),
+                d.getDomainBounds(false));
+        assertEquals(DatasetUtilities.iterateRangeBounds(source, false),
+                d.getRangeBounds(false));
+        assertEquals(500.0, d.getDomainUpperBound(false), EPSILON);
+
+        List keys = Arrays.asList(new String[] {"S1", "S2", "S3"});
+        Range xRange = new Range(9.0, 20.0);
+        assertEquals(DatasetUtilities.iterateToFindRangeBounds(source, keys,
+                xRange, true), d.getRangeBounds(keys, xRange, true));
+        xRange = new Range(-5.0, 15.0);
+        assertEquals(DatasetUtilities.iterateToFindRangeBounds(source, keys,
+                xRange, false), d.getRangeBounds(keys, xRange, false));
+        assertEquals(new Range(-3.0, 7.0), d.getRangeBounds(
+                Arrays.asList(new String[] {"S2"}), new Range(0.0, 30.0),
+                false));
+        assertNull(d.getRangeBounds(Arrays.asList(new String[] {"S3"}),
+                xRange, false));
+        assertEquals(new Range(0.0, 500.0), d.getDomainBounds(
+                Arrays.asList(new String[] {"S1", "S3"}), false));
+
+        try {
+            d.getXValue(1, 3);
+            fail("IndexOutOfBoundsException expected.");
+        }
+        catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+    }
+
+    /**
+     * A dataset whose series are all empty can be written and read back
+     * (the header size for a single series with a one character key is not
+     * a multiple of 8).
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testEmptySeries() throws IOException {
+        File file = createTempFile();
+        XYSeriesCollection source = new XYSeriesCollection(
+                new XYSeries("S"));
+        MappedXYDatasetWriter.write(source, file);
+        MappedXYDataset d = new MappedXYDataset(file);
+        assertEquals(1, d.getSeriesCount());
+        assertEquals("S", d.getSeriesKey(0));
+        assertEquals(0, d.getItemCount(0));
+        assertNull(d.getDomainBounds(false));
+
+        DefaultXYDataset source2 = new DefaultXYDataset();
+        source2.addSeries("S", new double[][] {{}, {}});
+        MappedXYDatasetWriter.write(source2, file);
+        d = new MappedXYDataset(file);
+        assertEquals(0, d.getItemCount(0));
+    }
+
+    /**
+     * Without interval columns, the start and end values are the x and
+     * y-values.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testNoIntervals() throws IOException {
+        DefaultXYDataset source = new DefaultXYDataset();
+        source.addSeries("A", new double[][] {{1.0, 2.0, 4.0},
+                {3.0, 2.0, 1.0}});
+        File file = createTempFile();
+        MappedXYDatasetWriter.write(source, file);
+        MappedXYDataset d = new MappedXYDataset(file);
+        assertEquals(4.0, d.getEndXValue(0, 2), EPSILON);
+        assertEquals(2.0, d.getStartYValue(0, 1), EPSILON);
+        assertEquals(new Range(1.0, 3.0), d.getRangeBounds(true));
+        assertEquals(new Range(1.0, 4.0), d.getDomainBounds(true));
+    }
+
+    /**
+     * The live items found with a binary search should be the same as for
+     * the source dataset.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testFindLiveItems() throws IOException {
+        XYSeriesCollection source = createSampleDataset();
+        File file = createTempFile();
+        MappedXYDatasetWriter.write(source, file);
+        MappedXYDataset d = new MappedXYDataset(file);
+        double[][] ranges = {{-10.0, 5.0}, {100.0, 200.0}, {499.0, 600.0},
+                {10.0, 10.5}, {600.0, 700.0}};
+        for (int s = 0; s < 2; s++) {
+            for (int r = 0; r < ranges.length; r++) {
+                int[] expected = RendererUtilities.findLiveItems(source, s,
+                        ranges[r][0], ranges[r][1]);
+                int[] actual = RendererUtilities.findLiveItems(d, s,
+                        ranges[r][0], ranges[r][1]);
+                assertTrue(Arrays.equals(expected, actual));
+            }
+        }
+    }
+
+    /**
+     * A dataset with x-values that are not in ascending order cannot be
+     * written.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testUnordered() throws IOException {
+        XYSeries series = new XYSeries("S1", false);
+        series.add(2.0, 1.0);
+        series.add(1.0, 1.0);
+        File file = createTempFile();
+        try {
+            MappedXYDatasetWriter.write(new XYSeriesCollection(series), file);
+            fail("IllegalArgumentException expected.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        assertFalse(file.exists());
+    }
+
+    /**
+     * A file in another format should be rejected.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testInvalidFile() throws IOException {
+        File file = createTempFile();
+        try {
+            new MappedXYDataset(file);
+            fail("IOException expected.");
+        }
+        catch (IOException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Check the equals() method.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testEquals() throws IOException {
+        File file1 = createTempFile();
+        MappedXYDatasetWriter.write(createSampleDataset(), file1);
+        File file2 = createTempFile();
+        MappedXYDatasetWriter.write(createSampleDataset(), file2);
+        MappedXYDataset d1 = new MappedXYDataset(file1);
+        MappedXYDataset d2 = new MappedXYDataset(file1);
+        assertEquals(d1, d2);
+        assertEquals(d1.hashCode(), d2.hashCode());
+        assertFalse(d1.equals(new MappedXYDataset(file2)));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testSerialization() throws IOException {
+        File file = createTempFile();
+        MappedXYDatasetWriter.write(createSampleDataset(), file);
+        MappedXYDataset d1 = new MappedXYDataset(file);
+        MappedXYDataset d2 = (MappedXYDataset) TestUtilities.serialised(d1);
+        assertEquals(d1, d2);
+        assertEquals(d1.getYValue(0, 17), d2.getYValue(0, 17), EPSILON);
+    }
+
+}
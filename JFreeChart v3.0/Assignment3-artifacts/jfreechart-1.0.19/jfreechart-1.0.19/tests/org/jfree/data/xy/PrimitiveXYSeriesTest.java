@@ -0,0 +1,251 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------
+ * PrimitiveXYSeriesTest.java
+ * --------------------------
+ * (C) Copyright 2014, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.xy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.jfree.chart.TestUtilities;
+import org.jfree.data.general.SeriesException;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link PrimitiveXYSeries} class.
+ */
+public class PrimitiveXYSeriesTest {
+
+    private static final double EPSILON = 0.0000000001;
+
+    /**
+     * The series should contain the same items as an equivalent
+     * {@link XYSeries}, and the two should compare as equal.
+     */
+    @Test
+    public void testEqualsXYSeries() {
+        XYSeries s1 = new XYSeries("S");
+        PrimitiveXYSeries s2 = new PrimitiveXYSeries("S");
+        double[] xs = {5.0, 1.0, 3.0, 3.0, 2.0};
+        for (int i = 0; i < xs.length; i++) {
+            s1.add(xs[i], xs[i] * 10.0);
+            s2.add(xs[i], xs[i] * 10.0);
+        }
+        s1.add(4.0, null);
+        s2.add(4.0, null);
+        assertTrue(s1.equals(s2));
+        assertTrue(s2.equals(s1));
+        assertEquals(s1.getItems(), s2.getItems());
+
+        s2.updateByIndex(0, new Double(99.0));
+        assertFalse(s1.equals(s2));
+    }
+
+    /**
+     * Items are kept in ascending order, with duplicates added after
+     * existing items with the same x-value.
+     */
+    @Test
+    public void testAutoSort() {
+        PrimitiveXYSeries s = new PrimitiveXYSeries("S");
+        s.add(3.0, 30.0);
+        s.add(1.0, 10.0);
+        s.add(2.0, 20.0);
+        s.add(2.0, 21.0);
+        assertEquals(4, s.getItemCount());
+        assertEquals(1.0, s.getXValue(0), EPSILON);
+        assertEquals(20.0, s.getYValue(1), EPSILON);
+        assertEquals(21.0, s.getYValue(2), EPSILON);
+        assertEquals(3.0, s.getXValue(3), EPSILON);
+        assertEquals(3, s.indexOf(new Double(3.0)));
+        assertEquals(-1, s.indexOf(new Double(0.5)));
+        assertEquals(-5, s.indexOf(new Double(9.0)));
+    }
+
+    /**
+     * A series that does not allow duplicates should throw an exception.
+     */
+    @Test
+    public void testNoDuplicates() {
+        PrimitiveXYSeries s = new PrimitiveXYSeries("S", true, false);
+        s.add(1.0, 1.0);
+        try {
+            s.add(1.0, 2.0);
+            fail("SeriesException expected.");
+        }
+        catch (SeriesException e) {
+            // expected
+        }
+        PrimitiveXYSeries u = new PrimitiveXYSeries("U", false, false);
+        u.add(2.0, 1.0);
+        u.add(1.0, 1.0);
+        assertEquals(2.0, u.getXValue(0), EPSILON);
+        try {
+            u.add(2.0, 2.0);
+            fail("SeriesException expected.");
+        }
+        catch (SeriesException e) {
+            // expected
+        }
+        assertEquals(new XYDataItem(2.0, 1.0), u.addOrUpdate(2.0, 5.0));
+        assertEquals(5.0, u.getYValue(0), EPSILON);
+        assertNull(u.addOrUpdate(3.0, 6.0));
+        assertEquals(3, u.getItemCount());
+    }
+
+    /**
+     * Null y-values are preserved and excluded from the bounds.
+     */
+    @Test
+    public void testNullY() {
+        PrimitiveXYSeries s = new PrimitiveXYSeries("S");
+        s.add(1.0, 5.0);
+        s.add(2.0, null);
+        s.add(3.0, Double.NaN);
+        assertNull(s.getY(1));
+        assertTrue(Double.isNaN(s.getYValue(1)));
+        assertEquals(new Double(Double.NaN), s.getY(2));
+        assertEquals(5.0, s.getMinY(), EPSILON);
+        assertEquals(5.0, s.getMaxY(), EPSILON);
+
+        // inserting before the null must keep it attached to its x-value
+        s.add(0.5, 1.0);
+        assertNull(s.getY(2));
+        s.remove(0);
+        assertNull(s.getY(1));
+        s.updateByIndex(1, new Double(7.0));
+        assertEquals(7.0, s.getMaxY(), EPSILON);
+    }
+
+    /**
+     * Items should be dropped from the start of the series when the maximum
+     * item count is exceeded, and the bounds kept up to date.
+     */
+    @Test
+    public void testMaximumItemCount() {
+        PrimitiveXYSeries s = new PrimitiveXYSeries("S", true, true, 2);
+        s.setMaximumItemCount(3);
+        for (int i = 0; i < 100; i++) {
+            s.add(i, 100 - i);
+        }
+        assertEquals(3, s.getItemCount());
+        assertEquals(97.0, s.getXValue(0), EPSILON);
+        assertEquals(97.0, s.getMinX(), EPSILON);
+        assertEquals(99.0, s.getMaxX(), EPSILON);
+        assertEquals(1.0, s.getMinY(), EPSILON);
+        assertEquals(3.0, s.getMaxY(), EPSILON);
+
+        s.setMaximumItemCount(1);
+        assertEquals(1, s.getItemCount());
+        assertEquals(99.0, s.getMinX(), EPSILON);
+    }
+
+    /**
+     * Some checks for the delete() and clear() methods.
+     */
+    @Test
+    public void testDeleteAndClear() {
+        PrimitiveXYSeries s = new PrimitiveXYSeries("S");
+        for (int i = 0; i < 10; i++) {
+            s.add(i, i);
+        }
+        s.delete(2, 4);
+        assertEquals(7, s.getItemCount());
+        assertEquals(5.0, s.getXValue(2), EPSILON);
+        s.delete(0, 1);
+        assertEquals(5.0, s.getMinX(), EPSILON);
+        s.clear();
+        assertEquals(0, s.getItemCount());
+        assertTrue(Double.isNaN(s.getMaxY()));
+    }
+
+    /**
+     * The collection should return the primitive values directly.
+     */
+    @Test
+    public void testInCollection() {
+        PrimitiveXYSeries s = new PrimitiveXYSeries("S");
+        s.add(1.0, 2.0);
+        s.add(3.0, 4.0);
+        XYSeriesCollection c = new XYSeriesCollection(s);
+        assertEquals(3.0, c.getXValue(0, 1), EPSILON);
+        assertEquals(4.0, c.getYValue(0, 1), EPSILON);
+        assertEquals(1.0, c.getDomainLowerBound(false), EPSILON);
+        assertEquals(4.0, c.getRangeUpperBound(false), EPSILON);
+    }
+
+    /**
+     * Confirm that cloning and createCopy() produce independent series.
+     *
+     * @throws CloneNotSupportedException if there is a cloning problem.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        PrimitiveXYSeries s1 = new PrimitiveXYSeries("S");
+        s1.add(1.0, 1.0);
+        s1.add(2.0, null);
+        PrimitiveXYSeries s2 = (PrimitiveXYSeries) s1.clone();
+        assertTrue(s1 != s2);
+        assertEquals(s1, s2);
+        s2.add(3.0, 3.0);
+        assertFalse(s1.equals(s2));
+
+        XYSeries s3 = s2.createCopy(1, 2);
+        assertEquals(2, s3.getItemCount());
+        assertNull(s3.getY(0));
+        assertEquals(3.0, s3.getMaxX(), EPSILON);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        PrimitiveXYSeries s1 = new PrimitiveXYSeries("S");
+        s1.add(1.0, 1.1);
+        s1.add(2.0, null);
+        PrimitiveXYSeries s2 = (PrimitiveXYSeries) TestUtilities.serialised(
+                s1);
+        assertEquals(s1, s2);
+    }
+
+}
@@ -57,9 +57,13 @@ import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.fail;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.jfree.chart.TestUtilities;
 import org.jfree.data.Range;
 import org.jfree.data.UnknownKeyException;
+import org.jfree.data.general.DatasetUtilities;
 import org.jfree.util.PublicCloneable;
 
 import org.junit.Test;
@@ -534,4 +538,44 @@ public class XYSeriesCollectionTest {
         // change because "C" is already the key for the other series in the
         // collection
     }
+
+    /**
+     * The bounds for the visible series (which use the cached series bounds)
+     * should match those found by iterating over the items.
+     */
+    @Test
+    public void testVisibleSeriesBounds() {
+        XYSeries s1 = new XYSeries("S1");
+        s1.add(1.0, 1.1);
+        s1.add(2.0, 9.2);
+        s1.add(3.0, null);
+        XYSeries s2 = new XYSeries("S2", false);
+        s2.add(7.0, -5.0);
+        s2.add(5.0, 2.0);
+        XYSeriesCollection dataset = new XYSeriesCollection(s1);
+        dataset.addSeries(s2);
+        dataset.setIntervalWidth(0.5);
+        List keys = new ArrayList();
+        keys.add("S1");
+        assertEquals(new Range(1.0, 3.0), dataset.getDomainBounds(keys,
+                false));
+        assertEquals(DatasetUtilities.iterateToFindDomainBounds(dataset, keys,
+                true), dataset.getDomainBounds(keys, true));
+        keys.add("S2");
+        assertEquals(DatasetUtilities.iterateToFindDomainBounds(dataset, keys,
+                true), dataset.getDomainBounds(keys, true));
+
+        Range[] xRanges = new Range[] {new Range(0.0, 10.0),
+                new Range(1.5, 6.0), new Range(2.0, 5.0), new Range(8.0, 9.0)};
+        for (int i = 0; i < xRanges.length; i++) {
+            assertEquals(DatasetUtilities.iterateToFindRangeBounds(dataset,
+                    keys, xRanges[i], true), dataset.getRangeBounds(keys,
+                    xRanges[i], true));
+        }
+        assertEquals(new Range(-5.0, 9.2), DatasetUtilities.findRangeBounds(
+                dataset, keys, new Range(0.0, 10.0), true));
+
+        assertNull(dataset.getDomainBounds(new ArrayList(), true));
+    }
+
 }
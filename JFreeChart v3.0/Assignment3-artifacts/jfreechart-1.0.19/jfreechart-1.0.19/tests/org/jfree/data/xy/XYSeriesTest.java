@@ -48,8 +48,10 @@ package org.jfree.data.xy;
 
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 
 import org.jfree.chart.TestUtilities;
+import org.jfree.data.Range;
 
 import org.jfree.data.general.SeriesException;
 import static org.junit.Assert.assertEquals;
@@ -806,4 +808,68 @@ public class XYSeriesTest {
         c.removeSeries(1);
         s1.setKey("S2");
     }
+
+    /**
+     * Some checks for the findValueRange(Range) method.
+     */
+    @Test
+    public void testFindValueRange() {
+        XYSeries s1 = new XYSeries("S1");
+        assertNull(s1.findValueRange(new Range(0.0, 10.0)));
+        s1.add(1.0, 5.0);
+        s1.add(2.0, null);
+        s1.add(3.0, 1.0);
+        s1.add(4.0, 9.0);
+        assertEquals(new Range(1.0, 9.0), s1.findValueRange(
+                new Range(0.0, 10.0)));
+        assertEquals(new Range(1.0, 5.0), s1.findValueRange(
+                new Range(0.5, 3.0)));
+        assertEquals(new Range(1.0, 9.0), s1.findValueRange(
+                new Range(3.0, 4.0)));
+        assertNull(s1.findValueRange(new Range(2.0, 2.5)));
+        assertNull(s1.findValueRange(new Range(5.0, 6.0)));
+
+        // an unsorted series
+        XYSeries s2 = new XYSeries("S2", false);
+        s2.add(4.0, 9.0);
+        s2.add(1.0, 5.0);
+        s2.add(3.0, 1.0);
+        assertEquals(new Range(1.0, 9.0), s2.findValueRange(
+                new Range(2.0, 5.0)));
+        assertEquals(new Range(5.0, 5.0), s2.findValueRange(
+                new Range(0.0, 2.0)));
+    }
+
+    /**
+     * Items appended to the series and items removed from the start are not
+     * counted as modifications; every other change is.
+     */
+    @Test
+    public void testModificationCount() {
+        XYSeries s1 = new XYSeries("S1", true, false);
+        s1.setMaximumItemCount(3);
+        s1.add(1.0, 1.0);
+        s1.add(2.0, 2.0);
+        s1.add(3.0, 3.0);
+        s1.add(4.0, 4.0, false);
+        s1.addOrUpdate(5.0, 5.0);
+        assertEquals(0, s1.getModificationCount());
+        assertEquals(2, s1.getRemovedItemCount());
+
+        s1.updateByIndex(0, new Double(6.0));
+        assertEquals(1, s1.getModificationCount());
+        s1.addOrUpdate(5.0, 7.0);
+        assertEquals(2, s1.getModificationCount());
+        s1.add(4.5, 7.0);
+        assertEquals(3, s1.getModificationCount());
+        assertEquals(3, s1.getRemovedItemCount());
+        s1.remove(1);
+        assertEquals(4, s1.getModificationCount());
+        s1.remove(0);
+        assertEquals(4, s1.getModificationCount());
+        assertEquals(4, s1.getRemovedItemCount());
+        s1.clear();
+        assertEquals(5, s1.getModificationCount());
+    }
+
 }